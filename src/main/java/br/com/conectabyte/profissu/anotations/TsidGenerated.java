@@ -0,0 +1,18 @@
+package br.com.conectabyte.profissu.anotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import br.com.conectabyte.profissu.generators.TsidGenerator;
+
+@Target({ ElementType.FIELD, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@IdGeneratorType(TsidGenerator.class)
+public @interface TsidGenerated {
+}
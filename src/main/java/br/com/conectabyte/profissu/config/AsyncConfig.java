@@ -12,6 +12,21 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 public class AsyncConfig {
 	@Bean
 	Executor taskExecutor() {
-		return new ThreadPoolTaskExecutor();
+		final var executor = new ThreadPoolTaskExecutor();
+
+		executor.setThreadNamePrefix("async-");
+		executor.setCorePoolSize(4);
+		return executor;
+	}
+
+	@Bean
+	Executor warmUpExecutor() {
+		final var executor = new ThreadPoolTaskExecutor();
+
+		executor.setThreadNamePrefix("warm-up-");
+		executor.setCorePoolSize(1);
+		executor.setMaxPoolSize(1);
+		executor.setQueueCapacity(1);
+		return executor;
 	}
 }
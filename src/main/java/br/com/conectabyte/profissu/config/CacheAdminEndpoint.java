@@ -0,0 +1,113 @@
+package br.com.conectabyte.profissu.config;
+
+import java.util.Comparator;
+import java.util.List;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.lang.Nullable;
+
+import br.com.conectabyte.profissu.dtos.response.CacheStatsResponseDto;
+import br.com.conectabyte.profissu.dtos.response.RemoteCacheStatsResponseDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Endpoint(id = "cacheadmin")
+@RequiredArgsConstructor
+public class CacheAdminEndpoint {
+  private static final int HOTTEST_KEYS_LIMIT = 10;
+  private static final int MEMORY_SAMPLE_SIZE = 100;
+
+  private final TwoLevelCacheManager cacheManager;
+  private final RedisSerializer<Object> valueSerializer;
+
+  @ReadOperation
+  public List<CacheStatsResponseDto> caches() {
+    return cacheManager.getTwoLevelCaches().stream()
+        .sorted(Comparator.comparing(TwoLevelCache::getName))
+        .map(this::stats)
+        .toList();
+  }
+
+  @ReadOperation
+  public CacheStatsResponseDto cache(@Selector String name) {
+    return cacheManager.getTwoLevelCache(name)
+        .map(this::stats)
+        .orElse(null);
+  }
+
+  @DeleteOperation
+  public WebEndpointResponse<Void> evict(@Selector String name, @Nullable String pattern) {
+    final var twoLevelCache = cacheManager.getTwoLevelCache(name);
+
+    if (twoLevelCache.isEmpty()) {
+      return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+    }
+
+    if (pattern == null) {
+      log.info("Clearing cache {} on all instances.", name);
+      twoLevelCache.get().clear();
+    } else {
+      log.info("Evicting keys of cache {} matching pattern {} on all instances.", name, pattern);
+      twoLevelCache.get().evictMatching(pattern);
+    }
+
+    return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NO_CONTENT);
+  }
+
+  private CacheStatsResponseDto stats(TwoLevelCache twoLevelCache) {
+    final var localCache = twoLevelCache.getLocalCache();
+    final var stats = localCache.stats();
+    final var size = localCache.estimatedSize();
+
+    return new CacheStatsResponseDto(twoLevelCache.getName(), size, estimateMemory(twoLevelCache, size),
+        stats.hitCount(), stats.missCount(), stats.evictionCount(), stats.hitRate(), stats.missRate(),
+        stats.requestCount() == 0 ? 0 : (double) stats.evictionCount() / stats.requestCount(),
+        twoLevelCache.hottestLocalKeys(HOTTEST_KEYS_LIMIT).stream().map(String::valueOf).toList(),
+        remoteStats(twoLevelCache));
+  }
+
+  private long estimateMemory(TwoLevelCache twoLevelCache, long size) {
+    final var sample = twoLevelCache.sampleLocalValues(MEMORY_SAMPLE_SIZE);
+
+    if (sample.isEmpty()) {
+      return 0;
+    }
+
+    final var sampledBytes = sample.stream()
+        .mapToLong(this::serializedSize)
+        .sum();
+
+    return sampledBytes * size / sample.size();
+  }
+
+  private long serializedSize(Object value) {
+    try {
+      final var bytes = valueSerializer.serialize(value);
+
+      return bytes == null ? 0 : bytes.length;
+    } catch (SerializationException e) {
+      log.debug("Could not serialize cached value of type {} to estimate its size.", value.getClass().getName());
+      return 0;
+    }
+  }
+
+  private RemoteCacheStatsResponseDto remoteStats(TwoLevelCache twoLevelCache) {
+    if (!(twoLevelCache.getRemoteCache() instanceof RedisCache redisCache)) {
+      return null;
+    }
+
+    final var statistics = redisCache.getStatistics();
+    final var lookups = statistics.getHits() + statistics.getMisses();
+
+    return new RemoteCacheStatsResponseDto(statistics.getHits(), statistics.getMisses(), statistics.getPuts(),
+        statistics.getDeletes(), lookups == 0 ? 0 : (double) statistics.getHits() / lookups);
+  }
+}
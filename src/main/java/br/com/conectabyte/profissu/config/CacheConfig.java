@@ -0,0 +1,143 @@
+package br.com.conectabyte.profissu.config;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.annotation.CachingConfigurer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.interceptor.CacheErrorHandler;
+import org.springframework.cache.interceptor.LoggingCacheErrorHandler;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.data.redis.cache.BatchStrategies;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import br.com.conectabyte.profissu.config.serializers.SmileRedisSerializer;
+import br.com.conectabyte.profissu.dtos.response.OwnershipDto;
+import br.com.conectabyte.profissu.dtos.response.RequestedServiceProjectionDto;
+import br.com.conectabyte.profissu.dtos.response.RequestedServiceResponseDto;
+import br.com.conectabyte.profissu.dtos.response.ReviewResponseDto;
+import br.com.conectabyte.profissu.dtos.response.SerializedResponseDto;
+import br.com.conectabyte.profissu.dtos.response.UserResponseDto;
+import br.com.conectabyte.profissu.dtos.response.UserSnapshotDto;
+import br.com.conectabyte.profissu.properties.ProfissuProperties;
+import br.com.conectabyte.profissu.services.UserSnapshotService;
+import lombok.RequiredArgsConstructor;
+
+@Configuration
+@EnableCaching(order = Ordered.LOWEST_PRECEDENCE - 1)
+@EnableConfigurationProperties(CacheProperties.class)
+@RequiredArgsConstructor
+public class CacheConfig implements CachingConfigurer {
+  public static final String OWNERSHIP_CACHE_NAME = "ownership";
+  public static final String USER_PROFILE_CACHE_NAME = "userProfiles";
+  public static final String USER_RESPONSE_CACHE_NAME = "userResponses";
+  public static final String ROLE_CACHE_NAME = "roles";
+  public static final String INVALIDATION_TOPIC = "profissu:cache:invalidation";
+  public static final Map<Integer, Class<?>> CACHED_VALUE_TYPES = Map.of(
+      0, Long.class,
+      1, OwnershipDto.class,
+      2, UserSnapshotDto.class,
+      3, UserResponseDto.class,
+      4, RequestedServiceResponseDto.class,
+      5, ReviewResponseDto.class,
+      6, RequestedServiceProjectionDto.class,
+      7, SerializedResponseDto.class);
+
+  private final ProfissuProperties profissuProperties;
+
+  @Bean
+  public SmileRedisSerializer cacheValueSerializer() {
+    return new SmileRedisSerializer(CACHED_VALUE_TYPES,
+        profissuProperties.getProfissu().getCache().getCompressionThreshold());
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = "spring.cache.type", havingValue = "redis")
+  public TwoLevelCacheManager cacheManager(RedisConnectionFactory redisConnectionFactory,
+      CacheProperties cacheProperties, RedisTemplate<Object, Object> redisTemplate,
+      ThreadPoolTaskExecutor cacheRefreshExecutor, SmileRedisSerializer cacheValueSerializer) {
+    final var cache = profissuProperties.getProfissu().getCache();
+    final var defaultCacheConfiguration = RedisCacheConfiguration.defaultCacheConfig()
+        .entryTtl(cacheProperties.getRedis().getTimeToLive())
+        .serializeValuesWith(SerializationPair.fromSerializer(cacheValueSerializer));
+    final var remoteCacheManager = RedisCacheManager
+        .builder(RedisCacheWriter.nonLockingRedisCacheWriter(redisConnectionFactory, BatchStrategies.scan(1000)))
+        .cacheDefaults(defaultCacheConfiguration)
+        .withCacheConfiguration(OWNERSHIP_CACHE_NAME,
+            defaultCacheConfiguration.entryTtl(Duration.ofSeconds(cache.getOwnershipTtl())))
+        .withCacheConfiguration(UserSnapshotService.CACHE_NAME, defaultCacheConfiguration)
+        .withCacheConfiguration(USER_PROFILE_CACHE_NAME, defaultCacheConfiguration)
+        .withCacheConfiguration(USER_RESPONSE_CACHE_NAME, defaultCacheConfiguration)
+        .withCacheConfiguration(ROLE_CACHE_NAME, defaultCacheConfiguration)
+        .enableStatistics()
+        .build();
+
+    remoteCacheManager.initializeCaches();
+
+    final var policy = new TwoLevelCache.Policy(Duration.ofSeconds(cache.getLocalTtl()),
+        Duration.ofSeconds(cache.getStaleTtl()), cache.getEarlyRefreshBeta(), cache.getLocalMaxEntries());
+    final var cacheManager = new TwoLevelCacheManager(remoteCacheManager, redisTemplate, INVALIDATION_TOPIC,
+        policy, cacheRefreshExecutor, Ticker.systemTicker());
+
+    cacheManager.setTransactionAware(true);
+    return cacheManager;
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = "spring.cache.type", havingValue = "redis")
+  public ThreadPoolTaskExecutor cacheRefreshExecutor() {
+    final var refreshPoolSize = profissuProperties.getProfissu().getCache().getRefreshPoolSize();
+    final var executor = new ThreadPoolTaskExecutor();
+
+    executor.setThreadNamePrefix("cache-refresh-");
+    executor.setCorePoolSize(refreshPoolSize);
+    executor.setMaxPoolSize(refreshPoolSize);
+    executor.setQueueCapacity(refreshPoolSize * 25);
+    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+    return executor;
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = "spring.cache.type", havingValue = "redis")
+  public RedisMessageListenerContainer cacheInvalidationListenerContainer(
+      RedisConnectionFactory redisConnectionFactory, TwoLevelCacheManager cacheManager) {
+    final var container = new RedisMessageListenerContainer();
+
+    container.setConnectionFactory(redisConnectionFactory);
+    container.addMessageListener(cacheManager, new ChannelTopic(INVALIDATION_TOPIC));
+    return container;
+  }
+
+  @Override
+  public CacheErrorHandler errorHandler() {
+    return new LoggingCacheErrorHandler(CacheConfig.class.getName(), false);
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = "spring.cache.type", havingValue = "redis")
+  public CacheAdminEndpoint cacheAdminEndpoint(TwoLevelCacheManager cacheManager,
+      SmileRedisSerializer cacheValueSerializer) {
+    return new CacheAdminEndpoint(cacheManager, cacheValueSerializer);
+  }
+
+  @Bean
+  public TwoLevelCacheMeterBinderProvider twoLevelCacheMeterBinderProvider() {
+    return new TwoLevelCacheMeterBinderProvider();
+  }
+}
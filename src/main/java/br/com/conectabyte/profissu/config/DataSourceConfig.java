@@ -0,0 +1,90 @@
+package br.com.conectabyte.profissu.config;
+
+import java.util.LinkedHashMap;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+
+import br.com.conectabyte.profissu.properties.ProfissuProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+
+@Configuration
+@RequiredArgsConstructor
+public class DataSourceConfig {
+  private final ProfissuProperties profissuProperties;
+  private final Environment environment;
+
+  @Bean
+  public ReplicaRoutingDataSource replicaRoutingDataSource(DataSourceProperties dataSourceProperties,
+      ObjectProvider<MeterRegistry> meterRegistryProvider) {
+    final var meterRegistry = meterRegistryProvider.getIfAvailable();
+    final var datasource = profissuProperties.getProfissu().getDatasource();
+    final var primary = createPool(ReplicaRoutingDataSource.PRIMARY,
+        dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class), meterRegistry);
+    final var replicas = new LinkedHashMap<String, DataSource>();
+
+    for (int i = 0; i < datasource.getReplicas().size(); i++) {
+      final var replica = datasource.getReplicas().get(i);
+
+      replicas.put("replica-" + i, createPool("replica-" + i, DataSourceBuilder.create()
+          .type(HikariDataSource.class)
+          .driverClassName(dataSourceProperties.determineDriverClassName())
+          .url(replica.getUrl())
+          .username(replica.getUsername())
+          .password(replica.getPassword()), meterRegistry));
+    }
+
+    final var replicaRoutingDataSource = new ReplicaRoutingDataSource(primary, replicas, datasource.getMaxReplicaLag());
+
+    if (meterRegistry != null) {
+      replicas.keySet().forEach(replica -> {
+        Gauge.builder("profissu.datasource.replica.lag", replicaRoutingDataSource,
+            r -> r.getReplicaLag(replica).map(Long::doubleValue).orElse(Double.NaN))
+            .tag("pool", replica)
+            .baseUnit("seconds")
+            .register(meterRegistry);
+        Gauge.builder("profissu.datasource.replica.available", replicaRoutingDataSource,
+            r -> r.isAvailable(replica) ? 1 : 0)
+            .tag("pool", replica)
+            .register(meterRegistry);
+      });
+    }
+
+    return replicaRoutingDataSource;
+  }
+
+  @Bean
+  @Primary
+  public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+    return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+  }
+
+  private HikariDataSource createPool(String poolName, DataSourceBuilder<HikariDataSource> builder,
+      MeterRegistry meterRegistry) {
+    final var pool = builder.build();
+
+    Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+    pool.setPoolName(poolName);
+
+    if (meterRegistry != null) {
+      pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+    }
+
+    return pool;
+  }
+}
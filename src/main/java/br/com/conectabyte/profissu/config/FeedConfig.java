@@ -0,0 +1,27 @@
+package br.com.conectabyte.profissu.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import br.com.conectabyte.profissu.config.serializers.SmileRedisSerializer;
+
+@Configuration
+public class FeedConfig {
+  @Bean
+  public RedisTemplate<String, Long> feedRedisTemplate(RedisConnectionFactory redisConnectionFactory,
+      SmileRedisSerializer cacheValueSerializer) {
+    final var template = new RedisTemplate<String, Long>();
+    final var idSerializer = new GenericToStringSerializer<>(Long.class);
+
+    template.setConnectionFactory(redisConnectionFactory);
+    template.setKeySerializer(RedisSerializer.string());
+    template.setValueSerializer(idSerializer);
+    template.setHashKeySerializer(idSerializer);
+    template.setHashValueSerializer(cacheValueSerializer);
+    return template;
+  }
+}
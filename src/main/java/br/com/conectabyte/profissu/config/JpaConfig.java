@@ -0,0 +1,21 @@
+package br.com.conectabyte.profissu.config;
+
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import br.com.conectabyte.profissu.generators.TsidGenerator;
+import br.com.conectabyte.profissu.properties.ProfissuProperties;
+import lombok.RequiredArgsConstructor;
+
+@Configuration
+@RequiredArgsConstructor
+public class JpaConfig {
+  private final ProfissuProperties profissuProperties;
+
+  @Bean
+  public HibernatePropertiesCustomizer tsidHibernatePropertiesCustomizer() {
+    return properties -> properties.put(TsidGenerator.NODE_ID_SETTING,
+        profissuProperties.getProfissu().getTsid().getNodeId());
+  }
+}
@@ -0,0 +1,140 @@
+package br.com.conectabyte.profissu.config;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+  public static final String PRIMARY = "primary";
+
+  private final Map<String, DataSource> replicas;
+  private final long maxReplicaLag;
+  private final Map<String, Long> replicaLag = new ConcurrentHashMap<>();
+  private final Set<String> availableReplicas = ConcurrentHashMap.newKeySet();
+  private final AtomicInteger nextReplica = new AtomicInteger();
+
+  public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas, long maxReplicaLag) {
+    final var targetDataSources = new HashMap<Object, Object>(replicas);
+
+    targetDataSources.put(PRIMARY, primary);
+    setTargetDataSources(targetDataSources);
+    setDefaultTargetDataSource(primary);
+    setLenientFallback(false);
+    afterPropertiesSet();
+
+    this.replicas = replicas;
+    this.maxReplicaLag = maxReplicaLag;
+    this.availableReplicas.addAll(replicas.keySet());
+  }
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+      return PRIMARY;
+    }
+
+    final var candidates = replicas.keySet().stream()
+        .filter(availableReplicas::contains)
+        .toList();
+
+    if (candidates.isEmpty()) {
+      log.debug("No replica available, routing read-only transaction to primary.");
+      return PRIMARY;
+    }
+
+    final var replica = candidates.get(Math.floorMod(nextReplica.getAndIncrement(), candidates.size()));
+
+    log.debug("Routing read-only transaction to replica: {}", replica);
+    return replica;
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    final var lookupKey = determineCurrentLookupKey();
+
+    try {
+      return getResolvedDataSources().get(lookupKey).getConnection();
+    } catch (SQLException e) {
+      if (PRIMARY.equals(lookupKey)) {
+        throw e;
+      }
+
+      log.warn("Replica {} is unreachable, falling back to primary: {}", lookupKey, e.getMessage());
+      availableReplicas.remove(lookupKey);
+      return getResolvedDefaultDataSource().getConnection();
+    }
+  }
+
+  public Set<String> getReplicaNames() {
+    return replicas.keySet();
+  }
+
+  public boolean isAvailable(String replica) {
+    return availableReplicas.contains(replica);
+  }
+
+  public Optional<Long> getReplicaLag(String replica) {
+    return Optional.ofNullable(replicaLag.get(replica));
+  }
+
+  public void updateReplicaLag(String replica, Long lag) {
+    if (lag == null) {
+      replicaLag.remove(replica);
+    } else {
+      replicaLag.put(replica, lag);
+    }
+
+    if (lag != null && lag <= maxReplicaLag) {
+      if (availableReplicas.add(replica)) {
+        log.info("Replica {} is back in rotation with lag of {}s.", replica, lag);
+      }
+    } else if (availableReplicas.remove(replica)) {
+      log.warn("Replica {} removed from rotation, lag: {}s (max {}s).", replica, lag, maxReplicaLag);
+    }
+  }
+
+  public void refreshReplicaLag() {
+    replicas.forEach((replica, dataSource) -> {
+      try {
+        updateReplicaLag(replica, readReplicaLag(dataSource));
+      } catch (Exception e) {
+        log.warn("Could not read replication lag from replica {}: {}", replica, e.getMessage());
+        updateReplicaLag(replica, null);
+      }
+    });
+  }
+
+  private Long readReplicaLag(DataSource dataSource) {
+    return new JdbcTemplate(dataSource).query("SHOW REPLICA STATUS", rs -> {
+      if (!rs.next()) {
+        return 0L;
+      }
+
+      final var metaData = rs.getMetaData();
+
+      for (int i = 1; i <= metaData.getColumnCount(); i++) {
+        if (metaData.getColumnLabel(i).startsWith("Seconds_Behind_")) {
+          final var lag = rs.getObject(i);
+
+          return lag == null ? null : ((Number) lag).longValue();
+        }
+      }
+
+      return null;
+    });
+  }
+}
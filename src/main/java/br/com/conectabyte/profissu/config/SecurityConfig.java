@@ -64,7 +64,8 @@ public class SecurityConfig {
             .requestMatchers(HttpMethod.GET, swaggerEndpoints).permitAll()
             .requestMatchers(HttpMethod.GET, staticResources).permitAll()
             .requestMatchers(HttpMethod.GET, "/ws/**").permitAll()
-            .requestMatchers("/actuator/prometheus").hasRole("ACTUATOR")
+            .requestMatchers(HttpMethod.GET, "/actuator/health/liveness", "/actuator/health/readiness").permitAll()
+            .requestMatchers("/actuator/prometheus", "/actuator/cacheadmin/**").hasRole("ACTUATOR")
             .anyRequest().authenticated())
         .oauth2ResourceServer(oauth2 -> oauth2.jwt(Customizer.withDefaults()))
         .httpBasic(Customizer.withDefaults())
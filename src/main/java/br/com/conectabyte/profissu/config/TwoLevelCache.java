@@ -0,0 +1,272 @@
+package br.com.conectabyte.profissu.config;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.util.PatternMatchUtils;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class TwoLevelCache extends AbstractValueAdaptingCache {
+  private final String name;
+  private final com.github.benmanes.caffeine.cache.Cache<Object, LocalEntry> localCache;
+  private final Cache remoteCache;
+  private final Consumer<Object> invalidationPublisher;
+  private final Executor refreshExecutor;
+  private final Policy policy;
+  private final Ticker ticker;
+  private final Map<Object, CompletableFuture<Object>> inFlightLoads = new ConcurrentHashMap<>();
+
+  public record Policy(Duration freshTtl, Duration staleTtl, double earlyRefreshBeta, long maxEntries) {
+  }
+
+  public record KeyPattern(String pattern) implements Serializable {
+    public boolean matches(Object key) {
+      return PatternMatchUtils.simpleMatch(pattern, String.valueOf(key));
+    }
+  }
+
+  private record LocalEntry(Object storeValue, long loadedAt, long loadDuration) {
+  }
+
+  public TwoLevelCache(String name, Cache remoteCache, Consumer<Object> invalidationPublisher,
+      Executor refreshExecutor, Policy policy, Ticker ticker) {
+    super(true);
+    this.name = name;
+    this.remoteCache = remoteCache;
+    this.invalidationPublisher = invalidationPublisher;
+    this.refreshExecutor = refreshExecutor;
+    this.policy = policy;
+    this.ticker = ticker;
+    this.localCache = Caffeine.newBuilder()
+        .maximumSize(policy.maxEntries())
+        .expireAfterWrite(policy.freshTtl().plus(policy.staleTtl()))
+        .ticker(ticker)
+        .recordStats()
+        .build();
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  public Object getNativeCache() {
+    return localCache;
+  }
+
+  public com.github.benmanes.caffeine.cache.Cache<Object, ?> getLocalCache() {
+    return localCache;
+  }
+
+  public Cache getRemoteCache() {
+    return remoteCache;
+  }
+
+  public List<Object> hottestLocalKeys(int limit) {
+    return localCache.policy().eviction()
+        .map(eviction -> List.copyOf(eviction.hottest(limit).keySet()))
+        .orElseGet(List::of);
+  }
+
+  public List<Object> sampleLocalValues(int limit) {
+    return localCache.asMap().values().stream()
+        .limit(limit)
+        .map(LocalEntry::storeValue)
+        .toList();
+  }
+
+  @Override
+  protected Object lookup(Object key) {
+    final var localEntry = localCache.getIfPresent(key);
+
+    if (localEntry != null && age(localEntry) < policy.freshTtl().toNanos()) {
+      return localEntry.storeValue();
+    }
+
+    final var remoteValue = remoteCache.get(key);
+
+    if (remoteValue == null) {
+      log.debug("Cache miss on both levels of cache {} for key: {}", name, key);
+      return null;
+    }
+
+    final var storeValue = toStoreValue(remoteValue.get());
+
+    localCache.put(key, new LocalEntry(storeValue, ticker.read(), 0));
+    return storeValue;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> T get(Object key, Callable<T> valueLoader) {
+    final var localEntry = localCache.getIfPresent(key);
+
+    if (localEntry != null) {
+      final var age = age(localEntry);
+
+      if (age < policy.freshTtl().toNanos()) {
+        if (shouldRefreshEarly(localEntry, age)) {
+          log.debug("Refreshing key {} of cache {} ahead of expiration.", key, name);
+          refreshAsync(key, valueLoader);
+        }
+
+        return (T) fromStoreValue(localEntry.storeValue());
+      }
+
+      if (!policy.staleTtl().isZero()) {
+        log.debug("Serving stale key {} of cache {} while revalidating.", key, name);
+        refreshAsync(key, valueLoader);
+        return (T) fromStoreValue(localEntry.storeValue());
+      }
+    }
+
+    try {
+      return (T) fromStoreValue(load(key, valueLoader, Runnable::run).join());
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+
+      throw new ValueRetrievalException(key, valueLoader, e.getCause());
+    }
+  }
+
+  private long age(LocalEntry localEntry) {
+    return ticker.read() - localEntry.loadedAt();
+  }
+
+  private boolean shouldRefreshEarly(LocalEntry localEntry, long age) {
+    if (policy.earlyRefreshBeta() <= 0) {
+      return false;
+    }
+
+    final var earlyBy = -localEntry.loadDuration() * policy.earlyRefreshBeta()
+        * Math.log(ThreadLocalRandom.current().nextDouble());
+
+    return age + earlyBy >= policy.freshTtl().toNanos();
+  }
+
+  private void refreshAsync(Object key, Callable<?> valueLoader) {
+    try {
+      load(key, valueLoader, refreshExecutor);
+    } catch (RejectedExecutionException e) {
+      log.warn("Refresh of key {} of cache {} was rejected. Keeping the current value.", key, name);
+    }
+  }
+
+  private CompletableFuture<Object> load(Object key, Callable<?> valueLoader, Executor executor) {
+    final var load = new CompletableFuture<Object>();
+    final var inFlightLoad = inFlightLoads.putIfAbsent(key, load);
+
+    if (inFlightLoad != null) {
+      log.debug("Joining in-flight load of key {} of cache {}.", key, name);
+      return inFlightLoad;
+    }
+
+    try {
+      executor.execute(() -> {
+        try {
+          final var startedAt = ticker.read();
+          final var storeValue = toStoreValue(remoteCache.get(key, valueLoader));
+          final var loadedAt = ticker.read();
+
+          if (inFlightLoads.get(key) == load) {
+            localCache.put(key, new LocalEntry(storeValue, loadedAt, loadedAt - startedAt));
+          }
+
+          load.complete(storeValue);
+        } catch (RuntimeException e) {
+          load.completeExceptionally(e);
+        } finally {
+          inFlightLoads.remove(key, load);
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      inFlightLoads.remove(key, load);
+      throw e;
+    }
+
+    return load;
+  }
+
+  @Override
+  public void put(Object key, Object value) {
+    remoteCache.put(key, value);
+    inFlightLoads.remove(key);
+    localCache.put(key, new LocalEntry(toStoreValue(value), ticker.read(), 0));
+    invalidationPublisher.accept(key);
+  }
+
+  @Override
+  public void evict(Object key) {
+    evictLocal(key);
+
+    try {
+      remoteCache.evict(key);
+    } finally {
+      invalidationPublisher.accept(key);
+    }
+  }
+
+  @Override
+  public void clear() {
+    clearLocal();
+
+    try {
+      remoteCache.clear();
+    } finally {
+      invalidationPublisher.accept(null);
+    }
+  }
+
+  public void evictMatching(String pattern) {
+    final var keyPattern = new KeyPattern(pattern);
+
+    if (remoteCache instanceof RedisCache redisCache) {
+      redisCache.clear(pattern);
+    } else {
+      log.warn("Remote tier of cache {} can't evict by pattern. Clearing it instead.", name);
+      remoteCache.clear();
+    }
+
+    evictLocalMatching(keyPattern);
+    invalidationPublisher.accept(keyPattern);
+  }
+
+  public void evictLocalMatching(KeyPattern keyPattern) {
+    log.debug("Evicting local entries of cache {} matching pattern: {}", name, keyPattern.pattern());
+    inFlightLoads.keySet().removeIf(keyPattern::matches);
+    localCache.asMap().keySet().removeIf(keyPattern::matches);
+  }
+
+  public void evictLocal(Object key) {
+    log.debug("Evicting local entry of cache {} for key: {}", name, key);
+    inFlightLoads.remove(key);
+    localCache.invalidate(key);
+  }
+
+  public void clearLocal() {
+    log.debug("Clearing local entries of cache {}", name);
+    inFlightLoads.clear();
+    localCache.invalidateAll();
+  }
+}
@@ -0,0 +1,104 @@
+package br.com.conectabyte.profissu.config;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.AbstractTransactionSupportingCacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class TwoLevelCacheManager extends AbstractTransactionSupportingCacheManager implements MessageListener {
+  private final String origin = UUID.randomUUID().toString();
+  private final Map<String, TwoLevelCache> twoLevelCaches = new ConcurrentHashMap<>();
+  private final CacheManager remoteCacheManager;
+  private final RedisTemplate<Object, Object> redisTemplate;
+  private final String invalidationTopic;
+  private final TwoLevelCache.Policy policy;
+  private final Executor refreshExecutor;
+  private final Ticker ticker;
+
+  public record CacheInvalidation(String origin, String cacheName, Object key) implements Serializable {
+  }
+
+  public TwoLevelCacheManager(CacheManager remoteCacheManager, RedisTemplate<Object, Object> redisTemplate,
+      String invalidationTopic, TwoLevelCache.Policy policy, Executor refreshExecutor, Ticker ticker) {
+    this.remoteCacheManager = remoteCacheManager;
+    this.redisTemplate = redisTemplate;
+    this.invalidationTopic = invalidationTopic;
+    this.policy = policy;
+    this.refreshExecutor = refreshExecutor;
+    this.ticker = ticker;
+  }
+
+  public Collection<TwoLevelCache> getTwoLevelCaches() {
+    return twoLevelCaches.values();
+  }
+
+  public Optional<TwoLevelCache> getTwoLevelCache(String name) {
+    return Optional.ofNullable(twoLevelCaches.get(name));
+  }
+
+  @Override
+  protected Collection<? extends Cache> loadCaches() {
+    return remoteCacheManager.getCacheNames().stream()
+        .map(this::createTwoLevelCache)
+        .toList();
+  }
+
+  @Override
+  protected Cache getMissingCache(String name) {
+    return createTwoLevelCache(name);
+  }
+
+  private TwoLevelCache createTwoLevelCache(String name) {
+    return twoLevelCaches.computeIfAbsent(name, n -> {
+      log.debug("Creating two-level cache {} with local policy: {}", n, policy);
+
+      return new TwoLevelCache(n, remoteCacheManager.getCache(n), key -> publishInvalidation(n, key),
+          refreshExecutor, policy, ticker);
+    });
+  }
+
+  private void publishInvalidation(String cacheName, Object key) {
+    try {
+      redisTemplate.convertAndSend(invalidationTopic, new CacheInvalidation(origin, cacheName, key));
+    } catch (RuntimeException e) {
+      log.warn("Failed to broadcast invalidation of cache {} for key: {}", cacheName, key, e);
+    }
+  }
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    if (!(redisTemplate.getValueSerializer().deserialize(message.getBody()) instanceof CacheInvalidation invalidation)
+        || origin.equals(invalidation.origin())) {
+      return;
+    }
+
+    final var twoLevelCache = twoLevelCaches.get(invalidation.cacheName());
+
+    if (twoLevelCache == null) {
+      return;
+    }
+
+    if (invalidation.key() == null) {
+      twoLevelCache.clearLocal();
+    } else if (invalidation.key() instanceof TwoLevelCache.KeyPattern keyPattern) {
+      twoLevelCache.evictLocalMatching(keyPattern);
+    } else {
+      twoLevelCache.evictLocal(invalidation.key());
+    }
+  }
+}
@@ -0,0 +1,24 @@
+package br.com.conectabyte.profissu.config;
+
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+import org.springframework.boot.actuate.metrics.cache.RedisCacheMetrics;
+import org.springframework.data.redis.cache.RedisCache;
+
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+public class TwoLevelCacheMeterBinderProvider implements CacheMeterBinderProvider<TwoLevelCache> {
+  @Override
+  public MeterBinder getMeterBinder(TwoLevelCache cache, Iterable<Tag> tags) {
+    return registry -> {
+      new CaffeineCacheMetrics<>(cache.getLocalCache(), cache.getName(), Tags.concat(tags, "tier", "local"))
+          .bindTo(registry);
+
+      if (cache.getRemoteCache() instanceof RedisCache redisCache) {
+        new RedisCacheMetrics(redisCache, Tags.concat(tags, "tier", "remote")).bindTo(registry);
+      }
+    };
+  }
+}
@@ -0,0 +1,19 @@
+package br.com.conectabyte.profissu.config;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+import br.com.conectabyte.profissu.services.WarmUpService;
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class WarmUpHealthIndicator implements HealthIndicator {
+  private final WarmUpService warmUpService;
+
+  @Override
+  public Health health() {
+    return warmUpService.isCompleted() ? Health.up().build() : Health.outOfService().build();
+  }
+}
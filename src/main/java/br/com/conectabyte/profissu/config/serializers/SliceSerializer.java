@@ -0,0 +1,22 @@
+package br.com.conectabyte.profissu.config.serializers;
+
+import java.io.IOException;
+
+import org.springframework.boot.jackson.JsonComponent;
+import org.springframework.data.domain.SliceImpl;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import br.com.conectabyte.profissu.dtos.response.SliceResponseDto;
+
+@JsonComponent
+public class SliceSerializer extends JsonSerializer<SliceImpl<?>> {
+  @Override
+  public void serialize(SliceImpl<?> slice, JsonGenerator generator, SerializerProvider serializers)
+      throws IOException {
+    serializers.defaultSerializeValue(new SliceResponseDto<>(slice.getContent(),
+        new SliceResponseDto.SliceMetadata(slice.getSize(), slice.getNumber(), slice.hasNext())), generator);
+  }
+}
@@ -0,0 +1,130 @@
+package br.com.conectabyte.profissu.config.serializers;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.dataformat.smile.SmileParser;
+
+import lombok.extern.slf4j.Slf4j;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4SafeDecompressor;
+
+@Slf4j
+public class SmileRedisSerializer implements RedisSerializer<Object> {
+  private static final byte SMILE = 1;
+  private static final byte SMILE_LZ4 = 2;
+  private static final int HEADER_LENGTH = 2;
+  private static final int COMPRESSED_HEADER_LENGTH = HEADER_LENGTH + Integer.BYTES;
+  private static final int MAX_TYPES = 256;
+
+  private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.smile()
+      .factory(SmileFactory.builder()
+          .disable(SmileGenerator.Feature.WRITE_HEADER)
+          .disable(SmileParser.Feature.REQUIRE_HEADER)
+          .build())
+      .build();
+  private final RedisSerializer<Object> fallbackSerializer = new JdkSerializationRedisSerializer();
+  private final LZ4Compressor compressor = LZ4Factory.fastestJavaInstance().fastCompressor();
+  private final LZ4SafeDecompressor decompressor = LZ4Factory.fastestJavaInstance().safeDecompressor();
+  private final Map<Integer, Class<?>> types;
+  private final Map<Class<?>, Integer> typeIds = new HashMap<>();
+  private final int compressionThreshold;
+
+  public SmileRedisSerializer(Map<Integer, Class<?>> types, int compressionThreshold) {
+    this.types = Map.copyOf(types);
+    this.compressionThreshold = compressionThreshold;
+
+    this.types.forEach((typeId, type) -> {
+      if (typeId < 0 || typeId >= MAX_TYPES) {
+        throw new IllegalArgumentException("Type ids must be between 0 and " + (MAX_TYPES - 1) + ".");
+      }
+
+      if (typeIds.putIfAbsent(type, typeId) != null) {
+        throw new IllegalArgumentException("Type " + type.getName() + " is registered more than once.");
+      }
+    });
+  }
+
+  @Override
+  public byte[] serialize(Object value) {
+    if (value == null) {
+      return new byte[0];
+    }
+
+    final var typeId = typeIds.get(value.getClass());
+
+    if (typeId == null) {
+      log.debug("Type {} is not registered. Falling back to JDK serialization.", value.getClass().getName());
+      return fallbackSerializer.serialize(value);
+    }
+
+    final byte[] payload;
+
+    try {
+      payload = objectMapper.writeValueAsBytes(value);
+    } catch (IOException e) {
+      throw new SerializationException("Could not write Smile: " + e.getMessage(), e);
+    }
+
+    if (payload.length < compressionThreshold) {
+      return ByteBuffer.allocate(HEADER_LENGTH + payload.length)
+          .put(SMILE)
+          .put(typeId.byteValue())
+          .put(payload)
+          .array();
+    }
+
+    final var buffer = new byte[COMPRESSED_HEADER_LENGTH + compressor.maxCompressedLength(payload.length)];
+    final var compressedLength = compressor.compress(payload, 0, payload.length, buffer, COMPRESSED_HEADER_LENGTH);
+
+    ByteBuffer.wrap(buffer)
+        .put(SMILE_LZ4)
+        .put(typeId.byteValue())
+        .putInt(payload.length);
+
+    return Arrays.copyOf(buffer, COMPRESSED_HEADER_LENGTH + compressedLength);
+  }
+
+  @Override
+  public Object deserialize(byte[] bytes) {
+    if (bytes == null || bytes.length == 0) {
+      return null;
+    }
+
+    if (bytes[0] != SMILE && bytes[0] != SMILE_LZ4) {
+      return fallbackSerializer.deserialize(bytes);
+    }
+
+    final var typeId = Byte.toUnsignedInt(bytes[1]);
+    final var type = types.get(typeId);
+
+    if (type == null) {
+      throw new SerializationException("Unknown cached type id: " + typeId);
+    }
+
+    try {
+      if (bytes[0] == SMILE) {
+        return objectMapper.readValue(bytes, HEADER_LENGTH, bytes.length - HEADER_LENGTH, type);
+      }
+
+      final var payload = new byte[ByteBuffer.wrap(bytes, HEADER_LENGTH, Integer.BYTES).getInt()];
+
+      decompressor.decompress(bytes, COMPRESSED_HEADER_LENGTH, bytes.length - COMPRESSED_HEADER_LENGTH, payload, 0);
+      return objectMapper.readValue(payload, type);
+    } catch (IOException | RuntimeException e) {
+      throw new SerializationException("Could not read Smile: " + e.getMessage(), e);
+    }
+  }
+}
@@ -3,6 +3,7 @@ package br.com.conectabyte.profissu.controllers;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -17,8 +18,11 @@ import org.springframework.web.bind.annotation.RestController;
 
 import br.com.conectabyte.profissu.dtos.request.RequestedServiceRequestDto;
 import br.com.conectabyte.profissu.dtos.response.ExceptionDto;
+import br.com.conectabyte.profissu.dtos.response.NearbyRequestedServiceResponseDto;
 import br.com.conectabyte.profissu.dtos.response.RequestedServiceResponseDto;
+import br.com.conectabyte.profissu.enums.PaginationModeEnum;
 import br.com.conectabyte.profissu.enums.RequestedServiceStatusEnum;
+import br.com.conectabyte.profissu.services.RequestedServiceFeedService;
 import br.com.conectabyte.profissu.services.RequestedServiceService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -37,17 +41,53 @@ import lombok.extern.slf4j.Slf4j;
 @Tag(name = "Requested services", description = "Operations related to managing requested services")
 public class RequestedServiceController {
   private final RequestedServiceService requestedServiceService;
+  private final RequestedServiceFeedService requestedServiceFeedService;
 
-  @Operation(summary = "List requested services with pagination", description = "Retrieve a paginated list of requested services.")
+  @Operation(summary = "List requested services with pagination", description = "Retrieve a paginated list of requested services, optionally filtered by state and city. Use paginationMode=SLICE to skip the total count.")
   @ApiResponses(value = {
       @ApiResponse(responseCode = "200", description = "Successful retrieval of requested services", content = @Content(mediaType = "application/json", schema = @Schema(implementation = Page.class))),
       @ApiResponse(responseCode = "401", description = "Invalid or missing authentication credentials", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ExceptionDto.class))),
       @ApiResponse(responseCode = "400", description = "Invalid pagination parameters", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ExceptionDto.class))),
   })
   @GetMapping
-  public Page<RequestedServiceResponseDto> findAvailableServiceRequests(@ParameterObject Pageable pageable) {
-    log.debug("Find available requested services with pageable: {}", pageable);
-    return requestedServiceService.findAvailableServiceRequests(pageable);
+  public Slice<RequestedServiceResponseDto> findAvailableServiceRequests(
+      @RequestParam(defaultValue = "PAGE") PaginationModeEnum paginationMode,
+      @RequestParam(required = false) String state, @RequestParam(required = false) String city,
+      @ParameterObject Pageable pageable) {
+    log.debug("Find available requested services with pagination mode: {}, state: {}, city: {}, pageable: {}",
+        paginationMode, state, city, pageable);
+    return requestedServiceService.findAvailableServiceRequests(paginationMode, pageable, state, city);
+  }
+
+  @Operation(summary = "Search requested services", description = "Full-text search over the title and description of requested services, ranked by relevance and optionally filtered by status, state and city.")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Successful search of requested services", content = @Content(mediaType = "application/json", schema = @Schema(implementation = Slice.class))),
+      @ApiResponse(responseCode = "401", description = "Invalid or missing authentication credentials", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ExceptionDto.class))),
+      @ApiResponse(responseCode = "400", description = "Invalid search or pagination parameters", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ExceptionDto.class))),
+  })
+  @GetMapping("/search")
+  public Slice<RequestedServiceResponseDto> search(@RequestParam String query,
+      @RequestParam(required = false) RequestedServiceStatusEnum status,
+      @RequestParam(required = false) String state, @RequestParam(required = false) String city,
+      @ParameterObject Pageable pageable) {
+    log.debug("Search requested services with query: {}, status: {}, state: {}, city: {}, pageable: {}", query,
+        status, state, city, pageable);
+    return requestedServiceService.search(query, status, state, city, pageable);
+  }
+
+  @Operation(summary = "Find nearby requested services", description = "Retrieve open requested services within the given radius in kilometers of a coordinate, sorted by distance.")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Successful retrieval of nearby requested services", content = @Content(mediaType = "application/json", schema = @Schema(implementation = Slice.class))),
+      @ApiResponse(responseCode = "401", description = "Invalid or missing authentication credentials", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ExceptionDto.class))),
+      @ApiResponse(responseCode = "400", description = "Invalid coordinate, radius or pagination parameters", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ExceptionDto.class))),
+  })
+  @GetMapping("/nearby")
+  public Slice<NearbyRequestedServiceResponseDto> findNearby(@RequestParam double latitude,
+      @RequestParam double longitude, @RequestParam(defaultValue = "15") double radius,
+      @ParameterObject Pageable pageable) {
+    log.debug("Find requested services within {} km of latitude: {}, longitude: {}, pageable: {}", radius, latitude,
+        longitude, pageable);
+    return requestedServiceService.findNearby(latitude, longitude, radius, pageable);
   }
 
   @Operation(summary = "Retrieve requested services by user ID", description = "Fetches a paginated list of requested services associated with the provided user ID.", responses = {
@@ -90,4 +130,17 @@ public class RequestedServiceController {
     log.debug("Change status request received. ID: {}, New status: {}", id, requestedServiceStatusEnum);
     return ResponseEntity.ok(requestedServiceService.changeStatusTOcancelOrDone(id, requestedServiceStatusEnum));
   }
+
+  @Operation(summary = "Rebuild the requested services feed", description = "Rebuilds the Redis feed of available requested services from the database. Requires the admin role.", responses = {
+      @ApiResponse(responseCode = "202", description = "The feed will be rebuilt"),
+      @ApiResponse(responseCode = "401", description = "Invalid or missing authentication credentials", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ExceptionDto.class))),
+      @ApiResponse(responseCode = "403", description = "Access denied", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ExceptionDto.class)))
+  })
+  @PreAuthorize("@securityService.isAdmin()")
+  @PostMapping("/feed/rebuild")
+  public ResponseEntity<Void> rebuildFeed() {
+    log.debug("Rebuild requested services feed request received.");
+    this.requestedServiceFeedService.rebuild();
+    return ResponseEntity.accepted().build();
+  }
 }
@@ -1,8 +1,8 @@
 package br.com.conectabyte.profissu.controllers;
 
 import org.springdoc.core.annotations.ParameterObject;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -18,6 +18,7 @@ import org.springframework.web.bind.annotation.RestController;
 import br.com.conectabyte.profissu.dtos.request.ReviewRequestDto;
 import br.com.conectabyte.profissu.dtos.response.ExceptionDto;
 import br.com.conectabyte.profissu.dtos.response.ReviewResponseDto;
+import br.com.conectabyte.profissu.enums.PaginationModeEnum;
 import br.com.conectabyte.profissu.services.ReviewService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -36,16 +37,17 @@ import lombok.extern.slf4j.Slf4j;
 public class ReviewController {
   private final ReviewService reviewService;
 
-  @Operation(summary = "Find reviews by user", description = "Retrieves reviews based on the user ID and whether the user is the author or the recipient of the reviews.", responses = {
+  @Operation(summary = "Find reviews by user", description = "Retrieves reviews based on the user ID and whether the user is the author or the recipient of the reviews. Use paginationMode=SLICE to skip the total count.", responses = {
       @ApiResponse(responseCode = "200", description = "Reviews successfully retrieved", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ReviewResponseDto.class))),
       @ApiResponse(responseCode = "400", description = "Invalid parameters provided", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ExceptionDto.class)))
   })
   @GetMapping
-  public Page<ReviewResponseDto> findByUserId(@RequestParam Long userId, @RequestParam boolean isReviewOwner,
-      @ParameterObject Pageable pageable) {
-    log.debug("Find reviews by user request received. User ID: {}, Is Review Owner: {}, Pageable: {}", userId,
-        isReviewOwner, pageable);
-    return reviewService.findByUserId(userId, isReviewOwner, pageable);
+  public Slice<ReviewResponseDto> findByUserId(@RequestParam Long userId, @RequestParam boolean isReviewOwner,
+      @RequestParam(defaultValue = "PAGE") PaginationModeEnum paginationMode, @ParameterObject Pageable pageable) {
+    log.debug(
+        "Find reviews by user request received. User ID: {}, Is Review Owner: {}, Pagination mode: {}, Pageable: {}",
+        userId, isReviewOwner, paginationMode, pageable);
+    return reviewService.findByUserId(userId, isReviewOwner, paginationMode, pageable);
   }
 
   @Operation(summary = "Register review", description = "Registers a new review for a requested service.", responses = {
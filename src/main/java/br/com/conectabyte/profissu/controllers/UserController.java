@@ -1,5 +1,7 @@
 package br.com.conectabyte.profissu.controllers;
 
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -35,14 +37,22 @@ public class UserController {
 
   @Operation(summary = "Retrieve user by ID", description = "Fetches a user's details using the provided ID. Requires authentication.", responses = {
       @ApiResponse(responseCode = "200", description = "User successfully retrieved", content = @Content(mediaType = "application/json", schema = @Schema(implementation = UserResponseDto.class))),
+      @ApiResponse(responseCode = "304", description = "User has not changed since the ETag sent in If-None-Match"),
       @ApiResponse(responseCode = "400", description = "Malformed ID", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ExceptionDto.class))),
       @ApiResponse(responseCode = "401", description = "Invalid or missing authentication credentials", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ExceptionDto.class))),
       @ApiResponse(responseCode = "404", description = "No user exists with the given ID", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ExceptionDto.class)))
   })
   @GetMapping("/{id}")
-  public ResponseEntity<UserResponseDto> findById(@PathVariable Long id) {
+  public ResponseEntity<byte[]> findById(@PathVariable Long id) {
     log.debug("Find user by ID request received. ID: {}", id);
-    return ResponseEntity.ok().body(this.userService.findByIdAndReturnDto(id));
+
+    final var serializedUser = this.userService.findByIdAndReturnJson(id);
+
+    return ResponseEntity.ok()
+        .contentType(MediaType.APPLICATION_JSON)
+        .cacheControl(CacheControl.noCache().cachePrivate())
+        .eTag(serializedUser.etag())
+        .body(serializedUser.body());
   }
 
   @Operation(summary = "Soft delete user profile", description = "Marks the user profile as deleted (soft delete) using the provided ID. Requires authentication.", responses = {
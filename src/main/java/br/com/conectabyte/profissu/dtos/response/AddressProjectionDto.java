@@ -0,0 +1,5 @@
+package br.com.conectabyte.profissu.dtos.response;
+
+public record AddressProjectionDto(Long userId, Long id, String street, String number, String city, String state,
+    String zipCode) {
+}
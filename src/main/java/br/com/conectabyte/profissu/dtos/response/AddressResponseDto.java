@@ -1,4 +1,7 @@
 package br.com.conectabyte.profissu.dtos.response;
 
-public record AddressResponseDto(Long id, String street, String number, String city, String state, String zipCode) {
+import java.io.Serializable;
+
+public record AddressResponseDto(Long id, String street, String number, String city, String state, String zipCode)
+    implements Serializable {
 }
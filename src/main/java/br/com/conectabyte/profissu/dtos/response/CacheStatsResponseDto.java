@@ -0,0 +1,8 @@
+package br.com.conectabyte.profissu.dtos.response;
+
+import java.util.List;
+
+public record CacheStatsResponseDto(String name, long size, long estimatedMemoryBytes, long hitCount, long missCount,
+    long evictionCount, double hitRate, double missRate, double evictionRate, List<String> hottestKeys,
+    RemoteCacheStatsResponseDto remote) {
+}
@@ -0,0 +1,4 @@
+package br.com.conectabyte.profissu.dtos.response;
+
+public record ContactProjectionDto(Long userId, Long id, String value, boolean standard) {
+}
@@ -1,4 +1,6 @@
 package br.com.conectabyte.profissu.dtos.response;
 
-public record ContactResponseDto(Long id, String value, boolean standard) {
+import java.io.Serializable;
+
+public record ContactResponseDto(Long id, String value, boolean standard) implements Serializable {
 }
@@ -0,0 +1,15 @@
+package br.com.conectabyte.profissu.dtos.response;
+
+import br.com.conectabyte.profissu.enums.GenderEnum;
+import br.com.conectabyte.profissu.enums.OfferStatusEnum;
+
+public record ConversationProjectionDto(Long id, OfferStatusEnum offerStatus, UserProjectionDto requester,
+    UserProjectionDto serviceProvider) {
+  public ConversationProjectionDto(Long id, OfferStatusEnum offerStatus,
+      Long requesterId, String requesterName, String requesterBio, GenderEnum requesterGender,
+      Long serviceProviderId, String serviceProviderName, String serviceProviderBio,
+      GenderEnum serviceProviderGender) {
+    this(id, offerStatus, new UserProjectionDto(requesterId, requesterName, requesterBio, requesterGender),
+        new UserProjectionDto(serviceProviderId, serviceProviderName, serviceProviderBio, serviceProviderGender));
+  }
+}
@@ -0,0 +1,11 @@
+package br.com.conectabyte.profissu.dtos.response;
+
+import br.com.conectabyte.profissu.enums.GenderEnum;
+
+public record MessageProjectionDto(Long conversationId, Long id, String message, boolean read,
+    UserProjectionDto user) {
+  public MessageProjectionDto(Long conversationId, Long id, String message, boolean read,
+      Long userId, String userName, String userBio, GenderEnum userGender) {
+    this(conversationId, id, message, read, new UserProjectionDto(userId, userName, userBio, userGender));
+  }
+}
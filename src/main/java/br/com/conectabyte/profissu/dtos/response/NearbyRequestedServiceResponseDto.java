@@ -0,0 +1,4 @@
+package br.com.conectabyte.profissu.dtos.response;
+
+public record NearbyRequestedServiceResponseDto(RequestedServiceResponseDto requestedService, double distance) {
+}
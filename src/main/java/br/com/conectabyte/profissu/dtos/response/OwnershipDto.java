@@ -0,0 +1,9 @@
+package br.com.conectabyte.profissu.dtos.response;
+
+import java.io.Serializable;
+
+public record OwnershipDto(Long ownerId, Long requesterId, Long serviceProviderId) implements Serializable {
+  public OwnershipDto(Long ownerId) {
+    this(ownerId, null, null);
+  }
+}
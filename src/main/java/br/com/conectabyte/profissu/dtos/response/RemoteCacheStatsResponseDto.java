@@ -0,0 +1,5 @@
+package br.com.conectabyte.profissu.dtos.response;
+
+public record RemoteCacheStatsResponseDto(long hitCount, long missCount, long putCount, long deleteCount,
+    double hitRate) {
+}
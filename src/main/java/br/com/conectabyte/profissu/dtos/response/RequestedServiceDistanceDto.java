@@ -0,0 +1,4 @@
+package br.com.conectabyte.profissu.dtos.response;
+
+public record RequestedServiceDistanceDto(Long id, double distance) {
+}
@@ -0,0 +1,15 @@
+package br.com.conectabyte.profissu.dtos.response;
+
+import java.time.LocalDateTime;
+
+import br.com.conectabyte.profissu.enums.GenderEnum;
+import br.com.conectabyte.profissu.enums.RequestedServiceStatusEnum;
+
+public record RequestedServiceFeedEntryDto(RequestedServiceProjectionDto requestedService, LocalDateTime createdAt) {
+  public RequestedServiceFeedEntryDto(Long id, String title, String description, RequestedServiceStatusEnum status,
+      Long addressId, String street, String number, String city, String state, String zipCode,
+      Long userId, String userName, String userBio, GenderEnum userGender, LocalDateTime createdAt) {
+    this(new RequestedServiceProjectionDto(id, title, description, status, addressId, street, number, city, state,
+        zipCode, userId, userName, userBio, userGender), createdAt);
+  }
+}
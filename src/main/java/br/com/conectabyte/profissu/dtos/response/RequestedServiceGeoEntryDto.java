@@ -0,0 +1,7 @@
+package br.com.conectabyte.profissu.dtos.response;
+
+public record RequestedServiceGeoEntryDto(Long id, GeoPointDto location) {
+  public RequestedServiceGeoEntryDto(Long id, Double latitude, Double longitude) {
+    this(id, new GeoPointDto(latitude, longitude));
+  }
+}
@@ -0,0 +1,14 @@
+package br.com.conectabyte.profissu.dtos.response;
+
+import br.com.conectabyte.profissu.enums.GenderEnum;
+import br.com.conectabyte.profissu.enums.RequestedServiceStatusEnum;
+
+public record RequestedServiceProjectionDto(Long id, String title, String description,
+    RequestedServiceStatusEnum status, AddressResponseDto address, UserProjectionDto user) {
+  public RequestedServiceProjectionDto(Long id, String title, String description, RequestedServiceStatusEnum status,
+      Long addressId, String street, String number, String city, String state, String zipCode,
+      Long userId, String userName, String userBio, GenderEnum userGender) {
+    this(id, title, description, status, new AddressResponseDto(addressId, street, number, city, state, zipCode),
+        new UserProjectionDto(userId, userName, userBio, userGender));
+  }
+}
@@ -1,7 +1,9 @@
 package br.com.conectabyte.profissu.dtos.response;
 
+import java.io.Serializable;
+
 import br.com.conectabyte.profissu.enums.RequestedServiceStatusEnum;
 
 public record RequestedServiceResponseDto(Long id, String title, String description, RequestedServiceStatusEnum status,
-    AddressResponseDto address, UserResponseDto user) {
+    AddressResponseDto address, UserResponseDto user) implements Serializable {
 }
@@ -0,0 +1,19 @@
+package br.com.conectabyte.profissu.dtos.response;
+
+import br.com.conectabyte.profissu.enums.GenderEnum;
+import br.com.conectabyte.profissu.enums.RequestedServiceStatusEnum;
+
+public record ReviewProjectionDto(Long id, String title, String review, int stars, UserProjectionDto user,
+    RequestedServiceProjectionDto requestedService) {
+  public ReviewProjectionDto(Long id, String title, String review, int stars,
+      Long userId, String userName, String userBio, GenderEnum userGender,
+      Long requestedServiceId, String requestedServiceTitle, String requestedServiceDescription,
+      RequestedServiceStatusEnum requestedServiceStatus,
+      Long addressId, String street, String number, String city, String state, String zipCode,
+      Long ownerId, String ownerName, String ownerBio, GenderEnum ownerGender) {
+    this(id, title, review, stars, new UserProjectionDto(userId, userName, userBio, userGender),
+        new RequestedServiceProjectionDto(requestedServiceId, requestedServiceTitle, requestedServiceDescription,
+            requestedServiceStatus, addressId, street, number, city, state, zipCode,
+            ownerId, ownerName, ownerBio, ownerGender));
+  }
+}
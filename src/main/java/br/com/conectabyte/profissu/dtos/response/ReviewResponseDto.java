@@ -1,5 +1,7 @@
 package br.com.conectabyte.profissu.dtos.response;
 
+import java.io.Serializable;
+
 public record ReviewResponseDto(Long id, String title, String review, int stars,
-    UserResponseDto user, RequestedServiceResponseDto requestedService) {
+    UserResponseDto user, RequestedServiceResponseDto requestedService) implements Serializable {
 }
@@ -0,0 +1,8 @@
+package br.com.conectabyte.profissu.dtos.response;
+
+import java.util.List;
+
+public record SliceResponseDto<T>(List<T> content, SliceMetadata page) {
+  public record SliceMetadata(int size, int number, boolean hasNext) {
+  }
+}
@@ -0,0 +1,6 @@
+package br.com.conectabyte.profissu.dtos.response;
+
+import br.com.conectabyte.profissu.enums.GenderEnum;
+
+public record UserProjectionDto(Long id, String name, String bio, GenderEnum gender) {
+}
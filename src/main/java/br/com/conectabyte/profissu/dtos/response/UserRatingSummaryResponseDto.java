@@ -0,0 +1,6 @@
+package br.com.conectabyte.profissu.dtos.response;
+
+import java.io.Serializable;
+
+public record UserRatingSummaryResponseDto(long reviewCount, double averageStars) implements Serializable {
+}
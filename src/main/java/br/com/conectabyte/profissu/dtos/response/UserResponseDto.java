@@ -1,9 +1,17 @@
 package br.com.conectabyte.profissu.dtos.response;
 
+import java.io.Serializable;
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import br.com.conectabyte.profissu.enums.GenderEnum;
 
 public record UserResponseDto(Long id, String name, String bio, GenderEnum gender,
-    List<ContactResponseDto> contacts, List<AddressResponseDto> addresses) {
+    List<ContactResponseDto> contacts, List<AddressResponseDto> addresses,
+    @JsonInclude(JsonInclude.Include.NON_NULL) UserRatingSummaryResponseDto rating) implements Serializable {
+  public UserResponseDto(Long id, String name, String bio, GenderEnum gender, List<ContactResponseDto> contacts,
+      List<AddressResponseDto> addresses) {
+    this(id, name, bio, gender, contacts, addresses, null);
+  }
 }
@@ -0,0 +1,14 @@
+package br.com.conectabyte.profissu.dtos.response;
+
+import java.io.Serializable;
+import java.util.Set;
+
+public record UserSnapshotDto(Long id, String name, Set<String> roles, boolean verified) implements Serializable {
+  public UserSnapshotDto(Long id, String name, boolean verified) {
+    this(id, name, Set.of(), verified);
+  }
+
+  public UserSnapshotDto withRoles(Set<String> roles) {
+    return new UserSnapshotDto(id, name, Set.copyOf(roles), verified);
+  }
+}
@@ -2,23 +2,25 @@ package br.com.conectabyte.profissu.entities;
 
 import java.time.LocalDateTime;
 
+import org.hibernate.annotations.SQLRestriction;
+
+import br.com.conectabyte.profissu.anotations.TsidGenerated;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
-import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
 import lombok.Data;
 
 @Entity
 @Table(name = "addresses")
+@SQLRestriction("deleted_at IS NULL")
 @Data
 public class Address {
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @TsidGenerated
   private Long id;
 
   @Column(name = "created_at", nullable = false)
@@ -42,13 +44,14 @@ public class Address {
   @Column(name = "zip_code", nullable = false)
   private String zipCode;
 
+  private Double latitude;
+
+  private Double longitude;
+
   @Column(name = "deleted_at")
   private LocalDateTime deletedAt;
 
-  @OneToOne(mappedBy = "address")
-  private RequestedService requestedService;
-
-  @ManyToOne
+  @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "user_id")
   private User user;
 }
@@ -2,22 +2,28 @@ package br.com.conectabyte.profissu.entities;
 
 import java.time.LocalDateTime;
 
+import org.hibernate.annotations.SQLRestriction;
+
+import br.com.conectabyte.profissu.anotations.TsidGenerated;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.Table;
 import lombok.Data;
 
 @Entity
 @Table(name = "contacts")
+@SQLRestriction("deleted_at IS NULL")
+@NamedEntityGraph(name = "Contact.user", attributeNodes = @NamedAttributeNode("user"))
 @Data
 public class Contact {
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @TsidGenerated
   private Long id;
 
   @Column(name = "created_at", nullable = false)
@@ -41,7 +47,7 @@ public class Contact {
   @Column(name = "deleted_at")
   private LocalDateTime deletedAt;
 
-  @ManyToOne
+  @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "user_id", nullable = false)
   private User user;
 }
@@ -3,27 +3,39 @@ package br.com.conectabyte.profissu.entities;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import br.com.conectabyte.profissu.anotations.TsidGenerated;
 import br.com.conectabyte.profissu.enums.OfferStatusEnum;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedSubgraph;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.Data;
 
 @Entity
 @Table(name = "conversations")
+@NamedEntityGraph(name = "Conversation.detail", attributeNodes = {
+    @NamedAttributeNode(value = "requester", subgraph = "user"),
+    @NamedAttributeNode(value = "serviceProvider", subgraph = "user"),
+    @NamedAttributeNode(value = "requestedService", subgraph = "requestedService")
+}, subgraphs = {
+    @NamedSubgraph(name = "user", attributeNodes = @NamedAttributeNode("bio")),
+    @NamedSubgraph(name = "requestedService", attributeNodes = @NamedAttributeNode("description"))
+})
 @Data
 public class Conversation {
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @TsidGenerated
   private Long id;
 
   @Column(name = "created_at", nullable = false)
@@ -32,19 +44,23 @@ public class Conversation {
   @Column(name = "updated_at")
   private LocalDateTime updatedAt;
 
+  @Version
+  @Column(nullable = false)
+  private Long version;
+
   @Column(name = "offer_status", nullable = false)
   @Enumerated(EnumType.STRING)
   private OfferStatusEnum offerStatus = OfferStatusEnum.PENDING;
 
-  @ManyToOne
+  @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "requester_id", nullable = false)
   private User requester;
 
-  @ManyToOne
+  @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "service_provider_id", nullable = false)
   private User serviceProvider;
 
-  @ManyToOne
+  @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "requested_service_id", nullable = false)
   private RequestedService requestedService;
 
@@ -2,13 +2,17 @@ package br.com.conectabyte.profissu.entities;
 
 import java.time.LocalDateTime;
 
+import br.com.conectabyte.profissu.anotations.TsidGenerated;
+import jakarta.persistence.Basic;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedSubgraph;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -17,19 +21,24 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Table(name = "messages")
+@NamedEntityGraph(name = "Message.user", attributeNodes = {
+    @NamedAttributeNode("message"),
+    @NamedAttributeNode(value = "user", subgraph = "user")
+}, subgraphs = @NamedSubgraph(name = "user", attributeNodes = @NamedAttributeNode("bio")))
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class Message {
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @TsidGenerated
   private Long id;
 
   @Builder.Default
   @Column(name = "created_at", nullable = false)
   private LocalDateTime createdAt = LocalDateTime.now();
 
+  @Basic(fetch = FetchType.LAZY)
   @Column(nullable = false)
   private String message;
 
@@ -39,11 +48,11 @@ public class Message {
   @Column(name = "notification_sent", nullable = false)
   private boolean notificationSent;
 
-  @ManyToOne
+  @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "user_id", nullable = false)
   private User user;
 
-  @ManyToOne
+  @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "conversation_id", nullable = false)
   private Conversation conversation;
 }
@@ -3,28 +3,45 @@ package br.com.conectabyte.profissu.entities;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import org.hibernate.annotations.SQLRestriction;
+
+import br.com.conectabyte.profissu.anotations.TsidGenerated;
 import br.com.conectabyte.profissu.enums.RequestedServiceStatusEnum;
+import jakarta.persistence.Basic;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedSubgraph;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.Data;
 
 @Entity
 @Table(name = "requested_services")
+@SQLRestriction("deleted_at IS NULL")
+@NamedEntityGraph(name = "RequestedService.detail", attributeNodes = {
+    @NamedAttributeNode("description"),
+    @NamedAttributeNode("address"),
+    @NamedAttributeNode(value = "user", subgraph = "user"),
+    @NamedAttributeNode("conversations")
+}, subgraphs = @NamedSubgraph(name = "user", attributeNodes = @NamedAttributeNode("bio")))
+@NamedEntityGraph(name = "RequestedService.summary", attributeNodes = {
+    @NamedAttributeNode("user")
+})
 @Data
 public class RequestedService {
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @TsidGenerated
   private Long id;
 
   @Column(name = "created_at", nullable = false)
@@ -33,9 +50,14 @@ public class RequestedService {
   @Column(name = "updated_at")
   private LocalDateTime updatedAt;
 
+  @Version
+  @Column(nullable = false)
+  private Long version;
+
   @Column(nullable = false)
   private String title;
 
+  @Basic(fetch = FetchType.LAZY)
   @Column(nullable = false)
   private String description;
 
@@ -43,14 +65,18 @@ public class RequestedService {
   @Enumerated(EnumType.STRING)
   private RequestedServiceStatusEnum status;
 
+  @Column(name = "live_status", insertable = false, updatable = false)
+  @Enumerated(EnumType.STRING)
+  private RequestedServiceStatusEnum liveStatus;
+
   @Column(name = "deleted_at")
   private LocalDateTime deletedAt;
 
-  @OneToOne(cascade = CascadeType.ALL)
+  @OneToOne(cascade = CascadeType.ALL, fetch = FetchType.LAZY)
   @JoinColumn(name = "address_id", nullable = false)
   private Address address;
 
-  @ManyToOne
+  @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "user_id", nullable = false)
   private User user;
 
@@ -59,4 +85,7 @@ public class RequestedService {
 
   @OneToMany(mappedBy = "requestedService")
   private List<Review> reviews;
+
+  @OneToMany(mappedBy = "requestedService")
+  private List<RequestedServiceParticipant> participants;
 }
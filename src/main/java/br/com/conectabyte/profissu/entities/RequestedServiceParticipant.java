@@ -0,0 +1,41 @@
+package br.com.conectabyte.profissu.entities;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.MapsId;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "requested_service_participants")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RequestedServiceParticipant {
+  @EmbeddedId
+  private RequestedServiceParticipantId id;
+
+  @Builder.Default
+  @Column(name = "created_at", nullable = false)
+  private LocalDateTime createdAt = LocalDateTime.now();
+
+  @MapsId("requestedServiceId")
+  @ManyToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "requested_service_id", nullable = false)
+  private RequestedService requestedService;
+
+  @MapsId("userId")
+  @ManyToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "user_id", nullable = false)
+  private User user;
+}
@@ -0,0 +1,28 @@
+package br.com.conectabyte.profissu.entities;
+
+import java.io.Serializable;
+
+import br.com.conectabyte.profissu.enums.ParticipantRoleEnum;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RequestedServiceParticipantId implements Serializable {
+  @Column(name = "requested_service_id")
+  private Long requestedServiceId;
+
+  @Column(name = "user_id")
+  private Long userId;
+
+  @Column(nullable = false)
+  @Enumerated(EnumType.STRING)
+  private ParticipantRoleEnum role;
+}
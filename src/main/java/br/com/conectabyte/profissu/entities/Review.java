@@ -2,22 +2,39 @@ package br.com.conectabyte.profissu.entities;
 
 import java.time.LocalDateTime;
 
+import org.hibernate.annotations.SQLRestriction;
+
+import br.com.conectabyte.profissu.anotations.TsidGenerated;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedSubgraph;
 import jakarta.persistence.Table;
 import lombok.Data;
 
 @Entity
 @Table(name = "reviews")
+@SQLRestriction("deleted_at IS NULL")
+@NamedEntityGraph(name = "Review.summary", attributeNodes = {
+    @NamedAttributeNode(value = "user", subgraph = "user"),
+    @NamedAttributeNode(value = "requestedService", subgraph = "requestedService")
+}, subgraphs = {
+    @NamedSubgraph(name = "user", attributeNodes = @NamedAttributeNode("bio")),
+    @NamedSubgraph(name = "requestedService", attributeNodes = {
+        @NamedAttributeNode("description"),
+        @NamedAttributeNode("address"),
+        @NamedAttributeNode(value = "user", subgraph = "user")
+    })
+})
 @Data
 public class Review {
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @TsidGenerated
   private Long id;
 
   @Column(name = "created_at", nullable = false)
@@ -37,11 +54,11 @@ public class Review {
   @Column(name = "deleted_at")
   private LocalDateTime deletedAt;
 
-  @ManyToOne
+  @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "user_id", nullable = false)
   private User user;
 
-  @ManyToOne
+  @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "requested_service_id", nullable = false)
   private RequestedService requestedService;
 }
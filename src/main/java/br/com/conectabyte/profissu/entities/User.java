@@ -4,32 +4,43 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Set;
 
+import org.hibernate.annotations.SQLRestriction;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import br.com.conectabyte.profissu.anotations.TsidGenerated;
 import br.com.conectabyte.profissu.enums.GenderEnum;
+import jakarta.persistence.Basic;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.OneToMany;
-import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
 import lombok.Data;
 
 @Entity
 @Table(name = "users")
+@SQLRestriction("deleted_at IS NULL")
+@NamedEntityGraph(name = "User.profile", attributeNodes = {
+    @NamedAttributeNode("bio"),
+    @NamedAttributeNode("contacts")
+})
+@NamedEntityGraph(name = "User.credentials", attributeNodes = {
+    @NamedAttributeNode("contacts"),
+    @NamedAttributeNode("roles")
+})
 @Data
 public class User {
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @TsidGenerated
   private Long id;
 
   @Column(name = "created_at", nullable = false)
@@ -41,6 +52,7 @@ public class User {
   @Column(nullable = false)
   private String name;
 
+  @Basic(fetch = FetchType.LAZY)
   @Column(nullable = false)
   private String bio;
 
@@ -54,9 +66,6 @@ public class User {
   @Column(name = "deleted_at")
   private LocalDateTime deletedAt;
 
-  @OneToOne(mappedBy = "user")
-  private Token token;
-
   @Column(nullable = false)
   @OneToMany(mappedBy = "user", cascade = CascadeType.ALL)
   private List<Contact> contacts;
@@ -82,7 +91,7 @@ public class User {
   private List<Review> reviews;
 
   @Column(nullable = false)
-  @ManyToMany(cascade = CascadeType.ALL, fetch = FetchType.EAGER)
+  @ManyToMany(cascade = CascadeType.ALL)
   @JoinTable(name = "users_roles", joinColumns = @JoinColumn(name = "user_id"), inverseJoinColumns = @JoinColumn(name = "role_id"))
   private Set<Role> roles;
 
@@ -0,0 +1,27 @@
+package br.com.conectabyte.profissu.entities;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+
+@Entity
+@Table(name = "user_rating_summaries")
+@Data
+public class UserRatingSummary {
+  @Id
+  @Column(name = "user_id")
+  private Long userId;
+
+  @Column(name = "review_count", nullable = false)
+  private long reviewCount;
+
+  @Column(name = "star_total", nullable = false)
+  private long starTotal;
+
+  @Column(name = "updated_at", nullable = false)
+  private LocalDateTime updatedAt;
+}
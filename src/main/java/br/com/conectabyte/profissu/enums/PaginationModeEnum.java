@@ -0,0 +1,6 @@
+package br.com.conectabyte.profissu.enums;
+
+public enum PaginationModeEnum {
+  PAGE,
+  SLICE
+}
@@ -0,0 +1,47 @@
+package br.com.conectabyte.profissu.generators;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+public class TsidFactory {
+  public static final long EPOCH = 1735689600000L;
+  public static final int NODE_BITS = 6;
+  public static final int COUNTER_BITS = 6;
+  public static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+
+  private static final int MAX_COUNTER = (1 << COUNTER_BITS) - 1;
+  private static final Map<Integer, TsidFactory> FACTORIES = new ConcurrentHashMap<>();
+
+  private final long nodeId;
+  private final LongSupplier clock;
+  private long lastMillis = -1;
+  private int counter;
+
+  public TsidFactory(int nodeId, LongSupplier clock) {
+    if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+      throw new IllegalArgumentException("TSID node id must be between 0 and " + MAX_NODE_ID + ": " + nodeId);
+    }
+
+    this.nodeId = nodeId;
+    this.clock = clock;
+  }
+
+  public static TsidFactory forNode(int nodeId) {
+    return FACTORIES.computeIfAbsent(nodeId, id -> new TsidFactory(id, System::currentTimeMillis));
+  }
+
+  public synchronized long next() {
+    var millis = Math.max(clock.getAsLong() - EPOCH, lastMillis);
+
+    if (millis != lastMillis) {
+      counter = 0;
+    } else if (++counter > MAX_COUNTER) {
+      millis++;
+      counter = 0;
+    }
+
+    lastMillis = millis;
+    return (millis << (NODE_BITS + COUNTER_BITS)) | (nodeId << COUNTER_BITS) | counter;
+  }
+}
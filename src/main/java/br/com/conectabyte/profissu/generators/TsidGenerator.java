@@ -0,0 +1,39 @@
+package br.com.conectabyte.profissu.generators;
+
+import java.lang.reflect.Member;
+import java.util.EnumSet;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.AnnotationBasedGenerator;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+import org.hibernate.generator.GeneratorCreationContext;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+
+import br.com.conectabyte.profissu.anotations.TsidGenerated;
+
+public class TsidGenerator implements BeforeExecutionGenerator, AnnotationBasedGenerator<TsidGenerated> {
+  public static final String NODE_ID_SETTING = "profissu.tsid.node-id";
+
+  private TsidFactory tsidFactory;
+
+  @Override
+  public void initialize(TsidGenerated annotation, Member member, GeneratorCreationContext context) {
+    final var settings = context.getServiceRegistry().requireService(ConfigurationService.class).getSettings();
+
+    this.tsidFactory = TsidFactory.forNode(ConfigurationHelper.getInt(NODE_ID_SETTING, settings, 0));
+  }
+
+  @Override
+  public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+      EventType eventType) {
+    return tsidFactory.next();
+  }
+
+  @Override
+  public EnumSet<EventType> getEventTypes() {
+    return EventTypeSets.INSERT_ONLY;
+  }
+}
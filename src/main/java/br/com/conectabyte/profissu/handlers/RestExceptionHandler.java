@@ -2,6 +2,7 @@ package br.com.conectabyte.profissu.handlers;
 
 import java.util.ArrayList;
 
+import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.data.mapping.PropertyReferenceException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -58,6 +59,13 @@ public class RestExceptionHandler {
     return ResponseEntity.status(HttpStatus.CONFLICT).body(new ExceptionDto(e.getMessage(), null));
   }
 
+  @ExceptionHandler(ConcurrencyFailureException.class)
+  public ResponseEntity<ExceptionDto> concurrencyFailureExceptionHandler(Exception e) {
+    log.error("Error: {}", e.getMessage());
+    return ResponseEntity.status(HttpStatus.CONFLICT)
+        .body(new ExceptionDto("The resource was modified concurrently. Please try again.", null));
+  }
+
   @ExceptionHandler({ BadCredentialsException.class, EmailNotVerifiedException.class })
   public ResponseEntity<ExceptionDto> credentialsExceptionHandler(Exception e) {
     log.error("Error: {}", e.getMessage());
@@ -5,6 +5,7 @@ import org.mapstruct.Mapping;
 import org.mapstruct.factory.Mappers;
 
 import br.com.conectabyte.profissu.dtos.request.AddressRequestDto;
+import br.com.conectabyte.profissu.dtos.response.AddressProjectionDto;
 import br.com.conectabyte.profissu.dtos.response.AddressResponseDto;
 import br.com.conectabyte.profissu.entities.Address;
 
@@ -15,7 +16,8 @@ public interface AddressMapper {
   @Mapping(target = "createdAt", ignore = true)
   @Mapping(target = "deletedAt", ignore = true)
   @Mapping(target = "id", ignore = true)
-  @Mapping(target = "requestedService", ignore = true)
+  @Mapping(target = "latitude", ignore = true)
+  @Mapping(target = "longitude", ignore = true)
   @Mapping(target = "updatedAt", ignore = true)
   @Mapping(target = "user", ignore = true)
   Address addressRequestDtoToAddress(AddressRequestDto addressRequestDto);
@@ -23,4 +25,6 @@ public interface AddressMapper {
   AddressRequestDto addressToAddressRequestDto(Address address);
 
   AddressResponseDto addressToAddressResponseDto(Address address);
+
+  AddressResponseDto addressProjectionDtoToAddressResponseDto(AddressProjectionDto addressProjectionDto);
 }
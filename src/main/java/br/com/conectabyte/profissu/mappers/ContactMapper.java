@@ -5,6 +5,7 @@ import org.mapstruct.Mapping;
 import org.mapstruct.factory.Mappers;
 
 import br.com.conectabyte.profissu.dtos.request.ContactRequestDto;
+import br.com.conectabyte.profissu.dtos.response.ContactProjectionDto;
 import br.com.conectabyte.profissu.dtos.response.ContactResponseDto;
 import br.com.conectabyte.profissu.entities.Contact;
 
@@ -24,4 +25,6 @@ public interface ContactMapper {
   ContactRequestDto contactToContactRequestDto(Contact contact);
 
   ContactResponseDto contactToContactResponseDto(Contact contact);
+
+  ContactResponseDto contactProjectionDtoToContactResponseDto(ContactProjectionDto contactProjectionDto);
 }
@@ -1,5 +1,8 @@
 package br.com.conectabyte.profissu.mappers;
 
+import java.util.List;
+import java.util.Map;
+
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.factory.Mappers;
@@ -7,10 +10,14 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 
 import br.com.conectabyte.profissu.dtos.request.ConversationRequestDto;
+import br.com.conectabyte.profissu.dtos.response.ConversationProjectionDto;
 import br.com.conectabyte.profissu.dtos.response.ConversationResponseDto;
+import br.com.conectabyte.profissu.dtos.response.MessageProjectionDto;
+import br.com.conectabyte.profissu.dtos.response.MessageResponseDto;
+import br.com.conectabyte.profissu.dtos.response.UserResponseDto;
 import br.com.conectabyte.profissu.entities.Conversation;
 
-@Mapper
+@Mapper(uses = { UserMapper.class, MessageMapper.class })
 public interface ConversationMapper {
   ConversationMapper INSTANCE = Mappers.getMapper(ConversationMapper.class);
 
@@ -22,17 +29,38 @@ public interface ConversationMapper {
   @Mapping(target = "offerStatus", ignore = true)
   @Mapping(target = "requester", ignore = true)
   @Mapping(target = "serviceProvider", ignore = true)
+  @Mapping(target = "version", ignore = true)
   Conversation conversationRequestDtoToConversation(ConversationRequestDto conversationRequestDto);
 
   ConversationResponseDto conversationToConversationResponseDto(Conversation conversation);
 
-  default Page<ConversationResponseDto> conversationPageToConversationResponseDtoPage(
-      Page<Conversation> conversationPage) {
-    final var conversationResponseDtoPageContent = conversationPage.getContent().stream()
-        .map(this::conversationToConversationResponseDto)
+  default MessageResponseDto messageProjectionDtoToMessageResponseDto(MessageProjectionDto messageProjectionDto,
+      Map<Long, UserResponseDto> users) {
+    return new MessageResponseDto(messageProjectionDto.id(), messageProjectionDto.message(),
+        messageProjectionDto.read(), users.get(messageProjectionDto.user().id()));
+  }
+
+  default ConversationResponseDto conversationProjectionDtoToConversationResponseDto(
+      ConversationProjectionDto conversationProjectionDto, List<MessageProjectionDto> messages,
+      Map<Long, UserResponseDto> users) {
+    final var messageResponseDtos = messages.stream()
+        .map(message -> messageProjectionDtoToMessageResponseDto(message, users))
+        .toList();
+
+    return new ConversationResponseDto(conversationProjectionDto.id(), conversationProjectionDto.offerStatus(),
+        users.get(conversationProjectionDto.requester().id()),
+        users.get(conversationProjectionDto.serviceProvider().id()), messageResponseDtos);
+  }
+
+  default Page<ConversationResponseDto> conversationProjectionPageToConversationResponseDtoPage(
+      Page<ConversationProjectionDto> conversationProjectionPage, Map<Long, List<MessageProjectionDto>> messages,
+      Map<Long, UserResponseDto> users) {
+    final var conversationResponseDtoPageContent = conversationProjectionPage.getContent().stream()
+        .map(conversation -> conversationProjectionDtoToConversationResponseDto(conversation,
+            messages.getOrDefault(conversation.id(), List.of()), users))
         .toList();
 
-    return new PageImpl<>(conversationResponseDtoPageContent, conversationPage.getPageable(),
-        conversationPage.getTotalElements());
+    return new PageImpl<>(conversationResponseDtoPageContent, conversationProjectionPage.getPageable(),
+        conversationProjectionPage.getTotalElements());
   }
 }
@@ -8,7 +8,7 @@ import org.springframework.data.domain.PageImpl;
 import br.com.conectabyte.profissu.dtos.response.MessageResponseDto;
 import br.com.conectabyte.profissu.entities.Message;
 
-@Mapper
+@Mapper(uses = { UserMapper.class })
 public interface MessageMapper {
   MessageMapper INSTANCE = Mappers.getMapper(MessageMapper.class);
 
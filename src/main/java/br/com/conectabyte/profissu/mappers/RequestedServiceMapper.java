@@ -1,13 +1,18 @@
 package br.com.conectabyte.profissu.mappers;
 
+import java.util.Map;
+
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.factory.Mappers;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Slice;
 
 import br.com.conectabyte.profissu.dtos.request.RequestedServiceRequestDto;
+import br.com.conectabyte.profissu.dtos.response.RequestedServiceProjectionDto;
 import br.com.conectabyte.profissu.dtos.response.RequestedServiceResponseDto;
+import br.com.conectabyte.profissu.dtos.response.UserResponseDto;
 import br.com.conectabyte.profissu.entities.RequestedService;
 
 @Mapper(uses = { UserMapper.class, AddressMapper.class })
@@ -20,20 +25,40 @@ public interface RequestedServiceMapper {
   @Mapping(target = "updatedAt", ignore = true)
   @Mapping(target = "user", ignore = true)
   @Mapping(target = "status", ignore = true)
+  @Mapping(target = "liveStatus", ignore = true)
   @Mapping(target = "conversations", ignore = true)
   @Mapping(target = "reviews", ignore = true)
+  @Mapping(target = "version", ignore = true)
+  @Mapping(target = "participants", ignore = true)
   RequestedService requestedServiceRequestDtoToRequestedService(RequestedServiceRequestDto requestedServiceRequestDto);
 
   RequestedServiceResponseDto requestedServiceToRequestedServiceResponseDto(
       RequestedService requestedServiceRequestDto);
 
-  default Page<RequestedServiceResponseDto> requestedServicePageToRequestedServiceResponseDtoPage(
-      Page<RequestedService> requestedServicePage) {
-    final var requestedServiceResponseDtoPageContent = requestedServicePage.getContent().stream()
-        .map(this::requestedServiceToRequestedServiceResponseDto)
+  default RequestedServiceResponseDto requestedServiceProjectionDtoToRequestedServiceResponseDto(
+      RequestedServiceProjectionDto requestedServiceProjectionDto, Map<Long, UserResponseDto> users) {
+    return new RequestedServiceResponseDto(requestedServiceProjectionDto.id(), requestedServiceProjectionDto.title(),
+        requestedServiceProjectionDto.description(), requestedServiceProjectionDto.status(),
+        requestedServiceProjectionDto.address(), users.get(requestedServiceProjectionDto.user().id()));
+  }
+
+  default Page<RequestedServiceResponseDto> requestedServiceProjectionPageToRequestedServiceResponseDtoPage(
+      Page<RequestedServiceProjectionDto> requestedServiceProjectionPage, Map<Long, UserResponseDto> users) {
+    final var requestedServiceResponseDtoPageContent = requestedServiceProjectionPage.getContent().stream()
+        .map(requestedService -> requestedServiceProjectionDtoToRequestedServiceResponseDto(requestedService, users))
         .toList();
 
-    return new PageImpl<>(requestedServiceResponseDtoPageContent, requestedServicePage.getPageable(),
-        requestedServicePage.getTotalElements());
+    return new PageImpl<>(requestedServiceResponseDtoPageContent, requestedServiceProjectionPage.getPageable(),
+        requestedServiceProjectionPage.getTotalElements());
+  }
+
+  default Slice<RequestedServiceResponseDto> requestedServiceProjectionSliceToRequestedServiceResponseDtoSlice(
+      Slice<RequestedServiceProjectionDto> requestedServiceProjectionSlice, Map<Long, UserResponseDto> users) {
+    if (requestedServiceProjectionSlice instanceof Page<RequestedServiceProjectionDto> requestedServiceProjectionPage) {
+      return requestedServiceProjectionPageToRequestedServiceResponseDtoPage(requestedServiceProjectionPage, users);
+    }
+
+    return requestedServiceProjectionSlice
+        .map(requestedService -> requestedServiceProjectionDtoToRequestedServiceResponseDto(requestedService, users));
   }
 }
@@ -1,16 +1,21 @@
 package br.com.conectabyte.profissu.mappers;
 
+import java.util.Map;
+
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.factory.Mappers;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Slice;
 
 import br.com.conectabyte.profissu.dtos.request.ReviewRequestDto;
+import br.com.conectabyte.profissu.dtos.response.ReviewProjectionDto;
 import br.com.conectabyte.profissu.dtos.response.ReviewResponseDto;
+import br.com.conectabyte.profissu.dtos.response.UserResponseDto;
 import br.com.conectabyte.profissu.entities.Review;
 
-@Mapper
+@Mapper(uses = { UserMapper.class, RequestedServiceMapper.class })
 public interface ReviewMapper {
   ReviewMapper INSTANCE = Mappers.getMapper(ReviewMapper.class);
 
@@ -26,13 +31,31 @@ public interface ReviewMapper {
 
   ReviewResponseDto reviewToReviewResponseDto(Review review);
 
-  default Page<ReviewResponseDto> reviewPageToReviewResponseDtoPage(
-      Page<Review> reviewPage) {
-    final var reviewResponseDtoPageContent = reviewPage.getContent().stream()
-        .map(this::reviewToReviewResponseDto)
+  default ReviewResponseDto reviewProjectionDtoToReviewResponseDto(ReviewProjectionDto reviewProjectionDto,
+      Map<Long, UserResponseDto> users) {
+    final var requestedService = RequestedServiceMapper.INSTANCE
+        .requestedServiceProjectionDtoToRequestedServiceResponseDto(reviewProjectionDto.requestedService(), users);
+
+    return new ReviewResponseDto(reviewProjectionDto.id(), reviewProjectionDto.title(), reviewProjectionDto.review(),
+        reviewProjectionDto.stars(), users.get(reviewProjectionDto.user().id()), requestedService);
+  }
+
+  default Page<ReviewResponseDto> reviewProjectionPageToReviewResponseDtoPage(
+      Page<ReviewProjectionDto> reviewProjectionPage, Map<Long, UserResponseDto> users) {
+    final var reviewResponseDtoPageContent = reviewProjectionPage.getContent().stream()
+        .map(review -> reviewProjectionDtoToReviewResponseDto(review, users))
         .toList();
 
-    return new PageImpl<>(reviewResponseDtoPageContent, reviewPage.getPageable(),
-        reviewPage.getTotalElements());
+    return new PageImpl<>(reviewResponseDtoPageContent, reviewProjectionPage.getPageable(),
+        reviewProjectionPage.getTotalElements());
+  }
+
+  default Slice<ReviewResponseDto> reviewProjectionSliceToReviewResponseDtoSlice(
+      Slice<ReviewProjectionDto> reviewProjectionSlice, Map<Long, UserResponseDto> users) {
+    if (reviewProjectionSlice instanceof Page<ReviewProjectionDto> reviewProjectionPage) {
+      return reviewProjectionPageToReviewResponseDtoPage(reviewProjectionPage, users);
+    }
+
+    return reviewProjectionSlice.map(review -> reviewProjectionDtoToReviewResponseDto(review, users));
   }
 }
@@ -5,6 +5,7 @@ import org.mapstruct.Mapping;
 import org.mapstruct.factory.Mappers;
 
 import br.com.conectabyte.profissu.dtos.request.UserRequestDto;
+import br.com.conectabyte.profissu.dtos.response.UserRatingSummaryResponseDto;
 import br.com.conectabyte.profissu.dtos.response.UserResponseDto;
 import br.com.conectabyte.profissu.entities.User;
 
@@ -21,12 +22,15 @@ public interface UserMapper {
   @Mapping(target = "messages", ignore = true)
   @Mapping(target = "roles", ignore = true)
   @Mapping(target = "updatedAt", ignore = true)
-  @Mapping(target = "token", ignore = true)
   @Mapping(target = "requestedService", ignore = true)
   @Mapping(target = "reviews", ignore = true)
   User userRequestDtoToUser(UserRequestDto userRequestDto);
 
   UserRequestDto userToUserRequestDto(User user);
 
+  @Mapping(target = "rating", ignore = true)
   UserResponseDto userToUserResponseDto(User user);
+
+  @Mapping(target = "rating", source = "rating")
+  UserResponseDto userToUserResponseDto(User user, UserRatingSummaryResponseDto rating);
 }
@@ -0,0 +1,35 @@
+package br.com.conectabyte.profissu.properties;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import lombok.Data;
+
+@Data
+public class Cache {
+  @JsonProperty("ownership-ttl")
+  private Long ownershipTtl;
+
+  @JsonProperty("count-ttl")
+  private Long countTtl;
+
+  @JsonProperty("count-max-entries")
+  private Long countMaxEntries;
+
+  @JsonProperty("local-ttl")
+  private Long localTtl;
+
+  @JsonProperty("local-max-entries")
+  private Long localMaxEntries;
+
+  @JsonProperty("stale-ttl")
+  private Long staleTtl;
+
+  @JsonProperty("early-refresh-beta")
+  private Double earlyRefreshBeta;
+
+  @JsonProperty("refresh-pool-size")
+  private Integer refreshPoolSize;
+
+  @JsonProperty("compression-threshold")
+  private Integer compressionThreshold;
+}
@@ -0,0 +1,19 @@
+package br.com.conectabyte.profissu.properties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import lombok.Data;
+
+@Data
+public class Datasource {
+  private List<Replica> replicas = new ArrayList<>();
+
+  @JsonProperty("max-replica-lag")
+  private Long maxReplicaLag;
+
+  @JsonProperty("replica-lag-check-interval")
+  private Long replicaLagCheckInterval;
+}
@@ -0,0 +1,16 @@
+package br.com.conectabyte.profissu.properties;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import lombok.Data;
+
+@Data
+public class Feed {
+  private Boolean enabled;
+
+  @JsonProperty("rebuild-batch-size")
+  private Integer rebuildBatchSize;
+
+  @JsonProperty("rebuild-check-cron")
+  private String rebuildCheckCron;
+}
@@ -0,0 +1,22 @@
+package br.com.conectabyte.profissu.properties;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import lombok.Data;
+
+@Data
+public class Geo {
+  private Boolean enabled;
+
+  @JsonProperty("postal-code-centroids")
+  private String postalCodeCentroids;
+
+  @JsonProperty("rebuild-batch-size")
+  private Integer rebuildBatchSize;
+
+  @JsonProperty("rebuild-cron")
+  private String rebuildCron;
+
+  @JsonProperty("max-radius")
+  private Double maxRadius;
+}
@@ -11,6 +11,14 @@ import lombok.Data;
 public class Profissu {
     private Jwt jwt = new Jwt();
     private Token token = new Token();
+    private Cache cache = new Cache();
+    private Tsid tsid = new Tsid();
+    private Datasource datasource = new Datasource();
+    private Retry retry = new Retry();
+    private Rating rating = new Rating();
+    private Feed feed = new Feed();
+    private Geo geo = new Geo();
+    private WarmUp warmUp = new WarmUp();
     private String url;
     private List<String> allowedOrigins;
 }
\ No newline at end of file
@@ -0,0 +1,14 @@
+package br.com.conectabyte.profissu.properties;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import lombok.Data;
+
+@Data
+public class Rating {
+  @JsonProperty("reconciliation-cron")
+  private String reconciliationCron;
+
+  @JsonProperty("reconciliation-chunk-size")
+  private Integer reconciliationChunkSize;
+}
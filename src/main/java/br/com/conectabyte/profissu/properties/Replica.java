@@ -0,0 +1,10 @@
+package br.com.conectabyte.profissu.properties;
+
+import lombok.Data;
+
+@Data
+public class Replica {
+  private String url;
+  private String username;
+  private String password;
+}
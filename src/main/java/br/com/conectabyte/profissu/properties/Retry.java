@@ -0,0 +1,18 @@
+package br.com.conectabyte.profissu.properties;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import lombok.Data;
+
+@Data
+public class Retry {
+  @JsonProperty("max-attempts")
+  private Integer maxAttempts;
+
+  private Long delay;
+
+  @JsonProperty("max-delay")
+  private Long maxDelay;
+
+  private Double multiplier;
+}
@@ -0,0 +1,11 @@
+package br.com.conectabyte.profissu.properties;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import lombok.Data;
+
+@Data
+public class Tsid {
+  @JsonProperty("node-id")
+  private Integer nodeId;
+}
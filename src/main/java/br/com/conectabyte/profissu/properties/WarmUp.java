@@ -0,0 +1,24 @@
+package br.com.conectabyte.profissu.properties;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import lombok.Data;
+
+@Data
+public class WarmUp {
+  private Boolean enabled;
+
+  private Long timeout;
+
+  @JsonProperty("feed-pages")
+  private Integer feedPages;
+
+  @JsonProperty("feed-wait")
+  private Long feedWait;
+
+  private Integer iterations;
+
+  private List<String> requests = List.of();
+}
@@ -1,18 +1,38 @@
 package br.com.conectabyte.profissu.repositories;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import br.com.conectabyte.profissu.dtos.response.AddressProjectionDto;
+import br.com.conectabyte.profissu.dtos.response.OwnershipDto;
 import br.com.conectabyte.profissu.entities.Address;
 
 public interface AddressRepository extends JpaRepository<Address, Long> {
   @Query("""
       FROM Address a
         WHERE a.id = :id
-        AND a.deletedAt IS NULL
       """)
   Optional<Address> findById(@Param("id") Long id);
+
+  @Query("""
+      SELECT new br.com.conectabyte.profissu.dtos.response.AddressProjectionDto(
+        a.user.id, a.id, a.street, a.number, a.city, a.state, a.zipCode
+      )
+        FROM Address a
+          WHERE a.user.id IN :userIds
+          ORDER BY a.id
+      """)
+  List<AddressProjectionDto> findProjectionsByUserIds(@Param("userIds") Collection<Long> userIds);
+
+  @Query("""
+      SELECT new br.com.conectabyte.profissu.dtos.response.OwnershipDto(a.user.id)
+        FROM Address a
+          WHERE a.id = :id
+      """)
+  Optional<OwnershipDto> findOwnershipById(@Param("id") Long id);
 }
@@ -1,25 +1,52 @@
 package br.com.conectabyte.profissu.repositories;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import br.com.conectabyte.profissu.dtos.response.ContactProjectionDto;
+import br.com.conectabyte.profissu.dtos.response.OwnershipDto;
 import br.com.conectabyte.profissu.entities.Contact;
 
 public interface ContactRepository extends JpaRepository<Contact, Long> {
+  @EntityGraph("Contact.user")
   @Query("""
       FROM Contact c
         WHERE c.id = :id
-        AND c.deletedAt IS NULL
       """)
   Optional<Contact> findById(@Param("id") Long id);
 
+  @EntityGraph("Contact.user")
   @Query("""
       FROM Contact c
         WHERE c.value = :value
-        AND c.deletedAt IS NULL
       """)
   Optional<Contact> findByValue(@Param("value") String value);
+
+  @Query(value = """
+      SELECT COUNT(*)
+        FROM contacts c
+          WHERE c.value = :value
+      """, nativeQuery = true)
+  long countByValueIncludingDeleted(@Param("value") String value);
+
+  @Query("""
+      SELECT new br.com.conectabyte.profissu.dtos.response.ContactProjectionDto(c.user.id, c.id, c.value, c.standard)
+        FROM Contact c
+          WHERE c.user.id IN :userIds
+          ORDER BY c.id
+      """)
+  List<ContactProjectionDto> findProjectionsByUserIds(@Param("userIds") Collection<Long> userIds);
+
+  @Query("""
+      SELECT new br.com.conectabyte.profissu.dtos.response.OwnershipDto(c.user.id)
+        FROM Contact c
+          WHERE c.id = :id
+      """)
+  Optional<OwnershipDto> findOwnershipById(@Param("id") Long id);
 }
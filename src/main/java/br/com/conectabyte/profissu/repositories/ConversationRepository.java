@@ -1,16 +1,41 @@
 package br.com.conectabyte.profissu.repositories;
 
+import java.util.Optional;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import br.com.conectabyte.profissu.dtos.response.ConversationProjectionDto;
+import br.com.conectabyte.profissu.dtos.response.OwnershipDto;
 import br.com.conectabyte.profissu.entities.Conversation;
 
 public interface ConversationRepository extends JpaRepository<Conversation, Long> {
-  @Query("FROM Conversation c WHERE c.requester.id = :userId OR c.serviceProvider.id = :userId")
-  Page<Conversation> findByUserId(Long userId, Pageable pageable);
+  @EntityGraph("Conversation.detail")
+  Optional<Conversation> findById(Long id);
+
+  @Query(value = """
+      SELECT new br.com.conectabyte.profissu.dtos.response.ConversationProjectionDto(
+        c.id, c.offerStatus,
+        r.id, r.name, r.bio, r.gender,
+        sp.id, sp.name, sp.bio, sp.gender
+      )
+        FROM Conversation c
+        JOIN c.requester r
+        JOIN c.serviceProvider sp
+          WHERE r.id = :userId
+          OR sp.id = :userId
+      """, countQuery = """
+      SELECT COUNT(c)
+        FROM Conversation c
+          WHERE c.requester.id = :userId
+          OR c.serviceProvider.id = :userId
+      """)
+  Page<ConversationProjectionDto> findByUserId(Long userId, Pageable pageable);
 
   @Query("""
       SELECT CASE WHEN COUNT(c) > 0 THEN true ELSE false END
@@ -22,4 +47,36 @@ public interface ConversationRepository extends JpaRepository<Conversation, Long
           )
       """)
   boolean isUserInConversation(@Param("userId") Long userId, @Param("conversationId") Long conversationId);
+
+  @Query("""
+      SELECT CASE WHEN COUNT(c) > 0 THEN true ELSE false END
+        FROM Conversation c
+          WHERE c.requestedService.id = :requestedServiceId
+          AND c.serviceProvider.id = :serviceProviderId
+          AND c.offerStatus = 'PENDING'
+      """)
+  boolean hasPendingOffer(@Param("requestedServiceId") Long requestedServiceId,
+      @Param("serviceProviderId") Long serviceProviderId);
+
+  @Query("""
+      SELECT new br.com.conectabyte.profissu.dtos.response.OwnershipDto(
+        c.serviceProvider.id,
+        c.requester.id,
+        c.serviceProvider.id
+      )
+        FROM Conversation c
+          WHERE c.id = :id
+      """)
+  Optional<OwnershipDto> findOwnershipById(@Param("id") Long id);
+
+  @Modifying
+  @Query("""
+      UPDATE Conversation c
+        SET c.offerStatus = 'REJECTED', c.version = c.version + 1
+          WHERE c.requestedService.id = :requestedServiceId
+          AND c.id <> :conversationId
+          AND c.offerStatus = 'PENDING'
+      """)
+  int rejectOtherPendingOffers(@Param("requestedServiceId") Long requestedServiceId,
+      @Param("conversationId") Long conversationId);
 }
@@ -1,24 +1,56 @@
 package br.com.conectabyte.profissu.repositories;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import br.com.conectabyte.profissu.dtos.response.MessageProjectionDto;
+import br.com.conectabyte.profissu.dtos.response.OwnershipDto;
 import br.com.conectabyte.profissu.entities.Conversation;
 import br.com.conectabyte.profissu.entities.Message;
 
 public interface MessageRepository extends JpaRepository<Message, Long> {
+  @EntityGraph("Message.user")
   @Query("FROM Message m WHERE m.conversation.id = :conversationId ORDER BY m.createdAt DESC")
   Page<Message> listMessages(Long conversationId, Pageable pageable);
 
+  @Query("""
+      SELECT new br.com.conectabyte.profissu.dtos.response.MessageProjectionDto(
+        m.conversation.id, m.id, m.message, m.read,
+        u.id, u.name, u.bio, u.gender
+      )
+        FROM Message m
+        JOIN m.user u
+          WHERE m.conversation.id IN :conversationIds
+          ORDER BY m.id
+      """)
+  List<MessageProjectionDto> findProjectionsByConversationIds(
+      @Param("conversationIds") Collection<Long> conversationIds);
+
   @Query("""
       SELECT m.conversation
         FROM Message m
-          WHERE m.read IS FALSE AND m.notificationSent IS FALSE AND m.createdAt < :thresholdDate
+          WHERE m.read = false AND m.notificationSent = false AND m.createdAt < :thresholdDate
       """)
   List<Conversation> findConversationsWithUnreadMessages(LocalDateTime thresholdDate);
+
+  @Query("""
+      SELECT new br.com.conectabyte.profissu.dtos.response.OwnershipDto(
+        m.user.id,
+        c.requester.id,
+        c.serviceProvider.id
+      )
+        FROM Message m
+        JOIN m.conversation c
+          WHERE m.id = :id
+      """)
+  Optional<OwnershipDto> findOwnershipById(@Param("id") Long id);
 }
@@ -0,0 +1,10 @@
+package br.com.conectabyte.profissu.repositories;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import br.com.conectabyte.profissu.entities.RequestedServiceParticipant;
+import br.com.conectabyte.profissu.entities.RequestedServiceParticipantId;
+
+public interface RequestedServiceParticipantRepository
+    extends JpaRepository<RequestedServiceParticipant, RequestedServiceParticipantId> {
+}
@@ -1,41 +1,206 @@
 package br.com.conectabyte.profissu.repositories;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import br.com.conectabyte.profissu.dtos.response.OwnershipDto;
+import br.com.conectabyte.profissu.dtos.response.RequestedServiceFeedEntryDto;
+import br.com.conectabyte.profissu.dtos.response.RequestedServiceGeoEntryDto;
+import br.com.conectabyte.profissu.dtos.response.RequestedServiceProjectionDto;
 import br.com.conectabyte.profissu.entities.RequestedService;
 
 public interface RequestedServiceRepository extends JpaRepository<RequestedService, Long> {
+  @EntityGraph("RequestedService.detail")
   @Query("""
       FROM RequestedService rs
         WHERE rs.id = :id
-        AND rs.deletedAt IS NULL
       """)
   Optional<RequestedService> findById(@Param("id") Long id);
 
+  @EntityGraph("RequestedService.summary")
   @Query("""
       FROM RequestedService rs
-        WHERE rs.status = 'PENDING'
-        AND rs.deletedAt IS NULL
+        WHERE rs.id = :id
       """)
-  Page<RequestedService> findAvailableServiceRequests(Pageable pageable);
+  Optional<RequestedService> findSummaryById(@Param("id") Long id);
 
   @Query("""
-      FROM RequestedService rs
-        WHERE (
-          rs.user.id = :userId
-          OR EXISTS (
-            FROM rs.conversations c
-              WHERE c.serviceProvider.id = :userId
+      SELECT new br.com.conectabyte.profissu.dtos.response.RequestedServiceProjectionDto(
+        rs.id, rs.title, rs.description, rs.status,
+        a.id, a.street, a.number, a.city, a.state, a.zipCode,
+        u.id, u.name, u.bio, u.gender
+      )
+        FROM RequestedService rs
+        JOIN rs.address a
+        JOIN rs.user u
+          WHERE rs.liveStatus = 'PENDING'
+          AND (:state IS NULL OR a.state = :state)
+          AND (:city IS NULL OR a.city = :city)
+      """)
+  Slice<RequestedServiceProjectionDto> findAvailableServiceRequests(@Param("state") String state,
+      @Param("city") String city, Pageable pageable);
+
+  @Query("""
+      SELECT COUNT(rs)
+        FROM RequestedService rs
+        JOIN rs.address a
+          WHERE rs.liveStatus = 'PENDING'
+          AND (:state IS NULL OR a.state = :state)
+          AND (:city IS NULL OR a.city = :city)
+      """)
+  long countAvailableServiceRequests(@Param("state") String state, @Param("city") String city);
+
+  @Query("""
+      SELECT new br.com.conectabyte.profissu.dtos.response.RequestedServiceFeedEntryDto(
+        rs.id, rs.title, rs.description, rs.status,
+        a.id, a.street, a.number, a.city, a.state, a.zipCode,
+        u.id, u.name, u.bio, u.gender,
+        rs.createdAt
+      )
+        FROM RequestedService rs
+        JOIN rs.address a
+        JOIN rs.user u
+          WHERE rs.id IN :ids
+          AND rs.liveStatus = 'PENDING'
+      """)
+  List<RequestedServiceFeedEntryDto> findFeedEntriesByIds(@Param("ids") Collection<Long> ids);
+
+  @Query(value = """
+      SELECT rs.id
+        FROM requested_services rs
+        JOIN addresses a
+          ON a.id = rs.address_id
+          AND a.deleted_at IS NULL
+        JOIN users u
+          ON u.id = rs.user_id
+          AND u.deleted_at IS NULL
+          WHERE MATCH(rs.title, rs.description) AGAINST (:query IN BOOLEAN MODE)
+          AND rs.live_status IS NOT NULL
+          AND (:status IS NULL OR rs.live_status = :status)
+          AND (:state IS NULL OR a.state = :state)
+          AND (:city IS NULL OR a.city = :city)
+          ORDER BY MATCH(rs.title) AGAINST (:query IN BOOLEAN MODE) * 2
+            + MATCH(rs.title, rs.description) AGAINST (:query IN BOOLEAN MODE) DESC,
+            rs.id DESC
+      """, nativeQuery = true)
+  Slice<Long> searchIds(@Param("query") String query, @Param("status") String status,
+      @Param("state") String state, @Param("city") String city, Pageable pageable);
+
+  @Query("""
+      SELECT new br.com.conectabyte.profissu.dtos.response.RequestedServiceProjectionDto(
+        rs.id, rs.title, rs.description, rs.status,
+        a.id, a.street, a.number, a.city, a.state, a.zipCode,
+        u.id, u.name, u.bio, u.gender
+      )
+        FROM RequestedService rs
+        JOIN rs.address a
+        JOIN rs.user u
+          WHERE rs.id IN :ids
+      """)
+  List<RequestedServiceProjectionDto> findProjectionsByIds(@Param("ids") Collection<Long> ids);
+
+  @Query("""
+      SELECT new br.com.conectabyte.profissu.dtos.response.RequestedServiceFeedEntryDto(
+        rs.id, rs.title, rs.description, rs.status,
+        a.id, a.street, a.number, a.city, a.state, a.zipCode,
+        u.id, u.name, u.bio, u.gender,
+        rs.createdAt
+      )
+        FROM RequestedService rs
+        JOIN rs.address a
+        JOIN rs.user u
+          WHERE rs.liveStatus = 'PENDING'
+          AND rs.id > :lastId
+          ORDER BY rs.id
+      """)
+  Slice<RequestedServiceFeedEntryDto> findFeedEntriesAfterId(@Param("lastId") Long lastId, Pageable pageable);
+
+  @Query("""
+      SELECT new br.com.conectabyte.profissu.dtos.response.RequestedServiceGeoEntryDto(
+        rs.id, a.latitude, a.longitude
+      )
+        FROM RequestedService rs
+        JOIN rs.address a
+        JOIN rs.user u
+          WHERE rs.id IN :ids
+          AND rs.liveStatus = 'PENDING'
+          AND a.latitude IS NOT NULL
+          AND a.longitude IS NOT NULL
+      """)
+  List<RequestedServiceGeoEntryDto> findGeoEntriesByIds(@Param("ids") Collection<Long> ids);
+
+  @Query("""
+      SELECT new br.com.conectabyte.profissu.dtos.response.RequestedServiceGeoEntryDto(
+        rs.id, a.latitude, a.longitude
+      )
+        FROM RequestedService rs
+        JOIN rs.address a
+        JOIN rs.user u
+          WHERE rs.liveStatus = 'PENDING'
+          AND a.latitude IS NOT NULL
+          AND a.longitude IS NOT NULL
+          AND rs.id > :lastId
+          ORDER BY rs.id
+      """)
+  Slice<RequestedServiceGeoEntryDto> findGeoEntriesAfterId(@Param("lastId") Long lastId, Pageable pageable);
+
+  @Query("""
+      SELECT rs.id
+        FROM RequestedService rs
+          WHERE rs.user.id = :userId
+          AND rs.liveStatus = 'PENDING'
+      """)
+  List<Long> findAvailableIdsByUserId(@Param("userId") Long userId);
+
+  @Query("""
+      SELECT rs.id
+        FROM RequestedService rs
+          WHERE rs.address.id = :addressId
+          AND rs.liveStatus = 'PENDING'
+      """)
+  List<Long> findAvailableIdsByAddressId(@Param("addressId") Long addressId);
+
+  @Query(value = """
+      SELECT new br.com.conectabyte.profissu.dtos.response.RequestedServiceProjectionDto(
+        rs.id, rs.title, rs.description, rs.status,
+        a.id, a.street, a.number, a.city, a.state, a.zipCode,
+        u.id, u.name, u.bio, u.gender
+      )
+        FROM RequestedService rs
+        JOIN rs.participants p
+        JOIN rs.address a
+        JOIN rs.user u
+          WHERE p.user.id = :userId
+      """, countQuery = """
+      SELECT COUNT(p)
+        FROM RequestedServiceParticipant p
+        JOIN p.requestedService rs
+          WHERE p.user.id = :userId
+      """)
+  Page<RequestedServiceProjectionDto> findByUserId(@Param("userId") Long userId, Pageable pageable);
+
+  @Query("""
+      SELECT new br.com.conectabyte.profissu.dtos.response.OwnershipDto(
+        rs.user.id,
+        rs.user.id,
+        (
+          SELECT c.serviceProvider.id
+            FROM Conversation c
+              WHERE c.requestedService = rs
               AND c.offerStatus = 'ACCEPTED'
-          )
         )
-        AND rs.deletedAt IS NULL
+      )
+        FROM RequestedService rs
+          WHERE rs.id = :id
       """)
-  Page<RequestedService> findByUserId(@Param("userId") Long userId, Pageable pageable);
+  Optional<OwnershipDto> findOwnershipById(@Param("id") Long id);
 }
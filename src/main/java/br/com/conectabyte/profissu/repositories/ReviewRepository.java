@@ -2,41 +2,91 @@ package br.com.conectabyte.profissu.repositories;
 
 import java.util.Optional;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import br.com.conectabyte.profissu.dtos.response.OwnershipDto;
+import br.com.conectabyte.profissu.dtos.response.ReviewProjectionDto;
 import br.com.conectabyte.profissu.entities.Review;
+import jakarta.persistence.LockModeType;
 
 public interface ReviewRepository extends JpaRepository<Review, Long> {
+  @EntityGraph("Review.summary")
   @Query("""
       FROM Review r
         WHERE r.id = :id
-        AND r.deletedAt IS NULL
       """)
   Optional<Review> findById(@Param("id") Long id);
 
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
   @Query("""
       FROM Review r
-        WHERE r.user.id = :userId
-        AND r.deletedAt IS NULL
+        WHERE r.id = :id
       """)
-  Page<Review> findReviewsGivenByUserId(Long userId, Pageable pageable);
+  Optional<Review> findForUpdateById(@Param("id") Long id);
 
   @Query("""
-      FROM Review r
-        WHERE r.user.id <> :userId
-        AND r.requestedService.id
-        IN (
-          SELECT DISTINCT rs.id
-            FROM RequestedService rs
-            JOIN rs.conversations c
-              WHERE c.requester.id = :userId
-              OR c.serviceProvider.id = :userId
-        )
-        AND r.deletedAt IS NULL
+      SELECT new br.com.conectabyte.profissu.dtos.response.ReviewProjectionDto(
+        r.id, r.title, r.review, r.stars,
+        u.id, u.name, u.bio, u.gender,
+        rs.id, rs.title, rs.description, rs.status,
+        a.id, a.street, a.number, a.city, a.state, a.zipCode,
+        o.id, o.name, o.bio, o.gender
+      )
+        FROM Review r
+        JOIN r.user u
+        JOIN r.requestedService rs
+        JOIN rs.address a
+        JOIN rs.user o
+          WHERE u.id = :userId
+      """)
+  Slice<ReviewProjectionDto> findReviewsGivenByUserId(Long userId, Pageable pageable);
+
+  @Query("""
+      SELECT COUNT(r)
+        FROM Review r
+          WHERE r.user.id = :userId
+      """)
+  long countReviewsGivenByUserId(Long userId);
+
+  @Query("""
+      SELECT new br.com.conectabyte.profissu.dtos.response.ReviewProjectionDto(
+        r.id, r.title, r.review, r.stars,
+        u.id, u.name, u.bio, u.gender,
+        rs.id, rs.title, rs.description, rs.status,
+        a.id, a.street, a.number, a.city, a.state, a.zipCode,
+        o.id, o.name, o.bio, o.gender
+      )
+        FROM Review r
+        JOIN r.user u
+        JOIN r.requestedService rs
+        JOIN rs.address a
+        JOIN rs.user o
+        JOIN rs.participants p
+          WHERE p.user.id = :userId
+          AND u.id <> :userId
+      """)
+  Slice<ReviewProjectionDto> findReviewsReceivedByUserId(Long userId, Pageable pageable);
+
+  @Query("""
+      SELECT COUNT(r)
+        FROM Review r
+        JOIN r.requestedService rs
+        JOIN rs.participants p
+          WHERE p.user.id = :userId
+          AND r.user.id <> :userId
+      """)
+  long countReviewsReceivedByUserId(Long userId);
+
+  @Query("""
+      SELECT new br.com.conectabyte.profissu.dtos.response.OwnershipDto(r.user.id)
+        FROM Review r
+          WHERE r.id = :id
       """)
-  Page<Review> findReviewsReceivedByUserId(Long userId, Pageable pageable);
+  Optional<OwnershipDto> findOwnershipById(@Param("id") Long id);
 }
@@ -2,10 +2,16 @@ package br.com.conectabyte.profissu.repositories;
 
 import java.util.Optional;
 
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import br.com.conectabyte.profissu.config.CacheConfig;
 import br.com.conectabyte.profissu.entities.Role;
 
 public interface RoleRepository extends JpaRepository<Role, Long> {
-  Optional<Role> findByName(String name);
+  @Cacheable(cacheNames = CacheConfig.ROLE_CACHE_NAME, key = "#name", unless = "#result == null")
+  @Query("SELECT r.id FROM Role r WHERE r.name = :name")
+  Optional<Long> findIdByName(@Param("name") String name);
 }
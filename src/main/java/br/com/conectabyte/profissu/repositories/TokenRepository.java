@@ -1,8 +1,11 @@
 package br.com.conectabyte.profissu.repositories;
 
+import java.util.Optional;
+
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import br.com.conectabyte.profissu.entities.Token;
 
 public interface TokenRepository extends JpaRepository<Token, Long> {
+  Optional<Token> findByUserId(Long userId);
 }
@@ -0,0 +1,53 @@
+package br.com.conectabyte.profissu.repositories;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import br.com.conectabyte.profissu.entities.UserRatingSummary;
+
+public interface UserRatingSummaryRepository extends JpaRepository<UserRatingSummary, Long> {
+  @Query("""
+      SELECT p.user.id
+        FROM RequestedServiceParticipant p
+          WHERE p.requestedService.id = :requestedServiceId
+          AND p.user.id <> :userId
+      """)
+  List<Long> findRevieweeIds(@Param("requestedServiceId") Long requestedServiceId, @Param("userId") Long userId);
+
+  @Modifying
+  @Query(value = """
+      INSERT INTO user_rating_summaries (user_id, review_count, star_total, updated_at)
+        VALUES (:userId, :reviewCountDelta, :starTotalDelta, CURRENT_TIMESTAMP)
+        ON DUPLICATE KEY UPDATE
+          review_count = review_count + VALUES(review_count),
+          star_total = star_total + VALUES(star_total),
+          updated_at = VALUES(updated_at)
+      """, nativeQuery = true)
+  int applyDelta(@Param("userId") Long userId, @Param("reviewCountDelta") long reviewCountDelta,
+      @Param("starTotalDelta") long starTotalDelta);
+
+  @Modifying
+  @Query("""
+      DELETE FROM UserRatingSummary s
+        WHERE s.userId BETWEEN :firstUserId AND :lastUserId
+      """)
+  int deleteByUserIdBetween(@Param("firstUserId") Long firstUserId, @Param("lastUserId") Long lastUserId);
+
+  @Modifying
+  @Query(value = """
+      INSERT INTO user_rating_summaries (user_id, review_count, star_total, updated_at)
+        SELECT p.user_id, COUNT(r.id), SUM(r.stars), CURRENT_TIMESTAMP
+          FROM requested_service_participants p
+          JOIN reviews r
+            ON r.requested_service_id = p.requested_service_id
+            AND r.user_id <> p.user_id
+            AND r.deleted_at IS NULL
+            WHERE p.user_id BETWEEN :firstUserId AND :lastUserId
+            GROUP BY p.user_id
+      """, nativeQuery = true)
+  int rebuildByUserIdBetween(@Param("firstUserId") Long firstUserId, @Param("lastUserId") Long lastUserId);
+}
@@ -1,14 +1,20 @@
 package br.com.conectabyte.profissu.repositories;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import br.com.conectabyte.profissu.dtos.response.UserSnapshotDto;
 import br.com.conectabyte.profissu.entities.User;
 
 public interface UserRepository extends JpaRepository<User, Long> {
+  @EntityGraph("User.profile")
   @Query("""
       FROM User u
         WHERE u.id = :id
@@ -16,20 +22,44 @@ public interface UserRepository extends JpaRepository<User, Long> {
           FROM u.contacts c
             WHERE c.standard
             AND c.verificationCompletedAt IS NOT NULL
-            AND c.deletedAt IS NULL
         )
-        AND u.deletedAt IS NULL
       """)
   Optional<User> findById(@Param("id") Long id);
 
+  @EntityGraph("User.credentials")
   @Query("""
       FROM User u
         WHERE EXISTS (
           FROM u.contacts c
             WHERE c.value = :email
             AND c.standard
-            AND c.deletedAt IS NULL
         )
       """)
   Optional<User> findByEmail(@Param("email") String email);
+
+  @Query("""
+      SELECT new br.com.conectabyte.profissu.dtos.response.UserSnapshotDto(
+        u.id,
+        u.name,
+        CASE WHEN EXISTS (
+          FROM u.contacts c
+            WHERE c.standard
+            AND c.verificationCompletedAt IS NOT NULL
+        ) THEN true ELSE false END
+      )
+        FROM User u
+        WHERE u.id = :id
+      """)
+  Optional<UserSnapshotDto> findSnapshotById(@Param("id") Long id);
+
+  @Query("""
+      SELECT u.id
+        FROM User u
+          WHERE u.id > :id
+          ORDER BY u.id
+      """)
+  List<Long> findIdsAfter(@Param("id") Long id, Pageable pageable);
+
+  @Query("SELECT r.name FROM User u JOIN u.roles r WHERE u.id = :id")
+  Set<String> findRoleNamesById(@Param("id") Long id);
 }
@@ -6,6 +6,7 @@ import java.util.stream.Collectors;
 
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import br.com.conectabyte.profissu.dtos.request.NotificationEmailDto;
 import br.com.conectabyte.profissu.entities.Contact;
@@ -14,7 +15,6 @@ import br.com.conectabyte.profissu.entities.Message;
 import br.com.conectabyte.profissu.entities.User;
 import br.com.conectabyte.profissu.services.MessageService;
 import br.com.conectabyte.profissu.services.email.NotificationService;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -0,0 +1,25 @@
+package br.com.conectabyte.profissu.scheduler;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import br.com.conectabyte.profissu.config.ReplicaRoutingDataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReplicaLagScheduler {
+  private final ReplicaRoutingDataSource replicaRoutingDataSource;
+
+  @Scheduled(initialDelay = 0, fixedDelayString = "${profissu.datasource.replica-lag-check-interval}")
+  public void refreshReplicaLag() {
+    if (replicaRoutingDataSource.getReplicaNames().isEmpty()) {
+      return;
+    }
+
+    log.debug("Refreshing replication lag for replicas: {}", replicaRoutingDataSource.getReplicaNames());
+    replicaRoutingDataSource.refreshReplicaLag();
+  }
+}
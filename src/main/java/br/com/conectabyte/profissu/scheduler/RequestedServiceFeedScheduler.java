@@ -0,0 +1,23 @@
+package br.com.conectabyte.profissu.scheduler;
+
+import java.time.LocalDateTime;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import br.com.conectabyte.profissu.services.RequestedServiceFeedService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RequestedServiceFeedScheduler {
+  private final RequestedServiceFeedService requestedServiceFeedService;
+
+  @Scheduled(cron = "${profissu.feed.rebuild-check-cron}")
+  public void rebuildFeedIfMissing() {
+    log.debug("Starting scheduled task: rebuildFeedIfMissing at {}", LocalDateTime.now());
+    requestedServiceFeedService.rebuildIfMissing();
+  }
+}
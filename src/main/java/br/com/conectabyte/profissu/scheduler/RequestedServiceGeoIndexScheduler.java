@@ -0,0 +1,23 @@
+package br.com.conectabyte.profissu.scheduler;
+
+import java.time.LocalDateTime;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import br.com.conectabyte.profissu.services.RequestedServiceGeoIndexService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RequestedServiceGeoIndexScheduler {
+  private final RequestedServiceGeoIndexService requestedServiceGeoIndexService;
+
+  @Scheduled(cron = "${profissu.geo.rebuild-cron}")
+  public void rebuildGeoIndex() {
+    log.info("Starting scheduled task: rebuildGeoIndex at {}", LocalDateTime.now());
+    requestedServiceGeoIndexService.rebuild();
+  }
+}
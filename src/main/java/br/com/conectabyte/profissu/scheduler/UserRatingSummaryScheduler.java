@@ -0,0 +1,49 @@
+package br.com.conectabyte.profissu.scheduler;
+
+import java.time.LocalDateTime;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import br.com.conectabyte.profissu.properties.ProfissuProperties;
+import br.com.conectabyte.profissu.services.UserCacheService;
+import br.com.conectabyte.profissu.services.UserRatingSummaryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserRatingSummaryScheduler {
+  private final UserRatingSummaryService userRatingSummaryService;
+  private final UserCacheService userCacheService;
+  private final ProfissuProperties profissuProperties;
+
+  @Scheduled(cron = "${profissu.rating.reconciliation-cron}")
+  public void reconcileUserRatingSummaries() {
+    log.info("Starting scheduled task: reconcileUserRatingSummaries at {}", LocalDateTime.now());
+
+    final var chunkSize = profissuProperties.getProfissu().getRating().getReconciliationChunkSize();
+    var lastUserId = 0L;
+    var chunks = 0;
+
+    while (true) {
+      final var userIds = userRatingSummaryService.findUserIdsAfter(lastUserId, chunkSize);
+
+      if (userIds.isEmpty()) {
+        break;
+      }
+
+      lastUserId = userIds.get(userIds.size() - 1);
+      userRatingSummaryService.rebuild(userIds.get(0), lastUserId);
+      chunks++;
+
+      if (userIds.size() < chunkSize) {
+        break;
+      }
+    }
+
+    userCacheService.evictAll();
+    log.info("Finished reconciling rating summaries in {} chunks.", chunks);
+  }
+}
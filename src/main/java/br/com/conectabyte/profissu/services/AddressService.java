@@ -1,16 +1,20 @@
 package br.com.conectabyte.profissu.services;
 
 import java.time.LocalDateTime;
+import java.util.Optional;
 
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import br.com.conectabyte.profissu.config.CacheConfig;
 import br.com.conectabyte.profissu.dtos.request.AddressRequestDto;
 import br.com.conectabyte.profissu.dtos.response.AddressResponseDto;
+import br.com.conectabyte.profissu.dtos.response.OwnershipDto;
 import br.com.conectabyte.profissu.entities.Address;
 import br.com.conectabyte.profissu.exceptions.ResourceNotFoundException;
 import br.com.conectabyte.profissu.mappers.AddressMapper;
 import br.com.conectabyte.profissu.repositories.AddressRepository;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -19,8 +23,11 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class AddressService {
   private final AddressRepository addressRepository;
-  private final UserService userService;
-  private final JwtService jwtService;
+  private final AuthenticatedUserService authenticatedUserService;
+  private final UserCacheService userCacheService;
+  private final RequestedServiceFeedService requestedServiceFeedService;
+  private final RequestedServiceGeoIndexService requestedServiceGeoIndexService;
+  private final PostalCodeGeocodingService postalCodeGeocodingService;
 
   private final AddressMapper addressMapper = AddressMapper.INSTANCE;
 
@@ -28,19 +35,15 @@ public class AddressService {
   public AddressResponseDto register(AddressRequestDto addressRequestDto) {
     log.debug("Registering new address with data: {}", addressRequestDto);
 
-    final var userId = this.jwtService.getClaims()
-        .map(claims -> Long.valueOf(claims.get("sub").toString()))
-        .orElseThrow();
-
-    log.debug("Retrieved user ID: {} from JWT", userId);
-
     final var addressToBeSaved = addressMapper.addressRequestDtoToAddress(addressRequestDto);
-    final var user = this.userService.findById(userId);
+    final var user = this.authenticatedUserService.getReference();
 
     addressToBeSaved.setUser(user);
+    postalCodeGeocodingService.geocode(addressToBeSaved);
 
     final var savedAddress = addressRepository.save(addressToBeSaved);
 
+    this.userCacheService.evict(user.getId());
     log.info("Address registered successfully with ID: {}", savedAddress.getId());
     return addressMapper.addressToAddressResponseDto(savedAddress);
   }
@@ -59,9 +62,13 @@ public class AddressService {
     address.setCity(addressRequestDto.city());
     address.setState(addressRequestDto.state());
     address.setZipCode(addressRequestDto.zipCode());
+    postalCodeGeocodingService.geocode(address);
 
     final var updatedAddress = addressRepository.save(address);
 
+    this.userCacheService.evict(updatedAddress.getUser().getId());
+    this.requestedServiceFeedService.refreshAddress(updatedAddress.getId());
+    this.requestedServiceGeoIndexService.refreshAddress(updatedAddress.getId());
     log.info("Address with ID: {} updated successfully.", updatedAddress.getId());
     return addressMapper.addressToAddressResponseDto(updatedAddress);
   }
@@ -78,4 +85,14 @@ public class AddressService {
     log.debug("Found address with ID: {}", address.getId());
     return address;
   }
+
+  @Cacheable(cacheNames = CacheConfig.OWNERSHIP_CACHE_NAME, key = "'address:' + #id", unless = "#result == null")
+  public Optional<OwnershipDto> findOwnershipById(Long id) {
+    log.debug("Attempting to find ownership for address ID: {}", id);
+
+    final var ownership = addressRepository.findOwnershipById(id);
+
+    log.debug("Ownership for address ID {} found: {}", id, ownership.isPresent());
+    return ownership;
+  }
 }
@@ -0,0 +1,51 @@
+package br.com.conectabyte.profissu.services;
+
+import org.springframework.stereotype.Service;
+
+import br.com.conectabyte.profissu.dtos.response.UserSnapshotDto;
+import br.com.conectabyte.profissu.entities.User;
+import br.com.conectabyte.profissu.exceptions.ResourceNotFoundException;
+import br.com.conectabyte.profissu.repositories.UserRepository;
+import br.com.conectabyte.profissu.utils.RequestMemo;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AuthenticatedUserService {
+  private final JwtService jwtService;
+  private final UserSnapshotService userSnapshotService;
+  private final UserRepository userRepository;
+
+  public Long getId() {
+    final var userId = this.jwtService.getClaims()
+        .map(claims -> Long.valueOf(claims.get("sub").toString()))
+        .orElseThrow();
+
+    log.debug("Retrieved authenticated user ID from JWT: {}", userId);
+    return userId;
+  }
+
+  public UserSnapshotDto getSnapshot() {
+    final var userId = getId();
+    final var snapshot = RequestMemo.computeIfAbsent(UserSnapshotService.memoKey(userId),
+        () -> userSnapshotService.findById(userId)
+            .filter(UserSnapshotDto::verified)
+            .orElse(null));
+
+    if (snapshot == null) {
+      log.warn("Authenticated user with ID: {} not found or not verified.", userId);
+      throw new ResourceNotFoundException("User not found.");
+    }
+
+    return snapshot;
+  }
+
+  public User getReference() {
+    final var snapshot = getSnapshot();
+
+    log.debug("Returning entity reference for authenticated user ID: {}", snapshot.id());
+    return userRepository.getReferenceById(snapshot.id());
+  }
+}
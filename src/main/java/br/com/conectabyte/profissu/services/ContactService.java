@@ -1,23 +1,27 @@
 package br.com.conectabyte.profissu.services;
 
 import java.time.LocalDateTime;
+import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import br.com.conectabyte.profissu.config.CacheConfig;
 import br.com.conectabyte.profissu.dtos.request.ContactConfirmationRequestDto;
 import br.com.conectabyte.profissu.dtos.request.ContactRequestDto;
 import br.com.conectabyte.profissu.dtos.request.EmailCodeDto;
 import br.com.conectabyte.profissu.dtos.response.ContactResponseDto;
 import br.com.conectabyte.profissu.dtos.response.MessageValueResponseDto;
+import br.com.conectabyte.profissu.dtos.response.OwnershipDto;
 import br.com.conectabyte.profissu.entities.Contact;
 import br.com.conectabyte.profissu.exceptions.ResourceNotFoundException;
 import br.com.conectabyte.profissu.exceptions.ValidationException;
 import br.com.conectabyte.profissu.mappers.ContactMapper;
 import br.com.conectabyte.profissu.repositories.ContactRepository;
 import br.com.conectabyte.profissu.services.email.ContactConfirmationService;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -26,11 +30,12 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class ContactService {
   private final ContactRepository contactRepository;
-  private final UserService userService;
+  private final AuthenticatedUserService authenticatedUserService;
+  private final UserSnapshotService userSnapshotService;
+  private final UserCacheService userCacheService;
   private final TokenService tokenService;
   private final ContactConfirmationService contactConfirmationService;
   private final BCryptPasswordEncoder bCryptPasswordEncoder;
-  private final JwtService jwtService;
 
   private final ContactMapper contactMapper = ContactMapper.INSTANCE;
 
@@ -38,14 +43,8 @@ public class ContactService {
   public ContactResponseDto register(ContactRequestDto contactRequestDto) {
     log.debug("Registering new contact with data: {}", contactRequestDto);
 
-    final var userId = this.jwtService.getClaims()
-        .map(claims -> Long.valueOf(claims.get("sub").toString()))
-        .orElseThrow();
-
-    log.debug("Retrieved user ID from JWT: {}", userId);
-
     final var contactToBeSaved = contactMapper.contactRequestDtoToContact(contactRequestDto);
-    final var user = this.userService.findById(userId);
+    final var user = this.authenticatedUserService.getReference();
 
     contactToBeSaved.setVerificationRequestedAt(LocalDateTime.now());
     contactToBeSaved.setUser(user);
@@ -62,6 +61,8 @@ public class ContactService {
 
     final var savedContact = contactRepository.save(contactToBeSaved);
 
+    this.userSnapshotService.evict(user.getId());
+    this.userCacheService.evict(user.getId());
     log.info("Contact registered successfully with ID: {} for user: {}", savedContact.getId(), user.getId());
     this.contactConfirmationService.send(new EmailCodeDto(contactRequestDto.value(), code));
     log.debug("Contact confirmation email sent to: {}", contactRequestDto.value());
@@ -120,6 +121,8 @@ public class ContactService {
 
     final var updatedContact = contactRepository.save(contact);
 
+    this.userSnapshotService.evict(contact.getUser().getId());
+    this.userCacheService.evict(contact.getUser().getId());
     log.info("Contact with ID: {} updated successfully.", updatedContact.getId());
 
     if (wasContactValueChanged) {
@@ -170,6 +173,8 @@ public class ContactService {
         })
         .forEach(c -> contactRepository.save(c));
 
+    this.userSnapshotService.evict(savedContact.getUser().getId());
+    this.userCacheService.evict(savedContact.getUser().getId());
     log.debug("Updated standard status for other contacts after confirmation of contact ID: {}", savedContact.getId());
     return new MessageValueResponseDto("Contact was confirmed.");
   }
@@ -186,4 +191,23 @@ public class ContactService {
     log.debug("Found contact with ID: {}", contact.getId());
     return contact;
   }
+
+  public boolean existsByValue(String value) {
+    log.debug("Checking whether contact value is taken, including deleted contacts: {}", value);
+
+    final var exists = contactRepository.countByValueIncludingDeleted(value) > 0;
+
+    log.debug("Contact value {} taken: {}", value, exists);
+    return exists;
+  }
+
+  @Cacheable(cacheNames = CacheConfig.OWNERSHIP_CACHE_NAME, key = "'contact:' + #id", unless = "#result == null")
+  public Optional<OwnershipDto> findOwnershipById(Long id) {
+    log.debug("Attempting to find ownership for contact ID: {}", id);
+
+    final var ownership = contactRepository.findOwnershipById(id);
+
+    log.debug("Ownership for contact ID {} found: {}", id, ownership.isPresent());
+    return ownership;
+  }
 }
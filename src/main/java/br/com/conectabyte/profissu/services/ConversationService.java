@@ -1,24 +1,38 @@
 package br.com.conectabyte.profissu.services;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import br.com.conectabyte.profissu.config.CacheConfig;
 import br.com.conectabyte.profissu.dtos.request.ConversationRequestDto;
+import br.com.conectabyte.profissu.dtos.response.ConversationProjectionDto;
 import br.com.conectabyte.profissu.dtos.response.ConversationResponseDto;
+import br.com.conectabyte.profissu.dtos.response.MessageProjectionDto;
+import br.com.conectabyte.profissu.dtos.response.OwnershipDto;
 import br.com.conectabyte.profissu.entities.Conversation;
 import br.com.conectabyte.profissu.entities.Message;
 import br.com.conectabyte.profissu.entities.RequestedService;
 import br.com.conectabyte.profissu.entities.User;
 import br.com.conectabyte.profissu.enums.OfferStatusEnum;
+import br.com.conectabyte.profissu.enums.ParticipantRoleEnum;
 import br.com.conectabyte.profissu.enums.RequestedServiceStatusEnum;
 import br.com.conectabyte.profissu.exceptions.ResourceNotFoundException;
 import br.com.conectabyte.profissu.exceptions.ValidationException;
 import br.com.conectabyte.profissu.mappers.ConversationMapper;
 import br.com.conectabyte.profissu.repositories.ConversationRepository;
-import jakarta.transaction.Transactional;
+import br.com.conectabyte.profissu.repositories.MessageRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -26,10 +40,17 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 @Slf4j
 public class ConversationService {
+  private static final String PENDING_OFFER_UNIQUE_KEY = "uk_conversations_pending_offer";
+  private static final String ALREADY_SUBMITTED_AN_OFFER_MESSAGE =
+      "You have already submitted an offer for this requested service.";
+
   private final ConversationRepository conversationRepository;
   private final RequestedServiceService requestedServiceService;
-  private final JwtService jwtService;
-  private final UserService userService;
+  private final AuthenticatedUserService authenticatedUserService;
+  private final MessageRepository messageRepository;
+  private final UserProjectionService userProjectionService;
+  private final RequestedServiceFeedService requestedServiceFeedService;
+  private final RequestedServiceGeoIndexService requestedServiceGeoIndexService;
 
   private final ConversationMapper conversationMapper = ConversationMapper.INSTANCE;
 
@@ -47,45 +68,55 @@ public class ConversationService {
     return conversation;
   }
 
-  @Transactional
-  public Page<ConversationResponseDto> findCurrentUserConversations(Pageable pageable) {
-    log.debug("Finding current user conversations with pageable: {}", pageable);
+  @Cacheable(cacheNames = CacheConfig.OWNERSHIP_CACHE_NAME, key = "'conversation:' + #id", unless = "#result == null")
+  public Optional<OwnershipDto> findOwnershipById(Long id) {
+    log.debug("Attempting to find ownership for conversation ID: {}", id);
+
+    final var ownership = conversationRepository.findOwnershipById(id);
 
-    final var userId = this.jwtService.getClaims()
-        .map(claims -> Long.valueOf(claims.get("sub").toString()))
-        .orElseThrow();
+    log.debug("Ownership for conversation ID {} found: {}", id, ownership.isPresent());
+    return ownership;
+  }
 
-    log.debug("Retrieved user ID from JWT: {}", userId);
+  @Transactional(readOnly = true)
+  public Page<ConversationResponseDto> findCurrentUserConversations(Pageable pageable) {
+    log.debug("Finding current user conversations with pageable: {}", pageable);
 
+    final var userId = this.authenticatedUserService.getId();
     final var conversations = conversationRepository.findByUserId(userId, pageable);
 
     log.debug("Found {} conversations for user ID: {}", conversations.getTotalElements(), userId);
-    return conversationMapper.conversationPageToConversationResponseDtoPage(conversations);
+
+    final var conversationIds = conversations.getContent().stream()
+        .map(ConversationProjectionDto::id)
+        .toList();
+    final var messages = conversationIds.isEmpty() ? List.<MessageProjectionDto>of()
+        : messageRepository.findProjectionsByConversationIds(conversationIds);
+    final var users = userProjectionService.toUserResponseDtos(Stream.concat(
+        conversations.getContent().stream()
+            .flatMap(conversation -> Stream.of(conversation.requester(), conversation.serviceProvider())),
+        messages.stream().map(MessageProjectionDto::user))
+        .toList());
+
+    return conversationMapper.conversationProjectionPageToConversationResponseDtoPage(conversations,
+        messages.stream().collect(Collectors.groupingBy(MessageProjectionDto::conversationId)), users);
   }
 
   @Transactional
   public ConversationResponseDto start(ConversationRequestDto conversationRequestDto) {
     log.debug("Starting new conversation with data: {}", conversationRequestDto);
 
-    final var requestedService = requestedServiceService.findById(conversationRequestDto.requestedServiceId());
-    final var serviceProviderId = this.jwtService.getClaims()
-        .map(claims -> Long.valueOf(claims.get("sub").toString()))
-        .orElseThrow();
-
-    log.debug("Service provider ID from JWT: {}", serviceProviderId);
-
-    final var serviceProvider = userService.findById(serviceProviderId);
+    final var requestedService = requestedServiceService.findSummaryById(conversationRequestDto.requestedServiceId());
+    final var serviceProvider = authenticatedUserService.getReference();
+    final var serviceProviderId = serviceProvider.getId();
     final var conversation = conversationMapper.conversationRequestDtoToConversation(conversationRequestDto);
     final var message = Message.builder()
         .message(conversationRequestDto.message())
         .conversation(conversation)
         .user(serviceProvider)
         .build();
-    final var alreadySubmittedAnOffer = requestedService.getConversations().stream()
-        .filter(c -> c.getOfferStatus() == OfferStatusEnum.PENDING)
-        .filter(c -> c.getServiceProvider().getId().equals(serviceProviderId))
-        .findFirst()
-        .isPresent();
+    final var alreadySubmittedAnOffer = conversationRepository.hasPendingOffer(requestedService.getId(),
+        serviceProviderId);
 
     log.debug("Service provider already submitted an offer: {}", alreadySubmittedAnOffer);
 
@@ -95,13 +126,29 @@ public class ConversationService {
     conversation.setRequestedService(requestedService);
     conversation.setMessages(List.of(message));
 
-    final var savedConversation = conversationRepository.save(conversation);
+    final Conversation savedConversation;
+
+    try {
+      savedConversation = conversationRepository.saveAndFlush(conversation);
+    } catch (DataIntegrityViolationException e) {
+      if (!e.getMostSpecificCause().getMessage().contains(PENDING_OFFER_UNIQUE_KEY)) {
+        throw e;
+      }
+
+      log.warn("Validation failed: Service provider ID {} submitted a concurrent pending offer for service ID {}.",
+          serviceProviderId, requestedService.getId());
+      throw new ValidationException(ALREADY_SUBMITTED_AN_OFFER_MESSAGE);
+    }
 
     log.info("Conversation started successfully with ID: {} for requested service ID: {}", savedConversation.getId(),
         requestedService.getId());
     return conversationMapper.conversationToConversationResponseDto(savedConversation);
   }
 
+  @Retryable(retryFor = ConcurrencyFailureException.class,
+      maxAttemptsExpression = "${profissu.retry.max-attempts}",
+      backoff = @Backoff(delayExpression = "${profissu.retry.delay}", maxDelayExpression = "${profissu.retry.max-delay}",
+          multiplierExpression = "${profissu.retry.multiplier}", random = true))
   @Transactional
   public ConversationResponseDto changeOfferStatus(Long id, OfferStatusEnum offerStatus) {
     log.debug("Changing offer status for conversation ID: {} to status: {}", id, offerStatus);
@@ -115,6 +162,11 @@ public class ConversationService {
       rejectOtherPendingOffers(conversation.getRequestedService(), conversation.getId());
 
       conversation.getRequestedService().setStatus(RequestedServiceStatusEnum.INPROGRESS);
+      requestedServiceService.addParticipant(conversation.getRequestedService(), conversation.getServiceProvider(),
+          ParticipantRoleEnum.SERVICE_PROVIDER);
+      requestedServiceService.evictOwnership(conversation.getRequestedService().getId());
+      requestedServiceFeedService.remove(conversation.getRequestedService().getId());
+      requestedServiceGeoIndexService.remove(conversation.getRequestedService().getId());
       log.debug("Requested service status updated to IN_PROGRESS for service ID: {}",
           conversation.getRequestedService().getId());
     }
@@ -148,7 +200,7 @@ public class ConversationService {
     if (alreadySubmittedAnOffer) {
       log.warn("Validation failed: Service provider ID {} has already submitted a pending offer for service ID {}.",
           serviceProvider.getId(), requestedService.getId());
-      throw new ValidationException("You have already submitted an offer for this requested service.");
+      throw new ValidationException(ALREADY_SUBMITTED_AN_OFFER_MESSAGE);
     }
 
     log.debug("New offer validation successful for requested service ID: {}", requestedService.getId());
@@ -187,14 +239,12 @@ public class ConversationService {
   private void rejectOtherPendingOffers(RequestedService requestedService, Long conversationId) {
     log.debug("Rejecting other pending offers for requested service ID: {} excluding conversation ID: {}",
         requestedService.getId(), conversationId);
-    requestedService.getConversations().stream()
-        .filter(c -> c.getId() != conversationId)
-        .filter(c -> c.getOfferStatus() == OfferStatusEnum.PENDING)
-        .forEach(c -> {
-          log.debug("Rejecting pending offer for conversation ID: {}", c.getId());
-          this.changeOfferStatus(c.getId(), OfferStatusEnum.REJECTED);
-        });
-    log.debug("Finished rejecting other pending offers for requested service ID: {}", requestedService.getId());
+
+    final var rejectedOffers = conversationRepository.rejectOtherPendingOffers(requestedService.getId(),
+        conversationId);
+
+    log.debug("Rejected {} other pending offers for requested service ID: {}", rejectedOffers,
+        requestedService.getId());
   }
 
   private void validateNoOfferAcceptedForConversation(RequestedService requestedService, String message) {
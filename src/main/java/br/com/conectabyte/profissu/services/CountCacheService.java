@@ -0,0 +1,77 @@
+package br.com.conectabyte.profissu.services;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.LongSupplier;
+
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import br.com.conectabyte.profissu.properties.ProfissuProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@Slf4j
+public class CountCacheService implements MeterBinder {
+  private final Executor taskExecutor;
+  private final Duration countTtl;
+  private final Cache<String, CachedCount> counts;
+  private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
+  public CountCacheService(Executor taskExecutor, ProfissuProperties profissuProperties) {
+    final var cache = profissuProperties.getProfissu().getCache();
+
+    this.taskExecutor = taskExecutor;
+    this.countTtl = Duration.ofSeconds(cache.getCountTtl());
+    this.counts = Caffeine.newBuilder()
+        .maximumSize(cache.getCountMaxEntries())
+        .recordStats()
+        .build();
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    CaffeineCacheMetrics.monitor(registry, counts, "counts");
+  }
+
+  public long count(String key, LongSupplier counter) {
+    final var cachedCount = counts.getIfPresent(key);
+
+    if (cachedCount == null) {
+      log.debug("No cached count for key: {}. Counting synchronously.", key);
+
+      final var count = counter.getAsLong();
+
+      counts.put(key, new CachedCount(count, System.nanoTime()));
+      return count;
+    }
+
+    if (System.nanoTime() - cachedCount.countedAt() >= countTtl.toNanos() && refreshing.add(key)) {
+      log.debug("Cached count for key: {} is stale. Refreshing asynchronously.", key);
+      taskExecutor.execute(() -> refresh(key, counter));
+    }
+
+    return cachedCount.count();
+  }
+
+  private void refresh(String key, LongSupplier counter) {
+    try {
+      counts.put(key, new CachedCount(counter.getAsLong(), System.nanoTime()));
+      log.debug("Cached count for key: {} refreshed.", key);
+    } catch (RuntimeException e) {
+      log.warn("Failed to refresh cached count for key: {}. Keeping the stale value.", key, e);
+    } finally {
+      refreshing.remove(key);
+    }
+  }
+
+  private record CachedCount(long count, long countedAt) {
+  }
+}
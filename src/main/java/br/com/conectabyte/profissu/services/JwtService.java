@@ -27,10 +27,13 @@ public class JwtService {
   private final ProfissuProperties profissuProperties;
 
   public LoginResponseDto createJwtToken(User user) {
+    return createJwtToken(user, profissuProperties.getProfissu().getJwt().getExpiresIn());
+  }
+
+  public LoginResponseDto createJwtToken(User user, long expiresIn) {
     log.debug("Creating JWT token for user ID: {}", user.getId());
     
     final var now = Instant.now();
-    final var expiresIn = profissuProperties.getProfissu().getJwt().getExpiresIn();
     final var scopes = user.getRoles().stream()
         .map(Role::getName)
         .collect(Collectors.joining(" "));
@@ -3,15 +3,20 @@ package br.com.conectabyte.profissu.services;
 import java.time.LocalDateTime;
 import java.util.EnumSet;
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import br.com.conectabyte.profissu.config.CacheConfig;
 import br.com.conectabyte.profissu.dtos.request.MessageRequestDto;
 import br.com.conectabyte.profissu.dtos.response.MessageResponseDto;
+import br.com.conectabyte.profissu.dtos.response.OwnershipDto;
 import br.com.conectabyte.profissu.entities.Conversation;
 import br.com.conectabyte.profissu.entities.Message;
 import br.com.conectabyte.profissu.enums.OfferStatusEnum;
@@ -20,7 +25,6 @@ import br.com.conectabyte.profissu.exceptions.ResourceNotFoundException;
 import br.com.conectabyte.profissu.exceptions.ValidationException;
 import br.com.conectabyte.profissu.mappers.MessageMapper;
 import br.com.conectabyte.profissu.repositories.MessageRepository;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -30,8 +34,7 @@ import lombok.extern.slf4j.Slf4j;
 public class MessageService {
   private final MessageRepository messageRepository;
   private final ConversationService conversationService;
-  private final JwtService jwtService;
-  private final UserService userService;
+  private final AuthenticatedUserService authenticatedUserService;
   private final SimpMessagingTemplate simpMessagingTemplate;
 
   private final MessageMapper messageMapper = MessageMapper.INSTANCE;
@@ -49,7 +52,17 @@ public class MessageService {
     return message;
   }
 
-  @Transactional
+  @Cacheable(cacheNames = CacheConfig.OWNERSHIP_CACHE_NAME, key = "'message:' + #id", unless = "#result == null")
+  public Optional<OwnershipDto> findOwnershipById(Long id) {
+    log.debug("Attempting to find ownership for message ID: {}", id);
+
+    final var ownership = messageRepository.findOwnershipById(id);
+
+    log.debug("Ownership for message ID {} found: {}", id, ownership.isPresent());
+    return ownership;
+  }
+
+  @Transactional(readOnly = true)
   public Page<MessageResponseDto> listMessages(Long conversationId, Pageable pageable) {
     log.debug("Listing messages for conversation ID: {} with pageable: {}", conversationId, pageable);
 
@@ -70,13 +83,7 @@ public class MessageService {
 
     validateCanSendMessage(conversation);
 
-    final var userId = this.jwtService.getClaims()
-        .map(claims -> Long.valueOf(claims.get("sub").toString()))
-        .orElseThrow();
-
-    log.debug("User ID from JWT: {}", userId);
-
-    final var user = userService.findById(userId);
+    final var user = authenticatedUserService.getReference();
     final var message = Message.builder()
         .message(messageRequestDto.message())
         .conversation(conversation)
@@ -0,0 +1,78 @@
+package br.com.conectabyte.profissu.services;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import br.com.conectabyte.profissu.dtos.response.GeoPointDto;
+import br.com.conectabyte.profissu.entities.Address;
+import br.com.conectabyte.profissu.properties.ProfissuProperties;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@Slf4j
+public class PostalCodeGeocodingService {
+  private final Map<String, GeoPointDto> centroids;
+
+  public PostalCodeGeocodingService(ResourceLoader resourceLoader, ProfissuProperties profissuProperties) {
+    this.centroids = loadCentroids(resourceLoader, profissuProperties.getProfissu().getGeo().getPostalCodeCentroids());
+  }
+
+  public Optional<GeoPointDto> locate(String zipCode) {
+    if (!StringUtils.hasText(zipCode)) {
+      return Optional.empty();
+    }
+
+    final var digits = zipCode.replaceAll("\\D", "");
+
+    for (int length = digits.length(); length > 0; length--) {
+      final var centroid = centroids.get(digits.substring(0, length));
+
+      if (centroid != null) {
+        return Optional.of(centroid);
+      }
+    }
+
+    log.debug("No postal code centroid found for zip code: {}", zipCode);
+    return Optional.empty();
+  }
+
+  public void geocode(Address address) {
+    final var location = locate(address.getZipCode());
+
+    address.setLatitude(location.map(GeoPointDto::latitude).orElse(null));
+    address.setLongitude(location.map(GeoPointDto::longitude).orElse(null));
+  }
+
+  private static Map<String, GeoPointDto> loadCentroids(ResourceLoader resourceLoader, String location) {
+    final var centroids = new HashMap<String, GeoPointDto>();
+
+    if (!StringUtils.hasText(location)) {
+      log.warn("No postal code centroid dataset configured. Addresses will not be geocoded.");
+      return centroids;
+    }
+
+    try (final var reader = new BufferedReader(new InputStreamReader(
+        resourceLoader.getResource(location).getInputStream(), StandardCharsets.UTF_8))) {
+      reader.lines()
+          .skip(1)
+          .map(line -> line.split(","))
+          .filter(columns -> columns.length == 3)
+          .forEach(columns -> centroids.put(columns[0].trim(), new GeoPointDto(Double.parseDouble(columns[1]),
+              Double.parseDouble(columns[2]))));
+    } catch (IOException | NumberFormatException e) {
+      log.warn("Failed to load postal code centroids from: {}", location, e);
+    }
+
+    log.info("Loaded {} postal code centroids from: {}", centroids.size(), location);
+    return centroids;
+  }
+}
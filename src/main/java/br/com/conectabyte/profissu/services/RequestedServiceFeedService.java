@@ -0,0 +1,384 @@
+package br.com.conectabyte.profissu.services;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
+
+import br.com.conectabyte.profissu.dtos.response.AddressResponseDto;
+import br.com.conectabyte.profissu.dtos.response.RequestedServiceFeedEntryDto;
+import br.com.conectabyte.profissu.dtos.response.RequestedServiceProjectionDto;
+import br.com.conectabyte.profissu.enums.PaginationModeEnum;
+import br.com.conectabyte.profissu.properties.ProfissuProperties;
+import br.com.conectabyte.profissu.repositories.RequestedServiceRepository;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@Slf4j
+public class RequestedServiceFeedService {
+  private static final String KEY_PREFIX = "profissu:feed:requested-services";
+  private static final String ALL_KEY = KEY_PREFIX + ":all";
+  private static final String PAYLOADS_KEY = KEY_PREFIX + ":payloads";
+  private static final String READY_KEY = KEY_PREFIX + ":ready";
+  private static final String REBUILD_LOCK_KEY = KEY_PREFIX + ":rebuilding";
+  private static final String UPDATED_WHILE_REBUILDING_KEY = KEY_PREFIX + ":updated-while-rebuilding";
+  private static final int MAX_APPLY_ATTEMPTS = 5;
+  private static final Duration REBUILD_LOCK_TTL = Duration.ofMinutes(10);
+  static final Sort FEED_SORT = Sort.by(Sort.Direction.DESC, "createdAt");
+
+  private final RedisTemplate<String, Long> feedRedisTemplate;
+  private final RequestedServiceRepository requestedServiceRepository;
+  private final boolean enabled;
+  private final int rebuildBatchSize;
+
+  public RequestedServiceFeedService(RedisTemplate<String, Long> feedRedisTemplate,
+      RequestedServiceRepository requestedServiceRepository, ProfissuProperties profissuProperties) {
+    final var feed = profissuProperties.getProfissu().getFeed();
+
+    this.feedRedisTemplate = feedRedisTemplate;
+    this.requestedServiceRepository = requestedServiceRepository;
+    this.enabled = Boolean.TRUE.equals(feed.getEnabled());
+    this.rebuildBatchSize = feed.getRebuildBatchSize() == null ? 500 : feed.getRebuildBatchSize();
+  }
+
+  public boolean isReady() {
+    if (!enabled) {
+      return true;
+    }
+
+    try {
+      return Boolean.TRUE.equals(feedRedisTemplate.hasKey(READY_KEY));
+    } catch (DataAccessException e) {
+      log.warn("Failed to check whether the requested service feed is ready.", e);
+      return true;
+    }
+  }
+
+  public Optional<Slice<RequestedServiceProjectionDto>> findAvailable(PaginationModeEnum paginationMode,
+      Pageable pageable, String state, String city) {
+    if (!enabled || pageable.isUnpaged() || !(pageable.getSort().isUnsorted() || pageable.getSort().equals(FEED_SORT))
+        || (!StringUtils.hasText(state) && StringUtils.hasText(city))) {
+      log.debug("Requested service feed can't serve pageable: {}, state: {}, city: {}", pageable, state, city);
+      return Optional.empty();
+    }
+
+    final var key = partitionKey(state, city);
+    final var withCount = paginationMode != PaginationModeEnum.SLICE;
+
+    try {
+      final var results = feedRedisTemplate.executePipelined(new SessionCallback<>() {
+        @Override
+        @SuppressWarnings("unchecked")
+        public <K, V> Object execute(RedisOperations<K, V> operations) {
+          final var feedOperations = (RedisOperations<String, Long>) operations;
+
+          feedOperations.hasKey(READY_KEY);
+          feedOperations.opsForZSet().reverseRange(key, pageable.getOffset(),
+              pageable.getOffset() + pageable.getPageSize());
+
+          if (withCount) {
+            feedOperations.opsForZSet().zCard(key);
+          }
+
+          return null;
+        }
+      });
+
+      if (!Boolean.TRUE.equals(results.get(0))) {
+        log.debug("Requested service feed is not ready. Falling back to the database.");
+        return Optional.empty();
+      }
+
+      @SuppressWarnings("unchecked")
+      final var ids = new ArrayList<>((Collection<Long>) results.get(1));
+      final var hasNext = ids.size() > pageable.getPageSize();
+      final var pageIds = hasNext ? ids.subList(0, pageable.getPageSize()) : ids;
+      final var content = pageIds.isEmpty() ? List.<RequestedServiceProjectionDto>of()
+          : feedRedisTemplate.<Long, RequestedServiceProjectionDto>opsForHash().multiGet(PAYLOADS_KEY, pageIds)
+              .stream()
+              .filter(Objects::nonNull)
+              .toList();
+
+      log.debug("Served {} requested services from feed partition: {}", content.size(), key);
+      return Optional.of(withCount ? new PageImpl<>(content, pageable, (Long) results.get(2))
+          : new SliceImpl<>(content, pageable, hasNext));
+    } catch (DataAccessException e) {
+      log.warn("Failed to read requested service feed partition: {}. Falling back to the database.", key, e);
+      return Optional.empty();
+    }
+  }
+
+  public void add(Long id) {
+    afterCommit(() -> refresh(List.of(id)));
+  }
+
+  public void remove(Long id) {
+    afterCommit(() -> apply(List.of(), List.of(id), false));
+  }
+
+  public void refreshUser(Long userId) {
+    afterCommit(() -> refresh(requestedServiceRepository.findAvailableIdsByUserId(userId)));
+  }
+
+  public void refreshAddress(Long addressId) {
+    afterCommit(() -> refresh(requestedServiceRepository.findAvailableIdsByAddressId(addressId)));
+  }
+
+  @Async
+  @EventListener(ApplicationReadyEvent.class)
+  public void rebuildIfMissing() {
+    if (!enabled) {
+      return;
+    }
+
+    try {
+      if (Boolean.TRUE.equals(feedRedisTemplate.hasKey(READY_KEY))) {
+        log.debug("Requested service feed is ready. Skipping rebuild.");
+        return;
+      }
+    } catch (DataAccessException e) {
+      log.warn("Failed to check whether the requested service feed is ready.", e);
+      return;
+    }
+
+    rebuild();
+  }
+
+  @Async
+  public void rebuild() {
+    if (!enabled) {
+      log.warn("Requested service feed is disabled. Skipping rebuild.");
+      return;
+    }
+
+    try {
+      if (!Boolean.TRUE.equals(feedRedisTemplate.opsForValue().setIfAbsent(REBUILD_LOCK_KEY, 1L,
+          REBUILD_LOCK_TTL))) {
+        log.info("Requested service feed is already being rebuilt.");
+        return;
+      }
+    } catch (DataAccessException e) {
+      log.error("Failed to acquire the requested service feed rebuild lock.", e);
+      return;
+    }
+
+    try {
+      log.info("Rebuilding requested service feed.");
+      feedRedisTemplate.delete(feedKeys());
+
+      var lastId = 0L;
+      var entries = 0L;
+      Slice<RequestedServiceFeedEntryDto> batch;
+
+      do {
+        batch = requestedServiceRepository.findFeedEntriesAfterId(lastId, PageRequest.of(0, rebuildBatchSize));
+
+        if (batch.hasContent()) {
+          apply(batch.getContent(), List.of(), true);
+          lastId = batch.getContent().get(batch.getNumberOfElements() - 1).requestedService().id();
+          entries += batch.getNumberOfElements();
+        }
+      } while (batch.hasNext());
+
+      refreshUpdatedWhileRebuilding();
+      feedRedisTemplate.opsForValue().set(READY_KEY, entries);
+      log.info("Requested service feed rebuilt with {} entries.", entries);
+    } catch (RuntimeException e) {
+      log.error("Failed to rebuild requested service feed.", e);
+    } finally {
+      deleteQuietly(REBUILD_LOCK_KEY);
+    }
+  }
+
+  private void refreshUpdatedWhileRebuilding() {
+    List<Long> updatedIds;
+
+    do {
+      updatedIds = feedRedisTemplate.opsForSet().pop(UPDATED_WHILE_REBUILDING_KEY, rebuildBatchSize);
+
+      if (updatedIds != null && !updatedIds.isEmpty()) {
+        log.debug("Re-applying {} requested services updated while rebuilding the feed.", updatedIds.size());
+        refresh(updatedIds, true);
+      }
+    } while (updatedIds != null && !updatedIds.isEmpty());
+  }
+
+  private Set<String> feedKeys() {
+    final var keys = new HashSet<String>();
+
+    try (final var cursor = feedRedisTemplate.scan(ScanOptions.scanOptions().match(KEY_PREFIX + ":*").count(1000)
+        .build())) {
+      cursor.forEachRemaining(keys::add);
+    }
+
+    keys.remove(REBUILD_LOCK_KEY);
+    return keys;
+  }
+
+  private void refresh(List<Long> ids) {
+    refresh(ids, false);
+  }
+
+  private void refresh(List<Long> ids, boolean rebuilding) {
+    if (ids.isEmpty()) {
+      return;
+    }
+
+    final var entries = requestedServiceRepository.findFeedEntriesByIds(ids);
+    final var liveIds = entries.stream()
+        .map(entry -> entry.requestedService().id())
+        .toList();
+
+    apply(entries, ids.stream()
+        .filter(id -> !liveIds.contains(id))
+        .toList(), rebuilding);
+  }
+
+  private void apply(List<RequestedServiceFeedEntryDto> entries, List<Long> removedIds, boolean rebuilding) {
+    final var ids = new ArrayList<Long>(removedIds);
+
+    entries.forEach(entry -> ids.add(entry.requestedService().id()));
+
+    if (ids.isEmpty()) {
+      return;
+    }
+
+    for (int attempt = 1; attempt <= MAX_APPLY_ATTEMPTS; attempt++) {
+      final var results = feedRedisTemplate.execute(new SessionCallback<List<Object>>() {
+        @Override
+        @SuppressWarnings("unchecked")
+        public <K, V> List<Object> execute(RedisOperations<K, V> operations) {
+          final var feedOperations = (RedisOperations<String, Long>) operations;
+
+          feedOperations.watch(PAYLOADS_KEY);
+
+          final var previousPayloads = feedOperations.<Long, RequestedServiceProjectionDto>opsForHash()
+              .multiGet(PAYLOADS_KEY, ids);
+          final var updatedWhileRebuilding = !rebuilding
+              && Boolean.TRUE.equals(feedOperations.hasKey(REBUILD_LOCK_KEY));
+
+          feedOperations.multi();
+
+          for (final var previousPayload : previousPayloads) {
+            if (previousPayload != null) {
+              partitionKeys(previousPayload.address())
+                  .forEach(key -> feedOperations.opsForZSet().remove(key, previousPayload.id()));
+            }
+          }
+
+          if (!removedIds.isEmpty()) {
+            feedOperations.opsForHash().delete(PAYLOADS_KEY, removedIds.toArray());
+          }
+
+          entries.forEach(entry -> {
+            final var requestedService = entry.requestedService();
+
+            feedOperations.<Long, RequestedServiceProjectionDto>opsForHash()
+                .put(PAYLOADS_KEY, requestedService.id(), requestedService);
+            partitionKeys(requestedService.address()).forEach(key -> feedOperations.opsForZSet()
+                .add(key, requestedService.id(), score(entry.createdAt())));
+          });
+
+          if (updatedWhileRebuilding) {
+            feedOperations.opsForSet().add(UPDATED_WHILE_REBUILDING_KEY, ids.toArray(Long[]::new));
+          }
+
+          return feedOperations.exec();
+        }
+      });
+
+      if (results != null && !results.isEmpty()) {
+        log.debug("Requested service feed updated. Upserted: {}, removed: {}", entries.size(), removedIds.size());
+        return;
+      }
+
+      log.debug("Requested service feed changed while updating it. Retrying. Attempt: {}", attempt);
+    }
+
+    throw new ConcurrencyFailureException("Requested service feed kept changing while updating ids: " + ids);
+  }
+
+  private void afterCommit(Runnable update) {
+    if (!enabled) {
+      return;
+    }
+
+    final Runnable guardedUpdate = () -> {
+      try {
+        update.run();
+      } catch (RuntimeException e) {
+        log.warn("Failed to update requested service feed. Marking it for rebuild.", e);
+        deleteQuietly(READY_KEY);
+      }
+    };
+
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      guardedUpdate.run();
+      return;
+    }
+
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        guardedUpdate.run();
+      }
+    });
+  }
+
+  private void deleteQuietly(String key) {
+    try {
+      feedRedisTemplate.delete(key);
+    } catch (DataAccessException e) {
+      log.warn("Failed to delete requested service feed key: {}", key, e);
+    }
+  }
+
+  private static double score(LocalDateTime createdAt) {
+    return createdAt.toInstant(ZoneOffset.UTC).toEpochMilli();
+  }
+
+  private static String partitionKey(String state, String city) {
+    if (!StringUtils.hasText(state)) {
+      return ALL_KEY;
+    }
+
+    final var stateKey = KEY_PREFIX + ":state:" + normalize(state);
+
+    return StringUtils.hasText(city) ? stateKey + ":city:" + normalize(city) : stateKey;
+  }
+
+  private static List<String> partitionKeys(AddressResponseDto address) {
+    return List.of(ALL_KEY, partitionKey(address.state(), null), partitionKey(address.state(), address.city()));
+  }
+
+  private static String normalize(String value) {
+    return value.trim().toLowerCase(Locale.ROOT);
+  }
+}
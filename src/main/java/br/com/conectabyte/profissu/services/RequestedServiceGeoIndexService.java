@@ -0,0 +1,247 @@
+package br.com.conectabyte.profissu.services;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import br.com.conectabyte.profissu.dtos.response.GeoPointDto;
+import br.com.conectabyte.profissu.dtos.response.RequestedServiceDistanceDto;
+import br.com.conectabyte.profissu.dtos.response.RequestedServiceGeoEntryDto;
+import br.com.conectabyte.profissu.exceptions.ValidationException;
+import br.com.conectabyte.profissu.properties.ProfissuProperties;
+import br.com.conectabyte.profissu.repositories.RequestedServiceRepository;
+import br.com.conectabyte.profissu.utils.GeoHash;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@Slf4j
+public class RequestedServiceGeoIndexService {
+  private static final int CELL_PRECISION = 5;
+
+  private final RequestedServiceRepository requestedServiceRepository;
+  private final boolean enabled;
+  private final int rebuildBatchSize;
+  private final double maxRadius;
+  private final AtomicBoolean rebuilding = new AtomicBoolean();
+  private final Set<Long> idsUpdatedWhileRebuilding = ConcurrentHashMap.newKeySet();
+  private volatile GeoIndex index = new GeoIndex();
+  private volatile boolean ready;
+
+  public RequestedServiceGeoIndexService(RequestedServiceRepository requestedServiceRepository,
+      ProfissuProperties profissuProperties) {
+    final var geo = profissuProperties.getProfissu().getGeo();
+
+    this.requestedServiceRepository = requestedServiceRepository;
+    this.enabled = Boolean.TRUE.equals(geo.getEnabled());
+    this.rebuildBatchSize = geo.getRebuildBatchSize() == null ? 500 : geo.getRebuildBatchSize();
+    this.maxRadius = geo.getMaxRadius() == null ? 100 : geo.getMaxRadius();
+  }
+
+  public boolean isReady() {
+    return ready;
+  }
+
+  public Slice<RequestedServiceDistanceDto> findNearby(GeoPointDto center, double radius, Pageable pageable) {
+    if (Math.abs(center.latitude()) > 90 || Math.abs(center.longitude()) > 180) {
+      throw new ValidationException("latitude and longitude: Must be a valid coordinate");
+    }
+
+    if (radius <= 0 || radius > maxRadius) {
+      throw new ValidationException("radius: Must be greater than 0 and at most " + maxRadius + " km");
+    }
+
+    if (!enabled) {
+      log.warn("Requested service geo index is disabled. Returning no nearby requested services.");
+      return new SliceImpl<>(List.of(), pageable, false);
+    }
+
+    if (!ready) {
+      log.debug("Requested service geo index is still being built. Results may be incomplete.");
+    }
+
+    final var currentIndex = index;
+    final var matches = GeoHash.covering(center, radius, CELL_PRECISION).stream()
+        .map(currentIndex.cells::get)
+        .filter(Objects::nonNull)
+        .flatMap(Set::stream)
+        .map(id -> currentIndex.distance(id, center))
+        .filter(Objects::nonNull)
+        .filter(match -> match.distance() <= radius)
+        .sorted(Comparator.comparingDouble(RequestedServiceDistanceDto::distance)
+            .thenComparing(RequestedServiceDistanceDto::id))
+        .skip(pageable.getOffset())
+        .limit(pageable.getPageSize() + 1L)
+        .toList();
+    final var hasNext = matches.size() > pageable.getPageSize();
+
+    log.debug("Found {} requested services within {} km of: {}", matches.size(), radius, center);
+    return new SliceImpl<>(hasNext ? matches.subList(0, pageable.getPageSize()) : matches, pageable, hasNext);
+  }
+
+  public void add(Long id) {
+    afterCommit(() -> refresh(List.of(id)));
+  }
+
+  public void remove(Long id) {
+    afterCommit(() -> {
+      markUpdatedWhileRebuilding(List.of(id));
+      index.remove(id);
+    });
+  }
+
+  public void refreshUser(Long userId) {
+    afterCommit(() -> refresh(requestedServiceRepository.findAvailableIdsByUserId(userId)));
+  }
+
+  public void refreshAddress(Long addressId) {
+    afterCommit(() -> refresh(requestedServiceRepository.findAvailableIdsByAddressId(addressId)));
+  }
+
+  @Async
+  @EventListener(ApplicationReadyEvent.class)
+  public void rebuildOnStartup() {
+    rebuild();
+  }
+
+  public void rebuild() {
+    if (!enabled) {
+      log.debug("Requested service geo index is disabled. Skipping rebuild.");
+      return;
+    }
+
+    if (!rebuilding.compareAndSet(false, true)) {
+      log.info("Requested service geo index is already being rebuilt.");
+      return;
+    }
+
+    try {
+      log.info("Rebuilding requested service geo index.");
+
+      final var rebuiltIndex = new GeoIndex();
+      var lastId = 0L;
+      Slice<RequestedServiceGeoEntryDto> batch;
+
+      idsUpdatedWhileRebuilding.clear();
+
+      do {
+        batch = requestedServiceRepository.findGeoEntriesAfterId(lastId, PageRequest.of(0, rebuildBatchSize));
+        batch.forEach(entry -> rebuiltIndex.put(entry.id(), entry.location()));
+
+        if (batch.hasContent()) {
+          lastId = batch.getContent().get(batch.getNumberOfElements() - 1).id();
+        }
+      } while (batch.hasNext());
+
+      index = rebuiltIndex;
+      ready = true;
+      rebuilding.set(false);
+
+      final var updatedIds = new ArrayList<>(idsUpdatedWhileRebuilding);
+
+      idsUpdatedWhileRebuilding.clear();
+      refresh(updatedIds);
+      log.info("Requested service geo index rebuilt with {} entries.", rebuiltIndex.locations.size());
+    } catch (RuntimeException e) {
+      log.error("Failed to rebuild requested service geo index.", e);
+    } finally {
+      rebuilding.set(false);
+    }
+  }
+
+  private void refresh(List<Long> ids) {
+    if (ids.isEmpty()) {
+      return;
+    }
+
+    markUpdatedWhileRebuilding(ids);
+
+    final var entries = requestedServiceRepository.findGeoEntriesByIds(ids);
+    final var liveIds = entries.stream()
+        .map(RequestedServiceGeoEntryDto::id)
+        .toList();
+    final var currentIndex = index;
+
+    entries.forEach(entry -> currentIndex.put(entry.id(), entry.location()));
+    ids.stream()
+        .filter(id -> !liveIds.contains(id))
+        .forEach(currentIndex::remove);
+    log.debug("Requested service geo index updated. Upserted: {}, removed: {}", entries.size(),
+        ids.size() - entries.size());
+  }
+
+  private void markUpdatedWhileRebuilding(List<Long> ids) {
+    if (rebuilding.get()) {
+      idsUpdatedWhileRebuilding.addAll(ids);
+    }
+  }
+
+  private void afterCommit(Runnable update) {
+    if (!enabled) {
+      return;
+    }
+
+    final Runnable guardedUpdate = () -> {
+      try {
+        update.run();
+      } catch (RuntimeException e) {
+        log.warn("Failed to update requested service geo index. It will be fixed by the next rebuild.", e);
+      }
+    };
+
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      guardedUpdate.run();
+      return;
+    }
+
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        guardedUpdate.run();
+      }
+    });
+  }
+
+  private static final class GeoIndex {
+    private final Map<Long, GeoPointDto> locations = new ConcurrentHashMap<>();
+    private final Map<String, Set<Long>> cells = new ConcurrentHashMap<>();
+
+    private synchronized void put(Long id, GeoPointDto location) {
+      remove(id);
+      locations.put(id, location);
+      cells.computeIfAbsent(GeoHash.encode(location, CELL_PRECISION), cell -> ConcurrentHashMap.newKeySet()).add(id);
+    }
+
+    private synchronized void remove(Long id) {
+      final var location = locations.remove(id);
+
+      if (location != null) {
+        cells.computeIfPresent(GeoHash.encode(location, CELL_PRECISION), (cell, ids) -> {
+          ids.remove(id);
+          return ids.isEmpty() ? null : ids;
+        });
+      }
+    }
+
+    private RequestedServiceDistanceDto distance(Long id, GeoPointDto center) {
+      final var location = locations.get(id);
+
+      return location == null ? null : new RequestedServiceDistanceDto(id, GeoHash.distance(center, location));
+    }
+  }
+}
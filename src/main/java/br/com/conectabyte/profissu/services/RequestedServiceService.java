@@ -2,24 +2,51 @@ package br.com.conectabyte.profissu.services;
 
 import java.time.LocalDateTime;
 import java.util.EnumSet;
-
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import br.com.conectabyte.profissu.config.CacheConfig;
 import br.com.conectabyte.profissu.dtos.request.RequestedServiceRequestDto;
 import br.com.conectabyte.profissu.dtos.request.TitleEmailDto;
+import br.com.conectabyte.profissu.dtos.response.GeoPointDto;
+import br.com.conectabyte.profissu.dtos.response.NearbyRequestedServiceResponseDto;
+import br.com.conectabyte.profissu.dtos.response.OwnershipDto;
+import br.com.conectabyte.profissu.dtos.response.RequestedServiceDistanceDto;
+import br.com.conectabyte.profissu.dtos.response.RequestedServiceProjectionDto;
 import br.com.conectabyte.profissu.dtos.response.RequestedServiceResponseDto;
+import br.com.conectabyte.profissu.dtos.response.UserResponseDto;
 import br.com.conectabyte.profissu.entities.Contact;
 import br.com.conectabyte.profissu.entities.RequestedService;
+import br.com.conectabyte.profissu.entities.RequestedServiceParticipant;
+import br.com.conectabyte.profissu.entities.RequestedServiceParticipantId;
+import br.com.conectabyte.profissu.entities.User;
 import br.com.conectabyte.profissu.enums.OfferStatusEnum;
+import br.com.conectabyte.profissu.enums.PaginationModeEnum;
+import br.com.conectabyte.profissu.enums.ParticipantRoleEnum;
 import br.com.conectabyte.profissu.enums.RequestedServiceStatusEnum;
 import br.com.conectabyte.profissu.exceptions.RequestedServiceCancellationException;
 import br.com.conectabyte.profissu.exceptions.ResourceNotFoundException;
 import br.com.conectabyte.profissu.mappers.RequestedServiceMapper;
+import br.com.conectabyte.profissu.repositories.RequestedServiceParticipantRepository;
 import br.com.conectabyte.profissu.repositories.RequestedServiceRepository;
 import br.com.conectabyte.profissu.services.email.RequestedServiceCancellationNotificationService;
-import jakarta.transaction.Transactional;
+import br.com.conectabyte.profissu.utils.FullTextQuery;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -27,10 +54,19 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 @Slf4j
 public class RequestedServiceService {
+  private static final String AVAILABLE_SERVICE_REQUESTS_COUNT_KEY = "requestedServices:available";
+  private static final Sort AVAILABLE_SERVICE_REQUESTS_SORT = RequestedServiceFeedService.FEED_SORT
+      .and(Sort.by(Sort.Direction.DESC, "id"));
+
   private final RequestedServiceRepository requestedServiceRepository;
-  private final UserService userService;
+  private final RequestedServiceParticipantRepository requestedServiceParticipantRepository;
+  private final AuthenticatedUserService authenticatedUserService;
   private final RequestedServiceCancellationNotificationService requestedServiceCancellationNotificationService;
-  private final JwtService jwtService;
+  private final UserProjectionService userProjectionService;
+  private final CountCacheService countCacheService;
+  private final RequestedServiceFeedService requestedServiceFeedService;
+  private final RequestedServiceGeoIndexService requestedServiceGeoIndexService;
+  private final PostalCodeGeocodingService postalCodeGeocodingService;
 
   private final RequestedServiceMapper requestedServiceMapper = RequestedServiceMapper.INSTANCE;
 
@@ -48,50 +84,169 @@ public class RequestedServiceService {
     return requestedService;
   }
 
-  @Transactional
-  public Page<RequestedServiceResponseDto> findAvailableServiceRequests(Pageable pageable) {
-    log.debug("Finding available service requests with pageable: {}", pageable);
+  public RequestedService findSummaryById(Long id) {
+    log.debug("Attempting to find requested service summary by ID: {}", id);
 
-    final var availableServiceRequests = requestedServiceRepository.findAvailableServiceRequests(pageable);
+    final var requestedService = requestedServiceRepository.findSummaryById(id)
+        .orElseThrow(() -> {
+          log.warn("Requested service with ID: {} not found.", id);
+          return new ResourceNotFoundException("Requested service not found.");
+        });
 
-    log.debug("Found {} available service requests.", availableServiceRequests.getTotalElements());
-    return requestedServiceMapper.requestedServicePageToRequestedServiceResponseDtoPage(availableServiceRequests);
+    log.debug("Found requested service summary with ID: {}", requestedService.getId());
+    return requestedService;
   }
 
-  @Transactional
+  @Cacheable(cacheNames = CacheConfig.OWNERSHIP_CACHE_NAME, key = "'requestedService:' + #id", sync = true)
+  public Optional<OwnershipDto> findOwnershipById(Long id) {
+    log.debug("Attempting to find ownership for requested service ID: {}", id);
+
+    final var ownership = requestedServiceRepository.findOwnershipById(id);
+
+    log.debug("Ownership for requested service ID {} found: {}", id, ownership.isPresent());
+    return ownership;
+  }
+
+  @CacheEvict(cacheNames = CacheConfig.OWNERSHIP_CACHE_NAME, key = "'requestedService:' + #id")
+  public void evictOwnership(Long id) {
+    log.debug("Evicting ownership for requested service ID: {}", id);
+  }
+
+  @Transactional(readOnly = true)
+  public Slice<RequestedServiceResponseDto> findAvailableServiceRequests(PaginationModeEnum paginationMode,
+      Pageable pageable, String state, String city) {
+    log.debug("Finding available service requests with pagination mode: {}, pageable: {}, state: {} and city: {}",
+        paginationMode, pageable, state, city);
+
+    final var availableServiceRequests = requestedServiceFeedService
+        .findAvailable(paginationMode, pageable, state, city)
+        .orElseGet(() -> findAvailableServiceRequestsInDatabase(paginationMode, pageable, state, city));
+
+    log.debug("Found {} available service requests.", availableServiceRequests.getNumberOfElements());
+    return requestedServiceMapper.requestedServiceProjectionSliceToRequestedServiceResponseDtoSlice(
+        availableServiceRequests, toUserResponseDtos(availableServiceRequests));
+  }
+
+  private Slice<RequestedServiceProjectionDto> findAvailableServiceRequestsInDatabase(
+      PaginationModeEnum paginationMode, Pageable pageable, String state, String city) {
+    final var sortedPageable = pageable.isPaged() && pageable.getSort().isUnsorted()
+        ? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), AVAILABLE_SERVICE_REQUESTS_SORT)
+        : pageable;
+    final var availableServiceRequests = requestedServiceRepository.findAvailableServiceRequests(state, city,
+        sortedPageable);
+
+    return paginationMode == PaginationModeEnum.SLICE
+        ? availableServiceRequests
+        : new PageImpl<>(availableServiceRequests.getContent(), sortedPageable, countCacheService.count(
+            AVAILABLE_SERVICE_REQUESTS_COUNT_KEY + ":" + state + ":" + city,
+            () -> requestedServiceRepository.countAvailableServiceRequests(state, city)));
+  }
+
+  @Transactional(readOnly = true)
+  public Slice<RequestedServiceResponseDto> search(String query, RequestedServiceStatusEnum status, String state,
+      String city, Pageable pageable) {
+    log.debug("Searching requested services with query: {}, status: {}, state: {}, city: {} and pageable: {}",
+        query, status, state, city, pageable);
+
+    final var booleanModeQuery = FullTextQuery.toBooleanMode(query);
+
+    if (booleanModeQuery.isEmpty()) {
+      log.debug("Search query has no searchable terms: {}", query);
+      return new SliceImpl<>(List.of(), pageable, false);
+    }
+
+    final var ids = requestedServiceRepository.searchIds(booleanModeQuery, status == null ? null : status.name(),
+        state, city, PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
+    final var projections = requestedServiceRepository.findProjectionsByIds(ids.getContent()).stream()
+        .collect(Collectors.toMap(RequestedServiceProjectionDto::id, Function.identity()));
+    final var searchResults = new SliceImpl<>(ids.getContent().stream()
+        .map(projections::get)
+        .filter(Objects::nonNull)
+        .toList(), pageable, ids.hasNext());
+
+    log.debug("Found {} requested services for query: {}", searchResults.getNumberOfElements(), booleanModeQuery);
+    return requestedServiceMapper.requestedServiceProjectionSliceToRequestedServiceResponseDtoSlice(searchResults,
+        toUserResponseDtos(searchResults));
+  }
+
+  @Transactional(readOnly = true)
+  public Slice<NearbyRequestedServiceResponseDto> findNearby(double latitude, double longitude, double radius,
+      Pageable pageable) {
+    log.debug("Finding requested services within {} km of latitude: {} and longitude: {} with pageable: {}", radius,
+        latitude, longitude, pageable);
+
+    final var nearby = requestedServiceGeoIndexService.findNearby(new GeoPointDto(latitude, longitude), radius,
+        pageable);
+    final var projections = nearby.isEmpty() ? Map.<Long, RequestedServiceProjectionDto>of()
+        : requestedServiceRepository.findProjectionsByIds(nearby.map(RequestedServiceDistanceDto::id).getContent())
+            .stream()
+            .collect(Collectors.toMap(RequestedServiceProjectionDto::id, Function.identity()));
+    final var users = userProjectionService.toUserResponseDtos(projections.values().stream()
+        .map(RequestedServiceProjectionDto::user)
+        .toList());
+    final var nearbyRequestedServices = new SliceImpl<>(nearby.getContent().stream()
+        .filter(match -> projections.containsKey(match.id()))
+        .map(match -> new NearbyRequestedServiceResponseDto(requestedServiceMapper
+            .requestedServiceProjectionDtoToRequestedServiceResponseDto(projections.get(match.id()), users),
+            match.distance()))
+        .toList(), pageable, nearby.hasNext());
+
+    log.debug("Found {} nearby requested services.", nearbyRequestedServices.getNumberOfElements());
+    return nearbyRequestedServices;
+  }
+
+  @Transactional(readOnly = true)
   public Page<RequestedServiceResponseDto> findByUserId(Long userId, Pageable pageable) {
     log.debug("Finding requested services by user ID: {} with pageable: {}", userId, pageable);
 
     final var userServiceRequests = requestedServiceRepository.findByUserId(userId, pageable);
 
     log.debug("Found {} requested services for user ID: {}", userServiceRequests.getTotalElements(), userId);
-    return requestedServiceMapper.requestedServicePageToRequestedServiceResponseDtoPage(userServiceRequests);
+    return requestedServiceMapper.requestedServiceProjectionPageToRequestedServiceResponseDtoPage(userServiceRequests,
+        toUserResponseDtos(userServiceRequests));
+  }
+
+  private Map<Long, UserResponseDto> toUserResponseDtos(
+      Slice<RequestedServiceProjectionDto> requestedServiceProjectionSlice) {
+    return userProjectionService.toUserResponseDtos(requestedServiceProjectionSlice.getContent().stream()
+        .map(RequestedServiceProjectionDto::user)
+        .toList());
   }
 
   @Transactional
   public RequestedServiceResponseDto register(RequestedServiceRequestDto requestedServiceRequestDto) {
     log.debug("Registering new requested service with data: {}", requestedServiceRequestDto);
 
-    final var userId = this.jwtService.getClaims()
-        .map(claims -> Long.valueOf(claims.get("sub").toString()))
-        .orElseThrow();
-
-    log.debug("Retrieved user ID from JWT: {}", userId);
-
-    final var user = userService.findById(userId);
+    final var user = authenticatedUserService.getReference();
     final var requestedServiceToBeSaved = requestedServiceMapper
         .requestedServiceRequestDtoToRequestedService(requestedServiceRequestDto);
 
     requestedServiceToBeSaved.setStatus(RequestedServiceStatusEnum.PENDING);
     requestedServiceToBeSaved.setUser(user);
+    postalCodeGeocodingService.geocode(requestedServiceToBeSaved.getAddress());
 
     final var requestedService = requestedServiceRepository.save(requestedServiceToBeSaved);
 
+    this.addParticipant(requestedService, user, ParticipantRoleEnum.REQUESTER);
+    requestedServiceFeedService.add(requestedService.getId());
+    requestedServiceGeoIndexService.add(requestedService.getId());
     log.info("Requested service registered successfully with ID: {} for user: {}", requestedService.getId(),
         user.getId());
     return requestedServiceMapper.requestedServiceToRequestedServiceResponseDto(requestedService);
   }
 
+  public void addParticipant(RequestedService requestedService, User user, ParticipantRoleEnum role) {
+    log.debug("Adding user ID: {} as {} of requested service ID: {}", user.getId(), role, requestedService.getId());
+
+    requestedServiceParticipantRepository.save(RequestedServiceParticipant.builder()
+        .id(new RequestedServiceParticipantId(requestedService.getId(), user.getId(), role))
+        .requestedService(requestedService)
+        .user(user)
+        .build());
+
+    log.debug("User ID: {} added as {} of requested service ID: {}", user.getId(), role, requestedService.getId());
+  }
+
   @Transactional
   public RequestedServiceResponseDto changeStatusTOcancelOrDone(Long id,
       RequestedServiceStatusEnum requestedServiceStatusEnum) {
@@ -108,6 +263,8 @@ public class RequestedServiceService {
 
     final var updatedRequestedService = requestedServiceRepository.save(requestedService);
 
+    requestedServiceFeedService.remove(updatedRequestedService.getId());
+    requestedServiceGeoIndexService.remove(updatedRequestedService.getId());
     log.info("Requested service ID: {} status changed successfully to: {}", updatedRequestedService.getId(),
         updatedRequestedService.getStatus());
 
@@ -1,25 +1,33 @@
 package br.com.conectabyte.profissu.services;
 
 import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.stream.Stream;
 
-import org.springframework.data.domain.Page;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import br.com.conectabyte.profissu.config.CacheConfig;
 import br.com.conectabyte.profissu.dtos.request.NotificationEmailDto;
 import br.com.conectabyte.profissu.dtos.request.ReviewRequestDto;
+import br.com.conectabyte.profissu.dtos.response.OwnershipDto;
 import br.com.conectabyte.profissu.dtos.response.ReviewResponseDto;
 import br.com.conectabyte.profissu.entities.Contact;
 import br.com.conectabyte.profissu.entities.Review;
 import br.com.conectabyte.profissu.enums.OfferStatusEnum;
+import br.com.conectabyte.profissu.enums.PaginationModeEnum;
 import br.com.conectabyte.profissu.enums.RequestedServiceStatusEnum;
 import br.com.conectabyte.profissu.exceptions.ResourceNotFoundException;
 import br.com.conectabyte.profissu.exceptions.ValidationException;
 import br.com.conectabyte.profissu.mappers.ReviewMapper;
 import br.com.conectabyte.profissu.repositories.ReviewRepository;
 import br.com.conectabyte.profissu.services.email.NotificationService;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -28,10 +36,12 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class ReviewService {
   private final ReviewRepository reviewRepository;
-  private final UserService userService;
+  private final AuthenticatedUserService authenticatedUserService;
   private final RequestedServiceService requestedServiceService;
-  private final JwtService jwtService;
   private final NotificationService notificationService;
+  private final UserProjectionService userProjectionService;
+  private final CountCacheService countCacheService;
+  private final UserRatingSummaryService userRatingSummaryService;
 
   private final ReviewMapper reviewMapper = ReviewMapper.INSTANCE;
 
@@ -48,18 +58,34 @@ public class ReviewService {
     return review;
   }
 
+  private Review findForUpdateById(Long id) {
+    log.debug("Attempting to lock review by ID: {}", id);
+
+    final var review = this.reviewRepository.findForUpdateById(id).orElseThrow(() -> {
+      log.warn("Review with ID: {} not found.", id);
+      return new ResourceNotFoundException("Review not found.");
+    });
+
+    log.debug("Locked review with ID: {}", review.getId());
+    return review;
+  }
+
+  @Cacheable(cacheNames = CacheConfig.OWNERSHIP_CACHE_NAME, key = "'review:' + #id", unless = "#result == null")
+  public Optional<OwnershipDto> findOwnershipById(Long id) {
+    log.debug("Attempting to find ownership for review ID: {}", id);
+
+    final var ownership = reviewRepository.findOwnershipById(id);
+
+    log.debug("Ownership for review ID {} found: {}", id, ownership.isPresent());
+    return ownership;
+  }
+
   @Transactional
   public ReviewResponseDto register(Long requestedServiceId, ReviewRequestDto reviewRequestDto) {
     log.debug("Registering new review for requested service ID: {} with data: {}", requestedServiceId,
         reviewRequestDto);
 
-    final var userId = this.jwtService.getClaims()
-        .map(claims -> Long.valueOf(claims.get("sub").toString()))
-        .orElseThrow();
-
-    log.debug("Retrieved user ID from JWT: {}", userId);
-
-    final var user = userService.findById(userId);
+    final var user = authenticatedUserService.getReference();
     final var requestedService = requestedServiceService.findById(requestedServiceId);
     final var review = reviewMapper.reviewRequestDtoToReview(reviewRequestDto);
 
@@ -75,6 +101,7 @@ public class ReviewService {
 
     final var savedReview = reviewRepository.save(review);
 
+    userRatingSummaryService.applyReviewDelta(requestedServiceId, user.getId(), 1, savedReview.getStars());
     log.info("Review registered successfully with ID: {} for requested service ID: {}", savedReview.getId(),
         requestedServiceId);
 
@@ -83,22 +110,40 @@ public class ReviewService {
     return reviewMapper.reviewToReviewResponseDto(savedReview);
   }
 
-  @Transactional
-  public Page<ReviewResponseDto> findByUserId(Long userId, boolean isReviewOwner, Pageable pageable) {
-    log.debug("Finding reviews by user ID: {}. Is review owner: {}. Pageable: {}", userId, isReviewOwner, pageable);
+  @Transactional(readOnly = true)
+  public Slice<ReviewResponseDto> findByUserId(Long userId, boolean isReviewOwner, PaginationModeEnum paginationMode,
+      Pageable pageable) {
+    log.debug("Finding reviews by user ID: {}. Is review owner: {}. Pagination mode: {}. Pageable: {}", userId,
+        isReviewOwner, paginationMode, pageable);
 
     final var reviews = isReviewOwner ? reviewRepository.findReviewsGivenByUserId(userId, pageable)
         : reviewRepository.findReviewsReceivedByUserId(userId, pageable);
 
-    log.debug("Found {} reviews for user ID: {} (isReviewOwner: {}).", reviews.getTotalElements(), userId,
+    log.debug("Found {} reviews for user ID: {} (isReviewOwner: {}).", reviews.getNumberOfElements(), userId,
         isReviewOwner);
-    return reviewMapper.reviewPageToReviewResponseDtoPage(reviews);
+
+    final var reviewsWithMode = paginationMode == PaginationModeEnum.SLICE ? reviews
+        : new PageImpl<>(reviews.getContent(), pageable, countReviews(userId, isReviewOwner));
+    final var users = userProjectionService.toUserResponseDtos(reviews.getContent().stream()
+        .flatMap(review -> Stream.of(review.user(), review.requestedService().user()))
+        .toList());
+
+    return reviewMapper.reviewProjectionSliceToReviewResponseDtoSlice(reviewsWithMode, users);
+  }
+
+  private long countReviews(Long userId, boolean isReviewOwner) {
+    return isReviewOwner
+        ? countCacheService.count("reviews:given:" + userId, () -> reviewRepository.countReviewsGivenByUserId(userId))
+        : countCacheService.count("reviews:received:" + userId,
+            () -> reviewRepository.countReviewsReceivedByUserId(userId));
   }
 
+  @Transactional
   public ReviewResponseDto updateById(Long id, ReviewRequestDto reviewRequestDto) {
     log.debug("Updating review with ID: {} with data: {}", id, reviewRequestDto);
 
-    final var review = this.findById(id);
+    final var review = this.findForUpdateById(id);
+    final var previousStars = review.getStars();
 
     log.debug("Found review to update: {}", review.getId());
 
@@ -109,6 +154,8 @@ public class ReviewService {
 
     final var updatedReview = reviewRepository.save(review);
 
+    userRatingSummaryService.applyReviewDelta(updatedReview.getRequestedService().getId(),
+        updatedReview.getUser().getId(), 0, updatedReview.getStars() - previousStars);
     log.info("Review with ID: {} updated successfully.", updatedReview.getId());
 
     sendNotification(updatedReview);
@@ -118,14 +165,17 @@ public class ReviewService {
 
   @Async
   @Transactional
+  @CacheEvict(cacheNames = CacheConfig.OWNERSHIP_CACHE_NAME, key = "'review:' + #id")
   public void deleteById(Long id) {
     log.debug("Attempting to delete review by ID: {}", id);
 
-    final var optionalReview = this.reviewRepository.findById(id);
+    final var optionalReview = this.reviewRepository.findForUpdateById(id);
 
     optionalReview.ifPresent(review -> {
       review.setDeletedAt(LocalDateTime.now());
       reviewRepository.save(review);
+      userRatingSummaryService.applyReviewDelta(review.getRequestedService().getId(), review.getUser().getId(), -1,
+          -review.getStars());
       log.info("Review with ID: {} soft-deleted successfully.", id);
     });
 
@@ -18,7 +18,8 @@ public class RoleService {
   public Optional<Role> findByName(String name) {
     log.debug("Attempting to find role by name: {}", name);
 
-    final var role = roleRepository.findByName(name);
+    final var role = roleRepository.findIdByName(name)
+        .map(roleRepository::getReferenceById);
 
     if (role.isPresent()) {
       log.debug("Found role with name: {}", name);
@@ -5,12 +5,12 @@ import java.time.LocalDateTime;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import br.com.conectabyte.profissu.entities.Token;
 import br.com.conectabyte.profissu.entities.User;
 import br.com.conectabyte.profissu.properties.ProfissuProperties;
 import br.com.conectabyte.profissu.repositories.TokenRepository;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -46,14 +46,13 @@ public class TokenService {
   public void deleteByUser(User user) {
     log.debug("Attempting to delete token for user ID: {}", user.getId());
 
-    final var token = user.getToken();
+    final var token = tokenRepository.findByUserId(user.getId()).orElse(null);
 
     if (token == null) {
       log.debug("No token found to delete for user ID: {}", user.getId());
       return;
     }
 
-    token.getUser().setToken(null);
     this.delete(token);
     log.info("Token for user ID: {} deleted via deleteByUser method.", user.getId());
   }
@@ -75,7 +74,7 @@ public class TokenService {
   public String validateToken(User user, String email, String code) {
     log.debug("Validating token for user email: {}", email);
 
-    final var token = user.getToken();
+    final var token = tokenRepository.findByUserId(user.getId()).orElse(null);
 
     if (token == null) {
       log.warn("Reset code not found for user with this e-mail: {}", email);
@@ -0,0 +1,28 @@
+package br.com.conectabyte.profissu.services;
+
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.stereotype.Service;
+
+import br.com.conectabyte.profissu.config.CacheConfig;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@Slf4j
+public class UserCacheService {
+  @Caching(evict = {
+      @CacheEvict(cacheNames = CacheConfig.USER_PROFILE_CACHE_NAME, key = "#id"),
+      @CacheEvict(cacheNames = CacheConfig.USER_RESPONSE_CACHE_NAME, key = "#id")
+  })
+  public void evict(Long id) {
+    log.debug("Evicting cached user and public profile for user ID: {}", id);
+  }
+
+  @Caching(evict = {
+      @CacheEvict(cacheNames = CacheConfig.USER_PROFILE_CACHE_NAME, allEntries = true),
+      @CacheEvict(cacheNames = CacheConfig.USER_RESPONSE_CACHE_NAME, allEntries = true)
+  })
+  public void evictAll() {
+    log.debug("Evicting all cached users.");
+  }
+}
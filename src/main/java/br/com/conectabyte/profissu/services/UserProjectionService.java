@@ -0,0 +1,90 @@
+package br.com.conectabyte.profissu.services;
+
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.mapping;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
+import static java.util.stream.Collectors.toSet;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+import br.com.conectabyte.profissu.config.CacheConfig;
+import br.com.conectabyte.profissu.dtos.response.AddressProjectionDto;
+import br.com.conectabyte.profissu.dtos.response.ContactProjectionDto;
+import br.com.conectabyte.profissu.dtos.response.UserProjectionDto;
+import br.com.conectabyte.profissu.dtos.response.UserResponseDto;
+import br.com.conectabyte.profissu.mappers.AddressMapper;
+import br.com.conectabyte.profissu.mappers.ContactMapper;
+import br.com.conectabyte.profissu.repositories.AddressRepository;
+import br.com.conectabyte.profissu.repositories.ContactRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UserProjectionService {
+  private final ContactRepository contactRepository;
+  private final AddressRepository addressRepository;
+  private final CacheManager cacheManager;
+
+  private final ContactMapper contactMapper = ContactMapper.INSTANCE;
+  private final AddressMapper addressMapper = AddressMapper.INSTANCE;
+
+  public Map<Long, UserResponseDto> toUserResponseDtos(Collection<UserProjectionDto> users) {
+    final var usersById = users.stream()
+        .collect(toMap(UserProjectionDto::id, Function.identity(), (first, second) -> first));
+
+    if (usersById.isEmpty()) {
+      log.debug("No users to load contacts and addresses for.");
+      return Map.of();
+    }
+
+    final var profileCache = cacheManager.getCache(CacheConfig.USER_PROFILE_CACHE_NAME);
+    final var profiles = new HashMap<Long, UserResponseDto>();
+
+    usersById.keySet().forEach(id -> {
+      final var cachedProfile = profileCache.get(id, UserResponseDto.class);
+
+      if (cachedProfile != null) {
+        profiles.put(id, cachedProfile);
+      }
+    });
+
+    final var missingIds = usersById.keySet().stream()
+        .filter(id -> !profiles.containsKey(id))
+        .collect(toSet());
+
+    if (missingIds.isEmpty()) {
+      log.debug("All {} public profiles were served from cache.", profiles.size());
+      return profiles;
+    }
+
+    log.debug("Loading contacts and addresses for user IDs: {}", missingIds);
+
+    final var contacts = contactRepository.findProjectionsByUserIds(missingIds).stream()
+        .collect(groupingBy(ContactProjectionDto::userId,
+            mapping(contactMapper::contactProjectionDtoToContactResponseDto, toList())));
+    final var addresses = addressRepository.findProjectionsByUserIds(missingIds).stream()
+        .collect(groupingBy(AddressProjectionDto::userId,
+            mapping(addressMapper::addressProjectionDtoToAddressResponseDto, toList())));
+
+    missingIds.forEach(id -> {
+      final var user = usersById.get(id);
+      final var profile = new UserResponseDto(user.id(), user.name(), user.bio(), user.gender(),
+          contacts.getOrDefault(id, List.of()), addresses.getOrDefault(id, List.of()));
+
+      profileCache.put(id, profile);
+      profiles.put(id, profile);
+    });
+
+    return profiles;
+  }
+}
@@ -0,0 +1,63 @@
+package br.com.conectabyte.profissu.services;
+
+import java.util.List;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import br.com.conectabyte.profissu.dtos.response.UserRatingSummaryResponseDto;
+import br.com.conectabyte.profissu.repositories.UserRatingSummaryRepository;
+import br.com.conectabyte.profissu.repositories.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UserRatingSummaryService {
+  private final UserRatingSummaryRepository userRatingSummaryRepository;
+  private final UserRepository userRepository;
+  private final UserCacheService userCacheService;
+
+  public UserRatingSummaryResponseDto findByUserId(Long userId) {
+    log.debug("Finding rating summary for user ID: {}", userId);
+
+    return userRatingSummaryRepository.findById(userId)
+        .map(summary -> new UserRatingSummaryResponseDto(summary.getReviewCount(),
+            averageStars(summary.getReviewCount(), summary.getStarTotal())))
+        .orElseGet(() -> new UserRatingSummaryResponseDto(0, 0));
+  }
+
+  public void applyReviewDelta(Long requestedServiceId, Long reviewerId, long reviewCountDelta,
+      long starTotalDelta) {
+    log.debug("Applying rating delta ({} reviews, {} stars) for requested service ID: {} reviewed by user ID: {}",
+        reviewCountDelta, starTotalDelta, requestedServiceId, reviewerId);
+
+    userRatingSummaryRepository.findRevieweeIds(requestedServiceId, reviewerId)
+        .forEach(revieweeId -> {
+          userRatingSummaryRepository.applyDelta(revieweeId, reviewCountDelta, starTotalDelta);
+          userCacheService.evict(revieweeId);
+          log.debug("Rating summary of user ID: {} updated.", revieweeId);
+        });
+  }
+
+  public List<Long> findUserIdsAfter(Long userId, int chunkSize) {
+    return userRepository.findIdsAfter(userId, PageRequest.of(0, chunkSize));
+  }
+
+  @Transactional
+  public void rebuild(Long firstUserId, Long lastUserId) {
+    log.debug("Rebuilding rating summaries for user IDs between {} and {}", firstUserId, lastUserId);
+
+    final var deleted = userRatingSummaryRepository.deleteByUserIdBetween(firstUserId, lastUserId);
+    final var rebuilt = userRatingSummaryRepository.rebuildByUserIdBetween(firstUserId, lastUserId);
+
+    log.debug("Replaced {} rating summaries with {} rebuilt ones for user IDs between {} and {}", deleted, rebuilt,
+        firstUserId, lastUserId);
+  }
+
+  private double averageStars(long reviewCount, long starTotal) {
+    return reviewCount <= 0 ? 0 : Math.round(starTotal * 100.0 / reviewCount) / 100.0;
+  }
+}
@@ -1,14 +1,25 @@
 package br.com.conectabyte.profissu.services;
 
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
 
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.conectabyte.profissu.config.CacheConfig;
 import br.com.conectabyte.profissu.dtos.request.EmailCodeDto;
 import br.com.conectabyte.profissu.dtos.request.EmailValueRequestDto;
 import br.com.conectabyte.profissu.dtos.request.PasswordRequestDto;
@@ -16,6 +27,7 @@ import br.com.conectabyte.profissu.dtos.request.ProfileRequestDto;
 import br.com.conectabyte.profissu.dtos.request.ResetPasswordRequestDto;
 import br.com.conectabyte.profissu.dtos.request.UserRequestDto;
 import br.com.conectabyte.profissu.dtos.response.MessageValueResponseDto;
+import br.com.conectabyte.profissu.dtos.response.SerializedResponseDto;
 import br.com.conectabyte.profissu.dtos.response.UserResponseDto;
 import br.com.conectabyte.profissu.entities.Role;
 import br.com.conectabyte.profissu.entities.User;
@@ -26,7 +38,6 @@ import br.com.conectabyte.profissu.mappers.UserMapper;
 import br.com.conectabyte.profissu.repositories.UserRepository;
 import br.com.conectabyte.profissu.services.email.PasswordRecoveryEmailService;
 import br.com.conectabyte.profissu.services.email.SignUpConfirmationService;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -40,7 +51,14 @@ public class UserService {
   private final PasswordRecoveryEmailService passwordRecoveryEmailService;
   private final SignUpConfirmationService signUpConfirmationService;
   private final TokenService tokenService;
-  private final JwtService jwtService;
+  private final AuthenticatedUserService authenticatedUserService;
+  private final UserSnapshotService userSnapshotService;
+  private final UserCacheService userCacheService;
+  private final UserRatingSummaryService userRatingSummaryService;
+  private final RequestedServiceFeedService requestedServiceFeedService;
+  private final RequestedServiceGeoIndexService requestedServiceGeoIndexService;
+  private final PostalCodeGeocodingService postalCodeGeocodingService;
+  private final ObjectMapper objectMapper;
 
   private final UserMapper userMapper = UserMapper.INSTANCE;
 
@@ -57,10 +75,42 @@ public class UserService {
     return user;
   }
 
-  @Transactional
-  public UserResponseDto findByIdAndReturnDto(Long id) {
-    log.debug("Finding user by ID and mapping to DTO: {}", id);
-    return userMapper.userToUserResponseDto(this.findById(id));
+  @Transactional(readOnly = true)
+  @Cacheable(cacheNames = CacheConfig.USER_RESPONSE_CACHE_NAME, key = "#id", sync = true)
+  public SerializedResponseDto findByIdAndReturnJson(Long id) {
+    log.debug("Finding user by ID and serializing to JSON: {}", id);
+
+    final var user = this.findById(id);
+    final var userResponseDto = userMapper.userToUserResponseDto(user,
+        userRatingSummaryService.findByUserId(user.getId()));
+    final byte[] body;
+
+    try {
+      body = objectMapper.writeValueAsBytes(userResponseDto);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Could not serialize user with ID: " + id, e);
+    }
+
+    final var checksum = new CRC32();
+
+    checksum.update(body);
+
+    final var etag = id + "-" + Long.toHexString(version(user)) + "-" + Long.toHexString(checksum.getValue());
+
+    log.debug("Serialized user with ID: {} to {} bytes. ETag: {}", id, body.length, etag);
+    return new SerializedResponseDto(etag, body);
+  }
+
+  private long version(User user) {
+    return Stream.of(
+        Stream.of(user.getCreatedAt(), user.getUpdatedAt()),
+        user.getContacts().stream().flatMap(contact -> Stream.of(contact.getCreatedAt(), contact.getUpdatedAt())),
+        user.getAddresses().stream().flatMap(address -> Stream.of(address.getCreatedAt(), address.getUpdatedAt())))
+        .flatMap(Function.identity())
+        .filter(Objects::nonNull)
+        .mapToLong(dateTime -> dateTime.toInstant(ZoneOffset.UTC).toEpochMilli())
+        .max()
+        .orElse(0L);
   }
 
   public User findByEmail(String email) {
@@ -96,7 +146,10 @@ public class UserService {
       c.setUser(userToBeSaved);
       c.setVerificationRequestedAt(LocalDateTime.now());
     });
-    userToBeSaved.getAddresses().forEach(a -> a.setUser(userToBeSaved));
+    userToBeSaved.getAddresses().forEach(a -> {
+      a.setUser(userToBeSaved);
+      postalCodeGeocodingService.geocode(a);
+    });
     userToBeSaved.setRoles(
         Set.of(roleService.findByName(RoleEnum.USER.name())
             .orElse(Role.builder().name("USER").build())));
@@ -225,6 +278,10 @@ public class UserService {
     optionalUser.ifPresent(user -> {
       user.setDeletedAt(LocalDateTime.now());
       this.save(user);
+      this.userSnapshotService.evict(id);
+      this.userCacheService.evict(id);
+      this.requestedServiceFeedService.refreshUser(id);
+      this.requestedServiceGeoIndexService.refreshUser(id);
       log.info("User with ID: {} soft-deleted successfully.", id);
     });
 
@@ -236,12 +293,7 @@ public class UserService {
   public void updatePassword(PasswordRequestDto passwordRequestDto) {
     log.debug("Updating password for current authenticated user.");
 
-    final var id = this.jwtService.getClaims()
-        .map(claims -> Long.valueOf(claims.get("sub").toString()))
-        .orElseThrow();
-
-    log.debug("Retrieved user ID from JWT: {}", id);
-
+    final var id = this.authenticatedUserService.getId();
     final var user = this.findById(id);
     final var isValidPassword = user.isValidPassword(passwordRequestDto.currentPassword(), bCryptPasswordEncoder);
 
@@ -258,15 +310,11 @@ public class UserService {
     log.info("Password for user ID: {} updated successfully.", id);
   }
 
+  @Transactional
   public UserResponseDto update(ProfileRequestDto profileRequestDto) {
     log.debug("Updating profile for current authenticated user with data: {}", profileRequestDto);
 
-    final var id = this.jwtService.getClaims()
-        .map(claims -> Long.valueOf(claims.get("sub").toString()))
-        .orElseThrow();
-
-    log.debug("Retrieved user ID from JWT: {}", id);
-
+    final var id = this.authenticatedUserService.getId();
     final var user = this.findById(id);
 
     user.setUpdatedAt(LocalDateTime.now());
@@ -276,6 +324,9 @@ public class UserService {
 
     final var savedUser = this.save(user);
 
+    this.userSnapshotService.evict(id);
+    this.userCacheService.evict(id);
+    this.requestedServiceFeedService.refreshUser(id);
     log.info("Profile for user ID: {} updated successfully.", savedUser.getId());
     return userMapper.userToUserResponseDto(savedUser);
   }
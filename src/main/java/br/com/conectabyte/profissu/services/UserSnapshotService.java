@@ -0,0 +1,43 @@
+package br.com.conectabyte.profissu.services;
+
+import java.util.Optional;
+
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+
+import br.com.conectabyte.profissu.dtos.response.UserSnapshotDto;
+import br.com.conectabyte.profissu.repositories.UserRepository;
+import br.com.conectabyte.profissu.utils.RequestMemo;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UserSnapshotService {
+  public static final String CACHE_NAME = "userSnapshots";
+
+  private final UserRepository userRepository;
+
+  public static String memoKey(Long id) {
+    return CACHE_NAME + ":" + id;
+  }
+
+  @Cacheable(cacheNames = CACHE_NAME, key = "#id", unless = "#result == null")
+  public Optional<UserSnapshotDto> findById(Long id) {
+    log.debug("Loading user snapshot for user ID: {}", id);
+
+    final var snapshot = userRepository.findSnapshotById(id)
+        .map(s -> s.withRoles(userRepository.findRoleNamesById(id)));
+
+    log.debug("User snapshot for user ID {} found: {}", id, snapshot.isPresent());
+    return snapshot;
+  }
+
+  @CacheEvict(cacheNames = CACHE_NAME, key = "#id")
+  public void evict(Long id) {
+    log.debug("Evicting user snapshot for user ID: {}", id);
+    RequestMemo.remove(memoKey(id));
+  }
+}
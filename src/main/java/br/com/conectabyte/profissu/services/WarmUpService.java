@@ -0,0 +1,218 @@
+package br.com.conectabyte.profissu.services;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+
+import br.com.conectabyte.profissu.entities.User;
+import br.com.conectabyte.profissu.enums.PaginationModeEnum;
+import br.com.conectabyte.profissu.enums.RoleEnum;
+import br.com.conectabyte.profissu.properties.ProfissuProperties;
+import br.com.conectabyte.profissu.properties.WarmUp;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@Slf4j
+public class WarmUpService {
+  private static final String DURATION_METRIC = "profissu.warmup.duration";
+  private static final String TEMPLATES_LOCATION = "classpath:/templates/*.html";
+  private static final int FEED_PAGE_SIZE = 20;
+  private static final long FEED_POLL_INTERVAL = 500;
+
+  private final RoleService roleService;
+  private final RequestedServiceService requestedServiceService;
+  private final RequestedServiceFeedService requestedServiceFeedService;
+  private final JwtService jwtService;
+  private final TemplateEngine templateEngine;
+  private final ResourcePatternResolver resourcePatternResolver;
+  private final Environment environment;
+  private final Executor warmUpExecutor;
+  private final MeterRegistry meterRegistry;
+  private final WarmUp warmUp;
+  private volatile boolean completed;
+
+  public WarmUpService(RoleService roleService, RequestedServiceService requestedServiceService,
+      RequestedServiceFeedService requestedServiceFeedService, JwtService jwtService, TemplateEngine templateEngine,
+      ResourcePatternResolver resourcePatternResolver, Environment environment, Executor warmUpExecutor,
+      MeterRegistry meterRegistry, ProfissuProperties profissuProperties) {
+    this.roleService = roleService;
+    this.requestedServiceService = requestedServiceService;
+    this.requestedServiceFeedService = requestedServiceFeedService;
+    this.jwtService = jwtService;
+    this.templateEngine = templateEngine;
+    this.resourcePatternResolver = resourcePatternResolver;
+    this.environment = environment;
+    this.warmUpExecutor = warmUpExecutor;
+    this.meterRegistry = meterRegistry;
+    this.warmUp = profissuProperties.getProfissu().getWarmUp();
+    this.completed = !Boolean.TRUE.equals(warmUp.getEnabled());
+  }
+
+  public boolean isCompleted() {
+    return completed;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void onApplicationReady() {
+    warmUp();
+  }
+
+  public CompletableFuture<Void> warmUp() {
+    if (completed) {
+      log.debug("Warm-up is disabled. Skipping it.");
+      return CompletableFuture.completedFuture(null);
+    }
+
+    final var startedAt = System.nanoTime();
+
+    log.info("Warming up before accepting traffic. Timeout: {} seconds.", warmUp.getTimeout());
+    return CompletableFuture.runAsync(this::runSteps, warmUpExecutor)
+        .orTimeout(warmUp.getTimeout(), TimeUnit.SECONDS)
+        .handle((ignored, e) -> {
+          finish(startedAt, e);
+          return null;
+        });
+  }
+
+  private void runSteps() {
+    preloadRoles();
+    preloadFeed();
+    preloadTemplates();
+    replayRequests();
+  }
+
+  private void finish(long startedAt, Throwable e) {
+    final var outcome = e == null ? "completed" : e instanceof TimeoutException ? "timeout" : "failed";
+    final var duration = System.nanoTime() - startedAt;
+
+    completed = true;
+    Timer.builder(DURATION_METRIC)
+        .description("Time spent warming up before accepting traffic")
+        .tag("outcome", outcome)
+        .register(meterRegistry)
+        .record(duration, TimeUnit.NANOSECONDS);
+
+    if (e == null) {
+      log.info("Warm-up completed in {} ms.", TimeUnit.NANOSECONDS.toMillis(duration));
+    } else {
+      log.warn("Warm-up ended with outcome: {} after {} ms. Accepting traffic anyway.", outcome,
+          TimeUnit.NANOSECONDS.toMillis(duration), e);
+    }
+  }
+
+  private void preloadRoles() {
+    for (final var role : RoleEnum.values()) {
+      if (completed) {
+        return;
+      }
+
+      try {
+        roleService.findByName(role.name());
+      } catch (RuntimeException e) {
+        log.warn("Failed to preload role: {}", role, e);
+      }
+    }
+
+    log.debug("Preloaded {} roles.", RoleEnum.values().length);
+  }
+
+  private void preloadFeed() {
+    if (!awaitFeed()) {
+      log.warn("Requested service feed is not ready. Preloading available service requests from the database.");
+    }
+
+    for (int page = 0; page < warmUp.getFeedPages() && !completed; page++) {
+      try {
+        requestedServiceService.findAvailableServiceRequests(PaginationModeEnum.PAGE,
+            PageRequest.of(page, FEED_PAGE_SIZE), null, null);
+      } catch (RuntimeException e) {
+        log.warn("Failed to preload page {} of available service requests.", page, e);
+      }
+    }
+
+    log.debug("Preloaded {} pages of available service requests.", warmUp.getFeedPages());
+  }
+
+  private boolean awaitFeed() {
+    final var feedWait = warmUp.getFeedWait() == null ? 0 : warmUp.getFeedWait();
+    final var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(feedWait);
+
+    while (!requestedServiceFeedService.isReady()) {
+      if (completed || System.nanoTime() >= deadline) {
+        return false;
+      }
+
+      try {
+        Thread.sleep(FEED_POLL_INTERVAL);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  private void preloadTemplates() {
+    try {
+      for (final var template : resourcePatternResolver.getResources(TEMPLATES_LOCATION)) {
+        final var templateName = StringUtils.stripFilenameExtension(template.getFilename());
+
+        try {
+          templateEngine.process(templateName, new Context());
+          log.debug("Preloaded template: {}", templateName);
+        } catch (RuntimeException e) {
+          log.warn("Failed to preload template: {}", templateName, e);
+        }
+      }
+    } catch (IOException e) {
+      log.warn("Failed to list templates at: {}", TEMPLATES_LOCATION, e);
+    }
+  }
+
+  private void replayRequests() {
+    if (warmUp.getRequests().isEmpty()) {
+      return;
+    }
+
+    final var syntheticUser = new User();
+
+    syntheticUser.setId(0L);
+    syntheticUser.setRoles(Set.of());
+
+    final var token = jwtService.createJwtToken(syntheticUser, warmUp.getTimeout()).accessToken();
+    final var restClient = RestClient.builder()
+        .baseUrl("http://localhost:" + environment.getProperty("local.server.port"))
+        .defaultHeaders(headers -> headers.setBearerAuth(token))
+        .build();
+
+    for (int iteration = 0; iteration < warmUp.getIterations() && !completed; iteration++) {
+      for (final var request : warmUp.getRequests()) {
+        try {
+          restClient.get().uri(request).retrieve().toBodilessEntity();
+        } catch (RestClientException e) {
+          log.debug("Synthetic warm-up request failed: {}", request, e);
+        }
+      }
+    }
+
+    log.debug("Replayed {} synthetic requests {} times.", warmUp.getRequests().size(), warmUp.getIterations());
+  }
+}
@@ -2,7 +2,10 @@ package br.com.conectabyte.profissu.services.security;
 
 import org.springframework.stereotype.Service;
 
+import br.com.conectabyte.profissu.dtos.response.OwnershipDto;
+import br.com.conectabyte.profissu.exceptions.ResourceNotFoundException;
 import br.com.conectabyte.profissu.services.AddressService;
+import br.com.conectabyte.profissu.utils.RequestMemo;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -18,8 +21,8 @@ public class SecurityAddressService implements OwnerCheck {
     log.debug("Performing ownership check for address ID: {}", id);
 
     try {
-      final var address = addressService.findById(id);
-      final var isOwner = securityService.isOwner(address.getUser().getId());
+      final var ownership = findOwnership(id);
+      final var isOwner = securityService.isOwner(ownership.ownerId());
 
       log.debug("Ownership check result for address ID {}: {}", id, isOwner);
       return isOwner;
@@ -28,4 +31,15 @@ public class SecurityAddressService implements OwnerCheck {
       return false;
     }
   }
+
+  private OwnershipDto findOwnership(Long id) {
+    final var ownership = RequestMemo.computeIfAbsent("ownership:address:" + id,
+        () -> addressService.findOwnershipById(id).orElse(null));
+
+    if (ownership == null) {
+      throw new ResourceNotFoundException("Address not found.");
+    }
+
+    return ownership;
+  }
 }
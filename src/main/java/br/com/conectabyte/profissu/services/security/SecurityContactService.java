@@ -2,7 +2,10 @@ package br.com.conectabyte.profissu.services.security;
 
 import org.springframework.stereotype.Service;
 
+import br.com.conectabyte.profissu.dtos.response.OwnershipDto;
+import br.com.conectabyte.profissu.exceptions.ResourceNotFoundException;
 import br.com.conectabyte.profissu.services.ContactService;
+import br.com.conectabyte.profissu.utils.RequestMemo;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -18,8 +21,8 @@ public class SecurityContactService implements OwnerCheck {
     log.debug("Performing ownership check for contact ID: {}", id);
 
     try {
-      final var contact = contactService.findById(id);
-      final var isOwner = securityService.isOwner(contact.getUser().getId());
+      final var ownership = findOwnership(id);
+      final var isOwner = securityService.isOwner(ownership.ownerId());
 
       log.debug("Ownership check result for contact ID {}: {}", id, isOwner);
       return isOwner;
@@ -28,4 +31,15 @@ public class SecurityContactService implements OwnerCheck {
       return false;
     }
   }
+
+  private OwnershipDto findOwnership(Long id) {
+    final var ownership = RequestMemo.computeIfAbsent("ownership:contact:" + id,
+        () -> contactService.findOwnershipById(id).orElse(null));
+
+    if (ownership == null) {
+      throw new ResourceNotFoundException("Contact not found.");
+    }
+
+    return ownership;
+  }
 }
@@ -2,7 +2,10 @@ package br.com.conectabyte.profissu.services.security;
 
 import org.springframework.stereotype.Service;
 
+import br.com.conectabyte.profissu.dtos.response.OwnershipDto;
+import br.com.conectabyte.profissu.exceptions.ResourceNotFoundException;
 import br.com.conectabyte.profissu.services.ConversationService;
+import br.com.conectabyte.profissu.utils.RequestMemo;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -18,8 +21,8 @@ public class SecurityConversationService implements OwnerCheck {
     log.debug("Performing ownership check for conversation ID: {}", id);
 
     try {
-      final var conversation = conversationService.findById(id);
-      final var isOwner = securityService.isOwner(conversation.getServiceProvider().getId());
+      final var ownership = findOwnership(id);
+      final var isOwner = securityService.isOwner(ownership.serviceProviderId());
 
       log.debug("Ownership check result for conversation ID {} (service provider): {}", id, isOwner);
       return isOwner;
@@ -33,8 +36,8 @@ public class SecurityConversationService implements OwnerCheck {
     log.debug("Performing requested service ownership check for conversation ID: {}", id);
 
     try {
-      final var conversation = conversationService.findById(id);
-      final var isOwner = securityService.isOwner(conversation.getRequester().getId());
+      final var ownership = findOwnership(id);
+      final var isOwner = securityService.isOwner(ownership.requesterId());
 
       log.debug("Requested service ownership check result for conversation ID {} (requester): {}", id, isOwner);
       return isOwner;
@@ -44,4 +47,15 @@ public class SecurityConversationService implements OwnerCheck {
       return false;
     }
   }
+
+  private OwnershipDto findOwnership(Long id) {
+    final var ownership = RequestMemo.computeIfAbsent("ownership:conversation:" + id,
+        () -> conversationService.findOwnershipById(id).orElse(null));
+
+    if (ownership == null) {
+      throw new ResourceNotFoundException("Conversation not found.");
+    }
+
+    return ownership;
+  }
 }
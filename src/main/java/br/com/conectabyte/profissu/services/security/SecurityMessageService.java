@@ -2,7 +2,10 @@ package br.com.conectabyte.profissu.services.security;
 
 import org.springframework.stereotype.Service;
 
+import br.com.conectabyte.profissu.dtos.response.OwnershipDto;
+import br.com.conectabyte.profissu.exceptions.ResourceNotFoundException;
 import br.com.conectabyte.profissu.services.MessageService;
+import br.com.conectabyte.profissu.utils.RequestMemo;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -18,8 +21,8 @@ public class SecurityMessageService implements OwnerCheck {
     log.debug("Performing ownership check for message ID: {}", id);
 
     try {
-      final var message = messageService.findById(id);
-      final var isOwner = securityService.isOwner(message.getUser().getId());
+      final var ownership = findOwnership(id);
+      final var isOwner = securityService.isOwner(ownership.ownerId());
 
       log.debug("Ownership check result for message ID {}: {}", id, isOwner);
       return isOwner;
@@ -33,12 +36,12 @@ public class SecurityMessageService implements OwnerCheck {
     log.debug("Performing message receiver check for message ID: {}", id);
 
     try {
-      final var message = messageService.findById(id);
+      final var ownership = findOwnership(id);
 
-      var messageReceiverId = message.getConversation().getRequester().getId();
+      var messageReceiverId = ownership.requesterId();
 
-      if (messageReceiverId == message.getUser().getId()) {
-        messageReceiverId = message.getConversation().getServiceProvider().getId();
+      if (messageReceiverId.equals(ownership.ownerId())) {
+        messageReceiverId = ownership.serviceProviderId();
       }
 
       final var isReceiver = !securityService.isOwner(messageReceiverId);
@@ -50,4 +53,15 @@ public class SecurityMessageService implements OwnerCheck {
       return false;
     }
   }
+
+  private OwnershipDto findOwnership(Long id) {
+    final var ownership = RequestMemo.computeIfAbsent("ownership:message:" + id,
+        () -> messageService.findOwnershipById(id).orElse(null));
+
+    if (ownership == null) {
+      throw new ResourceNotFoundException("Message not found.");
+    }
+
+    return ownership;
+  }
 }
@@ -1,10 +1,13 @@
 package br.com.conectabyte.profissu.services.security;
 
+import java.util.Optional;
+
 import org.springframework.stereotype.Service;
 
-import br.com.conectabyte.profissu.enums.OfferStatusEnum;
+import br.com.conectabyte.profissu.dtos.response.OwnershipDto;
+import br.com.conectabyte.profissu.exceptions.ResourceNotFoundException;
 import br.com.conectabyte.profissu.services.RequestedServiceService;
-import jakarta.transaction.Transactional;
+import br.com.conectabyte.profissu.utils.RequestMemo;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -20,8 +23,8 @@ public class SecurityRequestedServiceService implements OwnerCheck {
     log.debug("Performing ownership check for requested service ID: {}", id);
 
     try {
-      final var requestedService = requestedServiceService.findById(id);
-      final var isOwner = securityService.isOwner(requestedService.getUser().getId());
+      final var ownership = findOwnership(id);
+      final var isOwner = securityService.isOwner(ownership.ownerId());
 
       log.debug("Ownership check result for requested service ID {}: {}", id, isOwner);
       return isOwner;
@@ -31,18 +34,13 @@ public class SecurityRequestedServiceService implements OwnerCheck {
     }
   }
 
-  @Transactional
   public boolean isServiceProvider(Long id) {
     log.debug("Performing service provider check for requested service ID: {}", id);
 
     try {
-      final var requestedService = requestedServiceService.findById(id);
-      final var conversation = requestedService.getConversations().stream()
-          .filter(c -> c.getOfferStatus() == OfferStatusEnum.ACCEPTED)
-          .findFirst()
-          .orElseThrow();
-
-      final var isServiceProvider = securityService.isOwner(conversation.getServiceProvider().getId());
+      final var ownership = findOwnership(id);
+      final var serviceProviderId = Optional.ofNullable(ownership.serviceProviderId()).orElseThrow();
+      final var isServiceProvider = securityService.isOwner(serviceProviderId);
 
       log.debug("Service provider check result for requested service ID {}: {}", id, isServiceProvider);
       return isServiceProvider;
@@ -51,4 +49,15 @@ public class SecurityRequestedServiceService implements OwnerCheck {
       return false;
     }
   }
+
+  private OwnershipDto findOwnership(Long id) {
+    final var ownership = RequestMemo.computeIfAbsent("ownership:requestedService:" + id,
+        () -> requestedServiceService.findOwnershipById(id).orElse(null));
+
+    if (ownership == null) {
+      throw new ResourceNotFoundException("Requested service not found.");
+    }
+
+    return ownership;
+  }
 }
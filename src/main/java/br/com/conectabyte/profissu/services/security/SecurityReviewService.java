@@ -2,7 +2,10 @@ package br.com.conectabyte.profissu.services.security;
 
 import org.springframework.stereotype.Service;
 
+import br.com.conectabyte.profissu.dtos.response.OwnershipDto;
+import br.com.conectabyte.profissu.exceptions.ResourceNotFoundException;
 import br.com.conectabyte.profissu.services.ReviewService;
+import br.com.conectabyte.profissu.utils.RequestMemo;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -18,8 +21,8 @@ public class SecurityReviewService implements OwnerCheck {
     log.debug("Performing ownership check for review ID: {}", id);
 
     try {
-      final var address = reviewService.findById(id);
-      final var isOwner = securityService.isOwner(address.getUser().getId());
+      final var ownership = findOwnership(id);
+      final var isOwner = securityService.isOwner(ownership.ownerId());
 
       log.debug("Ownership check result for review ID {}: {}", id, isOwner);
       return isOwner;
@@ -28,4 +31,15 @@ public class SecurityReviewService implements OwnerCheck {
       return false;
     }
   }
+
+  private OwnershipDto findOwnership(Long id) {
+    final var ownership = RequestMemo.computeIfAbsent("ownership:review:" + id,
+        () -> reviewService.findOwnershipById(id).orElse(null));
+
+    if (ownership == null) {
+      throw new ResourceNotFoundException("Review not found.");
+    }
+
+    return ownership;
+  }
 }
@@ -0,0 +1,47 @@
+package br.com.conectabyte.profissu.utils;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+public final class FullTextQuery {
+  private static final Locale PORTUGUESE = Locale.forLanguageTag("pt-BR");
+  private static final int MIN_TERM_LENGTH = 3;
+  private static final int MAX_TERMS = 10;
+  private static final Pattern PLURAL_SUFFIX = Pattern
+      .compile("(?:[õoãa]es|ãos|(?<=[aeéoó])is|ns|(?<=[rsz])es|s)$");
+  private static final Set<String> STOPWORDS = Set.of("aos", "as", "com", "como", "da", "das", "de", "do", "dos",
+      "e", "em", "na", "nas", "no", "nos", "num", "numa", "os", "ou", "para", "pela", "pelas", "pelo", "pelos",
+      "por", "que", "sem", "sob", "sobre", "uma", "umas", "uns");
+
+  private FullTextQuery() {
+  }
+
+  public static String toBooleanMode(String query) {
+    if (query == null) {
+      return "";
+    }
+
+    final var terms = new LinkedHashSet<String>();
+
+    Arrays.stream(query.toLowerCase(PORTUGUESE).split("[^\\p{L}\\p{Nd}]+"))
+        .filter(token -> token.length() >= MIN_TERM_LENGTH)
+        .filter(token -> !STOPWORDS.contains(token))
+        .map(FullTextQuery::stem)
+        .limit(MAX_TERMS)
+        .forEach(terms::add);
+
+    return terms.stream()
+        .map(term -> term + "*")
+        .collect(Collectors.joining(" "));
+  }
+
+  private static String stem(String token) {
+    final var matcher = PLURAL_SUFFIX.matcher(token);
+
+    return matcher.find() && matcher.start() >= MIN_TERM_LENGTH ? token.substring(0, matcher.start()) : token;
+  }
+}
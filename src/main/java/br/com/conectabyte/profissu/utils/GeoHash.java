@@ -0,0 +1,86 @@
+package br.com.conectabyte.profissu.utils;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import br.com.conectabyte.profissu.dtos.response.GeoPointDto;
+
+public final class GeoHash {
+  private static final String BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz";
+  private static final double EARTH_RADIUS = 6371.0088;
+  private static final double KILOMETERS_PER_DEGREE = Math.PI * EARTH_RADIUS / 180;
+
+  private GeoHash() {
+  }
+
+  public static String encode(GeoPointDto point, int precision) {
+    final var geohash = new StringBuilder(precision);
+    var minLatitude = -90.0;
+    var maxLatitude = 90.0;
+    var minLongitude = -180.0;
+    var maxLongitude = 180.0;
+    var evenBit = true;
+    var bits = 0;
+    var index = 0;
+
+    while (geohash.length() < precision) {
+      if (evenBit) {
+        final var middle = (minLongitude + maxLongitude) / 2;
+
+        index = index * 2 + (point.longitude() >= middle ? 1 : 0);
+        minLongitude = point.longitude() >= middle ? middle : minLongitude;
+        maxLongitude = point.longitude() >= middle ? maxLongitude : middle;
+      } else {
+        final var middle = (minLatitude + maxLatitude) / 2;
+
+        index = index * 2 + (point.latitude() >= middle ? 1 : 0);
+        minLatitude = point.latitude() >= middle ? middle : minLatitude;
+        maxLatitude = point.latitude() >= middle ? maxLatitude : middle;
+      }
+
+      evenBit = !evenBit;
+
+      if (++bits == 5) {
+        geohash.append(BASE32.charAt(index));
+        bits = 0;
+        index = 0;
+      }
+    }
+
+    return geohash.toString();
+  }
+
+  public static Set<String> covering(GeoPointDto center, double radius, int precision) {
+    final var latitudeBits = precision * 5 / 2;
+    final var longitudeBits = precision * 5 - latitudeBits;
+    final var cellHeight = 180 / Math.pow(2, latitudeBits);
+    final var cellWidth = 360 / Math.pow(2, longitudeBits);
+    final var latitudeDelta = radius / KILOMETERS_PER_DEGREE;
+    final var longitudeDelta = radius
+        / (KILOMETERS_PER_DEGREE * Math.max(Math.cos(Math.toRadians(center.latitude())), 0.01));
+    final var minLatitude = Math.max(center.latitude() - latitudeDelta, -90);
+    final var maxLatitude = Math.min(center.latitude() + latitudeDelta, 90);
+    final var minLongitude = Math.max(center.longitude() - longitudeDelta, -180);
+    final var maxLongitude = Math.min(center.longitude() + longitudeDelta, 180);
+    final var cells = new LinkedHashSet<String>();
+
+    for (var latitude = minLatitude; latitude < maxLatitude + cellHeight; latitude += cellHeight) {
+      for (var longitude = minLongitude; longitude < maxLongitude + cellWidth; longitude += cellWidth) {
+        cells.add(encode(new GeoPointDto(Math.min(latitude, maxLatitude), Math.min(longitude, maxLongitude)),
+            precision));
+      }
+    }
+
+    return cells;
+  }
+
+  public static double distance(GeoPointDto from, GeoPointDto to) {
+    final var latitudeDelta = Math.toRadians(to.latitude() - from.latitude());
+    final var longitudeDelta = Math.toRadians(to.longitude() - from.longitude());
+    final var haversine = Math.pow(Math.sin(latitudeDelta / 2), 2)
+        + Math.cos(Math.toRadians(from.latitude())) * Math.cos(Math.toRadians(to.latitude()))
+            * Math.pow(Math.sin(longitudeDelta / 2), 2);
+
+    return 2 * EARTH_RADIUS * Math.asin(Math.sqrt(haversine));
+  }
+}
@@ -0,0 +1,45 @@
+package br.com.conectabyte.profissu.utils;
+
+import java.util.function.Supplier;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+public final class RequestMemo {
+  private static final String ATTRIBUTE_PREFIX = RequestMemo.class.getName() + ".";
+
+  private RequestMemo() {
+  }
+
+  @SuppressWarnings("unchecked")
+  public static <T> T computeIfAbsent(String key, Supplier<T> supplier) {
+    final var requestAttributes = RequestContextHolder.getRequestAttributes();
+
+    if (requestAttributes == null) {
+      return supplier.get();
+    }
+
+    final var attributeName = ATTRIBUTE_PREFIX + key;
+    final var memoizedValue = (T) requestAttributes.getAttribute(attributeName, RequestAttributes.SCOPE_REQUEST);
+
+    if (memoizedValue != null) {
+      return memoizedValue;
+    }
+
+    final var value = supplier.get();
+
+    if (value != null) {
+      requestAttributes.setAttribute(attributeName, value, RequestAttributes.SCOPE_REQUEST);
+    }
+
+    return value;
+  }
+
+  public static void remove(String key) {
+    final var requestAttributes = RequestContextHolder.getRequestAttributes();
+
+    if (requestAttributes != null) {
+      requestAttributes.removeAttribute(ATTRIBUTE_PREFIX + key, RequestAttributes.SCOPE_REQUEST);
+    }
+  }
+}
@@ -0,0 +1,107 @@
+package br.com.conectabyte.profissu.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import br.com.conectabyte.profissu.config.serializers.SmileRedisSerializer;
+import br.com.conectabyte.profissu.dtos.response.CacheStatsResponseDto;
+
+@DisplayName("CacheAdminEndpoint Tests")
+class CacheAdminEndpointTest {
+  private RedisTemplate<Object, Object> redisTemplate;
+  private TwoLevelCacheManager cacheManager;
+  private CacheAdminEndpoint cacheAdminEndpoint;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    redisTemplate = (RedisTemplate<Object, Object>) mock(RedisTemplate.class);
+    cacheManager = new TwoLevelCacheManager(new ConcurrentMapCacheManager("users", "roles"), redisTemplate,
+        "invalidations", new TwoLevelCache.Policy(Duration.ofSeconds(30), Duration.ZERO, 0, 100), Runnable::run,
+        Ticker.systemTicker());
+    cacheManager.afterPropertiesSet();
+    cacheAdminEndpoint = new CacheAdminEndpoint(cacheManager, new SmileRedisSerializer(CacheConfig.CACHED_VALUE_TYPES,
+        1024));
+  }
+
+  private TwoLevelCache users() {
+    return cacheManager.getTwoLevelCache("users").orElseThrow();
+  }
+
+  @Test
+  @DisplayName("Should list caches with local statistics, estimated memory and hottest keys")
+  void shouldListCachesWithStatistics() {
+    users().put(1L, 10L);
+    users().get(1L);
+    users().get(2L);
+
+    final var caches = cacheAdminEndpoint.caches();
+    final var users = caches.get(1);
+
+    assertEquals(List.of("roles", "users"), caches.stream().map(CacheStatsResponseDto::name).toList());
+    assertEquals(1, users.size());
+    assertEquals(1, users.hitCount());
+    assertEquals(1, users.missCount());
+    assertEquals(0.5, users.hitRate());
+    assertTrue(users.estimatedMemoryBytes() > 0);
+    assertEquals(List.of("1"), users.hottestKeys());
+    assertNull(users.remote());
+    assertEquals(0, caches.get(0).estimatedMemoryBytes());
+  }
+
+  @Test
+  @DisplayName("Should return no statistics for unknown caches")
+  void shouldReturnNullForUnknownCache() {
+    assertNull(cacheAdminEndpoint.cache("unknown"));
+    assertEquals("users", cacheAdminEndpoint.cache("users").name());
+  }
+
+  @Test
+  @DisplayName("Should evict keys matching a pattern and broadcast it to other instances")
+  void shouldEvictMatchingKeys() {
+    users().put(1L, 10L);
+    users().put(2L, 20L);
+
+    final var response = cacheAdminEndpoint.evict("users", "1");
+
+    assertEquals(WebEndpointResponse.STATUS_NO_CONTENT, response.getStatus());
+    assertNull(users().get(1L));
+    verify(redisTemplate).convertAndSend(eq("invalidations"), argThat(invalidation ->
+        invalidation instanceof TwoLevelCacheManager.CacheInvalidation cacheInvalidation
+            && new TwoLevelCache.KeyPattern("1").equals(cacheInvalidation.key())));
+  }
+
+  @Test
+  @DisplayName("Should clear the whole cache when no pattern is given")
+  void shouldClearCacheWithoutPattern() {
+    users().put(1L, 10L);
+
+    final var response = cacheAdminEndpoint.evict("users", null);
+
+    assertEquals(WebEndpointResponse.STATUS_NO_CONTENT, response.getStatus());
+    assertEquals(0, cacheAdminEndpoint.cache("users").size());
+  }
+
+  @Test
+  @DisplayName("Should return not found when evicting an unknown cache")
+  void shouldReturnNotFoundForUnknownCacheEviction() {
+    assertEquals(WebEndpointResponse.STATUS_NOT_FOUND, cacheAdminEndpoint.evict("unknown", "*").getStatus());
+  }
+}
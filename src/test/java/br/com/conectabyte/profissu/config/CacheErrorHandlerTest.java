@@ -0,0 +1,130 @@
+package br.com.conectabyte.profissu.config;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import br.com.conectabyte.profissu.properties.ProfissuProperties;
+
+@DisplayName("CacheErrorHandler Tests")
+class CacheErrorHandlerTest {
+  private AnnotationConfigApplicationContext context;
+  private CachedLookup cachedLookup;
+
+  @BeforeEach
+  void setUp() {
+    context = new AnnotationConfigApplicationContext(FailingRemoteCacheConfig.class, CacheConfig.class);
+    cachedLookup = context.getBean(CachedLookup.class);
+  }
+
+  @AfterEach
+  void tearDown() {
+    context.close();
+  }
+
+  @Test
+  @DisplayName("Should fall through to the method when the remote cache fails on get and put")
+  void shouldFallThroughWhenRemoteCacheFails() {
+    assertEquals(1L, cachedLookup.find(1L));
+    assertEquals(1L, cachedLookup.find(1L));
+    assertEquals(2, cachedLookup.calls());
+  }
+
+  @Test
+  @DisplayName("Should fall through to the method when the remote cache fails on synchronized get")
+  void shouldFallThroughWhenRemoteCacheFailsOnSynchronizedGet() {
+    assertEquals(1L, cachedLookup.findSynchronized(1L));
+    assertEquals(1, cachedLookup.calls());
+  }
+
+  @Test
+  @DisplayName("Should not fail evictions when the remote cache fails")
+  void shouldNotFailEvictionsWhenRemoteCacheFails() {
+    assertDoesNotThrow(() -> cachedLookup.evict(1L));
+    assertEquals(1, cachedLookup.calls());
+  }
+
+  static class CachedLookup {
+    private final AtomicInteger calls = new AtomicInteger();
+
+    public int calls() {
+      return calls.get();
+    }
+
+    @Cacheable(cacheNames = CacheConfig.OWNERSHIP_CACHE_NAME, key = "#id")
+    public Long find(Long id) {
+      calls.incrementAndGet();
+      return id;
+    }
+
+    @Cacheable(cacheNames = CacheConfig.OWNERSHIP_CACHE_NAME, key = "'sync:' + #id", sync = true)
+    public Long findSynchronized(Long id) {
+      calls.incrementAndGet();
+      return id;
+    }
+
+    @CacheEvict(cacheNames = CacheConfig.OWNERSHIP_CACHE_NAME, key = "#id")
+    public void evict(Long id) {
+      calls.incrementAndGet();
+    }
+  }
+
+  @Configuration
+  static class FailingRemoteCacheConfig {
+    @Bean
+    ProfissuProperties profissuProperties() {
+      final var profissuProperties = new ProfissuProperties();
+
+      profissuProperties.getProfissu().getCache().setCompressionThreshold(1024);
+      return profissuProperties;
+    }
+
+    @Bean
+    @SuppressWarnings("unchecked")
+    CacheManager cacheManager() {
+      final var remoteCacheManager = mock(CacheManager.class);
+      final var remoteCache = mock(Cache.class);
+      final var failure = new RedisConnectionFailureException("Redis is down");
+
+      when(remoteCacheManager.getCacheNames()).thenReturn(List.of());
+      when(remoteCacheManager.getCache(any())).thenReturn(remoteCache);
+      when(remoteCache.get(any())).thenThrow(failure);
+      when(remoteCache.get(any(), any(Callable.class))).thenThrow(failure);
+      doThrow(failure).when(remoteCache).put(any(), any());
+      doThrow(failure).when(remoteCache).evict(any());
+
+      return new TwoLevelCacheManager(remoteCacheManager, mock(RedisTemplate.class), CacheConfig.INVALIDATION_TOPIC,
+          new TwoLevelCache.Policy(Duration.ofSeconds(30), Duration.ZERO, 0, 100), Runnable::run,
+          Ticker.systemTicker());
+    }
+
+    @Bean
+    CachedLookup cachedLookup() {
+      return new CachedLookup();
+    }
+  }
+}
@@ -0,0 +1,126 @@
+package br.com.conectabyte.profissu.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+@EnabledIfEnvironmentVariable(named = "MYSQL_HOST_REPLICA_TEST", matches = ".+")
+public class ReplicaRoutingDataSourceTest {
+  private static final String REPLICA = "replica-0";
+
+  private final String primaryPort = System.getenv("MYSQL_PORT_TEST");
+  private final String replicaPort = System.getenv("MYSQL_PORT_REPLICA_TEST");
+
+  private HikariDataSource primary;
+  private HikariDataSource replica;
+  private ReplicaRoutingDataSource replicaRoutingDataSource;
+
+  @BeforeEach
+  void setUp() {
+    primary = createPool(System.getenv("MYSQL_HOST_TEST"), primaryPort, System.getenv("MYSQL_USER_TEST"),
+        System.getenv("MYSQL_PASSWORD_TEST"));
+    replica = createPool(System.getenv("MYSQL_HOST_REPLICA_TEST"), replicaPort,
+        System.getenv().getOrDefault("MYSQL_USER_REPLICA_TEST", System.getenv("MYSQL_USER_TEST")),
+        System.getenv().getOrDefault("MYSQL_PASSWORD_REPLICA_TEST", System.getenv("MYSQL_PASSWORD_TEST")));
+    replicaRoutingDataSource = new ReplicaRoutingDataSource(primary, Map.of(REPLICA, replica), 5);
+  }
+
+  @AfterEach
+  void tearDown() {
+    primary.close();
+    replica.close();
+  }
+
+  private HikariDataSource createPool(String host, String port, String username, String password) {
+    final var pool = new HikariDataSource();
+
+    pool.setJdbcUrl("jdbc:mysql://" + host + ":" + port + "/" + System.getenv("MYSQL_DATABASE_TEST"));
+    pool.setUsername(username);
+    pool.setPassword(password);
+    pool.setInitializationFailTimeout(-1);
+
+    return pool;
+  }
+
+  private String connectedUrl(DataSource routingDataSource, boolean readOnly) {
+    final var dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+    final var transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    final var jdbcTemplate = new JdbcTemplate(dataSource);
+
+    transactionTemplate.setReadOnly(readOnly);
+
+    return transactionTemplate.execute(status -> jdbcTemplate.execute(
+        (ConnectionCallback<String>) connection -> connection.getMetaData().getURL()));
+  }
+
+  @Test
+  void shouldRouteReadOnlyTransactionsToReplica() {
+    assertTrue(connectedUrl(replicaRoutingDataSource, true).contains(":" + replicaPort + "/"));
+  }
+
+  @Test
+  void shouldRouteReadWriteTransactionsToPrimary() {
+    assertTrue(connectedUrl(replicaRoutingDataSource, false).contains(":" + primaryPort + "/"));
+  }
+
+  @Test
+  void shouldRouteConnectionsOutsideTransactionsToPrimary() {
+    final var url = new JdbcTemplate(new LazyConnectionDataSourceProxy(replicaRoutingDataSource))
+        .execute((ConnectionCallback<String>) connection -> connection.getMetaData().getURL());
+
+    assertTrue(url.contains(":" + primaryPort + "/"));
+  }
+
+  @Test
+  void shouldFallBackToPrimaryWhenReplicaLagExceedsLimit() {
+    replicaRoutingDataSource.updateReplicaLag(REPLICA, 60L);
+
+    assertFalse(replicaRoutingDataSource.isAvailable(REPLICA));
+    assertTrue(connectedUrl(replicaRoutingDataSource, true).contains(":" + primaryPort + "/"));
+  }
+
+  @Test
+  void shouldReturnReplicaToRotationWhenLagRecovers() {
+    replicaRoutingDataSource.updateReplicaLag(REPLICA, 60L);
+    replicaRoutingDataSource.updateReplicaLag(REPLICA, 1L);
+
+    assertTrue(replicaRoutingDataSource.isAvailable(REPLICA));
+    assertTrue(connectedUrl(replicaRoutingDataSource, true).contains(":" + replicaPort + "/"));
+  }
+
+  @Test
+  void shouldFallBackToPrimaryWhenReplicaIsUnreachable() {
+    try (final var unreachable = createPool("127.0.0.1", "1", "admin", "admin")) {
+      unreachable.setConnectionTimeout(250);
+
+      final var routingDataSource = new ReplicaRoutingDataSource(primary, Map.of(REPLICA, unreachable), 5);
+
+      assertTrue(connectedUrl(routingDataSource, true).contains(":" + primaryPort + "/"));
+      assertFalse(routingDataSource.isAvailable(REPLICA));
+    }
+  }
+
+  @Test
+  void shouldReadReplicaLagFromReplicationStatus() {
+    replicaRoutingDataSource.refreshReplicaLag();
+
+    assertEquals(0L, replicaRoutingDataSource.getReplicaLag(REPLICA).orElseThrow());
+    assertTrue(replicaRoutingDataSource.isAvailable(REPLICA));
+  }
+}
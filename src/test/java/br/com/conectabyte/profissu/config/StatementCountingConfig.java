@@ -0,0 +1,116 @@
+package br.com.conectabyte.profissu.config;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.lang.reflect.Type;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Set;
+import java.util.TreeMap;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.conectabyte.profissu.utils.QueryRecorder;
+import br.com.conectabyte.profissu.utils.StatementCounter;
+
+@TestConfiguration
+public class StatementCountingConfig {
+  private static final Set<String> STATEMENT_METHODS = Set.of("prepareStatement", "prepareCall", "createStatement");
+
+  @Bean
+  static BeanPostProcessor statementCountingDataSourcePostProcessor() {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(Object bean, String beanName) {
+        return bean instanceof DataSource dataSource && "dataSource".equals(beanName)
+            ? new StatementCountingDataSource(dataSource)
+            : bean;
+      }
+    };
+  }
+
+  @Bean
+  MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectProvider<ObjectMapper> objectMapper) {
+    return new MappingJackson2HttpMessageConverter(objectMapper.getIfAvailable(ObjectMapper::new)) {
+      @Override
+      protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+        StatementCounter.startSerialization();
+
+        try {
+          super.writeInternal(object, type, outputMessage);
+        } finally {
+          StatementCounter.endSerialization();
+        }
+      }
+    };
+  }
+
+  private static class StatementCountingDataSource extends DelegatingDataSource {
+    StatementCountingDataSource(DataSource dataSource) {
+      super(dataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+      return countStatements(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+      return countStatements(super.getConnection(username, password));
+    }
+
+    private Connection countStatements(Connection connection) {
+      return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] { Connection.class },
+          (proxy, method, args) -> {
+            if (STATEMENT_METHODS.contains(method.getName())) {
+              StatementCounter.increment();
+            }
+
+            final var result = invoke(connection, method, args);
+
+            return method.getName().equals("prepareStatement") && result instanceof PreparedStatement statement
+                ? recordParameters(statement, (String) args[0])
+                : result;
+          });
+    }
+
+    private PreparedStatement recordParameters(PreparedStatement statement, String sql) {
+      final var parameters = new TreeMap<Integer, Object>();
+
+      return (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+          new Class<?>[] { PreparedStatement.class }, (proxy, method, args) -> {
+            if (method.getName().startsWith("set") && args != null && args.length >= 2
+                && args[0] instanceof Integer index) {
+              parameters.put(index, method.getName().equals("setNull") ? null : args[1]);
+            } else if (method.getName().equals("executeQuery") || method.getName().equals("executeUpdate")) {
+              QueryRecorder.record(sql, new ArrayList<>(parameters.values()));
+            }
+
+            return invoke(statement, method, args);
+          });
+    }
+  }
+
+  private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+    try {
+      return method.invoke(target, args);
+    } catch (InvocationTargetException e) {
+      throw e.getTargetException();
+    }
+  }
+}
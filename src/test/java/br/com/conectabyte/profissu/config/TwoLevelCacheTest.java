@@ -0,0 +1,316 @@
+package br.com.conectabyte.profissu.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+
+@DisplayName("TwoLevelCache Tests")
+class TwoLevelCacheTest {
+  private static final Duration FRESH_TTL = Duration.ofSeconds(30);
+  private static final Duration STALE_TTL = Duration.ofSeconds(30);
+
+  private final AtomicLong now = new AtomicLong();
+  private final Ticker ticker = now::get;
+  private ConcurrentMapCache remoteCache;
+  private List<Object> invalidations;
+  private List<Runnable> refreshes;
+  private TwoLevelCache twoLevelCache;
+
+  @BeforeEach
+  void setUp() {
+    remoteCache = new ConcurrentMapCache("users");
+    invalidations = new ArrayList<>();
+    refreshes = new ArrayList<>();
+    twoLevelCache = twoLevelCache(STALE_TTL, 0);
+  }
+
+  private TwoLevelCache twoLevelCache(Duration staleTtl, double earlyRefreshBeta) {
+    return new TwoLevelCache("users", remoteCache, invalidations::add, refreshes::add,
+        new TwoLevelCache.Policy(FRESH_TTL, staleTtl, earlyRefreshBeta, 100), ticker);
+  }
+
+  private void advance(Duration duration) {
+    now.addAndGet(duration.toNanos());
+  }
+
+  private void runRefreshes() {
+    final var pending = List.copyOf(refreshes);
+
+    refreshes.clear();
+    pending.forEach(Runnable::run);
+  }
+
+  @Test
+  @DisplayName("Should promote remote hits to the local cache")
+  void shouldPromoteRemoteHitsToLocalCache() {
+    remoteCache.put(1L, "remote");
+
+    assertEquals("remote", twoLevelCache.get(1L, String.class));
+    remoteCache.evict(1L);
+    assertEquals("remote", twoLevelCache.get(1L, String.class));
+  }
+
+  @Test
+  @DisplayName("Should load missing values once and store them on both levels")
+  void shouldLoadMissingValuesOnBothLevels() {
+    final var loads = new AtomicInteger();
+
+    assertEquals("loaded", twoLevelCache.get(1L, () -> {
+      loads.incrementAndGet();
+      return "loaded";
+    }));
+    assertEquals("loaded", twoLevelCache.get(1L, () -> "reloaded"));
+    assertEquals(1, loads.get());
+    assertEquals("loaded", remoteCache.get(1L, String.class));
+    assertEquals(1, twoLevelCache.getLocalCache().estimatedSize());
+  }
+
+  @Test
+  @DisplayName("Should let concurrent misses of the same key wait on a single load")
+  void shouldCoalesceConcurrentMisses() throws InterruptedException, ExecutionException {
+    final var threads = 8;
+    final var executor = Executors.newFixedThreadPool(threads);
+    final var loading = new CountDownLatch(1);
+    final var release = new CountDownLatch(1);
+    final var loads = new AtomicInteger();
+    final var futures = new ArrayList<Future<String>>();
+
+    try {
+      futures.add(executor.submit(() -> twoLevelCache.get(1L, () -> {
+        loads.incrementAndGet();
+        loading.countDown();
+        release.await();
+        return "loaded";
+      })));
+      assertTrue(loading.await(10, TimeUnit.SECONDS));
+
+      for (int i = 1; i < threads; i++) {
+        futures.add(executor.submit(() -> twoLevelCache.get(1L, () -> {
+          loads.incrementAndGet();
+          return "duplicated";
+        })));
+      }
+
+      release.countDown();
+
+      for (final var future : futures) {
+        assertEquals("loaded", future.get());
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertEquals(1, loads.get());
+  }
+
+  @Test
+  @DisplayName("Should propagate load failures without caching them")
+  void shouldPropagateLoadFailuresWithoutCachingThem() {
+    assertThrows(RuntimeException.class, () -> twoLevelCache.get(1L, () -> {
+      throw new IllegalStateException("failed");
+    }));
+
+    assertEquals("loaded", twoLevelCache.get(1L, () -> "loaded"));
+  }
+
+  @Test
+  @DisplayName("Should serve stale values while refreshing them in the background")
+  void shouldServeStaleValuesWhileRevalidating() {
+    twoLevelCache.get(1L, () -> "first");
+    advance(FRESH_TTL.plusSeconds(1));
+    remoteCache.evict(1L);
+
+    assertEquals("first", twoLevelCache.get(1L, () -> "second"));
+    assertEquals("first", twoLevelCache.get(1L, () -> "third"));
+    assertEquals(1, refreshes.size());
+
+    runRefreshes();
+
+    assertEquals("second", twoLevelCache.get(1L, () -> "fourth"));
+    assertTrue(refreshes.isEmpty());
+  }
+
+  @Test
+  @DisplayName("Should load synchronously once stale values are past the stale window")
+  void shouldLoadSynchronouslyPastTheStaleWindow() {
+    twoLevelCache.get(1L, () -> "first");
+    advance(FRESH_TTL.plus(STALE_TTL).plusSeconds(1));
+    remoteCache.evict(1L);
+
+    assertEquals("second", twoLevelCache.get(1L, () -> "second"));
+    assertTrue(refreshes.isEmpty());
+  }
+
+  @Test
+  @DisplayName("Should load synchronously after the fresh TTL when stale-while-revalidate is disabled")
+  void shouldLoadSynchronouslyWhenStaleWhileRevalidateIsDisabled() {
+    final var strictCache = twoLevelCache(Duration.ZERO, 0);
+
+    strictCache.get(1L, () -> "first");
+    advance(FRESH_TTL.plusSeconds(1));
+    remoteCache.evict(1L);
+
+    assertEquals("second", strictCache.get(1L, () -> "second"));
+    assertTrue(refreshes.isEmpty());
+  }
+
+  @Test
+  @DisplayName("Should refresh expensive values ahead of expiration when early refresh is enabled")
+  void shouldRefreshExpensiveValuesEarly() {
+    final var earlyCache = twoLevelCache(STALE_TTL, 1_000_000);
+
+    earlyCache.get(1L, () -> {
+      advance(Duration.ofSeconds(1));
+      return "first";
+    });
+    advance(FRESH_TTL.minusSeconds(5));
+    remoteCache.evict(1L);
+
+    assertEquals("first", earlyCache.get(1L, () -> "second"));
+    assertEquals(1, refreshes.size());
+
+    runRefreshes();
+
+    assertEquals("second", earlyCache.get(1L, () -> "third"));
+  }
+
+  @Test
+  @DisplayName("Should not refresh fresh values early when early refresh is disabled")
+  void shouldNotRefreshEarlyWhenDisabled() {
+    twoLevelCache.get(1L, () -> {
+      advance(Duration.ofSeconds(1));
+      return "first";
+    });
+    advance(FRESH_TTL.minusSeconds(5));
+
+    assertEquals("first", twoLevelCache.get(1L, () -> "second"));
+    assertTrue(refreshes.isEmpty());
+  }
+
+  @Test
+  @DisplayName("Should discard in-flight refreshes of evicted keys")
+  void shouldDiscardInFlightRefreshesOfEvictedKeys() {
+    twoLevelCache.get(1L, () -> "first");
+    advance(FRESH_TTL.plusSeconds(1));
+    remoteCache.evict(1L);
+
+    twoLevelCache.get(1L, () -> "second");
+    twoLevelCache.evict(1L);
+    runRefreshes();
+
+    assertEquals(0, twoLevelCache.getLocalCache().estimatedSize());
+  }
+
+  @Test
+  @DisplayName("Should evict both levels and broadcast the invalidation")
+  void shouldEvictBothLevelsAndBroadcast() {
+    twoLevelCache.put(1L, "value");
+    twoLevelCache.evict(1L);
+
+    assertNull(twoLevelCache.get(1L));
+    assertNull(remoteCache.get(1L));
+    assertEquals(List.of(1L, 1L), invalidations);
+  }
+
+  @Test
+  @DisplayName("Should clear both levels and broadcast a null key")
+  void shouldClearBothLevelsAndBroadcastNullKey() {
+    twoLevelCache.put(1L, "value");
+    twoLevelCache.clear();
+
+    assertNull(twoLevelCache.get(1L));
+    assertEquals(Arrays.asList(1L, null), invalidations);
+  }
+
+  @Test
+  @DisplayName("Should evict keys matching a pattern on both levels and broadcast the pattern")
+  void shouldEvictMatchingKeysAndBroadcastPattern() {
+    twoLevelCache.put("user:1", "first");
+    twoLevelCache.put("user:2", "second");
+    twoLevelCache.put("role:1", "role");
+    invalidations.clear();
+
+    twoLevelCache.evictMatching("user:*");
+
+    assertNull(twoLevelCache.get("user:1"));
+    assertNull(twoLevelCache.get("user:2"));
+    assertEquals("role", twoLevelCache.get("role:1", String.class));
+    assertNull(remoteCache.get("role:1"));
+    assertEquals(List.of(new TwoLevelCache.KeyPattern("user:*")), invalidations);
+  }
+
+  @Test
+  @DisplayName("Should only drop local entries on remote invalidations from other instances")
+  @SuppressWarnings("unchecked")
+  void shouldDropLocalEntriesOnRemoteInvalidationsFromOtherInstances() {
+    final var redisTemplate = (RedisTemplate<Object, Object>) mock(RedisTemplate.class);
+    final var serializer = new JdkSerializationRedisSerializer();
+    final var remoteCacheManager = new ConcurrentMapCacheManager("users");
+    final var cacheManager = new TwoLevelCacheManager(remoteCacheManager, redisTemplate, "invalidations",
+        new TwoLevelCache.Policy(FRESH_TTL, STALE_TTL, 0, 100), Runnable::run, ticker);
+
+    doReturn(serializer).when(redisTemplate).getValueSerializer();
+    cacheManager.setTransactionAware(true);
+    cacheManager.afterPropertiesSet();
+
+    final var cache = assertInstanceOf(TransactionAwareCacheDecorator.class, cacheManager.getCache("users"));
+    final var target = assertInstanceOf(TwoLevelCache.class, cache.getTargetCache());
+    final var published = ArgumentCaptor.forClass(Object.class);
+
+    target.put(1L, "value");
+    verify(redisTemplate).convertAndSend(eq("invalidations"), published.capture());
+    remoteCacheManager.getCache("users").evict(1L);
+
+    cacheManager.onMessage(new DefaultMessage(new byte[0], serializer.serialize(published.getValue())), null);
+    assertEquals("value", target.get(1L, String.class));
+
+    final var foreignInvalidation = new TwoLevelCacheManager.CacheInvalidation("other", "users", 1L);
+
+    cacheManager.onMessage(new DefaultMessage(new byte[0], serializer.serialize(foreignInvalidation)), null);
+    assertNull(target.get(1L));
+    verify(redisTemplate).convertAndSend(any(), any(TwoLevelCacheManager.CacheInvalidation.class));
+
+    target.put(2L, "value");
+    target.put(30L, "value");
+    remoteCacheManager.getCache("users").clear();
+
+    final var foreignPatternInvalidation = new TwoLevelCacheManager.CacheInvalidation("other", "users",
+        new TwoLevelCache.KeyPattern("2*"));
+
+    cacheManager.onMessage(new DefaultMessage(new byte[0], serializer.serialize(foreignPatternInvalidation)), null);
+    assertNull(target.get(2L));
+    assertEquals("value", target.get(30L, String.class));
+  }
+}
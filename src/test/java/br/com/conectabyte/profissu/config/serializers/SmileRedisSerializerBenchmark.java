@@ -0,0 +1,84 @@
+package br.com.conectabyte.profissu.config.serializers;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import br.com.conectabyte.profissu.config.CacheConfig;
+import br.com.conectabyte.profissu.dtos.response.AddressResponseDto;
+import br.com.conectabyte.profissu.dtos.response.ContactResponseDto;
+import br.com.conectabyte.profissu.dtos.response.RequestedServiceResponseDto;
+import br.com.conectabyte.profissu.dtos.response.ReviewResponseDto;
+import br.com.conectabyte.profissu.dtos.response.UserRatingSummaryResponseDto;
+import br.com.conectabyte.profissu.dtos.response.UserResponseDto;
+import br.com.conectabyte.profissu.enums.GenderEnum;
+import br.com.conectabyte.profissu.enums.RequestedServiceStatusEnum;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SmileRedisSerializerBenchmark {
+  @Param({ "jdk", "smile" })
+  public String codec;
+
+  @Param({ "user", "requestedService", "review" })
+  public String payload;
+
+  private RedisSerializer<Object> serializer;
+  private Object value;
+  private byte[] encoded;
+
+  static RedisSerializer<Object> serializer(String codec) {
+    return "jdk".equals(codec) ? new JdkSerializationRedisSerializer()
+        : new SmileRedisSerializer(CacheConfig.CACHED_VALUE_TYPES, 1024);
+  }
+
+  static Object value(String payload) {
+    final var address = new AddressResponseDto(2L, "Street", "123", "City", "ST", "12345-678");
+    final var user = new UserResponseDto(1L, "User", "I fix pipes, paint walls and assemble furniture.",
+        GenderEnum.MALE, List.of(new ContactResponseDto(3L, "user@conectabyte.com.br", true),
+            new ContactResponseDto(4L, "user.secondary@conectabyte.com.br", false)),
+        List.of(address), new UserRatingSummaryResponseDto(42, 4.7));
+    final var requestedService = new RequestedServiceResponseDto(5L, "Fix the kitchen sink",
+        "The kitchen sink has been leaking for two days.", RequestedServiceStatusEnum.PENDING, address, user);
+
+    return switch (payload) {
+      case "user" -> user;
+      case "requestedService" -> requestedService;
+      default -> new ReviewResponseDto(6L, "Great job", "Quick and clean work.", 5, user, requestedService);
+    };
+  }
+
+  @Setup
+  public void setUp() {
+    serializer = serializer(codec);
+    value = value(payload);
+    encoded = serializer.serialize(value);
+  }
+
+  @Benchmark
+  public byte[] encode() {
+    return serializer.serialize(value);
+  }
+
+  @Benchmark
+  public Object decode() {
+    return serializer.deserialize(encoded);
+  }
+}
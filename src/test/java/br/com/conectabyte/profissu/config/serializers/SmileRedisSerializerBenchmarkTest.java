@@ -0,0 +1,37 @@
+package br.com.conectabyte.profissu.config.serializers;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import lombok.extern.slf4j.Slf4j;
+
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("SmileRedisSerializer Benchmark")
+@Slf4j
+class SmileRedisSerializerBenchmarkTest {
+  @Test
+  @DisplayName("Should benchmark encoded size and encode/decode latency against JDK serialization")
+  void shouldBenchmarkAgainstJdkSerialization() throws RunnerException {
+    for (final var payload : List.of("user", "requestedService", "review")) {
+      final var value = SmileRedisSerializerBenchmark.value(payload);
+      final var jdkSize = SmileRedisSerializerBenchmark.serializer("jdk").serialize(value).length;
+      final var smileSize = SmileRedisSerializerBenchmark.serializer("smile").serialize(value).length;
+
+      log.info("Encoded {}: jdk={} bytes, smile={} bytes", payload, jdkSize, smileSize);
+      assertTrue(smileSize < jdkSize);
+    }
+
+    new Runner(new OptionsBuilder()
+        .include(SmileRedisSerializerBenchmark.class.getName())
+        .build())
+        .run();
+  }
+}
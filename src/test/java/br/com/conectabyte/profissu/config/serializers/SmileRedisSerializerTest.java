@@ -0,0 +1,120 @@
+package br.com.conectabyte.profissu.config.serializers;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.support.NullValue;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import br.com.conectabyte.profissu.config.CacheConfig;
+import br.com.conectabyte.profissu.dtos.response.AddressResponseDto;
+import br.com.conectabyte.profissu.dtos.response.ContactResponseDto;
+import br.com.conectabyte.profissu.dtos.response.OwnershipDto;
+import br.com.conectabyte.profissu.dtos.response.RequestedServiceResponseDto;
+import br.com.conectabyte.profissu.dtos.response.ReviewResponseDto;
+import br.com.conectabyte.profissu.dtos.response.UserRatingSummaryResponseDto;
+import br.com.conectabyte.profissu.dtos.response.UserResponseDto;
+import br.com.conectabyte.profissu.dtos.response.UserSnapshotDto;
+import br.com.conectabyte.profissu.enums.GenderEnum;
+import br.com.conectabyte.profissu.enums.RequestedServiceStatusEnum;
+
+@DisplayName("SmileRedisSerializer Tests")
+class SmileRedisSerializerTest {
+  private final SmileRedisSerializer serializer = new SmileRedisSerializer(CacheConfig.CACHED_VALUE_TYPES, 1024);
+  private final JdkSerializationRedisSerializer jdkSerializer = new JdkSerializationRedisSerializer();
+
+  private final AddressResponseDto address = new AddressResponseDto(2L, "Street", "1", "City", "ST", "12345-678");
+  private final UserResponseDto user = new UserResponseDto(1L, "User", "Bio", GenderEnum.MALE,
+      List.of(new ContactResponseDto(3L, "user@conectabyte.com.br", true)), List.of(address),
+      new UserRatingSummaryResponseDto(4, 4.5));
+  private final RequestedServiceResponseDto requestedService = new RequestedServiceResponseDto(5L, "Title",
+      "Description", RequestedServiceStatusEnum.PENDING, address, user);
+
+  @Test
+  @DisplayName("Should round-trip every registered cached value type")
+  void shouldRoundTripRegisteredTypes() {
+    final var values = List.of(6L, new OwnershipDto(1L, 2L, 3L), new UserSnapshotDto(1L, "User", Set.of("USER"), true),
+        user, requestedService, new ReviewResponseDto(7L, "Title", "Review", 5, user, requestedService));
+
+    for (final var value : values) {
+      assertEquals(value, serializer.deserialize(serializer.serialize(value)));
+    }
+  }
+
+  @Test
+  @DisplayName("Should encode registered types smaller than JDK serialization")
+  void shouldEncodeSmallerThanJdkSerialization() {
+    final var encoded = serializer.serialize(user);
+
+    assertTrue(encoded.length * 3 < jdkSerializer.serialize(user).length);
+  }
+
+  @Test
+  @DisplayName("Should compress payloads above the compression threshold")
+  void shouldCompressLargePayloads() {
+    final var largeUser = new UserResponseDto(1L, "User", "Bio ".repeat(1000), GenderEnum.MALE, List.of(),
+        List.of());
+    final var encoded = serializer.serialize(largeUser);
+
+    assertEquals(2, encoded[0]);
+    assertTrue(encoded.length < 1024);
+    assertEquals(largeUser, serializer.deserialize(encoded));
+  }
+
+  @Test
+  @DisplayName("Should fall back to JDK serialization for unregistered types")
+  void shouldFallBackToJdkSerializationForUnregisteredTypes() {
+    final var encoded = serializer.serialize(NullValue.INSTANCE);
+
+    assertArrayEquals(jdkSerializer.serialize(NullValue.INSTANCE), encoded);
+    assertEquals(NullValue.INSTANCE, serializer.deserialize(encoded));
+  }
+
+  @Test
+  @DisplayName("Should read values written by the JDK serializer")
+  void shouldReadJdkSerializedValues() {
+    assertEquals(user, serializer.deserialize(jdkSerializer.serialize(user)));
+  }
+
+  @Test
+  @DisplayName("Should handle null and empty payloads")
+  void shouldHandleNullAndEmptyPayloads() {
+    assertEquals(0, serializer.serialize(null).length);
+    assertNull(serializer.deserialize(null));
+    assertNull(serializer.deserialize(new byte[0]));
+  }
+
+  @Test
+  @DisplayName("Should write the registered type id regardless of the other registered types")
+  void shouldWriteRegisteredTypeId() {
+    final var userOnlySerializer = new SmileRedisSerializer(Map.of(3, UserResponseDto.class), 1024);
+    final var encoded = userOnlySerializer.serialize(user);
+
+    assertEquals(3, encoded[1]);
+    assertEquals(user, serializer.deserialize(encoded));
+  }
+
+  @Test
+  @DisplayName("Should reject type ids that do not fit in the header and types registered twice")
+  void shouldRejectInvalidTypeRegistrations() {
+    assertThrows(IllegalArgumentException.class, () -> new SmileRedisSerializer(Map.of(256, Long.class), 1024));
+    assertThrows(IllegalArgumentException.class,
+        () -> new SmileRedisSerializer(Map.of(0, Long.class, 1, Long.class), 1024));
+  }
+
+  @Test
+  @DisplayName("Should reject payloads with unknown type ids")
+  void shouldRejectUnknownTypeIds() {
+    assertThrows(SerializationException.class, () -> serializer.deserialize(new byte[] { 1, (byte) 200, 0 }));
+  }
+}
@@ -29,9 +29,7 @@ import br.com.conectabyte.profissu.dtos.request.ResetPasswordRequestDto;
 import br.com.conectabyte.profissu.dtos.request.UserRequestDto;
 import br.com.conectabyte.profissu.dtos.response.LoginResponseDto;
 import br.com.conectabyte.profissu.dtos.response.MessageValueResponseDto;
-import br.com.conectabyte.profissu.entities.User;
 import br.com.conectabyte.profissu.exceptions.EmailNotVerifiedException;
-import br.com.conectabyte.profissu.exceptions.ResourceNotFoundException;
 import br.com.conectabyte.profissu.exceptions.ValidationException;
 import br.com.conectabyte.profissu.mappers.UserMapper;
 import br.com.conectabyte.profissu.properties.ProfissuProperties;
@@ -153,7 +151,7 @@ class AuthControllerTest {
     user.setAddresses(List.of(AddressUtils.create(user)));
     user.setId(1L);
 
-    when(userService.findByEmail(any())).thenThrow(ResourceNotFoundException.class);
+    when(contactService.existsByValue(any())).thenReturn(false);
     when(userService.register(any(UserRequestDto.class))).thenReturn(userMapper.userToUserResponseDto(user));
 
     mockMvc.perform(post("/auth/register")
@@ -175,7 +173,7 @@ class AuthControllerTest {
     final var user = UserUtils.create();
     user.setContacts(List.of(ContactUtils.create(user)));
     user.setAddresses(List.of(AddressUtils.create(user)));
-    when(userService.findByEmail(any())).thenReturn(new User());
+    when(contactService.existsByValue(any())).thenReturn(true);
 
     mockMvc.perform(post("/auth/register")
         .contentType(MediaType.APPLICATION_JSON)
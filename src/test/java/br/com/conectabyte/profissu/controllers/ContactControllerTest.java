@@ -67,7 +67,7 @@ class ContactControllerTest {
   void shouldRegisterContactWhenUserIsAuthenticated() throws Exception {
     when(contactService.register(any())).thenReturn(responseDto);
     when(securityService.isOwner(any())).thenReturn(true);
-    when(userService.findByEmail(any())).thenThrow(ResourceNotFoundException.class);
+    when(contactService.existsByValue(any())).thenReturn(false);
 
     mockMvc.perform(post("/contacts")
         .param("userId", "1")
@@ -83,6 +83,7 @@ class ContactControllerTest {
   void shouldReturnBadRequestWhenRegisterContactRequestIsInvalid() throws Exception {
     final var invalidRequest = new ContactRequestDto("invalidEmail", false);
     when(securityService.isOwner(any())).thenReturn(true);
+    when(contactService.existsByValue(any())).thenReturn(true);
 
     mockMvc.perform(post("/contacts")
         .param("userId", "1")
@@ -2,6 +2,10 @@ package br.com.conectabyte.profissu.controllers;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
@@ -17,7 +21,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
@@ -27,7 +33,9 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 
 import br.com.conectabyte.profissu.config.SecurityConfig;
 import br.com.conectabyte.profissu.dtos.request.RequestedServiceRequestDto;
+import br.com.conectabyte.profissu.dtos.response.NearbyRequestedServiceResponseDto;
 import br.com.conectabyte.profissu.dtos.response.RequestedServiceResponseDto;
+import br.com.conectabyte.profissu.enums.PaginationModeEnum;
 import br.com.conectabyte.profissu.enums.RequestedServiceStatusEnum;
 import br.com.conectabyte.profissu.exceptions.ResourceNotFoundException;
 import br.com.conectabyte.profissu.exceptions.ValidationException;
@@ -35,6 +43,7 @@ import br.com.conectabyte.profissu.mappers.AddressMapper;
 import br.com.conectabyte.profissu.mappers.RequestedServiceMapper;
 import br.com.conectabyte.profissu.mappers.UserMapper;
 import br.com.conectabyte.profissu.properties.ProfissuProperties;
+import br.com.conectabyte.profissu.services.RequestedServiceFeedService;
 import br.com.conectabyte.profissu.services.RequestedServiceService;
 import br.com.conectabyte.profissu.services.security.SecurityRequestedServiceService;
 import br.com.conectabyte.profissu.services.security.SecurityService;
@@ -50,6 +59,9 @@ class RequestedServiceControllerTest {
   @MockitoBean
   private RequestedServiceService requestedServiceService;
 
+  @MockitoBean
+  private RequestedServiceFeedService requestedServiceFeedService;
+
   @MockitoBean
   private SecurityService securityService;
 
@@ -73,16 +85,166 @@ class RequestedServiceControllerTest {
     final var expectedPage = new PageImpl<>(List.of(new RequestedServiceResponseDto(1L, "Title",
         "Description", RequestedServiceStatusEnum.PENDING, addressResponseDto, userResponseDto)));
 
-    when(requestedServiceService.findAvailableServiceRequests(any(Pageable.class))).thenReturn(expectedPage);
+    when(requestedServiceService.findAvailableServiceRequests(eq(PaginationModeEnum.PAGE), any(Pageable.class),
+        isNull(), isNull()))
+        .thenReturn(expectedPage);
 
     mockMvc.perform(get("/requested-services")
         .param("page", "0")
         .param("size", "10")
         .contentType(MediaType.APPLICATION_JSON))
         .andExpect(status().isOk())
-        .andExpect(jsonPath("$.content[0].title").value("Title"));
+        .andExpect(jsonPath("$.content[0].title").value("Title"))
+        .andExpect(jsonPath("$.page.totalElements").value(1));
+  }
+
+  @Test
+  @WithMockUser
+  @DisplayName("Should find available service requests without total count in slice mode")
+  void shouldFindAvailableServiceRequestsInSliceMode() throws Exception {
+    final var user = UserUtils.create();
+    final var address = AddressUtils.create(user);
+    final var addressResponseDto = AddressMapper.INSTANCE.addressToAddressResponseDto(address);
+    final var userResponseDto = UserMapper.INSTANCE.userToUserResponseDto(user);
+    final var expectedSlice = new SliceImpl<>(List.of(new RequestedServiceResponseDto(1L, "Title",
+        "Description", RequestedServiceStatusEnum.PENDING, addressResponseDto, userResponseDto)),
+        PageRequest.of(0, 1), true);
+
+    when(requestedServiceService.findAvailableServiceRequests(eq(PaginationModeEnum.SLICE), any(Pageable.class),
+        isNull(), isNull()))
+        .thenReturn(expectedSlice);
+
+    mockMvc.perform(get("/requested-services")
+        .param("paginationMode", "SLICE")
+        .param("page", "0")
+        .param("size", "1")
+        .contentType(MediaType.APPLICATION_JSON))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.content[0].title").value("Title"))
+        .andExpect(jsonPath("$.page.size").value(1))
+        .andExpect(jsonPath("$.page.number").value(0))
+        .andExpect(jsonPath("$.page.hasNext").value(true))
+        .andExpect(jsonPath("$.page.totalElements").doesNotExist());
+  }
+  @Test
+  @WithMockUser
+  @DisplayName("Should pass state and city filters to the service")
+  void shouldFindAvailableServiceRequestsByStateAndCity() throws Exception {
+    when(requestedServiceService.findAvailableServiceRequests(eq(PaginationModeEnum.PAGE), any(Pageable.class),
+        eq("IL"), eq("Springfield")))
+        .thenReturn(new PageImpl<>(List.of()));
+
+    mockMvc.perform(get("/requested-services")
+        .param("state", "IL")
+        .param("city", "Springfield")
+        .contentType(MediaType.APPLICATION_JSON))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.page.totalElements").value(0));
+  }
+
+  @Test
+  @WithMockUser
+  @DisplayName("Should search requested services with filters")
+  void shouldSearchRequestedServicesWithFilters() throws Exception {
+    final var user = UserUtils.create();
+    final var address = AddressUtils.create(user);
+    final var addressResponseDto = AddressMapper.INSTANCE.addressToAddressResponseDto(address);
+    final var userResponseDto = UserMapper.INSTANCE.userToUserResponseDto(user);
+    final var expectedSlice = new SliceImpl<>(List.of(new RequestedServiceResponseDto(1L, "Pintura de parede",
+        "Description", RequestedServiceStatusEnum.PENDING, addressResponseDto, userResponseDto)),
+        PageRequest.of(0, 1), false);
+
+    when(requestedServiceService.search(eq("pintura"), eq(RequestedServiceStatusEnum.PENDING), eq("IL"),
+        eq("Springfield"), any(Pageable.class)))
+        .thenReturn(expectedSlice);
+
+    mockMvc.perform(get("/requested-services/search")
+        .param("query", "pintura")
+        .param("status", "PENDING")
+        .param("state", "IL")
+        .param("city", "Springfield")
+        .contentType(MediaType.APPLICATION_JSON))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.content[0].title").value("Pintura de parede"))
+        .andExpect(jsonPath("$.page.hasNext").value(false))
+        .andExpect(jsonPath("$.page.totalElements").doesNotExist());
+  }
+
+  @Test
+  @WithMockUser
+  @DisplayName("Should find nearby requested services with the default radius")
+  void shouldFindNearbyRequestedServicesWithDefaultRadius() throws Exception {
+    final var user = UserUtils.create();
+    final var address = AddressUtils.create(user);
+    final var addressResponseDto = AddressMapper.INSTANCE.addressToAddressResponseDto(address);
+    final var userResponseDto = UserMapper.INSTANCE.userToUserResponseDto(user);
+    final var expectedSlice = new SliceImpl<>(List.of(new NearbyRequestedServiceResponseDto(
+        new RequestedServiceResponseDto(1L, "Title", "Description", RequestedServiceStatusEnum.PENDING,
+            addressResponseDto, userResponseDto), 2.5)), PageRequest.of(0, 1), true);
+
+    when(requestedServiceService.findNearby(eq(-23.55), eq(-46.63), eq(15.0), any(Pageable.class)))
+        .thenReturn(expectedSlice);
+
+    mockMvc.perform(get("/requested-services/nearby")
+        .param("latitude", "-23.55")
+        .param("longitude", "-46.63")
+        .contentType(MediaType.APPLICATION_JSON))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.content[0].requestedService.title").value("Title"))
+        .andExpect(jsonPath("$.content[0].distance").value(2.5))
+        .andExpect(jsonPath("$.page.hasNext").value(true));
+  }
+
+  @Test
+  @WithMockUser
+  @DisplayName("Should return bad request when the nearby radius is invalid")
+  void shouldReturnBadRequestWhenNearbyRadiusIsInvalid() throws Exception {
+    when(requestedServiceService.findNearby(eq(-23.55), eq(-46.63), eq(500.0), any(Pageable.class)))
+        .thenThrow(new ValidationException("radius: Must be greater than 0 and at most 100.0 km"));
+
+    mockMvc.perform(get("/requested-services/nearby")
+        .param("latitude", "-23.55")
+        .param("longitude", "-46.63")
+        .param("radius", "500")
+        .contentType(MediaType.APPLICATION_JSON))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.message").value("radius: Must be greater than 0 and at most 100.0 km"));
   }
 
+  @Test
+  @DisplayName("Should return unauthorized when searching requested services and user is not authenticated")
+  void shouldReturnUnauthorizedOnSearch() throws Exception {
+    mockMvc.perform(get("/requested-services/search")
+        .param("query", "pintura")
+        .contentType(MediaType.APPLICATION_JSON))
+        .andExpect(status().isUnauthorized());
+  }
+
+  @Test
+  @WithMockUser(roles = "ADMIN")
+  @DisplayName("Should accept feed rebuild requests from admins")
+  void shouldAcceptFeedRebuildFromAdmins() throws Exception {
+    when(securityService.isAdmin()).thenReturn(true);
+
+    mockMvc.perform(post("/requested-services/feed/rebuild"))
+        .andExpect(status().isAccepted());
+
+    verify(requestedServiceFeedService).rebuild();
+  }
+
+  @Test
+  @WithMockUser
+  @DisplayName("Should reject feed rebuild requests from non-admins")
+  void shouldRejectFeedRebuildFromNonAdmins() throws Exception {
+    when(securityService.isAdmin()).thenReturn(false);
+
+    mockMvc.perform(post("/requested-services/feed/rebuild"))
+        .andExpect(status().isForbidden());
+
+    verify(requestedServiceFeedService, never()).rebuild();
+  }
+
+
   @Test
   @DisplayName("Should return unauthorized when finding available service requests and user is not authenticated")
   void shouldReturnUnauthorizedOnFindAvailableServiceRequests() throws Exception {
@@ -3,6 +3,7 @@ package br.com.conectabyte.profissu.controllers;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.when;
@@ -21,6 +22,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
@@ -32,6 +35,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import br.com.conectabyte.profissu.config.SecurityConfig;
 import br.com.conectabyte.profissu.dtos.request.ReviewRequestDto;
 import br.com.conectabyte.profissu.dtos.response.ReviewResponseDto;
+import br.com.conectabyte.profissu.enums.PaginationModeEnum;
 import br.com.conectabyte.profissu.exceptions.ResourceNotFoundException;
 import br.com.conectabyte.profissu.properties.ProfissuProperties;
 import br.com.conectabyte.profissu.services.ReviewService;
@@ -70,13 +74,33 @@ class ReviewControllerTest {
     final var response = new PageImpl<>(List.of(
         new ReviewResponseDto(1L, "Title", "Review", 5, null, null)));
 
-    when(reviewService.findByUserId(anyLong(), anyBoolean(), any())).thenReturn(response);
+    when(reviewService.findByUserId(anyLong(), anyBoolean(), eq(PaginationModeEnum.PAGE), any())).thenReturn(response);
 
     mockMvc.perform(get("/reviews")
         .param("userId", "1")
         .param("isReviewOwner", "true"))
         .andExpect(status().isOk())
-        .andExpect(jsonPath("$.content[0].title").value("Title"));
+        .andExpect(jsonPath("$.content[0].title").value("Title"))
+        .andExpect(jsonPath("$.page.totalElements").value(1));
+  }
+
+  @Test
+  @WithMockUser
+  @DisplayName("Should find reviews by user ID without total count in slice mode")
+  void shouldFindReviewsByUserIdInSliceMode() throws Exception {
+    final var response = new SliceImpl<>(List.of(
+        new ReviewResponseDto(1L, "Title", "Review", 5, null, null)), PageRequest.of(0, 10), false);
+
+    when(reviewService.findByUserId(anyLong(), anyBoolean(), eq(PaginationModeEnum.SLICE), any())).thenReturn(response);
+
+    mockMvc.perform(get("/reviews")
+        .param("userId", "1")
+        .param("isReviewOwner", "false")
+        .param("paginationMode", "SLICE"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.content[0].title").value("Title"))
+        .andExpect(jsonPath("$.page.hasNext").value(false))
+        .andExpect(jsonPath("$.page.totalElements").doesNotExist());
   }
 
   @Test
@@ -0,0 +1,272 @@
+package br.com.conectabyte.profissu.controllers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.conectabyte.profissu.config.StatementCountingConfig;
+import br.com.conectabyte.profissu.dtos.request.AddressRequestDto;
+import br.com.conectabyte.profissu.dtos.request.ContactRequestDto;
+import br.com.conectabyte.profissu.dtos.request.LoginRequestDto;
+import br.com.conectabyte.profissu.entities.Conversation;
+import br.com.conectabyte.profissu.entities.User;
+import br.com.conectabyte.profissu.enums.ParticipantRoleEnum;
+import br.com.conectabyte.profissu.repositories.ConversationRepository;
+import br.com.conectabyte.profissu.repositories.MessageRepository;
+import br.com.conectabyte.profissu.repositories.RequestedServiceParticipantRepository;
+import br.com.conectabyte.profissu.repositories.RequestedServiceRepository;
+import br.com.conectabyte.profissu.repositories.ReviewRepository;
+import br.com.conectabyte.profissu.repositories.UserRepository;
+import br.com.conectabyte.profissu.services.JwtService;
+import br.com.conectabyte.profissu.utils.AddressUtils;
+import br.com.conectabyte.profissu.utils.ContactUtils;
+import br.com.conectabyte.profissu.utils.ConversationUtils;
+import br.com.conectabyte.profissu.utils.MessageUtils;
+import br.com.conectabyte.profissu.utils.RequestedServiceParticipantUtils;
+import br.com.conectabyte.profissu.utils.RequestedServiceUtils;
+import br.com.conectabyte.profissu.utils.ReviewUtils;
+import br.com.conectabyte.profissu.utils.StatementCounter;
+import br.com.conectabyte.profissu.utils.UserUtils;
+import jakarta.persistence.EntityManager;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(StatementCountingConfig.class)
+@Transactional
+@DisplayName("Statement budget Tests")
+class StatementBudgetTest {
+  private static final int ROWS = 12;
+  private static final String PASSWORD = "@Admin123";
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  @Autowired
+  private JwtService jwtService;
+
+  @Autowired
+  private BCryptPasswordEncoder bCryptPasswordEncoder;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private RequestedServiceRepository requestedServiceRepository;
+
+  @Autowired
+  private ConversationRepository conversationRepository;
+
+  @Autowired
+  private RequestedServiceParticipantRepository requestedServiceParticipantRepository;
+
+  @Autowired
+  private MessageRepository messageRepository;
+
+  @Autowired
+  private ReviewRepository reviewRepository;
+
+  private User requester;
+  private User serviceProvider;
+  private Conversation conversation;
+  private String accessToken;
+
+  @BeforeEach
+  void setUp() {
+    requester = saveUser("requester@conectabyte.com.br");
+    serviceProvider = saveUser("provider@conectabyte.com.br");
+
+    final var conversations = new ArrayList<Conversation>();
+
+    for (int i = 0; i < ROWS; i++) {
+      final var requestedService = requestedServiceRepository.save(
+          RequestedServiceUtils.create(requester, AddressUtils.create(requester), List.of()));
+
+      conversations.add(conversationRepository.save(
+          ConversationUtils.create(requester, serviceProvider, requestedService, List.of())));
+      requestedServiceParticipantRepository.save(RequestedServiceParticipantUtils.create(requestedService, requester,
+          ParticipantRoleEnum.REQUESTER));
+      reviewRepository.save(ReviewUtils.create(serviceProvider, requestedService));
+    }
+
+    conversation = conversations.get(0);
+
+    for (int i = 0; i < ROWS; i++) {
+      messageRepository.save(MessageUtils.create(i % 2 == 0 ? requester : serviceProvider, conversation));
+    }
+
+    entityManager.flush();
+    entityManager.clear();
+    accessToken = jwtService.createJwtToken(requester).accessToken();
+  }
+
+  private User saveUser(String email) {
+    final var user = UserUtils.create();
+    final var contact = ContactUtils.create(user);
+
+    contact.setValue(email);
+    user.setPassword(bCryptPasswordEncoder.encode(PASSWORD));
+    user.setContacts(List.of(contact));
+    user.setAddresses(new ArrayList<>(List.of(AddressUtils.create(user))));
+    user.setRoles(new HashSet<>());
+
+    return userRepository.save(user);
+  }
+
+  private int countStatements(MockHttpServletRequestBuilder request) throws Exception {
+    entityManager.clear();
+    StatementCounter.reset();
+
+    mockMvc.perform(request.header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken))
+        .andExpect(status().is2xxSuccessful());
+    entityManager.flush();
+
+    assertEquals(0, StatementCounter.statementsDuringSerialization(),
+        "Lazy loads were triggered while serializing the response");
+
+    return StatementCounter.statements();
+  }
+
+  private void assertWithinBudget(int budget, MockHttpServletRequestBuilder request) throws Exception {
+    final var statements = countStatements(request);
+
+    assertTrue(statements <= budget, "Expected at most " + budget + " statements but was " + statements);
+  }
+
+  private void assertPageWithinBudget(int budget, Supplier<MockHttpServletRequestBuilder> request) throws Exception {
+    countStatements(request.get());
+
+    final var singleRowStatements = countStatements(request.get().param("size", "1"));
+    final var fullPageStatements = countStatements(request.get().param("size", String.valueOf(ROWS)));
+
+    assertEquals(singleRowStatements, fullPageStatements, "Statement count must not depend on the page size");
+    assertTrue(fullPageStatements <= budget,
+        "Expected at most " + budget + " statements but was " + fullPageStatements);
+  }
+
+  @Test
+  @DisplayName("GET /requested-services should stay within 3 statements with a cached count regardless of page size")
+  void shouldFindAvailableServiceRequestsWithinBudget() throws Exception {
+    assertPageWithinBudget(3, () -> get("/requested-services"));
+  }
+
+  @Test
+  @DisplayName("GET /requested-services in slice mode should stay within 3 statements regardless of page size")
+  void shouldFindAvailableServiceRequestsInSliceModeWithinBudget() throws Exception {
+    assertPageWithinBudget(3, () -> get("/requested-services").param("paginationMode", "SLICE"));
+  }
+
+  @Test
+  @DisplayName("GET /requested-services/by-user should stay within 4 statements regardless of page size")
+  void shouldFindRequestedServicesByUserWithinBudget() throws Exception {
+    assertPageWithinBudget(4, () -> get("/requested-services/by-user")
+        .param("userId", requester.getId().toString()));
+  }
+
+  @Test
+  @DisplayName("GET /conversations should stay within 5 statements regardless of page size")
+  void shouldFindCurrentUserConversationsWithinBudget() throws Exception {
+    assertPageWithinBudget(5, () -> get("/conversations"));
+  }
+
+  @Test
+  @DisplayName("GET /messages should stay within 5 statements regardless of page size")
+  void shouldListMessagesWithinBudget() throws Exception {
+    assertPageWithinBudget(5, () -> get("/messages")
+        .param("conversationId", conversation.getId().toString()));
+  }
+
+  @Test
+  @DisplayName("GET /reviews given by user should stay within 3 statements with a cached count regardless of page size")
+  void shouldFindReviewsGivenByUserWithinBudget() throws Exception {
+    assertPageWithinBudget(3, () -> get("/reviews")
+        .param("userId", serviceProvider.getId().toString())
+        .param("isReviewOwner", "true"));
+  }
+
+  @Test
+  @DisplayName("GET /reviews received by user should stay within 3 statements with a cached count regardless of page size")
+  void shouldFindReviewsReceivedByUserWithinBudget() throws Exception {
+    assertPageWithinBudget(3, () -> get("/reviews")
+        .param("userId", requester.getId().toString())
+        .param("isReviewOwner", "false"));
+  }
+
+  @Test
+  @DisplayName("GET /reviews in slice mode should stay within 3 statements regardless of page size")
+  void shouldFindReviewsInSliceModeWithinBudget() throws Exception {
+    assertPageWithinBudget(3, () -> get("/reviews")
+        .param("userId", requester.getId().toString())
+        .param("isReviewOwner", "false")
+        .param("paginationMode", "SLICE"));
+  }
+
+  @Test
+  @DisplayName("GET /users/{id} should stay within 3 statements including the rating summary")
+  void shouldFindUserWithinBudget() throws Exception {
+    assertWithinBudget(3, get("/users/{id}", requester.getId()));
+  }
+
+  @Test
+  @DisplayName("PUT /addresses/{id} should stay within 3 statements")
+  void shouldUpdateAddressWithinBudget() throws Exception {
+    final var address = new AddressRequestDto("Street", "1", "City", "ST", "12345-678");
+    final var addressId = userRepository.findById(requester.getId()).orElseThrow().getAddresses().get(0).getId();
+
+    assertWithinBudget(3, put("/addresses/{id}", addressId)
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(objectMapper.writeValueAsString(address)));
+  }
+
+  @Test
+  @DisplayName("PUT /contacts/{id} should stay within 4 statements")
+  void shouldUpdateContactWithinBudget() throws Exception {
+    final var contact = userRepository.findById(requester.getId()).orElseThrow().getContacts().get(0);
+    final var contactRequest = new ContactRequestDto(contact.getValue(), true);
+
+    assertWithinBudget(4, put("/contacts/{id}", contact.getId())
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(objectMapper.writeValueAsString(contactRequest)));
+  }
+
+  @Test
+  @DisplayName("POST /auth/login should stay within 1 statements")
+  void shouldLoginWithinBudget() throws Exception {
+    final var credentials = new LoginRequestDto("requester@conectabyte.com.br", PASSWORD);
+
+    assertWithinBudget(1, post("/auth/login")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(objectMapper.writeValueAsString(credentials)));
+  }
+}
@@ -9,6 +9,8 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -19,6 +21,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
@@ -29,6 +32,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import br.com.conectabyte.profissu.config.SecurityConfig;
 import br.com.conectabyte.profissu.dtos.request.PasswordRequestDto;
 import br.com.conectabyte.profissu.dtos.request.ProfileRequestDto;
+import br.com.conectabyte.profissu.dtos.response.SerializedResponseDto;
 import br.com.conectabyte.profissu.dtos.response.UserResponseDto;
 import br.com.conectabyte.profissu.enums.GenderEnum;
 import br.com.conectabyte.profissu.exceptions.ResourceNotFoundException;
@@ -76,18 +80,35 @@ class UserControllerTest {
   void shouldFindAnUserWhenUserWithIdExists() throws Exception {
     final var user = UserUtils.create();
 
-    when(userService.findByIdAndReturnDto(anyLong())).thenReturn(userMapper.userToUserResponseDto(user));
+    when(userService.findByIdAndReturnJson(anyLong())).thenReturn(new SerializedResponseDto("1-a-b",
+        objectMapper.writeValueAsBytes(userMapper.userToUserResponseDto(user))));
 
     mockMvc.perform(get("/users/1"))
         .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, "\"1-a-b\""))
+        .andExpect(content().contentType(MediaType.APPLICATION_JSON))
         .andExpect(jsonPath("$.name").value(user.getName()));
   }
 
+  @Test
+  @WithMockUser
+  @DisplayName("Should return not modified when the user ETag matches")
+  void shouldReturnNotModifiedWhenUserEtagMatches() throws Exception {
+    final var user = UserUtils.create();
+
+    when(userService.findByIdAndReturnJson(anyLong())).thenReturn(new SerializedResponseDto("1-a-b",
+        objectMapper.writeValueAsBytes(userMapper.userToUserResponseDto(user))));
+
+    mockMvc.perform(get("/users/1").header(HttpHeaders.IF_NONE_MATCH, "\"1-a-b\""))
+        .andExpect(status().isNotModified())
+        .andExpect(content().string(""));
+  }
+
   @Test
   @WithMockUser
   @DisplayName("Should return not found when user with ID does not exist")
   void shouldReturnNotFoundWhenUserWithIdNotExists() throws Exception {
-    doThrow(new ResourceNotFoundException("User not found.")).when(userService).findByIdAndReturnDto(anyLong());
+    doThrow(new ResourceNotFoundException("User not found.")).when(userService).findByIdAndReturnJson(anyLong());
 
     mockMvc.perform(get("/users/1"))
         .andExpect(status().isNotFound())
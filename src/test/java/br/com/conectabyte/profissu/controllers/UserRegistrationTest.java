@@ -0,0 +1,82 @@
+package br.com.conectabyte.profissu.controllers;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.conectabyte.profissu.mappers.UserMapper;
+import br.com.conectabyte.profissu.repositories.UserRepository;
+import br.com.conectabyte.profissu.services.UserService;
+import br.com.conectabyte.profissu.utils.AddressUtils;
+import br.com.conectabyte.profissu.utils.ContactUtils;
+import br.com.conectabyte.profissu.utils.UserUtils;
+import jakarta.persistence.EntityManager;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("User registration Tests")
+class UserRegistrationTest {
+  private static final String EMAIL = "deleted@conectabyte.com.br";
+
+  private final UserMapper userMapper = UserMapper.INSTANCE;
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private UserService userService;
+
+  @Test
+  @DisplayName("Should reject registering the email of a deleted user as not unique")
+  void shouldRejectRegisteringEmailOfDeletedUser() throws Exception {
+    final var deletedUser = UserUtils.create();
+    final var deletedContact = ContactUtils.create(deletedUser);
+
+    deletedContact.setValue(EMAIL);
+    deletedUser.setContacts(List.of(deletedContact));
+    userRepository.save(deletedUser);
+    entityManager.flush();
+    userService.deleteById(deletedUser.getId());
+    entityManager.flush();
+    entityManager.clear();
+
+    final var user = UserUtils.create();
+    final var contact = ContactUtils.create(user);
+
+    contact.setValue(EMAIL);
+    user.setContacts(List.of(contact));
+    user.setAddresses(List.of(AddressUtils.create(user)));
+
+    mockMvc.perform(post("/auth/register")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(objectMapper.writeValueAsString(userMapper.userToUserRequestDto(user))))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.message").value("All fields must be valid"))
+        .andExpect(jsonPath("$.errors[0]").value("contact: must be unique"));
+  }
+}
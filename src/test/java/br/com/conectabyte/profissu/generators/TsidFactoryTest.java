@@ -0,0 +1,66 @@
+package br.com.conectabyte.profissu.generators;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+public class TsidFactoryTest {
+  private static final long JS_MAX_SAFE_INTEGER = (1L << 53) - 1;
+
+  @Test
+  void shouldGenerateIncreasingIdsWithinJavaScriptSafeRange() {
+    final var tsidFactory = TsidFactory.forNode(0);
+    var previous = tsidFactory.next();
+
+    for (int i = 0; i < 10_000; i++) {
+      final var current = tsidFactory.next();
+
+      assertTrue(current > previous);
+      assertTrue(current <= JS_MAX_SAFE_INTEGER);
+      previous = current;
+    }
+  }
+
+  @Test
+  void shouldEncodeTimestampAndNodeId() {
+    final var now = TsidFactory.EPOCH + 1_000;
+    final var tsidFactory = new TsidFactory(5, () -> now);
+    final var id = tsidFactory.next();
+
+    assertEquals(1_000, id >>> (TsidFactory.NODE_BITS + TsidFactory.COUNTER_BITS));
+    assertEquals(5, (id >>> TsidFactory.COUNTER_BITS) & TsidFactory.MAX_NODE_ID);
+  }
+
+  @Test
+  void shouldMoveToNextMillisecondWhenCounterOverflows() {
+    final var tsidFactory = new TsidFactory(0, () -> TsidFactory.EPOCH);
+    var last = 0L;
+
+    for (int i = 0; i <= 1 << TsidFactory.COUNTER_BITS; i++) {
+      last = tsidFactory.next();
+    }
+
+    assertEquals(1, last >>> (TsidFactory.NODE_BITS + TsidFactory.COUNTER_BITS));
+  }
+
+  @Test
+  void shouldKeepIncreasingWhenClockMovesBackwards() {
+    final var clock = new AtomicLong(TsidFactory.EPOCH + 1_000);
+    final var tsidFactory = new TsidFactory(0, clock::get);
+    final var first = tsidFactory.next();
+
+    clock.set(TsidFactory.EPOCH);
+
+    assertTrue(tsidFactory.next() > first);
+  }
+
+  @Test
+  void shouldRejectNodeIdOutOfRange() {
+    assertThrows(IllegalArgumentException.class, () -> new TsidFactory(TsidFactory.MAX_NODE_ID + 1, () -> 0));
+    assertThrows(IllegalArgumentException.class, () -> new TsidFactory(-1, () -> 0));
+  }
+}
@@ -1,5 +1,6 @@
 package br.com.conectabyte.profissu.repositories;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.LocalDateTime;
@@ -68,4 +69,33 @@ public class AddressRepositoryTest {
 
     assertTrue(findedAddress.isEmpty());
   }
+
+  @Test
+  public void shouldReturnOwnershipWhenAddressExists() {
+    final var user = UserUtils.create();
+    final var address = AddressUtils.create(user);
+
+    user.setAddresses(List.of(address));
+
+    final var savedUser = userRepository.save(user);
+    final var savedAddress = savedUser.getAddresses().get(0);
+    final var ownership = addressRepository.findOwnershipById(savedAddress.getId());
+
+    assertTrue(ownership.isPresent());
+    assertEquals(savedUser.getId(), ownership.get().ownerId());
+  }
+
+  @Test
+  public void shouldReturnAddressProjectionsByUserIds() {
+    final var user = UserUtils.create();
+
+    user.setAddresses(List.of(AddressUtils.create(user), AddressUtils.create(user)));
+
+    final var savedUser = userRepository.save(user);
+    final var addresses = addressRepository.findProjectionsByUserIds(List.of(savedUser.getId()));
+
+    assertEquals(2, addresses.size());
+    assertTrue(addresses.stream().allMatch(a -> a.userId().equals(savedUser.getId())));
+    assertEquals("123 Main St", addresses.get(0).street());
+  }
 }
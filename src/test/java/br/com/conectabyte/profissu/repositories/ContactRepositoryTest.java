@@ -1,18 +1,22 @@
 package br.com.conectabyte.profissu.repositories;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.test.context.ActiveProfiles;
 
 import br.com.conectabyte.profissu.utils.ContactUtils;
 import br.com.conectabyte.profissu.utils.UserUtils;
+import jakarta.persistence.EntityManagerFactory;
 
 @DataJpaTest
 @ActiveProfiles("test")
@@ -24,6 +28,12 @@ public class ContactRepositoryTest {
   @Autowired
   private UserRepository userRepository;
 
+  @Autowired
+  private TestEntityManager testEntityManager;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
   @Test
   public void shouldReturnContactByIdWhenIsNotDeletedAndExists() {
     final var user = UserUtils.create();
@@ -108,4 +118,60 @@ public class ContactRepositoryTest {
 
     assertTrue(findedContact.isEmpty());
   }
+
+  @Test
+  public void shouldCountContactValueWhenUserAndContactAreDeleted() {
+    final var user = UserUtils.create();
+    final var contact = ContactUtils.create(user);
+
+    user.setContacts(List.of(contact));
+
+    final var savedUser = userRepository.save(user);
+
+    savedUser.setDeletedAt(LocalDateTime.now());
+    savedUser.getContacts().get(0).setDeletedAt(LocalDateTime.now());
+    testEntityManager.flush();
+    testEntityManager.clear();
+
+    assertTrue(contactRepository.findByValue(contact.getValue()).isEmpty());
+    assertEquals(1, contactRepository.countByValueIncludingDeleted(contact.getValue()));
+    assertEquals(0, contactRepository.countByValueIncludingDeleted("invalid@conectabyte.com.br"));
+  }
+
+  @Test
+  public void shouldLoadContactWithUserInSingleStatement() {
+    final var user = UserUtils.create();
+    final var contact = ContactUtils.create(user);
+
+    user.setContacts(List.of(contact));
+    userRepository.save(user);
+    testEntityManager.flush();
+    testEntityManager.clear();
+
+    final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+    statistics.clear();
+
+    final var findedContact = contactRepository.findByValue(contact.getValue()).orElseThrow();
+
+    findedContact.getUser().getName();
+
+    assertEquals(1, statistics.getPrepareStatementCount());
+  }
+
+  @Test
+  public void shouldReturnContactProjectionsByUserIds() {
+    final var user = UserUtils.create();
+    final var contact = ContactUtils.create(user);
+
+    user.setContacts(List.of(contact));
+
+    final var savedUser = userRepository.save(user);
+    final var contacts = contactRepository.findProjectionsByUserIds(List.of(savedUser.getId()));
+
+    assertEquals(1, contacts.size());
+    assertEquals(savedUser.getId(), contacts.get(0).userId());
+    assertEquals(contact.getValue(), contacts.get(0).value());
+    assertTrue(contacts.get(0).standard());
+  }
 }
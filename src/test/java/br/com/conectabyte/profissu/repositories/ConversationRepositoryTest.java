@@ -0,0 +1,92 @@
+package br.com.conectabyte.profissu.repositories;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.ActiveProfiles;
+
+import br.com.conectabyte.profissu.entities.RequestedService;
+import br.com.conectabyte.profissu.entities.User;
+import br.com.conectabyte.profissu.enums.OfferStatusEnum;
+import br.com.conectabyte.profissu.utils.AddressUtils;
+import br.com.conectabyte.profissu.utils.ConversationUtils;
+import br.com.conectabyte.profissu.utils.RequestedServiceUtils;
+import br.com.conectabyte.profissu.utils.UserUtils;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class ConversationRepositoryTest {
+  @Autowired
+  private ConversationRepository conversationRepository;
+
+  @Autowired
+  private RequestedServiceRepository requestedServiceRepository;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  private User requester;
+  private User serviceProvider;
+  private RequestedService requestedService;
+
+  @BeforeEach
+  void setUp() {
+    final var user = UserUtils.create();
+
+    user.setAddresses(List.of(AddressUtils.create(user)));
+    requester = userRepository.save(user);
+    serviceProvider = userRepository.save(UserUtils.create());
+    requestedService = requestedServiceRepository.save(
+        RequestedServiceUtils.create(requester, requester.getAddresses().get(0), List.of()));
+  }
+
+  @Test
+  public void shouldFindPendingOfferOfServiceProvider() {
+    conversationRepository.saveAndFlush(ConversationUtils.create(requester, serviceProvider, requestedService,
+        List.of()));
+
+    assertTrue(conversationRepository.hasPendingOffer(requestedService.getId(), serviceProvider.getId()));
+    assertFalse(conversationRepository.hasPendingOffer(requestedService.getId(), requester.getId()));
+  }
+
+  @Test
+  public void shouldNotFindPendingOfferWhenOfferWasRejected() {
+    final var conversation = ConversationUtils.create(requester, serviceProvider, requestedService, List.of());
+
+    conversation.setOfferStatus(OfferStatusEnum.REJECTED);
+    conversationRepository.saveAndFlush(conversation);
+
+    assertFalse(conversationRepository.hasPendingOffer(requestedService.getId(), serviceProvider.getId()));
+  }
+
+  @Test
+  public void shouldRejectSecondPendingOfferOfSameServiceProvider() {
+    conversationRepository.saveAndFlush(ConversationUtils.create(requester, serviceProvider, requestedService,
+        List.of()));
+
+    assertThrows(DataIntegrityViolationException.class, () -> conversationRepository.saveAndFlush(
+        ConversationUtils.create(requester, serviceProvider, requestedService, List.of())));
+  }
+
+  @Test
+  public void shouldAllowNewPendingOfferAfterRejectedOne() {
+    final var conversation = ConversationUtils.create(requester, serviceProvider, requestedService, List.of());
+
+    conversation.setOfferStatus(OfferStatusEnum.REJECTED);
+    conversationRepository.saveAndFlush(conversation);
+
+    assertDoesNotThrow(() -> conversationRepository.saveAndFlush(
+        ConversationUtils.create(requester, serviceProvider, requestedService, List.of())));
+  }
+}
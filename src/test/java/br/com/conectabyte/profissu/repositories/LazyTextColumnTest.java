@@ -0,0 +1,155 @@
+package br.com.conectabyte.profissu.repositories;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+import org.hibernate.Hibernate;
+import org.hibernate.engine.spi.SelfDirtinessTracker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import br.com.conectabyte.profissu.config.StatementCountingConfig;
+import br.com.conectabyte.profissu.entities.Conversation;
+import br.com.conectabyte.profissu.entities.Message;
+import br.com.conectabyte.profissu.entities.RequestedService;
+import br.com.conectabyte.profissu.entities.Review;
+import br.com.conectabyte.profissu.entities.User;
+import br.com.conectabyte.profissu.utils.AddressUtils;
+import br.com.conectabyte.profissu.utils.ConversationUtils;
+import br.com.conectabyte.profissu.utils.MessageUtils;
+import br.com.conectabyte.profissu.utils.QueryRecorder;
+import br.com.conectabyte.profissu.utils.RequestedServiceUtils;
+import br.com.conectabyte.profissu.utils.ReviewUtils;
+import br.com.conectabyte.profissu.utils.UserUtils;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(StatementCountingConfig.class)
+@DisplayName("Lazy TEXT column Tests")
+public class LazyTextColumnTest {
+  private static final Pattern TEXT_COLUMNS = Pattern.compile("\\.(bio|description|message)\\b");
+
+  @Autowired
+  private TestEntityManager testEntityManager;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private RequestedServiceRepository requestedServiceRepository;
+
+  @Autowired
+  private ConversationRepository conversationRepository;
+
+  @Autowired
+  private MessageRepository messageRepository;
+
+  @Autowired
+  private ReviewRepository reviewRepository;
+
+  private User requester;
+  private RequestedService requestedService;
+  private Conversation conversation;
+  private Message message;
+  private Review review;
+
+  @BeforeEach
+  void setUp() {
+    requester = testEntityManager.persist(UserUtils.create());
+
+    final var serviceProvider = testEntityManager.persist(UserUtils.create());
+
+    requestedService = testEntityManager.persist(
+        RequestedServiceUtils.create(requester, AddressUtils.create(requester), List.of()));
+    conversation = testEntityManager.persist(
+        ConversationUtils.create(requester, serviceProvider, requestedService, List.of()));
+    message = testEntityManager.persist(MessageUtils.create(serviceProvider, conversation));
+    review = testEntityManager.persist(ReviewUtils.create(serviceProvider, requestedService));
+    testEntityManager.flush();
+    testEntityManager.clear();
+  }
+
+  private <T> T assertNoTextColumnRead(Supplier<T> supplier) {
+    final List<QueryRecorder.RecordedQuery> queries;
+    final T result;
+
+    QueryRecorder.start();
+
+    try {
+      result = supplier.get();
+    } finally {
+      queries = QueryRecorder.stop();
+    }
+
+    assertFalse(queries.isEmpty(), "No query was executed");
+    queries.forEach(query -> assertFalse(TEXT_COLUMNS.matcher(query.sql()).find(),
+        "TEXT column read by query " + query.sql()));
+    return result;
+  }
+
+  @Test
+  @DisplayName("Should not read TEXT columns in ownership checks")
+  void shouldNotReadTextColumnsInOwnershipChecks() {
+    assertTrue(assertNoTextColumnRead(() -> requestedServiceRepository.findOwnershipById(requestedService.getId()))
+        .isPresent());
+    assertTrue(assertNoTextColumnRead(() -> conversationRepository.findOwnershipById(conversation.getId()))
+        .isPresent());
+    assertTrue(assertNoTextColumnRead(() -> messageRepository.findOwnershipById(message.getId())).isPresent());
+    assertTrue(assertNoTextColumnRead(() -> reviewRepository.findOwnershipById(review.getId())).isPresent());
+  }
+
+  @Test
+  @DisplayName("Should not read TEXT columns when wiring a requested service and its owner")
+  void shouldNotReadTextColumnsWhenWiringAssociations() {
+    final var summary = assertNoTextColumnRead(() -> requestedServiceRepository
+        .findSummaryById(requestedService.getId()).orElseThrow());
+
+    assertFalse(Hibernate.isPropertyInitialized(summary, "description"));
+    assertFalse(Hibernate.isPropertyInitialized(summary.getUser(), "bio"));
+    assertEquals(requester.getId(), summary.getUser().getId());
+  }
+
+  @Test
+  @DisplayName("Should load a lazy TEXT column on first access")
+  void shouldLoadLazyTextColumnOnFirstAccess() {
+    final var summary = requestedServiceRepository.findSummaryById(requestedService.getId()).orElseThrow();
+
+    assertEquals(requestedService.getDescription(), summary.getDescription());
+    assertTrue(Hibernate.isPropertyInitialized(summary, "description"));
+  }
+
+  @Test
+  @DisplayName("Should fetch TEXT columns requested by the detail entity graph")
+  void shouldFetchTextColumnsRequestedByDetailGraph() {
+    final var detail = requestedServiceRepository.findById(requestedService.getId()).orElseThrow();
+
+    assertTrue(Hibernate.isPropertyInitialized(detail, "description"));
+    assertTrue(Hibernate.isPropertyInitialized(detail.getUser(), "bio"));
+  }
+
+  @Test
+  @DisplayName("Should track dirty attributes in-line instead of comparing snapshots")
+  void shouldTrackDirtyAttributesInline() {
+    final var user = userRepository.getReferenceById(requester.getId());
+
+    user.setName("New name");
+
+    final var dirtyAttributes = List.of(((SelfDirtinessTracker) Hibernate.unproxy(user))
+        .$$_hibernate_getDirtyAttributes());
+
+    assertEquals(List.of("name"), dirtyAttributes);
+  }
+}
@@ -0,0 +1,258 @@
+package br.com.conectabyte.profissu.repositories;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.ParameterizedType;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import br.com.conectabyte.profissu.config.StatementCountingConfig;
+import br.com.conectabyte.profissu.entities.Address;
+import br.com.conectabyte.profissu.entities.Contact;
+import br.com.conectabyte.profissu.entities.Conversation;
+import br.com.conectabyte.profissu.entities.Message;
+import br.com.conectabyte.profissu.entities.RequestedService;
+import br.com.conectabyte.profissu.entities.Review;
+import br.com.conectabyte.profissu.entities.User;
+import br.com.conectabyte.profissu.enums.OfferStatusEnum;
+import br.com.conectabyte.profissu.enums.ParticipantRoleEnum;
+import br.com.conectabyte.profissu.enums.RequestedServiceStatusEnum;
+import br.com.conectabyte.profissu.enums.RoleEnum;
+import br.com.conectabyte.profissu.utils.AddressUtils;
+import br.com.conectabyte.profissu.utils.ContactUtils;
+import br.com.conectabyte.profissu.utils.ConversationUtils;
+import br.com.conectabyte.profissu.utils.MessageUtils;
+import br.com.conectabyte.profissu.utils.QueryRecorder;
+import br.com.conectabyte.profissu.utils.RequestedServiceParticipantUtils;
+import br.com.conectabyte.profissu.utils.RequestedServiceUtils;
+import br.com.conectabyte.profissu.utils.ReviewUtils;
+import br.com.conectabyte.profissu.utils.UserUtils;
+import jakarta.persistence.EntityManager;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(StatementCountingConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("Query plan Tests")
+public class QueryPlanTest {
+  private static final int ROWS = 300;
+  private static final List<String> TABLES = List.of("users", "contacts", "addresses", "requested_services",
+      "requested_service_participants", "conversations", "messages", "reviews", "user_rating_summaries");
+
+  @Autowired
+  private ApplicationContext applicationContext;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  private final List<Long> userIds = new ArrayList<>();
+  private final Map<Class<?>, Long> entityIds = new HashMap<>();
+  private String email;
+
+  @BeforeAll
+  void seed() {
+    new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+      final var users = new ArrayList<User>();
+
+      for (int i = 0; i < ROWS; i++) {
+        final var user = UserUtils.create();
+        final var contact = ContactUtils.create(user);
+
+        contact.setValue("plan" + i + "@conectabyte.com.br");
+        user.setContacts(List.of(contact));
+        user.setAddresses(List.of(AddressUtils.create(user)));
+        entityManager.persist(user);
+        users.add(user);
+      }
+
+      for (int i = 0; i < ROWS; i++) {
+        final var requester = users.get(i);
+        final var serviceProvider = users.get((i + 1) % ROWS);
+        final var requestedService = RequestedServiceUtils.create(requester, AddressUtils.create(requester),
+            List.of());
+
+        requestedService.setStatus(i % 10 == 0 ? RequestedServiceStatusEnum.PENDING : RequestedServiceStatusEnum.DONE);
+        entityManager.persist(requestedService);
+
+        final var conversation = ConversationUtils.create(requester, serviceProvider, requestedService, List.of());
+
+        conversation.setOfferStatus(i % 4 == 0 ? OfferStatusEnum.ACCEPTED : OfferStatusEnum.REJECTED);
+        entityManager.persist(conversation);
+        entityManager.persist(RequestedServiceParticipantUtils.create(requestedService, requester,
+            ParticipantRoleEnum.REQUESTER));
+
+        if (conversation.getOfferStatus() == OfferStatusEnum.ACCEPTED) {
+          entityManager.persist(RequestedServiceParticipantUtils.create(requestedService, serviceProvider,
+              ParticipantRoleEnum.SERVICE_PROVIDER));
+        }
+
+        for (int j = 0; j < 3; j++) {
+          final var message = MessageUtils.create(j % 2 == 0 ? requester : serviceProvider, conversation);
+
+          message.setRead(i % 10 != 0);
+          message.setNotificationSent(i % 10 != 0);
+          entityManager.persist(message);
+          entityIds.putIfAbsent(Message.class, message.getId());
+        }
+
+        final var review = ReviewUtils.create(serviceProvider, requestedService);
+
+        entityManager.persist(review);
+
+        if (i == ROWS / 2) {
+          entityIds.put(Review.class, review.getId());
+          entityIds.put(RequestedService.class, requestedService.getId());
+          entityIds.put(Conversation.class, conversation.getId());
+          entityIds.put(User.class, requester.getId());
+          entityIds.put(Contact.class, requester.getContacts().get(0).getId());
+          entityIds.put(Address.class, requester.getAddresses().get(0).getId());
+          email = requester.getContacts().get(0).getValue();
+        }
+      }
+
+      users.forEach(u -> userIds.add(u.getId()));
+    });
+
+    TABLES.forEach(table -> jdbcTemplate.execute("ANALYZE TABLE " + table));
+  }
+
+  @AfterAll
+  void cleanUp() {
+    final var ids = String.join(",", userIds.stream().map(String::valueOf).toList());
+
+    jdbcTemplate.update("DELETE FROM user_rating_summaries WHERE user_id IN (" + ids + ")");
+    jdbcTemplate.update("DELETE FROM messages WHERE user_id IN (" + ids + ")");
+    jdbcTemplate.update("DELETE FROM reviews WHERE user_id IN (" + ids + ")");
+    jdbcTemplate.update("DELETE FROM requested_service_participants WHERE user_id IN (" + ids + ")");
+    jdbcTemplate.update("DELETE FROM conversations WHERE requester_id IN (" + ids + ")");
+    jdbcTemplate.update("DELETE FROM requested_services WHERE user_id IN (" + ids + ")");
+    jdbcTemplate.update("DELETE FROM addresses WHERE user_id IN (" + ids + ")");
+    jdbcTemplate.update("DELETE FROM contacts WHERE user_id IN (" + ids + ")");
+    jdbcTemplate.update("DELETE FROM users WHERE id IN (" + ids + ")");
+  }
+
+  private Object argumentFor(Class<?> repository, Parameter parameter) {
+    final var entityType = Arrays.stream(repository.getGenericInterfaces())
+        .filter(ParameterizedType.class::isInstance)
+        .map(type -> (Class<?>) ((ParameterizedType) type).getActualTypeArguments()[0])
+        .findFirst()
+        .orElseThrow();
+
+    return switch (parameter.getName()) {
+      case "id" -> entityIds.get(entityType);
+      case "ids" -> List.of(entityIds.get(entityType));
+      case "userId", "serviceProviderId" -> entityIds.get(User.class);
+      case "userIds" -> List.of(entityIds.get(User.class));
+      case "firstUserId", "lastUserId" -> entityIds.get(User.class);
+      case "reviewCountDelta", "starTotalDelta", "lastId" -> 0L;
+      case "conversationId" -> entityIds.get(Conversation.class);
+      case "requestedServiceId" -> entityIds.get(RequestedService.class);
+      case "addressId" -> entityIds.get(Address.class);
+      case "conversationIds" -> List.of(entityIds.get(Conversation.class));
+      case "email", "value" -> email;
+      case "name" -> RoleEnum.USER.name();
+      case "state" -> "IL";
+      case "city" -> "Springfield";
+      case "query" -> "Title*";
+      case "status" -> RequestedServiceStatusEnum.PENDING.name();
+      case "thresholdDate" -> LocalDateTime.now();
+      case "pageable" -> PageRequest.of(0, 10);
+      default -> throw new IllegalStateException("No sample value for parameter " + parameter.getName()
+          + " of " + repository.getSimpleName());
+    };
+  }
+
+  private List<QueryRecorder.RecordedQuery> recordQueries(Object repository, Class<?> repositoryType, Method method) {
+    final var arguments = Arrays.stream(method.getParameters())
+        .map(parameter -> parameter.getType().equals(Pageable.class)
+            ? PageRequest.of(0, 10)
+            : argumentFor(repositoryType, parameter))
+        .toArray();
+
+    final List<QueryRecorder.RecordedQuery> queries;
+
+    QueryRecorder.start();
+
+    try {
+      new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+        try {
+          method.invoke(repository, arguments);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+          throw new IllegalStateException(e);
+        }
+      });
+    } finally {
+      queries = QueryRecorder.stop();
+    }
+
+    return queries;
+  }
+
+  private void assertNoFullTableScan(QueryRecorder.RecordedQuery query) {
+    final var plan = jdbcTemplate.queryForList("EXPLAIN " + query.sql(), query.parameters().toArray());
+    final var fullScans = plan.stream()
+        .filter(row -> "ALL".equals(row.get("type")))
+        .filter(row -> !"INSERT".equals(row.get("select_type")))
+        .filter(row -> !String.valueOf(row.get("table")).startsWith("<"))
+        .toList();
+
+    assertTrue(fullScans.isEmpty(), "Full table scan in plan " + plan + " for query " + query.sql());
+  }
+
+  @TestFactory
+  Stream<DynamicTest> shouldNotFullScanTablesInAnyRepositoryQuery() {
+    return applicationContext.getBeansOfType(JpaRepository.class).values().stream()
+        .flatMap(repository -> Arrays.stream(AopProxyUtils.proxiedUserInterfaces(repository))
+            .filter(type -> type.getPackageName().equals(QueryPlanTest.class.getPackageName()))
+            .flatMap(type -> Arrays.stream(type.getDeclaredMethods())
+                .filter(method -> method.isAnnotationPresent(Query.class))
+                .sorted(Comparator.comparing(Method::getName))
+                .map(method -> DynamicTest.dynamicTest(type.getSimpleName() + "." + method.getName(), () -> {
+                  final var queries = recordQueries(repository, type, method);
+
+                  assertFalse(queries.isEmpty(), "No query was executed");
+                  queries.forEach(this::assertNoFullTableScan);
+                }))));
+  }
+}
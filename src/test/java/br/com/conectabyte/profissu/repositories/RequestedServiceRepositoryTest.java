@@ -1,25 +1,39 @@
 package br.com.conectabyte.profissu.repositories;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.UUID;
 
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.ActiveProfiles;
 
+import br.com.conectabyte.profissu.dtos.response.GeoPointDto;
+import br.com.conectabyte.profissu.dtos.response.RequestedServiceProjectionDto;
+import br.com.conectabyte.profissu.entities.RequestedService;
 import br.com.conectabyte.profissu.enums.OfferStatusEnum;
+import br.com.conectabyte.profissu.enums.ParticipantRoleEnum;
 import br.com.conectabyte.profissu.enums.RequestedServiceStatusEnum;
 import br.com.conectabyte.profissu.utils.AddressUtils;
 import br.com.conectabyte.profissu.utils.ContactUtils;
 import br.com.conectabyte.profissu.utils.ConversationUtils;
+import br.com.conectabyte.profissu.utils.RequestedServiceParticipantUtils;
 import br.com.conectabyte.profissu.utils.RequestedServiceUtils;
 import br.com.conectabyte.profissu.utils.UserUtils;
+import jakarta.persistence.EntityManagerFactory;
 
 @DataJpaTest
 @ActiveProfiles("test")
@@ -34,6 +48,44 @@ public class RequestedServiceRepositoryTest {
   @Autowired
   private ConversationRepository conversationRepository;
 
+  @Autowired
+  private RequestedServiceParticipantRepository requestedServiceParticipantRepository;
+
+  @Autowired
+  private TestEntityManager testEntityManager;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  private void saveRequestedServices(int count) {
+    for (int i = 0; i < count; i++) {
+      final var user = UserUtils.create();
+      final var contact = ContactUtils.create(user);
+
+      contact.setValue(UUID.randomUUID() + "@conectabyte.com.br");
+      user.setContacts(List.of(contact));
+      user.setAddresses(List.of(AddressUtils.create(user)));
+
+      final var savedUser = userRepository.save(user);
+
+      requestedServiceRepository.save(
+          RequestedServiceUtils.create(savedUser, savedUser.getAddresses().get(0), List.of()));
+    }
+
+    testEntityManager.flush();
+    testEntityManager.clear();
+  }
+
+  private long countStatements(Runnable runnable) {
+    final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+    testEntityManager.clear();
+    statistics.clear();
+    runnable.run();
+
+    return statistics.getPrepareStatementCount();
+  }
+
   @Test
   public void shouldReturnRequestedServicePageWhenHavePandingRequestServices() {
     final var user = UserUtils.create();
@@ -47,9 +99,41 @@ public class RequestedServiceRepositoryTest {
 
     requestedServiceRepository.save(requestedService);
 
-    final var requestedServicePage = requestedServiceRepository.findAvailableServiceRequests(Pageable.ofSize(10));
+    final var requestedServiceSlice = requestedServiceRepository.findAvailableServiceRequests(null, null,
+        Pageable.ofSize(10));
+
+    assertTrue(requestedServiceSlice.hasContent());
+    assertTrue(requestedServiceRepository.countAvailableServiceRequests(null, null) > 0);
+  }
+
+  @Test
+  public void shouldReturnAvailableRequestedServicesNewestFirstWithIdTiebreak() {
+    final var user = UserUtils.create();
+    final var address = AddressUtils.create(user);
+
+    user.setContacts(List.of(ContactUtils.create(user)));
+    user.setAddresses(List.of(address));
+
+    final var savedUser = userRepository.save(user);
+    final var savedAddress = savedUser.getAddresses().get(0);
+    final var createdAt = LocalDateTime.now().withNano(0);
+    final var oldest = RequestedServiceUtils.create(savedUser, savedAddress, List.of());
+    final var tiedFirst = RequestedServiceUtils.create(savedUser, savedAddress, List.of());
+    final var tiedSecond = RequestedServiceUtils.create(savedUser, savedAddress, List.of());
+
+    oldest.setCreatedAt(createdAt.minusDays(1));
+    tiedFirst.setCreatedAt(createdAt);
+    tiedSecond.setCreatedAt(createdAt);
+
+    final var savedOldest = requestedServiceRepository.save(oldest);
+    final var savedTiedFirst = requestedServiceRepository.save(tiedFirst);
+    final var savedTiedSecond = requestedServiceRepository.save(tiedSecond);
+
+    final var requestedServiceSlice = requestedServiceRepository.findAvailableServiceRequests(null, null,
+        PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt").and(Sort.by(Sort.Direction.DESC, "id"))));
 
-    assertTrue(requestedServicePage.getTotalElements() > 0);
+    assertEquals(List.of(savedTiedSecond.getId(), savedTiedFirst.getId(), savedOldest.getId()),
+        requestedServiceSlice.getContent().stream().map(RequestedServiceProjectionDto::id).toList());
   }
 
   @Test
@@ -66,9 +150,11 @@ public class RequestedServiceRepositoryTest {
     requestedService.setStatus(RequestedServiceStatusEnum.DONE);
     requestedServiceRepository.save(requestedService);
 
-    final var requestedServicePage = requestedServiceRepository.findAvailableServiceRequests(Pageable.ofSize(10));
+    final var requestedServiceSlice = requestedServiceRepository.findAvailableServiceRequests(null, null,
+        Pageable.ofSize(10));
 
-    assertEquals(requestedServicePage.getTotalElements(), 0);
+    assertFalse(requestedServiceSlice.hasContent());
+    assertEquals(0, requestedServiceRepository.countAvailableServiceRequests(null, null));
   }
 
   @Test
@@ -85,9 +171,11 @@ public class RequestedServiceRepositoryTest {
     requestedService.setDeletedAt(LocalDateTime.now());
     requestedServiceRepository.save(requestedService);
 
-    final var requestedServicePage = requestedServiceRepository.findAvailableServiceRequests(Pageable.ofSize(10));
+    final var requestedServiceSlice = requestedServiceRepository.findAvailableServiceRequests(null, null,
+        Pageable.ofSize(10));
 
-    assertEquals(requestedServicePage.getTotalElements(), 0);
+    assertFalse(requestedServiceSlice.hasContent());
+    assertEquals(0, requestedServiceRepository.countAvailableServiceRequests(null, null));
   }
 
   @Test
@@ -99,17 +187,20 @@ public class RequestedServiceRepositoryTest {
 
     final var savedUser = userRepository.save(user);
     final var requestedService = RequestedServiceUtils.create(savedUser, savedUser.getAddresses().get(0), List.of());
+    final var savedRequestedService = requestedServiceRepository.save(requestedService);
 
-    requestedServiceRepository.save(requestedService);
+    requestedServiceParticipantRepository.save(RequestedServiceParticipantUtils.create(savedRequestedService,
+        savedUser, ParticipantRoleEnum.REQUESTER));
 
-    final var requestedServicePage = requestedServiceRepository.findByUserId(savedUser.getId(), Pageable.ofSize(10));
+    final var requestedServices = requestedServiceRepository.findByUserId(savedUser.getId(), Pageable.ofSize(10));
 
-    assertEquals(1, requestedServicePage.getTotalElements());
-    assertEquals(savedUser.getId(), requestedServicePage.getContent().get(0).getUser().getId());
+    assertEquals(1, requestedServices.getTotalElements());
+    assertEquals(savedRequestedService.getId(), requestedServices.getContent().get(0).id());
+    assertEquals(savedUser.getId(), requestedServices.getContent().get(0).user().id());
   }
 
   @Test
-  public void shouldFindRequestedServicesByServiceProviderInAcceptedConversation() {
+  public void shouldFindRequestedServicesByServiceProviderParticipant() {
     final var user = UserUtils.create();
     final var address = AddressUtils.create(user);
 
@@ -120,21 +211,20 @@ public class RequestedServiceRepositoryTest {
     final var requestedService = RequestedServiceUtils.create(savedUser, savedUser.getAddresses().get(0), List.of());
     final var savedServiceProvider = userRepository.save(serviceProvider);
     final var savedRequestedService = requestedServiceRepository.save(requestedService);
-    final var conversation = ConversationUtils.create(savedUser, savedServiceProvider, savedRequestedService,
-        List.of());
 
-    conversation.setOfferStatus(OfferStatusEnum.ACCEPTED);
-    conversationRepository.save(conversation);
+    requestedServiceParticipantRepository.save(RequestedServiceParticipantUtils.create(savedRequestedService,
+        savedServiceProvider, ParticipantRoleEnum.SERVICE_PROVIDER));
 
-    final var requestedServicePage = requestedServiceRepository.findByUserId(savedServiceProvider.getId(),
+    final var requestedServices = requestedServiceRepository.findByUserId(savedServiceProvider.getId(),
         Pageable.ofSize(10));
 
-    assertEquals(1, requestedServicePage.getTotalElements());
-    assertEquals(savedRequestedService.getId(), requestedServicePage.getContent().get(0).getId());
+    assertEquals(1, requestedServices.getTotalElements());
+    assertEquals(savedRequestedService.getId(), requestedServices.getContent().get(0).id());
+    assertEquals(savedUser.getId(), requestedServices.getContent().get(0).user().id());
   }
 
   @Test
-  public void shouldNotFindRequestedServicesByServiceProviderInPendingConversation() {
+  public void shouldNotFindRequestedServicesByServiceProviderWithoutParticipation() {
     final var user = UserUtils.create();
     final var address = AddressUtils.create(user);
 
@@ -151,10 +241,11 @@ public class RequestedServiceRepositoryTest {
     conversation.setOfferStatus(OfferStatusEnum.PENDING);
     conversationRepository.save(conversation);
 
-    final var requestedServicePage = requestedServiceRepository.findByUserId(savedServiceProvider.getId(),
+    final var requestedServices = requestedServiceRepository.findByUserId(savedServiceProvider.getId(),
         Pageable.ofSize(10));
 
-    assertEquals(0, requestedServicePage.getTotalElements());
+    assertFalse(requestedServices.hasContent());
+    assertEquals(0, requestedServices.getTotalElements());
   }
 
   @Test
@@ -168,10 +259,196 @@ public class RequestedServiceRepositoryTest {
     final var requestedService = RequestedServiceUtils.create(savedUser, savedUser.getAddresses().get(0), List.of());
 
     requestedService.setDeletedAt(LocalDateTime.now());
-    requestedServiceRepository.save(requestedService);
 
-    final var result = requestedServiceRepository.findByUserId(user.getId(), Pageable.ofSize(10));
+    final var savedRequestedService = requestedServiceRepository.save(requestedService);
+
+    requestedServiceParticipantRepository.save(RequestedServiceParticipantUtils.create(savedRequestedService,
+        savedUser, ParticipantRoleEnum.REQUESTER));
+
+    final var requestedServices = requestedServiceRepository.findByUserId(savedUser.getId(), Pageable.ofSize(10));
+
+    assertFalse(requestedServices.hasContent());
+    assertEquals(0, requestedServices.getTotalElements());
+  }
+
+  @Test
+  public void shouldReturnOwnershipWithAcceptedServiceProvider() {
+    final var user = UserUtils.create();
+    final var address = AddressUtils.create(user);
+
+    user.setAddresses(List.of(address));
+
+    final var savedUser = userRepository.save(user);
+    final var serviceProvider = UserUtils.create();
+    final var requestedService = RequestedServiceUtils.create(savedUser, savedUser.getAddresses().get(0), List.of());
+    final var savedServiceProvider = userRepository.save(serviceProvider);
+    final var savedRequestedService = requestedServiceRepository.save(requestedService);
+    final var conversation = ConversationUtils.create(savedUser, savedServiceProvider, savedRequestedService,
+        List.of());
+
+    conversation.setOfferStatus(OfferStatusEnum.ACCEPTED);
+    conversationRepository.save(conversation);
+
+    final var ownership = requestedServiceRepository.findOwnershipById(savedRequestedService.getId());
+
+    assertTrue(ownership.isPresent());
+    assertEquals(savedUser.getId(), ownership.get().ownerId());
+    assertEquals(savedServiceProvider.getId(), ownership.get().serviceProviderId());
+  }
+
+  @Test
+  public void shouldReturnOwnershipWithoutServiceProviderWhenNoOfferWasAccepted() {
+    final var user = UserUtils.create();
+    final var address = AddressUtils.create(user);
+
+    user.setAddresses(List.of(address));
+
+    final var savedUser = userRepository.save(user);
+    final var requestedService = RequestedServiceUtils.create(savedUser, savedUser.getAddresses().get(0), List.of());
+    final var savedRequestedService = requestedServiceRepository.save(requestedService);
+
+    final var ownership = requestedServiceRepository.findOwnershipById(savedRequestedService.getId());
+
+    assertTrue(ownership.isPresent());
+    assertEquals(savedUser.getId(), ownership.get().ownerId());
+    assertNull(ownership.get().serviceProviderId());
+  }
+
+  @Test
+  public void shouldNotReturnOwnershipForDeletedRequestedService() {
+    final var user = UserUtils.create();
+    final var address = AddressUtils.create(user);
+
+    user.setAddresses(List.of(address));
+
+    final var savedUser = userRepository.save(user);
+    final var requestedService = RequestedServiceUtils.create(savedUser, savedUser.getAddresses().get(0), List.of());
+
+    requestedService.setDeletedAt(LocalDateTime.now());
+
+    final var savedRequestedService = requestedServiceRepository.save(requestedService);
+
+    assertTrue(requestedServiceRepository.findOwnershipById(savedRequestedService.getId()).isEmpty());
+  }
+
+  @Test
+  public void shouldLoadAvailableServiceRequestProjectionsInSingleStatementWithoutCount() {
+    saveRequestedServices(10);
+
+    final var statements = countStatements(() -> {
+      final var requestedServiceSlice = requestedServiceRepository.findAvailableServiceRequests(null, null,
+          PageRequest.of(0, 5));
+
+      assertTrue(requestedServiceSlice.hasNext());
+      requestedServiceSlice.getContent().forEach(requestedService -> {
+        requestedService.address().street();
+        requestedService.user().name();
+      });
+    });
+
+    assertEquals(1, statements);
+  }
+
+  @Test
+  public void shouldLoadRequestedServiceDetailInSingleStatement() {
+    saveRequestedServices(1);
+
+    final var id = requestedServiceRepository.findAvailableServiceRequests(null, null, Pageable.ofSize(1)).getContent()
+        .get(0).id();
+    final var statements = countStatements(() -> {
+      final var requestedService = requestedServiceRepository.findById(id).orElseThrow();
+
+      requestedService.getAddress().getStreet();
+      requestedService.getUser().getName();
+      requestedService.getConversations().size();
+    });
+
+    assertEquals(1, statements);
+  }
+
+  @Test
+  public void shouldFilterAvailableServiceRequestsByStateAndCity() {
+    saveRequestedServices(2);
+
+    assertEquals(2, requestedServiceRepository.findAvailableServiceRequests("IL", "Springfield",
+        Pageable.ofSize(10)).getNumberOfElements());
+    assertEquals(2, requestedServiceRepository.countAvailableServiceRequests("IL", null));
+    assertFalse(requestedServiceRepository.findAvailableServiceRequests("SP", null, Pageable.ofSize(10))
+        .hasContent());
+    assertEquals(0, requestedServiceRepository.countAvailableServiceRequests("IL", "Chicago"));
+  }
+
+  @Test
+  public void shouldFindFeedEntriesOnlyForAvailableServiceRequests() {
+    saveRequestedServices(2);
+
+    final var requestedServices = requestedServiceRepository.findAll();
+    final var doneRequestedService = requestedServices.get(1);
+
+    doneRequestedService.setStatus(RequestedServiceStatusEnum.DONE);
+    requestedServiceRepository.save(doneRequestedService);
+    testEntityManager.flush();
+    testEntityManager.clear();
+
+    final var entries = requestedServiceRepository.findFeedEntriesByIds(requestedServices.stream()
+        .map(RequestedService::getId)
+        .toList());
+
+    assertEquals(1, entries.size());
+    assertEquals(requestedServices.get(0).getId(), entries.get(0).requestedService().id());
+    assertEquals("Springfield", entries.get(0).requestedService().address().city());
+    assertNotNull(entries.get(0).createdAt());
+  }
+
+  @Test
+  public void shouldFindFeedEntriesAfterIdInIdOrder() {
+    saveRequestedServices(3);
+
+    final var firstSlice = requestedServiceRepository.findFeedEntriesAfterId(0L, PageRequest.of(0, 2));
+    final var lastId = firstSlice.getContent().get(1).requestedService().id();
+    final var secondSlice = requestedServiceRepository.findFeedEntriesAfterId(lastId, PageRequest.of(0, 2));
+
+    assertTrue(firstSlice.hasNext());
+    assertTrue(firstSlice.getContent().get(0).requestedService().id() < lastId);
+    assertFalse(secondSlice.hasNext());
+    assertEquals(1, secondSlice.getNumberOfElements());
+    assertTrue(secondSlice.getContent().get(0).requestedService().id() > lastId);
+  }
+
+  @Test
+  public void shouldFindGeoEntriesOnlyForAvailableServiceRequestsWithCoordinates() {
+    saveRequestedServices(3);
+
+    final var requestedServices = requestedServiceRepository.findAll();
+
+    requestedServices.subList(0, 2).forEach(requestedService -> {
+      requestedService.getAddress().setLatitude(-23.5505);
+      requestedService.getAddress().setLongitude(-46.6333);
+    });
+    requestedServices.get(1).setStatus(RequestedServiceStatusEnum.DONE);
+    requestedServiceRepository.saveAll(requestedServices);
+    testEntityManager.flush();
+    testEntityManager.clear();
+
+    final var entries = requestedServiceRepository.findGeoEntriesByIds(requestedServices.stream()
+        .map(RequestedService::getId)
+        .toList());
+
+    assertEquals(1, entries.size());
+    assertEquals(requestedServices.get(0).getId(), entries.get(0).id());
+    assertEquals(new GeoPointDto(-23.5505, -46.6333), entries.get(0).location());
+    assertEquals(entries, requestedServiceRepository.findGeoEntriesAfterId(0L, PageRequest.of(0, 10)).getContent());
+  }
+
+  @Test
+  public void shouldFindAvailableIdsByUserAndAddress() {
+    saveRequestedServices(1);
+
+    final var requestedService = requestedServiceRepository.findAll().get(0);
 
-    assertEquals(0, result.getTotalElements());
+    assertEquals(List.of(requestedService.getId()),
+        requestedServiceRepository.findAvailableIdsByUserId(requestedService.getUser().getId()));
+    assertEquals(List.of(requestedService.getId()),
+        requestedServiceRepository.findAvailableIdsByAddressId(requestedService.getAddress().getId()));
   }
 }
@@ -0,0 +1,152 @@
+package br.com.conectabyte.profissu.repositories;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import br.com.conectabyte.profissu.entities.User;
+import br.com.conectabyte.profissu.enums.RequestedServiceStatusEnum;
+import br.com.conectabyte.profissu.utils.AddressUtils;
+import br.com.conectabyte.profissu.utils.ContactUtils;
+import br.com.conectabyte.profissu.utils.FullTextQuery;
+import br.com.conectabyte.profissu.utils.RequestedServiceUtils;
+import br.com.conectabyte.profissu.utils.UserUtils;
+import jakarta.persistence.EntityManager;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("Requested service search Tests")
+public class RequestedServiceSearchTest {
+  @Autowired
+  private RequestedServiceRepository requestedServiceRepository;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  private final List<Long> ids = new ArrayList<>();
+  private Long userId;
+
+  @BeforeAll
+  void seed() {
+    new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+      final var user = UserUtils.create();
+      final var contact = ContactUtils.create(user);
+
+      contact.setValue("search@conectabyte.com.br");
+      user.setContacts(List.of(contact));
+      entityManager.persist(user);
+      userId = user.getId();
+
+      persist(user, "Pintura de parede", "Preciso pintar a sala inteira", RequestedServiceStatusEnum.PENDING, "IL",
+          false);
+      persist(user, "Instalação elétrica", "Trocar tomadas e retocar a pintura do teto",
+          RequestedServiceStatusEnum.PENDING, "IL", false);
+      persist(user, "Pinturas externas", "Fachada e muros", RequestedServiceStatusEnum.DONE, "IL", false);
+      persist(user, "Pintura de portão", "Portão de ferro", RequestedServiceStatusEnum.PENDING, "SP", false);
+      persist(user, "Pintura antiga", "Pedido removido", RequestedServiceStatusEnum.PENDING, "IL", true);
+    });
+  }
+
+  private void persist(User user, String title, String description, RequestedServiceStatusEnum status,
+      String state, boolean deleted) {
+    final var address = AddressUtils.create(user);
+    final var requestedService = RequestedServiceUtils.create(user, address, List.of());
+
+    address.setState(state);
+    requestedService.setTitle(title);
+    requestedService.setDescription(description);
+    requestedService.setStatus(status);
+    requestedService.setDeletedAt(deleted ? LocalDateTime.now() : null);
+    entityManager.persist(requestedService);
+    ids.add(requestedService.getId());
+  }
+
+  @AfterAll
+  void cleanUp() {
+    jdbcTemplate.update("DELETE FROM requested_services WHERE user_id = ?", userId);
+    jdbcTemplate.update("DELETE FROM addresses WHERE user_id = ?", userId);
+    jdbcTemplate.update("DELETE FROM contacts WHERE user_id = ?", userId);
+    jdbcTemplate.update("DELETE FROM users WHERE id = ?", userId);
+  }
+
+  private List<Long> search(String query, RequestedServiceStatusEnum status, String state) {
+    return requestedServiceRepository.searchIds(FullTextQuery.toBooleanMode(query),
+        status == null ? null : status.name(), state, null, PageRequest.of(0, 10)).getContent();
+  }
+
+  @Test
+  public void shouldRankTitleMatchesAboveDescriptionMatches() {
+    assertEquals(List.of(ids.get(0), ids.get(1)), search("pintura", RequestedServiceStatusEnum.PENDING, "IL"));
+  }
+
+  @Test
+  public void shouldFilterSearchByStatus() {
+    assertEquals(List.of(ids.get(2)), search("pintura", RequestedServiceStatusEnum.DONE, null));
+  }
+
+  @Test
+  public void shouldFilterSearchByState() {
+    assertEquals(List.of(ids.get(3)), search("pintura", null, "SP"));
+  }
+
+  @Test
+  public void shouldNotFindDeletedRequestedServices() {
+    final var result = search("pintura", null, null);
+
+    assertEquals(4, result.size());
+    assertFalse(result.contains(ids.get(4)));
+  }
+
+  @Test
+  public void shouldMatchPluralsWithoutAccents() {
+    assertEquals(List.of(ids.get(1)), search("instalacoes eletricas", null, null));
+    assertTrue(search("pinturas", null, "IL").containsAll(List.of(ids.get(0), ids.get(2))));
+  }
+
+  @Test
+  public void shouldSliceSearchResults() {
+    final var result = requestedServiceRepository.searchIds(FullTextQuery.toBooleanMode("pintura"), null, null,
+        null, PageRequest.of(0, 2));
+
+    assertEquals(2, result.getNumberOfElements());
+    assertTrue(result.hasNext());
+  }
+
+  @Test
+  public void shouldFindProjectionsByIds() {
+    final var result = requestedServiceRepository.findProjectionsByIds(List.of(ids.get(0), ids.get(4)));
+
+    assertEquals(1, result.size());
+    assertEquals("Pintura de parede", result.get(0).title());
+    assertEquals("IL", result.get(0).address().state());
+  }
+}
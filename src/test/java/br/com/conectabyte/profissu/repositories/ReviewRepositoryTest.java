@@ -0,0 +1,98 @@
+package br.com.conectabyte.profissu.repositories;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.ActiveProfiles;
+
+import br.com.conectabyte.profissu.dtos.response.ReviewProjectionDto;
+import br.com.conectabyte.profissu.entities.Review;
+import br.com.conectabyte.profissu.entities.User;
+import br.com.conectabyte.profissu.enums.OfferStatusEnum;
+import br.com.conectabyte.profissu.enums.ParticipantRoleEnum;
+import br.com.conectabyte.profissu.utils.AddressUtils;
+import br.com.conectabyte.profissu.utils.ConversationUtils;
+import br.com.conectabyte.profissu.utils.RequestedServiceParticipantUtils;
+import br.com.conectabyte.profissu.utils.RequestedServiceUtils;
+import br.com.conectabyte.profissu.utils.ReviewUtils;
+import br.com.conectabyte.profissu.utils.UserUtils;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class ReviewRepositoryTest {
+  @Autowired
+  private ReviewRepository reviewRepository;
+
+  @Autowired
+  private TestEntityManager testEntityManager;
+
+  private User requester;
+  private User acceptedServiceProvider;
+  private User rejectedServiceProvider;
+  private Review requesterReview;
+  private Review serviceProviderReview;
+
+  @BeforeEach
+  void setUp() {
+    requester = testEntityManager.persist(UserUtils.create());
+    acceptedServiceProvider = testEntityManager.persist(UserUtils.create());
+    rejectedServiceProvider = testEntityManager.persist(UserUtils.create());
+
+    final var requestedService = testEntityManager.persist(
+        RequestedServiceUtils.create(requester, AddressUtils.create(requester), List.of()));
+    final var acceptedConversation = ConversationUtils.create(requester, acceptedServiceProvider, requestedService,
+        List.of());
+    final var rejectedConversation = ConversationUtils.create(requester, rejectedServiceProvider, requestedService,
+        List.of());
+
+    acceptedConversation.setOfferStatus(OfferStatusEnum.ACCEPTED);
+    rejectedConversation.setOfferStatus(OfferStatusEnum.REJECTED);
+    testEntityManager.persist(acceptedConversation);
+    testEntityManager.persist(rejectedConversation);
+    testEntityManager.persist(RequestedServiceParticipantUtils.create(requestedService, requester,
+        ParticipantRoleEnum.REQUESTER));
+    testEntityManager.persist(RequestedServiceParticipantUtils.create(requestedService, acceptedServiceProvider,
+        ParticipantRoleEnum.SERVICE_PROVIDER));
+    requesterReview = testEntityManager.persist(ReviewUtils.create(requester, requestedService));
+    serviceProviderReview = testEntityManager.persist(ReviewUtils.create(acceptedServiceProvider, requestedService));
+    testEntityManager.flush();
+    testEntityManager.clear();
+  }
+
+  @Test
+  public void shouldFindReviewsReceivedByAcceptedServiceProvider() {
+    final var reviews = reviewRepository.findReviewsReceivedByUserId(acceptedServiceProvider.getId(),
+        Pageable.ofSize(10));
+
+    assertEquals(List.of(requesterReview.getId()), reviews.getContent().stream().map(ReviewProjectionDto::id).toList());
+    assertEquals(1, reviewRepository.countReviewsReceivedByUserId(acceptedServiceProvider.getId()));
+  }
+
+  @Test
+  public void shouldFindReviewsReceivedByRequester() {
+    final var reviews = reviewRepository.findReviewsReceivedByUserId(requester.getId(), Pageable.ofSize(10));
+
+    assertEquals(List.of(serviceProviderReview.getId()),
+        reviews.getContent().stream().map(ReviewProjectionDto::id).toList());
+    assertEquals(1, reviewRepository.countReviewsReceivedByUserId(requester.getId()));
+  }
+
+  @Test
+  public void shouldNotFindReviewsReceivedByServiceProviderWhoseOfferWasNotAccepted() {
+    final var reviews = reviewRepository.findReviewsReceivedByUserId(rejectedServiceProvider.getId(),
+        Pageable.ofSize(10));
+
+    assertTrue(reviews.getContent().isEmpty());
+    assertEquals(0, reviewRepository.countReviewsReceivedByUserId(rejectedServiceProvider.getId()));
+  }
+}
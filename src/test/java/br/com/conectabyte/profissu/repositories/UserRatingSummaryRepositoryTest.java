@@ -0,0 +1,105 @@
+package br.com.conectabyte.profissu.repositories;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import br.com.conectabyte.profissu.entities.RequestedService;
+import br.com.conectabyte.profissu.entities.User;
+import br.com.conectabyte.profissu.enums.ParticipantRoleEnum;
+import br.com.conectabyte.profissu.utils.AddressUtils;
+import br.com.conectabyte.profissu.utils.RequestedServiceParticipantUtils;
+import br.com.conectabyte.profissu.utils.RequestedServiceUtils;
+import br.com.conectabyte.profissu.utils.ReviewUtils;
+import br.com.conectabyte.profissu.utils.UserUtils;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class UserRatingSummaryRepositoryTest {
+  @Autowired
+  private UserRatingSummaryRepository userRatingSummaryRepository;
+
+  @Autowired
+  private TestEntityManager testEntityManager;
+
+  private User requester;
+  private User serviceProvider;
+  private RequestedService requestedService;
+
+  @BeforeEach
+  void setUp() {
+    requester = testEntityManager.persist(UserUtils.create());
+    serviceProvider = testEntityManager.persist(UserUtils.create());
+    requestedService = testEntityManager.persist(
+        RequestedServiceUtils.create(requester, AddressUtils.create(requester), List.of()));
+
+    testEntityManager.persist(RequestedServiceParticipantUtils.create(requestedService, requester,
+        ParticipantRoleEnum.REQUESTER));
+    testEntityManager.persist(RequestedServiceParticipantUtils.create(requestedService, serviceProvider,
+        ParticipantRoleEnum.SERVICE_PROVIDER));
+    testEntityManager.flush();
+  }
+
+  private void saveReview(User reviewer, int stars, LocalDateTime deletedAt) {
+    final var review = ReviewUtils.create(reviewer, requestedService);
+
+    review.setStars(stars);
+    review.setDeletedAt(deletedAt);
+    testEntityManager.persist(review);
+    testEntityManager.flush();
+  }
+
+  @Test
+  public void shouldFindRevieweesOtherThanReviewer() {
+    assertEquals(List.of(serviceProvider.getId()),
+        userRatingSummaryRepository.findRevieweeIds(requestedService.getId(), requester.getId()));
+    assertEquals(List.of(requester.getId()),
+        userRatingSummaryRepository.findRevieweeIds(requestedService.getId(), serviceProvider.getId()));
+  }
+
+  @Test
+  public void shouldAccumulateDeltas() {
+    userRatingSummaryRepository.applyDelta(serviceProvider.getId(), 1, 5);
+    userRatingSummaryRepository.applyDelta(serviceProvider.getId(), 1, 3);
+    userRatingSummaryRepository.applyDelta(serviceProvider.getId(), 0, -1);
+    testEntityManager.clear();
+
+    final var summary = userRatingSummaryRepository.findById(serviceProvider.getId()).orElseThrow();
+
+    assertEquals(2, summary.getReviewCount());
+    assertEquals(7, summary.getStarTotal());
+  }
+
+  @Test
+  public void shouldRebuildSummariesFromActiveReviews() {
+    saveReview(requester, 5, null);
+    saveReview(requester, 1, LocalDateTime.now());
+    saveReview(serviceProvider, 4, null);
+    userRatingSummaryRepository.applyDelta(serviceProvider.getId(), 10, 10);
+
+    final var firstUserId = Math.min(requester.getId(), serviceProvider.getId());
+    final var lastUserId = Math.max(requester.getId(), serviceProvider.getId());
+
+    userRatingSummaryRepository.deleteByUserIdBetween(firstUserId, lastUserId);
+    assertEquals(2, userRatingSummaryRepository.rebuildByUserIdBetween(firstUserId, lastUserId));
+    testEntityManager.clear();
+
+    final var serviceProviderSummary = userRatingSummaryRepository.findById(serviceProvider.getId()).orElseThrow();
+    final var requesterSummary = userRatingSummaryRepository.findById(requester.getId()).orElseThrow();
+
+    assertEquals(1, serviceProviderSummary.getReviewCount());
+    assertEquals(5, serviceProviderSummary.getStarTotal());
+    assertEquals(1, requesterSummary.getReviewCount());
+    assertEquals(4, requesterSummary.getStarTotal());
+  }
+}
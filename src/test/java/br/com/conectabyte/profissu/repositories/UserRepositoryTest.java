@@ -1,18 +1,27 @@
 package br.com.conectabyte.profissu.repositories;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.IntStream;
 
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.test.context.ActiveProfiles;
 
+import br.com.conectabyte.profissu.entities.Contact;
+import br.com.conectabyte.profissu.entities.User;
+import br.com.conectabyte.profissu.utils.AddressUtils;
 import br.com.conectabyte.profissu.utils.ContactUtils;
 import br.com.conectabyte.profissu.utils.UserUtils;
+import jakarta.persistence.EntityManagerFactory;
 
 @DataJpaTest
 @ActiveProfiles("test")
@@ -21,6 +30,12 @@ public class UserRepositoryTest {
   @Autowired
   private UserRepository userRepository;
 
+  @Autowired
+  private TestEntityManager testEntityManager;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
   @Test
   void shouldReturnUserWhenEmailIsValid() {
     final var email = "test@conectabyte.com.br";
@@ -144,4 +159,138 @@ public class UserRepositoryTest {
 
     assertTrue(optionalUser.isEmpty());
   }
+
+  @Test
+  void shouldReturnVerifiedSnapshotWhenUserHasVerifiedStandardContact() {
+    final var user = UserUtils.create();
+
+    user.setContacts(List.of(ContactUtils.create(user)));
+
+    final var savedUser = userRepository.save(user);
+    final var optionalSnapshot = userRepository.findSnapshotById(savedUser.getId());
+
+    assertTrue(optionalSnapshot.isPresent());
+    assertEquals(savedUser.getId(), optionalSnapshot.get().id());
+    assertEquals(savedUser.getName(), optionalSnapshot.get().name());
+    assertTrue(optionalSnapshot.get().verified());
+  }
+
+  @Test
+  void shouldReturnUnverifiedSnapshotWhenUserNotHaveVerifiedContact() {
+    final var user = UserUtils.create();
+    final var contact = ContactUtils.create(user);
+
+    contact.setVerificationCompletedAt(null);
+    user.setContacts(List.of(contact));
+
+    final var savedUser = userRepository.save(user);
+    final var optionalSnapshot = userRepository.findSnapshotById(savedUser.getId());
+
+    assertTrue(optionalSnapshot.isPresent());
+    assertFalse(optionalSnapshot.get().verified());
+  }
+
+  @Test
+  void shouldNotFindSnapshotWhenUserIsDeleted() {
+    final var user = UserUtils.create();
+
+    user.setDeletedAt(LocalDateTime.now());
+    user.setContacts(List.of(ContactUtils.create(user)));
+
+    final var savedUser = userRepository.save(user);
+    final var optionalSnapshot = userRepository.findSnapshotById(savedUser.getId());
+
+    assertTrue(optionalSnapshot.isEmpty());
+  }
+
+  @Test
+  void shouldNotFindUserByEmailWhenUserIsDeleted() {
+    final var user = UserUtils.create();
+
+    user.setDeletedAt(LocalDateTime.now());
+    user.setContacts(List.of(ContactUtils.create(user)));
+    userRepository.save(user);
+
+    final var optionalUser = userRepository.findByEmail("test@conectabyte.com.br");
+
+    assertTrue(optionalUser.isEmpty());
+  }
+
+  @Test
+  void shouldSkipDeletedContactsAndAddressesWhenLoadingUserCollections() {
+    final var user = UserUtils.create();
+    final var contact = ContactUtils.create(user);
+    final var deletedContact = ContactUtils.create(user);
+    final var deletedAddress = AddressUtils.create(user);
+
+    deletedContact.setValue("deleted@conectabyte.com.br");
+    deletedContact.setStandard(false);
+    deletedContact.setDeletedAt(LocalDateTime.now());
+    deletedAddress.setDeletedAt(LocalDateTime.now());
+    user.setContacts(List.of(contact, deletedContact));
+    user.setAddresses(List.of(AddressUtils.create(user), deletedAddress));
+
+    final var savedUser = userRepository.save(user);
+
+    testEntityManager.flush();
+    testEntityManager.clear();
+
+    final var loadedUser = testEntityManager.find(User.class, savedUser.getId());
+
+    assertEquals(List.of(contact.getId()), loadedUser.getContacts().stream().map(Contact::getId).toList());
+    assertEquals(1, loadedUser.getAddresses().size());
+    assertFalse(loadedUser.getAddresses().stream().anyMatch(a -> a.getId().equals(deletedAddress.getId())));
+  }
+
+  @Test
+  void shouldReturnEmptyRoleNamesWhenUserHasNoRoles() {
+    final var savedUser = userRepository.save(UserUtils.create());
+
+    assertTrue(userRepository.findRoleNamesById(savedUser.getId()).isEmpty());
+  }
+
+  @Test
+  void shouldLoadUserCredentialsInSingleStatement() {
+    final var user = UserUtils.create();
+
+    user.setContacts(List.of(ContactUtils.create(user)));
+    userRepository.save(user);
+    testEntityManager.flush();
+    testEntityManager.clear();
+
+    final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+    statistics.clear();
+
+    final var foundUser = userRepository.findByEmail("test@conectabyte.com.br").orElseThrow();
+
+    foundUser.getContacts().size();
+    foundUser.getRoles().size();
+
+    assertEquals(1, statistics.getPrepareStatementCount());
+  }
+
+  @Test
+  void shouldBatchInsertsWhenRegisteringUserWithContactsAndAddresses() {
+    final var user = UserUtils.create();
+    final var contacts = IntStream.range(0, 3).mapToObj(i -> {
+      final var contact = ContactUtils.create(user);
+
+      contact.setValue("test" + i + "@conectabyte.com.br");
+      return contact;
+    }).toList();
+
+    user.setContacts(contacts);
+    user.setAddresses(List.of(AddressUtils.create(user), AddressUtils.create(user), AddressUtils.create(user)));
+
+    final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+    statistics.clear();
+    userRepository.save(user);
+    testEntityManager.flush();
+
+    assertEquals(3, statistics.getPrepareStatementCount());
+    assertTrue(contacts.get(0).getId() < contacts.get(1).getId());
+    assertTrue(contacts.get(1).getId() < contacts.get(2).getId());
+  }
 }
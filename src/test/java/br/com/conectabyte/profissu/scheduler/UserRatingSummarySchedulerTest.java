@@ -0,0 +1,65 @@
+package br.com.conectabyte.profissu.scheduler;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import br.com.conectabyte.profissu.properties.ProfissuProperties;
+import br.com.conectabyte.profissu.services.UserCacheService;
+import br.com.conectabyte.profissu.services.UserRatingSummaryService;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserRatingSummaryScheduler Tests")
+class UserRatingSummarySchedulerTest {
+  @Mock
+  private UserRatingSummaryService userRatingSummaryService;
+
+  @Mock
+  private UserCacheService userCacheService;
+
+  private UserRatingSummaryScheduler userRatingSummaryScheduler;
+
+  @BeforeEach
+  void setUp() {
+    final var profissuProperties = new ProfissuProperties();
+
+    profissuProperties.getProfissu().getRating().setReconciliationChunkSize(2);
+    userRatingSummaryScheduler = new UserRatingSummaryScheduler(userRatingSummaryService, userCacheService,
+        profissuProperties);
+  }
+
+  @Test
+  @DisplayName("Should rebuild rating summaries chunk by chunk until users run out")
+  void shouldRebuildRatingSummariesInChunks() {
+    when(userRatingSummaryService.findUserIdsAfter(0L, 2)).thenReturn(List.of(1L, 2L));
+    when(userRatingSummaryService.findUserIdsAfter(2L, 2)).thenReturn(List.of(3L, 4L));
+    when(userRatingSummaryService.findUserIdsAfter(4L, 2)).thenReturn(List.of(5L));
+
+    userRatingSummaryScheduler.reconcileUserRatingSummaries();
+
+    verify(userRatingSummaryService).rebuild(1L, 2L);
+    verify(userRatingSummaryService).rebuild(3L, 4L);
+    verify(userRatingSummaryService).rebuild(5L, 5L);
+    verify(userCacheService).evictAll();
+  }
+
+  @Test
+  @DisplayName("Should not rebuild anything when there are no users")
+  void shouldNotRebuildWhenThereAreNoUsers() {
+    when(userRatingSummaryService.findUserIdsAfter(0L, 2)).thenReturn(List.of());
+
+    userRatingSummaryScheduler.reconcileUserRatingSummaries();
+
+    verify(userRatingSummaryService, never()).rebuild(anyLong(), anyLong());
+  }
+}
@@ -8,8 +8,6 @@ import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import java.util.HashMap;
-import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 
@@ -38,10 +36,19 @@ class AddressServiceTest {
   private AddressRepository addressRepository;
 
   @Mock
-  private UserService userService;
+  private AuthenticatedUserService authenticatedUserService;
 
   @Mock
-  private JwtService jwtService;
+  private UserCacheService userCacheService;
+
+  @Mock
+  private RequestedServiceFeedService requestedServiceFeedService;
+
+  @Mock
+  private RequestedServiceGeoIndexService requestedServiceGeoIndexService;
+
+  @Mock
+  private PostalCodeGeocodingService postalCodeGeocodingService;
 
   @InjectMocks
   private AddressService addressService;
@@ -54,8 +61,7 @@ class AddressServiceTest {
   @Test
   @DisplayName("Should register address successfully")
   void shouldRegisterAddressSuccessfully() {
-    when(jwtService.getClaims()).thenReturn(Optional.of(new HashMap<>(Map.of("sub", "1"))));
-    when(userService.findById(any())).thenReturn(user);
+    when(authenticatedUserService.getReference()).thenReturn(user);
     when(addressRepository.save(any(Address.class))).thenReturn(address);
 
     AddressResponseDto savedAddress = addressService.register(validRequest);
@@ -64,16 +70,18 @@ class AddressServiceTest {
     assertEquals(address.getId(), savedAddress.id());
     assertEquals(address.getStreet(), savedAddress.street());
     assertEquals(address.getNumber(), savedAddress.number());
+    verify(postalCodeGeocodingService).geocode(any(Address.class));
     assertEquals(address.getCity(), savedAddress.city());
     assertEquals(address.getState(), savedAddress.state());
     assertEquals(address.getZipCode(), savedAddress.zipCode());
     verify(addressRepository).save(any(Address.class));
+    verify(userCacheService).evict(user.getId());
   }
 
   @Test
   @DisplayName("Should throw NoSuchElementException when JWT claims are missing on register")
   void shouldThrowNoSuchElementExceptionWhenJwtClaimsAreMissingOnRegister() {
-    when(jwtService.getClaims()).thenReturn(Optional.empty());
+    when(authenticatedUserService.getReference()).thenThrow(new NoSuchElementException());
 
     assertThrows(NoSuchElementException.class, () -> addressService.register(validRequest));
   }
@@ -81,8 +89,7 @@ class AddressServiceTest {
   @Test
   @DisplayName("Should throw ResourceNotFoundException when user not found on register")
   void shouldThrowResourceNotFoundExceptionWhenUserNotFoundOnRegister() {
-    when(jwtService.getClaims()).thenReturn(Optional.of(new HashMap<>(Map.of("sub", "1"))));
-    when(userService.findById(any())).thenThrow(new ResourceNotFoundException("User not found."));
+    when(authenticatedUserService.getReference()).thenThrow(new ResourceNotFoundException("User not found."));
 
     assertThrows(ResourceNotFoundException.class, () -> addressService.register(validRequest));
   }
@@ -109,6 +116,10 @@ class AddressServiceTest {
     assertEquals("US", updatedAddress.state());
     assertEquals("98765-432", updatedAddress.zipCode());
     verify(addressRepository).save(any(Address.class));
+    verify(userCacheService).evict(address.getUser().getId());
+    verify(requestedServiceFeedService).refreshAddress(address.getId());
+    verify(requestedServiceGeoIndexService).refreshAddress(address.getId());
+    verify(postalCodeGeocodingService).geocode(address);
   }
 
   @Test
@@ -0,0 +1,112 @@
+package br.com.conectabyte.profissu.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import br.com.conectabyte.profissu.dtos.response.UserSnapshotDto;
+import br.com.conectabyte.profissu.entities.User;
+import br.com.conectabyte.profissu.exceptions.ResourceNotFoundException;
+import br.com.conectabyte.profissu.repositories.UserRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AuthenticatedUserService Tests")
+class AuthenticatedUserServiceTest {
+  @Mock
+  private JwtService jwtService;
+
+  @Mock
+  private UserSnapshotService userSnapshotService;
+
+  @Mock
+  private UserRepository userRepository;
+
+  @InjectMocks
+  private AuthenticatedUserService authenticatedUserService;
+
+  private static final Long TEST_USER_ID = 1L;
+
+  @AfterEach
+  void tearDown() {
+    RequestContextHolder.resetRequestAttributes();
+  }
+
+  @Test
+  @DisplayName("Should return user id from JWT sub claim")
+  void shouldReturnUserIdFromJwtSubClaim() {
+    when(jwtService.getClaims()).thenReturn(Optional.of(new HashMap<>(Map.of("sub", "1"))));
+
+    assertEquals(TEST_USER_ID, authenticatedUserService.getId());
+  }
+
+  @Test
+  @DisplayName("Should throw NoSuchElementException when JWT claims are missing")
+  void shouldThrowNoSuchElementExceptionWhenClaimsAreMissing() {
+    when(jwtService.getClaims()).thenReturn(Optional.empty());
+
+    assertThrows(NoSuchElementException.class, () -> authenticatedUserService.getId());
+  }
+
+  @Test
+  @DisplayName("Should load snapshot only once per request")
+  void shouldLoadSnapshotOnlyOncePerRequest() {
+    final var snapshot = new UserSnapshotDto(TEST_USER_ID, "Test Test", Set.of("USER"), true);
+
+    RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    when(jwtService.getClaims()).thenReturn(Optional.of(new HashMap<>(Map.of("sub", "1"))));
+    when(userSnapshotService.findById(TEST_USER_ID)).thenReturn(Optional.of(snapshot));
+
+    assertSame(snapshot, authenticatedUserService.getSnapshot());
+    assertSame(snapshot, authenticatedUserService.getSnapshot());
+    verify(userSnapshotService, times(1)).findById(TEST_USER_ID);
+  }
+
+  @Test
+  @DisplayName("Should throw ResourceNotFoundException when user is not verified")
+  void shouldThrowResourceNotFoundExceptionWhenUserIsNotVerified() {
+    final var snapshot = new UserSnapshotDto(TEST_USER_ID, "Test Test", false);
+
+    when(jwtService.getClaims()).thenReturn(Optional.of(new HashMap<>(Map.of("sub", "1"))));
+    when(userSnapshotService.findById(TEST_USER_ID)).thenReturn(Optional.of(snapshot));
+
+    final var exception = assertThrows(ResourceNotFoundException.class,
+        () -> authenticatedUserService.getSnapshot());
+
+    assertEquals("User not found.", exception.getMessage());
+  }
+
+  @Test
+  @DisplayName("Should return entity reference without loading the user")
+  void shouldReturnEntityReferenceWithoutLoadingTheUser() {
+    final var snapshot = new UserSnapshotDto(TEST_USER_ID, "Test Test", true);
+    final var reference = new User();
+
+    when(jwtService.getClaims()).thenReturn(Optional.of(new HashMap<>(Map.of("sub", "1"))));
+    when(userSnapshotService.findById(TEST_USER_ID)).thenReturn(Optional.of(snapshot));
+    when(userRepository.getReferenceById(TEST_USER_ID)).thenReturn(reference);
+
+    assertSame(reference, authenticatedUserService.getReference());
+    verify(userRepository, never()).findById(TEST_USER_ID);
+  }
+}
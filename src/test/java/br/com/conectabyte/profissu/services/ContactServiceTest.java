@@ -15,9 +15,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDateTime;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 
@@ -48,7 +46,13 @@ class ContactServiceTest {
   private ContactRepository contactRepository;
 
   @Mock
-  private UserService userService;
+  private AuthenticatedUserService authenticatedUserService;
+
+  @Mock
+  private UserSnapshotService userSnapshotService;
+
+  @Mock
+  private UserCacheService userCacheService;
 
   @Mock
   private TokenService tokenService;
@@ -59,9 +63,6 @@ class ContactServiceTest {
   @Mock
   private BCryptPasswordEncoder bCryptPasswordEncoder;
 
-  @Mock
-  private JwtService jwtService;
-
   @InjectMocks
   private ContactService contactService;
 
@@ -74,8 +75,7 @@ class ContactServiceTest {
     final var contact = ContactUtils.create(user);
     final var validRequest = contactMapper.contactToContactRequestDto(contact);
 
-    when(jwtService.getClaims()).thenReturn(Optional.of(new HashMap<>(Map.of("sub", "1"))));
-    when(userService.findById(any())).thenReturn(user);
+    when(authenticatedUserService.getReference()).thenReturn(user);
     when(contactRepository.save(any(Contact.class))).thenReturn(contact);
     doNothing().when(tokenService).flush();
     doNothing().when(contactConfirmationService).send(any());
@@ -86,8 +86,10 @@ class ContactServiceTest {
     assertEquals(contact.getId(), savedContact.id());
     assertEquals(contact.getValue(), savedContact.value());
     assertEquals(contact.isStandard(), savedContact.standard());
-    verify(userService).findById(anyLong());
+    verify(authenticatedUserService).getReference();
     verify(contactRepository).save(any(Contact.class));
+    verify(userSnapshotService).evict(user.getId());
+    verify(userCacheService).evict(user.getId());
     verify(tokenService).deleteByUser(user);
     verify(tokenService).flush();
     verify(tokenService).save(any(User.class), anyString(), any(BCryptPasswordEncoder.class));
@@ -100,7 +102,7 @@ class ContactServiceTest {
     final var user = UserUtils.create();
     final var validRequest = contactMapper.contactToContactRequestDto(ContactUtils.create(user));
 
-    when(jwtService.getClaims()).thenReturn(Optional.empty());
+    when(authenticatedUserService.getReference()).thenThrow(new NoSuchElementException());
 
     assertThrows(NoSuchElementException.class, () -> contactService.register(validRequest));
   }
@@ -111,8 +113,7 @@ class ContactServiceTest {
     final var user = UserUtils.create();
     final var validRequest = contactMapper.contactToContactRequestDto(ContactUtils.create(user));
 
-    when(jwtService.getClaims()).thenReturn(Optional.of(new HashMap<>(Map.of("sub", "1"))));
-    when(userService.findById(any())).thenThrow(new ResourceNotFoundException("User not found."));
+    when(authenticatedUserService.getReference()).thenThrow(new ResourceNotFoundException("User not found."));
 
     assertThrows(ResourceNotFoundException.class, () -> contactService.register(validRequest));
   }
@@ -370,4 +371,14 @@ class ContactServiceTest {
 
     assertThrows(ResourceNotFoundException.class, () -> contactService.findById(1L));
   }
+
+  @Test
+  @DisplayName("Should report contact values as taken even when they belong to deleted contacts")
+  void shouldReportContactValueAsTakenIncludingDeletedContacts() {
+    when(contactRepository.countByValueIncludingDeleted("deleted@conectabyte.com.br")).thenReturn(1L);
+    when(contactRepository.countByValueIncludingDeleted("new@conectabyte.com.br")).thenReturn(0L);
+
+    assertTrue(contactService.existsByValue("deleted@conectabyte.com.br"));
+    assertFalse(contactService.existsByValue("new@conectabyte.com.br"));
+  }
 }
@@ -0,0 +1,150 @@
+package br.com.conectabyte.profissu.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import br.com.conectabyte.profissu.dtos.response.ConversationResponseDto;
+import br.com.conectabyte.profissu.entities.RequestedService;
+import br.com.conectabyte.profissu.entities.User;
+import br.com.conectabyte.profissu.enums.OfferStatusEnum;
+import br.com.conectabyte.profissu.enums.RequestedServiceStatusEnum;
+import br.com.conectabyte.profissu.exceptions.ValidationException;
+import br.com.conectabyte.profissu.repositories.ConversationRepository;
+import br.com.conectabyte.profissu.repositories.RequestedServiceRepository;
+import br.com.conectabyte.profissu.repositories.UserRepository;
+import br.com.conectabyte.profissu.utils.AddressUtils;
+import br.com.conectabyte.profissu.utils.ConversationUtils;
+import br.com.conectabyte.profissu.utils.RequestedServiceUtils;
+import br.com.conectabyte.profissu.utils.UserUtils;
+import lombok.extern.slf4j.Slf4j;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("ConversationService concurrency Tests")
+@Slf4j
+class ConversationServiceConcurrencyTest {
+  private static final int THREADS = 50;
+
+  @Autowired
+  private ConversationService conversationService;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private RequestedServiceRepository requestedServiceRepository;
+
+  @Autowired
+  private ConversationRepository conversationRepository;
+
+  private final List<Long> userIds = new ArrayList<>();
+  private final List<Long> conversationIds = new ArrayList<>();
+  private RequestedService requestedService;
+
+  @BeforeEach
+  void setUp() {
+    new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+      final var requester = saveUser();
+
+      requestedService = requestedServiceRepository.save(
+          RequestedServiceUtils.create(requester, AddressUtils.create(requester), List.of()));
+
+      for (int i = 0; i < THREADS; i++) {
+        conversationIds.add(conversationRepository.save(
+            ConversationUtils.create(requester, saveUser(), requestedService, List.of())).getId());
+      }
+    });
+  }
+
+  @AfterEach
+  void tearDown() {
+    final var ids = String.join(",", userIds.stream().map(String::valueOf).toList());
+
+    jdbcTemplate.update("DELETE FROM requested_service_participants WHERE requested_service_id = ?",
+        requestedService.getId());
+    jdbcTemplate.update("DELETE FROM conversations WHERE requested_service_id = ?", requestedService.getId());
+    jdbcTemplate.update("DELETE FROM requested_services WHERE id = ?", requestedService.getId());
+    jdbcTemplate.update("DELETE FROM addresses WHERE user_id IN (" + ids + ")");
+    jdbcTemplate.update("DELETE FROM users WHERE id IN (" + ids + ")");
+  }
+
+  private User saveUser() {
+    final var user = userRepository.save(UserUtils.create());
+
+    userIds.add(user.getId());
+    return user;
+  }
+
+  private long countConversations(OfferStatusEnum offerStatus) {
+    return jdbcTemplate.queryForObject(
+        "SELECT COUNT(*) FROM conversations WHERE requested_service_id = ? AND offer_status = ?", Long.class,
+        requestedService.getId(), offerStatus.name());
+  }
+
+  @Test
+  @DisplayName("Should accept exactly one offer when 50 offers are accepted concurrently")
+  void shouldAcceptExactlyOneOfferWhenOffersAreAcceptedConcurrently() throws Exception {
+    final var executor = Executors.newFixedThreadPool(THREADS);
+    final var start = new CountDownLatch(1);
+    final var futures = new ArrayList<Future<ConversationResponseDto>>();
+    final var winners = new ArrayList<ConversationResponseDto>();
+    final var failures = new ArrayList<Throwable>();
+
+    try {
+      conversationIds.forEach(id -> futures.add(executor.submit(() -> {
+        start.await();
+        return conversationService.changeOfferStatus(id, OfferStatusEnum.ACCEPTED);
+      })));
+      start.countDown();
+
+      for (final var future : futures) {
+        try {
+          winners.add(future.get(60, TimeUnit.SECONDS));
+        } catch (ExecutionException e) {
+          failures.add(e.getCause());
+        }
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    log.info("Concurrent accepts: {} winner(s), {} validation failure(s), {} concurrency failure(s)", winners.size(),
+        failures.stream().filter(ValidationException.class::isInstance).count(),
+        failures.stream().filter(ConcurrencyFailureException.class::isInstance).count());
+
+    assertEquals(1, winners.size());
+    assertTrue(failures.stream()
+        .allMatch(e -> e instanceof ValidationException || e instanceof ConcurrencyFailureException),
+        "Unexpected failures: " + failures);
+    assertEquals(1, countConversations(OfferStatusEnum.ACCEPTED));
+    assertEquals(THREADS - 1, countConversations(OfferStatusEnum.REJECTED));
+    assertEquals(RequestedServiceStatusEnum.INPROGRESS.name(), jdbcTemplate.queryForObject(
+        "SELECT status FROM requested_services WHERE id = ?", String.class, requestedService.getId()));
+  }
+}
@@ -7,12 +7,11 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 
 import org.junit.jupiter.api.DisplayName;
@@ -21,17 +20,24 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 
 import br.com.conectabyte.profissu.dtos.request.ConversationRequestDto;
+import br.com.conectabyte.profissu.dtos.response.ConversationProjectionDto;
+import br.com.conectabyte.profissu.dtos.response.MessageProjectionDto;
+import br.com.conectabyte.profissu.dtos.response.UserProjectionDto;
 import br.com.conectabyte.profissu.entities.Conversation;
+import br.com.conectabyte.profissu.enums.GenderEnum;
 import br.com.conectabyte.profissu.enums.OfferStatusEnum;
+import br.com.conectabyte.profissu.enums.ParticipantRoleEnum;
 import br.com.conectabyte.profissu.enums.RequestedServiceStatusEnum;
 import br.com.conectabyte.profissu.exceptions.ResourceNotFoundException;
 import br.com.conectabyte.profissu.exceptions.ValidationException;
 import br.com.conectabyte.profissu.repositories.ConversationRepository;
+import br.com.conectabyte.profissu.repositories.MessageRepository;
 import br.com.conectabyte.profissu.utils.AddressUtils;
 import br.com.conectabyte.profissu.utils.ConversationUtils;
 import br.com.conectabyte.profissu.utils.RequestedServiceUtils;
@@ -47,10 +53,19 @@ class ConversationServiceTest {
   private RequestedServiceService requestedServiceService;
 
   @Mock
-  private JwtService jwtService;
+  private AuthenticatedUserService authenticatedUserService;
 
   @Mock
-  private UserService userService;
+  private MessageRepository messageRepository;
+
+  @Mock
+  private UserProjectionService userProjectionService;
+
+  @Mock
+  private RequestedServiceFeedService requestedServiceFeedService;
+
+  @Mock
+  private RequestedServiceGeoIndexService requestedServiceGeoIndexService;
 
   @InjectMocks
   private ConversationService conversationService;
@@ -64,17 +79,16 @@ class ConversationServiceTest {
     final var conversationRequestDto = new ConversationRequestDto(1L, "Hello, I'm interested!");
     final var conversation = ConversationUtils.create(user, serviceProvider, requestedService, List.of());
 
-    when(requestedServiceService.findById(anyLong())).thenReturn(requestedService);
-    when(jwtService.getClaims()).thenReturn(Optional.of(new HashMap<>(Map.of("sub", "1"))));
-    when(userService.findById(anyLong())).thenReturn(serviceProvider);
-    when(conversationRepository.save(any(Conversation.class))).thenReturn(conversation);
+    when(requestedServiceService.findSummaryById(anyLong())).thenReturn(requestedService);
+    when(authenticatedUserService.getReference()).thenReturn(serviceProvider);
+    when(conversationRepository.saveAndFlush(any(Conversation.class))).thenReturn(conversation);
     serviceProvider.setId(1L);
 
     final var savedConversation = conversationService.start(conversationRequestDto);
 
     assertNotNull(savedConversation);
     assertEquals(OfferStatusEnum.PENDING, savedConversation.offerStatus());
-    verify(conversationRepository).save(any(Conversation.class));
+    verify(conversationRepository).saveAndFlush(any(Conversation.class));
   }
 
   @Test
@@ -87,16 +101,15 @@ class ConversationServiceTest {
 
     requestedService.setStatus(RequestedServiceStatusEnum.CANCELLED);
 
-    when(requestedServiceService.findById(anyLong())).thenReturn(requestedService);
-    when(jwtService.getClaims()).thenReturn(Optional.of(new HashMap<>(Map.of("sub", "1"))));
-    when(userService.findById(anyLong())).thenReturn(serviceProvider);
+    when(requestedServiceService.findSummaryById(anyLong())).thenReturn(requestedService);
+    when(authenticatedUserService.getReference()).thenReturn(serviceProvider);
     serviceProvider.setId(1L);
 
     ValidationException exception = assertThrows(ValidationException.class,
         () -> conversationService.start(conversationRequestDto));
 
     assertEquals("Cannot make an offer for this requested service.", exception.getMessage());
-    verify(conversationRepository, never()).save(any(Conversation.class));
+    verify(conversationRepository, never()).saveAndFlush(any(Conversation.class));
   }
 
   @Test
@@ -109,16 +122,15 @@ class ConversationServiceTest {
 
     requestedService.setStatus(RequestedServiceStatusEnum.PENDING);
 
-    when(requestedServiceService.findById(anyLong())).thenReturn(requestedService);
-    when(jwtService.getClaims()).thenReturn(Optional.of(new HashMap<>(Map.of("sub", "1"))));
-    when(userService.findById(anyLong())).thenReturn(serviceProvider);
+    when(requestedServiceService.findSummaryById(anyLong())).thenReturn(requestedService);
+    when(authenticatedUserService.getReference()).thenReturn(serviceProvider);
     serviceProvider.setId(1L);
 
     ValidationException exception = assertThrows(ValidationException.class,
         () -> conversationService.start(conversationRequestDto));
 
     assertEquals("You cannot submit an offer for your own requested service.", exception.getMessage());
-    verify(conversationRepository, never()).save(any(Conversation.class));
+    verify(conversationRepository, never()).saveAndFlush(any(Conversation.class));
   }
 
   @Test
@@ -129,54 +141,86 @@ class ConversationServiceTest {
     final var requestedService = RequestedServiceUtils.create(user, AddressUtils.create(user), List.of());
     final var conversationRequestDto = new ConversationRequestDto(1L, "Hello, I'm interested!");
 
+    requestedService.setId(100L);
     requestedService.setStatus(RequestedServiceStatusEnum.PENDING);
     serviceProvider.setId(1L);
 
-    final var existingConversation = ConversationUtils.create(user, serviceProvider, requestedService, List.of());
-    existingConversation.setOfferStatus(OfferStatusEnum.PENDING);
-    requestedService.setConversations(List.of(existingConversation));
-
-    when(requestedServiceService.findById(anyLong())).thenReturn(requestedService);
-    when(jwtService.getClaims())
-        .thenReturn(Optional.of(new HashMap<>(Map.of("sub", serviceProvider.getId().toString()))));
-    when(userService.findById(anyLong())).thenReturn(serviceProvider);
+    when(requestedServiceService.findSummaryById(anyLong())).thenReturn(requestedService);
+    when(authenticatedUserService.getReference()).thenReturn(serviceProvider);
+    when(conversationRepository.hasPendingOffer(100L, 1L)).thenReturn(true);
 
     ValidationException exception = assertThrows(ValidationException.class,
         () -> conversationService.start(conversationRequestDto));
 
     assertEquals("You have already submitted an offer for this requested service.", exception.getMessage());
-    verify(conversationRepository, never()).save(any(Conversation.class));
+    verify(conversationRepository, never()).saveAndFlush(any(Conversation.class));
   }
 
   @Test
-  @DisplayName("Should create conversation successfully when other offers are not PENDING")
-  void shouldCreateConversationSuccessfullyWhenOtherOffersAreNotPending() {
+  @DisplayName("Should create conversation successfully when service provider has no pending offer")
+  void shouldCreateConversationSuccessfullyWhenServiceProviderHasNoPendingOffer() {
     final var user = UserUtils.create();
     final var serviceProvider = UserUtils.create();
     final var requestedService = RequestedServiceUtils.create(user, AddressUtils.create(user), List.of());
     final var conversationRequestDto = new ConversationRequestDto(1L, "Hello, I'm interested!");
     final var conversation = ConversationUtils.create(user, serviceProvider, requestedService, List.of());
 
+    requestedService.setId(100L);
     requestedService.setStatus(RequestedServiceStatusEnum.PENDING);
     serviceProvider.setId(1L);
 
-    final var acceptedOffer = ConversationUtils.create(user, UserUtils.create(), requestedService, List.of());
-    acceptedOffer.setOfferStatus(OfferStatusEnum.ACCEPTED);
-    final var rejectedOffer = ConversationUtils.create(user, UserUtils.create(), requestedService, List.of());
-    rejectedOffer.setOfferStatus(OfferStatusEnum.REJECTED);
-    requestedService.setConversations(List.of(acceptedOffer, rejectedOffer));
-
-    when(requestedServiceService.findById(anyLong())).thenReturn(requestedService);
-    when(jwtService.getClaims())
-        .thenReturn(Optional.of(new HashMap<>(Map.of("sub", serviceProvider.getId().toString()))));
-    when(userService.findById(anyLong())).thenReturn(serviceProvider);
-    when(conversationRepository.save(any(Conversation.class))).thenReturn(conversation);
+    when(requestedServiceService.findSummaryById(anyLong())).thenReturn(requestedService);
+    when(authenticatedUserService.getReference()).thenReturn(serviceProvider);
+    when(conversationRepository.hasPendingOffer(100L, 1L)).thenReturn(false);
+    when(conversationRepository.saveAndFlush(any(Conversation.class))).thenReturn(conversation);
 
     final var savedConversation = conversationService.start(conversationRequestDto);
 
     assertNotNull(savedConversation);
     assertEquals(OfferStatusEnum.PENDING, savedConversation.offerStatus());
-    verify(conversationRepository).save(any(Conversation.class));
+    verify(conversationRepository).hasPendingOffer(100L, 1L);
+    verify(conversationRepository).saveAndFlush(any(Conversation.class));
+  }
+
+  @Test
+  @DisplayName("Should throw validation exception when a concurrent pending offer violates the unique key")
+  void shouldThrowValidationExceptionWhenConcurrentPendingOfferViolatesUniqueKey() {
+    final var user = UserUtils.create();
+    final var serviceProvider = UserUtils.create();
+    final var requestedService = RequestedServiceUtils.create(user, AddressUtils.create(user), List.of());
+    final var conversationRequestDto = new ConversationRequestDto(1L, "Hello, I'm interested!");
+
+    requestedService.setStatus(RequestedServiceStatusEnum.PENDING);
+    serviceProvider.setId(1L);
+
+    when(requestedServiceService.findSummaryById(anyLong())).thenReturn(requestedService);
+    when(authenticatedUserService.getReference()).thenReturn(serviceProvider);
+    when(conversationRepository.saveAndFlush(any(Conversation.class))).thenThrow(new DataIntegrityViolationException(
+        "Duplicate entry '1-1' for key 'uk_conversations_pending_offer'"));
+
+    ValidationException exception = assertThrows(ValidationException.class,
+        () -> conversationService.start(conversationRequestDto));
+
+    assertEquals("You have already submitted an offer for this requested service.", exception.getMessage());
+  }
+
+  @Test
+  @DisplayName("Should rethrow data integrity violations unrelated to pending offers")
+  void shouldRethrowUnrelatedDataIntegrityViolations() {
+    final var user = UserUtils.create();
+    final var serviceProvider = UserUtils.create();
+    final var requestedService = RequestedServiceUtils.create(user, AddressUtils.create(user), List.of());
+    final var conversationRequestDto = new ConversationRequestDto(1L, "Hello, I'm interested!");
+
+    requestedService.setStatus(RequestedServiceStatusEnum.PENDING);
+    serviceProvider.setId(1L);
+
+    when(requestedServiceService.findSummaryById(anyLong())).thenReturn(requestedService);
+    when(authenticatedUserService.getReference()).thenReturn(serviceProvider);
+    when(conversationRepository.saveAndFlush(any(Conversation.class))).thenThrow(new DataIntegrityViolationException(
+        "Cannot add or update a child row: a foreign key constraint fails"));
+
+    assertThrows(DataIntegrityViolationException.class, () -> conversationService.start(conversationRequestDto));
   }
 
   @Test
@@ -213,19 +257,26 @@ class ConversationServiceTest {
   void shouldFindCurrentUserConversationsSuccessfully() {
     final Long userId = 1L;
     final var pageable = PageRequest.of(0, 10);
-    final var conversation = ConversationUtils.create(UserUtils.create(), UserUtils.create(), null, List.of());
+    final var requester = new UserProjectionDto(userId, "Requester", "Bio", GenderEnum.MALE);
+    final var serviceProvider = new UserProjectionDto(2L, "Provider", "Bio", GenderEnum.MALE);
+    final var conversation = new ConversationProjectionDto(10L, OfferStatusEnum.PENDING, requester,
+        serviceProvider);
+    final var message = new MessageProjectionDto(10L, 100L, "Test", false, serviceProvider);
     final var conversationPage = new PageImpl<>(List.of(conversation), pageable, 1);
 
-    when(jwtService.getClaims()).thenReturn(Optional.of(new HashMap<>(Map.of("sub", userId.toString()))));
+    when(authenticatedUserService.getId()).thenReturn(userId);
     when(conversationRepository.findByUserId(userId, pageable)).thenReturn(conversationPage);
+    when(messageRepository.findProjectionsByConversationIds(List.of(10L))).thenReturn(List.of(message));
 
     final var result = conversationService.findCurrentUserConversations(pageable);
 
     assertNotNull(result);
     assertEquals(1, result.getTotalElements());
-    assertEquals(conversation.getId(), result.getContent().get(0).id());
-    verify(jwtService).getClaims();
+    assertEquals(conversation.id(), result.getContent().get(0).id());
+    assertEquals(100L, result.getContent().get(0).messages().get(0).id());
+    verify(authenticatedUserService).getId();
     verify(conversationRepository).findByUserId(userId, pageable);
+    verify(userProjectionService).toUserResponseDtos(List.of(requester, serviceProvider, serviceProvider));
   }
 
   @Test
@@ -233,9 +284,9 @@ class ConversationServiceTest {
   void shouldReturnEmptyPageWhenNoConversationsForUserFound() {
     final Long userId = 0L;
     final var pageable = PageRequest.of(0, 10);
-    final Page<Conversation> emptyPage = Page.empty(pageable);
+    final Page<ConversationProjectionDto> emptyPage = Page.empty(pageable);
 
-    when(jwtService.getClaims()).thenReturn(Optional.of(new HashMap<>(Map.of("sub", userId.toString()))));
+    when(authenticatedUserService.getId()).thenReturn(userId);
     when(conversationRepository.findByUserId(userId, pageable)).thenReturn(emptyPage);
 
     final var result = conversationService.findCurrentUserConversations(pageable);
@@ -243,7 +294,7 @@ class ConversationServiceTest {
     assertNotNull(result);
     assertEquals(0, result.getTotalElements());
     assertTrue(result.isEmpty());
-    verify(jwtService).getClaims();
+    verify(authenticatedUserService).getId();
     verify(conversationRepository).findByUserId(userId, pageable);
   }
 
@@ -326,8 +377,8 @@ class ConversationServiceTest {
         .setConversations(List.of(conversationToAccept, otherPendingConversation, alreadyRejectedConversation));
 
     when(conversationRepository.findById(conversationToAccept.getId())).thenReturn(Optional.of(conversationToAccept));
-    when(conversationRepository.findById(otherPendingConversation.getId()))
-        .thenReturn(Optional.of(otherPendingConversation));
+    when(conversationRepository.rejectOtherPendingOffers(requestedService.getId(), conversationToAccept.getId()))
+        .thenReturn(1);
     when(conversationRepository.save(any(Conversation.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
     final var response = conversationService.changeOfferStatus(conversationToAccept.getId(), OfferStatusEnum.ACCEPTED);
@@ -339,10 +390,13 @@ class ConversationServiceTest {
     verify(conversationRepository).save(conversationToAccept);
     assertEquals(OfferStatusEnum.ACCEPTED, conversationToAccept.getOfferStatus());
 
-    verify(conversationRepository).save(otherPendingConversation);
-    assertEquals(OfferStatusEnum.REJECTED, otherPendingConversation.getOfferStatus());
-
-    verify(conversationRepository, never()).save(alreadyRejectedConversation);
+    verify(conversationRepository).rejectOtherPendingOffers(requestedService.getId(), conversationToAccept.getId());
+    verify(conversationRepository, never()).findById(otherPendingConversation.getId());
+    verify(conversationRepository, times(1)).save(any(Conversation.class));
+    verify(requestedServiceService).addParticipant(requestedService, conversationToAccept.getServiceProvider(),
+        ParticipantRoleEnum.SERVICE_PROVIDER);
+    verify(requestedServiceFeedService).remove(requestedService.getId());
+    verify(requestedServiceGeoIndexService).remove(requestedService.getId());
   }
 
   @Test
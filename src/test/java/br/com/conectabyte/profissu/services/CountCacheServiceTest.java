@@ -0,0 +1,83 @@
+package br.com.conectabyte.profissu.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import br.com.conectabyte.profissu.properties.ProfissuProperties;
+
+@DisplayName("CountCacheService Tests")
+class CountCacheServiceTest {
+  private CountCacheService countCacheService(Executor executor, long countTtl) {
+    final var profissuProperties = new ProfissuProperties();
+
+    profissuProperties.getProfissu().getCache().setCountTtl(countTtl);
+    profissuProperties.getProfissu().getCache().setCountMaxEntries(100L);
+
+    return new CountCacheService(executor, profissuProperties);
+  }
+
+  @Test
+  @DisplayName("Should count synchronously on first access and serve the cached count within TTL")
+  void shouldServeCachedCountWithinTtl() {
+    final var counter = new AtomicLong();
+    final var countCacheService = countCacheService(Runnable::run, 60);
+
+    assertEquals(1, countCacheService.count("key", counter::incrementAndGet));
+    assertEquals(1, countCacheService.count("key", counter::incrementAndGet));
+    assertEquals(1, counter.get());
+  }
+
+  @Test
+  @DisplayName("Should return the stale count and refresh it asynchronously after TTL")
+  void shouldReturnStaleCountAndRefreshAfterTtl() {
+    final var counter = new AtomicLong();
+    final var countCacheService = countCacheService(Runnable::run, 0);
+
+    assertEquals(1, countCacheService.count("key", counter::incrementAndGet));
+    assertEquals(1, countCacheService.count("key", counter::incrementAndGet));
+    assertEquals(2, countCacheService.count("key", counter::incrementAndGet));
+  }
+
+  @Test
+  @DisplayName("Should schedule a single refresh per key while one is in flight")
+  void shouldScheduleSingleRefreshPerKey() {
+    final var scheduled = new ArrayList<Runnable>();
+    final var countCacheService = countCacheService(scheduled::add, 0);
+
+    countCacheService.count("key", () -> 1);
+    countCacheService.count("key", () -> 2);
+    countCacheService.count("key", () -> 3);
+    countCacheService.count("other", () -> 4);
+    countCacheService.count("other", () -> 5);
+
+    assertEquals(2, scheduled.size());
+
+    scheduled.forEach(Runnable::run);
+
+    assertEquals(2, countCacheService.count("key", () -> 6));
+    assertEquals(5, countCacheService.count("other", () -> 7));
+  }
+
+  @Test
+  @DisplayName("Should keep the stale count when the refresh fails")
+  void shouldKeepStaleCountWhenRefreshFails() {
+    final var countCacheService = countCacheService(Runnable::run, 0);
+    final List<Long> counts = new ArrayList<>();
+
+    counts.add(countCacheService.count("key", () -> 1));
+    counts.add(countCacheService.count("key", () -> {
+      throw new IllegalStateException("Database unavailable");
+    }));
+    counts.add(countCacheService.count("key", () -> 2));
+
+    assertEquals(List.of(1L, 1L, 1L), counts);
+    assertEquals(2, countCacheService.count("key", () -> 3));
+  }
+}
@@ -15,6 +15,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -23,6 +24,7 @@ import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
 
 import br.com.conectabyte.profissu.properties.ProfissuProperties;
 import br.com.conectabyte.profissu.utils.PropertiesLoader;
@@ -76,6 +78,29 @@ public class JwtServiceTest {
     assertEquals(JWT_EXPIRES_IN_SECONDS, response.expiresIn());
   }
 
+  @Test
+  @DisplayName("Should create JWT token expiring after the given number of seconds")
+  void shouldCreateJwtTokenWithGivenExpiry() throws Exception {
+    final var user = UserUtils.create();
+    final var now = Instant.now();
+    final var map = Map.of("key", new Object());
+    final var parameters = ArgumentCaptor.forClass(JwtEncoderParameters.class);
+
+    user.setRoles(Set.of());
+    user.setId(0L);
+
+    when(profissuProperties.getSpring()).thenReturn(new PropertiesLoader().loadProperties().getSpring());
+    when(jwtEncoder.encode(parameters.capture())).thenReturn(new Jwt(FAKE_TOKEN_VALUE, now, now.plusSeconds(1), map,
+        map));
+
+    final var response = jwtService.createJwtToken(user, 30L);
+    final var claims = parameters.getValue().getClaims();
+
+    assertEquals(FAKE_TOKEN_VALUE, response.accessToken());
+    assertEquals(30L, response.expiresIn());
+    assertEquals(claims.getIssuedAt().plusSeconds(30), claims.getExpiresAt());
+  }
+
   @Test
   @DisplayName("Should return claims when JWT is present in SecurityContextHolder")
   void shouldReturnClaimsWhenJwtIsPresent() {
@@ -9,9 +9,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 
 import org.junit.jupiter.api.DisplayName;
@@ -48,10 +46,7 @@ class MessageServiceTest {
   private ConversationService conversationService;
 
   @Mock
-  private JwtService jwtService;
-
-  @Mock
-  private UserService userService;
+  private AuthenticatedUserService authenticatedUserService;
 
   @Mock
   private SimpMessagingTemplate simpMessagingTemplate;
@@ -69,8 +64,7 @@ class MessageServiceTest {
     final var messageRequestDto = new MessageRequestDto("Test");
 
     when(conversationService.findById(any())).thenReturn(conversation);
-    when(jwtService.getClaims()).thenReturn(Optional.of(new HashMap<>(Map.of("sub", "1"))));
-    when(userService.findById(any())).thenReturn(user);
+    when(authenticatedUserService.getReference()).thenReturn(user);
     when(messageRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
 
     final var response = messageService.sendMessage(1L, messageRequestDto);
@@ -92,8 +86,7 @@ class MessageServiceTest {
     conversation.setOfferStatus(OfferStatusEnum.ACCEPTED);
 
     when(conversationService.findById(any())).thenReturn(conversation);
-    when(jwtService.getClaims()).thenReturn(Optional.of(new HashMap<>(Map.of("sub", "1"))));
-    when(userService.findById(any())).thenReturn(user);
+    when(authenticatedUserService.getReference()).thenReturn(user);
     when(messageRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
 
     final var response = messageService.sendMessage(1L, messageRequestDto);
@@ -140,8 +133,7 @@ class MessageServiceTest {
     final var conversation = ConversationUtils.create(user, UserUtils.create(), requestedService, List.of());
 
     when(conversationService.findById(any())).thenReturn(conversation);
-    when(jwtService.getClaims()).thenReturn(Optional.of(new HashMap<>(Map.of("sub", "1"))));
-    when(userService.findById(any())).thenThrow(new ResourceNotFoundException("User not found."));
+    when(authenticatedUserService.getReference()).thenThrow(new ResourceNotFoundException("User not found."));
 
     assertThrows(ResourceNotFoundException.class,
         () -> messageService.sendMessage(1L, new MessageRequestDto("Test")));
@@ -226,8 +218,7 @@ class MessageServiceTest {
     assertEquals("The requested service associated with this offer has already been canceled or completed.",
         exception.getMessage());
     verify(conversationService).findById(any());
-    verify(jwtService, org.mockito.Mockito.never()).getClaims();
-    verify(userService, org.mockito.Mockito.never()).findById(any());
+    verify(authenticatedUserService, org.mockito.Mockito.never()).getReference();
     verify(messageRepository, org.mockito.Mockito.never()).save(any());
   }
 }
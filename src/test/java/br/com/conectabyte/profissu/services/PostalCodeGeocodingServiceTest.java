@@ -0,0 +1,62 @@
+package br.com.conectabyte.profissu.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import br.com.conectabyte.profissu.dtos.response.GeoPointDto;
+import br.com.conectabyte.profissu.properties.ProfissuProperties;
+import br.com.conectabyte.profissu.utils.AddressUtils;
+import br.com.conectabyte.profissu.utils.UserUtils;
+
+@DisplayName("PostalCodeGeocodingService Tests")
+class PostalCodeGeocodingServiceTest {
+  private PostalCodeGeocodingService postalCodeGeocodingService(String location) {
+    final var profissuProperties = new ProfissuProperties();
+
+    profissuProperties.getProfissu().getGeo().setPostalCodeCentroids(location);
+
+    return new PostalCodeGeocodingService(new DefaultResourceLoader(), profissuProperties);
+  }
+
+  @Test
+  @DisplayName("Should locate a zip code by its longest known prefix")
+  void shouldLocateZipCodeByLongestKnownPrefix() {
+    final var postalCodeGeocodingService = postalCodeGeocodingService("classpath:geo/postal-code-centroids.csv");
+
+    assertEquals(new GeoPointDto(-23.5505, -46.6333), postalCodeGeocodingService.locate("01001-000").orElseThrow());
+    assertEquals(new GeoPointDto(-22.9068, -43.1729), postalCodeGeocodingService.locate("20040-002").orElseThrow());
+    assertTrue(postalCodeGeocodingService.locate("44444-876").isEmpty());
+    assertTrue(postalCodeGeocodingService.locate(null).isEmpty());
+  }
+
+  @Test
+  @DisplayName("Should set and clear address coordinates when geocoding")
+  void shouldSetAndClearAddressCoordinates() {
+    final var postalCodeGeocodingService = postalCodeGeocodingService("classpath:geo/postal-code-centroids.csv");
+    final var address = AddressUtils.create(UserUtils.create());
+
+    address.setZipCode("01001-000");
+    postalCodeGeocodingService.geocode(address);
+
+    assertEquals(-23.5505, address.getLatitude());
+    assertEquals(-46.6333, address.getLongitude());
+
+    address.setZipCode("44444-876");
+    postalCodeGeocodingService.geocode(address);
+
+    assertNull(address.getLatitude());
+    assertNull(address.getLongitude());
+  }
+
+  @Test
+  @DisplayName("Should not locate zip codes when the dataset is missing")
+  void shouldNotLocateWhenDatasetIsMissing() {
+    assertTrue(postalCodeGeocodingService("classpath:geo/missing.csv").locate("01001-000").isEmpty());
+    assertTrue(postalCodeGeocodingService(null).locate("01001-000").isEmpty());
+  }
+}
@@ -0,0 +1,157 @@
+package br.com.conectabyte.profissu.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+import org.hibernate.FlushMode;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import br.com.conectabyte.profissu.entities.RequestedService;
+import br.com.conectabyte.profissu.entities.User;
+import br.com.conectabyte.profissu.repositories.RequestedServiceRepository;
+import br.com.conectabyte.profissu.repositories.UserRepository;
+import br.com.conectabyte.profissu.utils.AddressUtils;
+import br.com.conectabyte.profissu.utils.ContactUtils;
+import br.com.conectabyte.profissu.utils.RequestedServiceUtils;
+import br.com.conectabyte.profissu.utils.UserUtils;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Read-only transaction Tests")
+@Slf4j
+class ReadOnlyTransactionTest {
+  private static final int PAGE_SIZE = 100;
+  private static final int ROUNDS = 200;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private RequestedServiceRepository requestedServiceRepository;
+
+  private User user;
+
+  @BeforeEach
+  void setUp() {
+    new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+      final var newUser = UserUtils.create();
+      final var contact = ContactUtils.create(newUser);
+
+      contact.setValue("read-only@conectabyte.com.br");
+      newUser.setContacts(List.of(contact));
+      user = userRepository.save(newUser);
+
+      for (int i = 0; i < PAGE_SIZE; i++) {
+        requestedServiceRepository.save(RequestedServiceUtils.create(user, AddressUtils.create(user), List.of()));
+      }
+    });
+  }
+
+  @AfterEach
+  void tearDown() {
+    jdbcTemplate.update("DELETE FROM requested_services WHERE user_id = ?", user.getId());
+    jdbcTemplate.update("DELETE FROM addresses WHERE user_id = ?", user.getId());
+    jdbcTemplate.update("DELETE FROM contacts WHERE user_id = ?", user.getId());
+    jdbcTemplate.update("DELETE FROM users WHERE id = ?", user.getId());
+  }
+
+  private TransactionTemplate transactionTemplate(boolean readOnly) {
+    final var transactionTemplate = new TransactionTemplate(transactionManager);
+
+    transactionTemplate.setReadOnly(readOnly);
+    return transactionTemplate;
+  }
+
+  private List<RequestedService> loadPage() {
+    return entityManager.createQuery("FROM RequestedService rs WHERE rs.user.id = :userId ORDER BY rs.id",
+        RequestedService.class)
+        .setParameter("userId", user.getId())
+        .setHint("jakarta.persistence.fetchgraph", entityManager.createEntityGraph("RequestedService.detail"))
+        .setMaxResults(PAGE_SIZE)
+        .getResultList();
+  }
+
+  private long[] measure(boolean readOnly) {
+    final var threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    final var transactionTemplate = transactionTemplate(readOnly);
+    final var allocatedBefore = threadMXBean.getCurrentThreadAllocatedBytes();
+    final var start = System.nanoTime();
+
+    for (int i = 0; i < ROUNDS; i++) {
+      transactionTemplate.execute(status -> loadPage().size());
+    }
+
+    return new long[] {
+        (System.nanoTime() - start) / 1_000 / ROUNDS,
+        (threadMXBean.getCurrentThreadAllocatedBytes() - allocatedBefore) / 1_024 / ROUNDS };
+  }
+
+  @Test
+  @DisplayName("Should load entities without snapshots and with manual flush in read-only transactions")
+  void shouldLoadEntitiesWithoutSnapshotsInReadOnlyTransactions() {
+    transactionTemplate(true).executeWithoutResult(status -> {
+      final var session = entityManager.unwrap(SessionImplementor.class);
+      final var requestedServices = loadPage();
+
+      assertEquals(PAGE_SIZE, requestedServices.size());
+      assertTrue(session.isDefaultReadOnly());
+      assertEquals(FlushMode.MANUAL, session.getHibernateFlushMode());
+      requestedServices.forEach(rs -> {
+        assertTrue(session.isReadOnly(rs));
+        assertNull(session.getPersistenceContextInternal().getEntry(rs).getLoadedState());
+      });
+    });
+  }
+
+  @Test
+  @DisplayName("Should keep snapshots for dirty checking in read-write transactions")
+  void shouldKeepSnapshotsInReadWriteTransactions() {
+    transactionTemplate(false).executeWithoutResult(status -> {
+      final var session = entityManager.unwrap(SessionImplementor.class);
+      final var requestedService = loadPage().get(0);
+
+      assertNotNull(session.getPersistenceContextInternal().getEntry(requestedService).getLoadedState());
+    });
+  }
+
+  @Test
+  @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+  @DisplayName("Should compare read-write and read-only transactions on pages of 100 entities")
+  void shouldCompareReadWriteAndReadOnlyTransactions() {
+    measure(false);
+    measure(true);
+
+    final var readWrite = measure(false);
+    final var readOnly = measure(true);
+
+    log.info("Read-write page of {} entities: {} us, {} KiB allocated", PAGE_SIZE, readWrite[0], readWrite[1]);
+    log.info("Read-only page of {} entities: {} us, {} KiB allocated", PAGE_SIZE, readOnly[0], readOnly[1]);
+  }
+}
@@ -0,0 +1,323 @@
+package br.com.conectabyte.profissu.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import br.com.conectabyte.profissu.dtos.response.AddressResponseDto;
+import br.com.conectabyte.profissu.dtos.response.RequestedServiceFeedEntryDto;
+import br.com.conectabyte.profissu.dtos.response.RequestedServiceProjectionDto;
+import br.com.conectabyte.profissu.dtos.response.UserProjectionDto;
+import br.com.conectabyte.profissu.enums.GenderEnum;
+import br.com.conectabyte.profissu.enums.PaginationModeEnum;
+import br.com.conectabyte.profissu.enums.RequestedServiceStatusEnum;
+import br.com.conectabyte.profissu.properties.ProfissuProperties;
+import br.com.conectabyte.profissu.repositories.RequestedServiceRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RequestedServiceFeedService Tests")
+class RequestedServiceFeedServiceTest {
+  private static final String READY_KEY = "profissu:feed:requested-services:ready";
+  private static final String PAYLOADS_KEY = "profissu:feed:requested-services:payloads";
+  private static final String ALL_KEY = "profissu:feed:requested-services:all";
+  private static final String REBUILD_LOCK_KEY = "profissu:feed:requested-services:rebuilding";
+  private static final String UPDATED_WHILE_REBUILDING_KEY =
+      "profissu:feed:requested-services:updated-while-rebuilding";
+
+  @Mock
+  private RedisTemplate<String, Long> feedRedisTemplate;
+
+  @Mock
+  private HashOperations<String, Long, RequestedServiceProjectionDto> hashOperations;
+
+  @Mock
+  private ValueOperations<String, Long> valueOperations;
+
+  @Mock
+  private ZSetOperations<String, Long> zSetOperations;
+
+  @Mock
+  private SetOperations<String, Long> setOperations;
+
+  @Mock
+  private RequestedServiceRepository requestedServiceRepository;
+
+  private final RequestedServiceProjectionDto requestedService = new RequestedServiceProjectionDto(1L, "Title",
+      "Description", RequestedServiceStatusEnum.PENDING,
+      new AddressResponseDto(2L, "Street", "1", "Springfield", "IL", "12345-678"),
+      new UserProjectionDto(3L, "User", "Bio", GenderEnum.MALE));
+
+  private RequestedServiceFeedService requestedServiceFeedService(boolean enabled) {
+    final var profissuProperties = new ProfissuProperties();
+
+    profissuProperties.getProfissu().getFeed().setEnabled(enabled);
+    profissuProperties.getProfissu().getFeed().setRebuildBatchSize(10);
+
+    return new RequestedServiceFeedService(feedRedisTemplate, requestedServiceRepository, profissuProperties);
+  }
+
+  private void runSessionCallbacks() {
+    when(feedRedisTemplate.execute(any(SessionCallback.class)))
+        .thenAnswer(invocation -> invocation.<SessionCallback<?>>getArgument(0).execute(feedRedisTemplate));
+    when(feedRedisTemplate.<Long, RequestedServiceProjectionDto>opsForHash()).thenReturn(hashOperations);
+  }
+
+  @Test
+  @DisplayName("Should serve a page from the feed partition when the feed is ready")
+  void shouldServePageFromFeedPartition() {
+    final var pageable = PageRequest.of(0, 1);
+
+    when(feedRedisTemplate.executePipelined(any(SessionCallback.class)))
+        .thenReturn(List.of(true, new LinkedHashSet<>(List.of(1L, 4L)), 2L));
+    when(feedRedisTemplate.<Long, RequestedServiceProjectionDto>opsForHash()).thenReturn(hashOperations);
+    when(hashOperations.multiGet(PAYLOADS_KEY, List.of(1L))).thenReturn(List.of(requestedService));
+
+    final var result = requestedServiceFeedService(true)
+        .findAvailable(PaginationModeEnum.PAGE, pageable, "IL", "Springfield").orElseThrow();
+
+    assertEquals(List.of(requestedService), result.getContent());
+    assertEquals(2, ((Page<RequestedServiceProjectionDto>) result).getTotalElements());
+    assertTrue(result.hasNext());
+    verifyNoInteractions(requestedServiceRepository);
+  }
+
+  @Test
+  @DisplayName("Should serve a slice from the feed skipping missing payloads")
+  void shouldServeSliceSkippingMissingPayloads() {
+    final var pageable = PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+    when(feedRedisTemplate.executePipelined(any(SessionCallback.class)))
+        .thenReturn(List.of(true, new LinkedHashSet<>(List.of(1L, 4L))));
+    when(feedRedisTemplate.<Long, RequestedServiceProjectionDto>opsForHash()).thenReturn(hashOperations);
+    when(hashOperations.multiGet(PAYLOADS_KEY, List.of(1L, 4L))).thenReturn(Arrays.asList(requestedService, null));
+
+    final var result = requestedServiceFeedService(true)
+        .findAvailable(PaginationModeEnum.SLICE, pageable, null, null).orElseThrow();
+
+    assertFalse(result instanceof Page);
+    assertFalse(result.hasNext());
+    assertEquals(List.of(requestedService), result.getContent());
+  }
+
+  @Test
+  @DisplayName("Should not serve from the feed when it is disabled")
+  void shouldNotServeWhenDisabled() {
+    assertTrue(requestedServiceFeedService(false)
+        .findAvailable(PaginationModeEnum.PAGE, PageRequest.of(0, 10), null, null).isEmpty());
+    verifyNoInteractions(feedRedisTemplate);
+  }
+
+  @Test
+  @DisplayName("Should not serve from the feed when the sort is not supported")
+  void shouldNotServeUnsupportedSort() {
+    assertTrue(requestedServiceFeedService(true)
+        .findAvailable(PaginationModeEnum.PAGE, PageRequest.of(0, 10, Sort.by("title")), null, null).isEmpty());
+    verifyNoInteractions(feedRedisTemplate);
+  }
+
+  @Test
+  @DisplayName("Should not serve from the feed when a city is given without a state")
+  void shouldNotServeCityWithoutState() {
+    assertTrue(requestedServiceFeedService(true)
+        .findAvailable(PaginationModeEnum.PAGE, PageRequest.of(0, 10), null, "Springfield").isEmpty());
+    verifyNoInteractions(feedRedisTemplate);
+  }
+
+  @Test
+  @DisplayName("Should not serve from the feed when it is not ready")
+  void shouldNotServeWhenNotReady() {
+    when(feedRedisTemplate.executePipelined(any(SessionCallback.class)))
+        .thenReturn(List.of(false, new LinkedHashSet<Long>(), 0L));
+
+    assertTrue(requestedServiceFeedService(true)
+        .findAvailable(PaginationModeEnum.PAGE, PageRequest.of(0, 10), null, null).isEmpty());
+    verify(feedRedisTemplate, never()).opsForHash();
+  }
+
+  @Test
+  @DisplayName("Should not serve from the feed when Redis fails")
+  void shouldNotServeWhenRedisFails() {
+    when(feedRedisTemplate.executePipelined(any(SessionCallback.class)))
+        .thenThrow(new RedisConnectionFailureException("Connection refused"));
+
+    assertTrue(requestedServiceFeedService(true)
+        .findAvailable(PaginationModeEnum.PAGE, PageRequest.of(0, 10), null, null).isEmpty());
+  }
+
+  @Test
+  @DisplayName("Should report readiness only once the feed is rebuilt or when it is disabled")
+  void shouldReportReadiness() {
+    when(feedRedisTemplate.hasKey(READY_KEY)).thenReturn(false, true);
+
+    assertFalse(requestedServiceFeedService(true).isReady());
+    assertTrue(requestedServiceFeedService(true).isReady());
+    assertTrue(requestedServiceFeedService(false).isReady());
+  }
+
+  @Test
+  @DisplayName("Should upsert live requested services and remove the others on refresh")
+  void shouldUpsertLiveRequestedServicesOnRefresh() {
+    when(requestedServiceRepository.findAvailableIdsByUserId(3L)).thenReturn(List.of(1L, 5L));
+    when(requestedServiceRepository.findFeedEntriesByIds(List.of(1L, 5L)))
+        .thenReturn(List.of(new RequestedServiceFeedEntryDto(requestedService, LocalDateTime.now())));
+    runSessionCallbacks();
+    when(feedRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+    when(hashOperations.multiGet(PAYLOADS_KEY, List.of(5L, 1L))).thenReturn(Arrays.asList(null, requestedService));
+    when(feedRedisTemplate.exec()).thenReturn(List.of(1L));
+
+    requestedServiceFeedService(true).refreshUser(3L);
+
+    verify(feedRedisTemplate).watch(PAYLOADS_KEY);
+    verify(zSetOperations).remove(ALL_KEY, 1L);
+    verify(hashOperations).delete(PAYLOADS_KEY, 5L);
+    verify(hashOperations).put(PAYLOADS_KEY, 1L, requestedService);
+    verify(zSetOperations).add(eq(ALL_KEY), eq(1L), anyDouble());
+    verify(feedRedisTemplate, never()).opsForSet();
+    verify(feedRedisTemplate, never()).delete(READY_KEY);
+  }
+
+  @Test
+  @DisplayName("Should retry an update when the feed changes before it is committed")
+  void shouldRetryUpdateWhenFeedChanges() {
+    runSessionCallbacks();
+    when(hashOperations.multiGet(PAYLOADS_KEY, List.of(1L))).thenReturn(Collections.singletonList(null));
+    when(feedRedisTemplate.exec()).thenReturn(List.of(), List.of(1L));
+
+    requestedServiceFeedService(true).remove(1L);
+
+    verify(hashOperations, times(2)).multiGet(PAYLOADS_KEY, List.of(1L));
+    verify(hashOperations, times(2)).delete(PAYLOADS_KEY, 1L);
+    verify(feedRedisTemplate, never()).delete(READY_KEY);
+  }
+
+  @Test
+  @DisplayName("Should mark the feed for rebuild when an update keeps conflicting")
+  void shouldMarkFeedForRebuildWhenUpdateKeepsConflicting() {
+    runSessionCallbacks();
+    when(hashOperations.multiGet(PAYLOADS_KEY, List.of(1L))).thenReturn(Collections.singletonList(null));
+    when(feedRedisTemplate.exec()).thenReturn(List.of());
+
+    requestedServiceFeedService(true).remove(1L);
+
+    verify(feedRedisTemplate, times(5)).exec();
+    verify(feedRedisTemplate).delete(READY_KEY);
+  }
+
+  @Test
+  @DisplayName("Should record requested services updated while the feed is being rebuilt")
+  void shouldRecordUpdatesWhileRebuilding() {
+    runSessionCallbacks();
+    when(feedRedisTemplate.opsForSet()).thenReturn(setOperations);
+    when(hashOperations.multiGet(PAYLOADS_KEY, List.of(1L))).thenReturn(Collections.singletonList(null));
+    when(feedRedisTemplate.hasKey(REBUILD_LOCK_KEY)).thenReturn(true);
+    when(feedRedisTemplate.exec()).thenReturn(List.of(1L, 1L));
+
+    requestedServiceFeedService(true).remove(1L);
+
+    verify(setOperations).add(UPDATED_WHILE_REBUILDING_KEY, 1L);
+  }
+
+  @Test
+  @DisplayName("Should re-apply requested services updated while rebuilding before marking the feed ready")
+  void shouldReapplyUpdatesMadeWhileRebuilding() {
+    final var pageable = PageRequest.of(0, 10);
+
+    runSessionCallbacks();
+    when(feedRedisTemplate.opsForValue()).thenReturn(valueOperations);
+    when(valueOperations.setIfAbsent(eq(REBUILD_LOCK_KEY), anyLong(), any(Duration.class))).thenReturn(true);
+    when(feedRedisTemplate.scan(any(ScanOptions.class))).thenReturn(mock(Cursor.class));
+    when(feedRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+    when(feedRedisTemplate.opsForSet()).thenReturn(setOperations);
+    when(requestedServiceRepository.findFeedEntriesAfterId(0L, pageable)).thenReturn(new SliceImpl<>(
+        List.of(new RequestedServiceFeedEntryDto(requestedService, LocalDateTime.now())), pageable, false));
+    when(hashOperations.multiGet(PAYLOADS_KEY, List.of(1L))).thenReturn(Collections.singletonList(null),
+        List.of(requestedService));
+    when(feedRedisTemplate.exec()).thenReturn(List.of(1L));
+    when(setOperations.pop(UPDATED_WHILE_REBUILDING_KEY, 10)).thenReturn(List.of(1L), List.of());
+    when(requestedServiceRepository.findFeedEntriesByIds(List.of(1L))).thenReturn(List.of());
+
+    requestedServiceFeedService(true).rebuild();
+
+    final var inOrder = inOrder(hashOperations, valueOperations);
+
+    inOrder.verify(hashOperations).put(PAYLOADS_KEY, 1L, requestedService);
+    inOrder.verify(hashOperations).delete(PAYLOADS_KEY, 1L);
+    inOrder.verify(valueOperations).set(READY_KEY, 1L);
+    verify(zSetOperations).remove(ALL_KEY, 1L);
+    verify(setOperations, never()).add(any(), any());
+    verify(feedRedisTemplate).delete(REBUILD_LOCK_KEY);
+  }
+
+  @Test
+  @DisplayName("Should mark the feed for rebuild when an incremental update fails")
+  void shouldMarkFeedForRebuildWhenUpdateFails() {
+    runSessionCallbacks();
+    when(hashOperations.multiGet(PAYLOADS_KEY, List.of(1L)))
+        .thenThrow(new RedisConnectionFailureException("Connection refused"));
+
+    requestedServiceFeedService(true).remove(1L);
+
+    verify(feedRedisTemplate, times(1)).delete(READY_KEY);
+  }
+
+  @Test
+  @DisplayName("Should not update the feed when it is disabled")
+  void shouldNotUpdateWhenDisabled() {
+    final var requestedServiceFeedService = requestedServiceFeedService(false);
+
+    requestedServiceFeedService.add(1L);
+    requestedServiceFeedService.remove(1L);
+    requestedServiceFeedService.refreshAddress(2L);
+
+    verifyNoInteractions(feedRedisTemplate, requestedServiceRepository);
+  }
+
+  @Test
+  @DisplayName("Should skip the rebuild when another one holds the lock")
+  void shouldSkipRebuildWhenLocked() {
+    when(feedRedisTemplate.opsForValue()).thenReturn(valueOperations);
+    when(valueOperations.setIfAbsent(any(), anyLong(), any(Duration.class))).thenReturn(false);
+
+    requestedServiceFeedService(true).rebuild();
+
+    verify(requestedServiceRepository, never()).findFeedEntriesAfterId(any(), any());
+    verify(feedRedisTemplate, never()).delete(eq(READY_KEY));
+  }
+}
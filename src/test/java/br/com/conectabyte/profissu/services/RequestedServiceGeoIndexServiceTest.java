@@ -0,0 +1,159 @@
+package br.com.conectabyte.profissu.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+import br.com.conectabyte.profissu.dtos.response.GeoPointDto;
+import br.com.conectabyte.profissu.dtos.response.RequestedServiceDistanceDto;
+import br.com.conectabyte.profissu.dtos.response.RequestedServiceGeoEntryDto;
+import br.com.conectabyte.profissu.exceptions.ValidationException;
+import br.com.conectabyte.profissu.properties.ProfissuProperties;
+import br.com.conectabyte.profissu.repositories.RequestedServiceRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RequestedServiceGeoIndexService Tests")
+class RequestedServiceGeoIndexServiceTest {
+  private static final GeoPointDto CENTER = new GeoPointDto(-23.5505, -46.6333);
+
+  @Mock
+  private RequestedServiceRepository requestedServiceRepository;
+
+  private RequestedServiceGeoIndexService requestedServiceGeoIndexService(boolean enabled) {
+    final var profissuProperties = new ProfissuProperties();
+
+    profissuProperties.getProfissu().getGeo().setEnabled(enabled);
+    profissuProperties.getProfissu().getGeo().setRebuildBatchSize(10);
+    profissuProperties.getProfissu().getGeo().setMaxRadius(100.0);
+
+    return new RequestedServiceGeoIndexService(requestedServiceRepository, profissuProperties);
+  }
+
+  private RequestedServiceGeoIndexService rebuiltIndex(RequestedServiceGeoEntryDto... entries) {
+    final var requestedServiceGeoIndexService = requestedServiceGeoIndexService(true);
+
+    when(requestedServiceRepository.findGeoEntriesAfterId(0L, PageRequest.of(0, 10)))
+        .thenReturn(new SliceImpl<>(List.of(entries), PageRequest.of(0, 10), false));
+    requestedServiceGeoIndexService.rebuild();
+
+    return requestedServiceGeoIndexService;
+  }
+
+  private List<Long> nearbyIds(RequestedServiceGeoIndexService requestedServiceGeoIndexService, double radius) {
+    return requestedServiceGeoIndexService.findNearby(CENTER, radius, PageRequest.of(0, 10)).getContent().stream()
+        .map(RequestedServiceDistanceDto::id)
+        .toList();
+  }
+
+  @Test
+  @DisplayName("Should find requested services within the radius sorted by distance")
+  void shouldFindRequestedServicesWithinRadiusSortedByDistance() {
+    final var requestedServiceGeoIndexService = rebuiltIndex(
+        new RequestedServiceGeoEntryDto(1L, -23.5055, -46.6333),
+        new RequestedServiceGeoEntryDto(2L, -23.5505, -46.6333),
+        new RequestedServiceGeoEntryDto(3L, -23.2800, -46.6333),
+        new RequestedServiceGeoEntryDto(4L, -22.9068, -43.1729));
+
+    final var result = requestedServiceGeoIndexService.findNearby(CENTER, 15, PageRequest.of(0, 10));
+
+    assertTrue(requestedServiceGeoIndexService.isReady());
+    assertEquals(List.of(2L, 1L), result.getContent().stream().map(RequestedServiceDistanceDto::id).toList());
+    assertEquals(0, result.getContent().get(0).distance(), 0.001);
+    assertEquals(5.0, result.getContent().get(1).distance(), 0.1);
+    assertFalse(result.hasNext());
+    assertEquals(List.of(2L, 1L, 3L), nearbyIds(requestedServiceGeoIndexService, 50));
+  }
+
+  @Test
+  @DisplayName("Should slice nearby requested services")
+  void shouldSliceNearbyRequestedServices() {
+    final var requestedServiceGeoIndexService = rebuiltIndex(
+        new RequestedServiceGeoEntryDto(1L, -23.5055, -46.6333),
+        new RequestedServiceGeoEntryDto(2L, -23.5505, -46.6333),
+        new RequestedServiceGeoEntryDto(3L, -23.5505, -46.6000));
+
+    final var firstSlice = requestedServiceGeoIndexService.findNearby(CENTER, 15, PageRequest.of(0, 2));
+    final var secondSlice = requestedServiceGeoIndexService.findNearby(CENTER, 15, PageRequest.of(1, 2));
+
+    assertEquals(List.of(2L, 3L), firstSlice.getContent().stream().map(RequestedServiceDistanceDto::id).toList());
+    assertTrue(firstSlice.hasNext());
+    assertEquals(List.of(1L), secondSlice.getContent().stream().map(RequestedServiceDistanceDto::id).toList());
+    assertFalse(secondSlice.hasNext());
+  }
+
+  @Test
+  @DisplayName("Should add and remove requested services incrementally")
+  void shouldAddAndRemoveRequestedServicesIncrementally() {
+    final var requestedServiceGeoIndexService = rebuiltIndex();
+
+    when(requestedServiceRepository.findGeoEntriesByIds(List.of(5L)))
+        .thenReturn(List.of(new RequestedServiceGeoEntryDto(5L, -23.5505, -46.6333)));
+
+    requestedServiceGeoIndexService.add(5L);
+    assertEquals(List.of(5L), nearbyIds(requestedServiceGeoIndexService, 15));
+
+    requestedServiceGeoIndexService.remove(5L);
+    assertTrue(nearbyIds(requestedServiceGeoIndexService, 15).isEmpty());
+  }
+
+  @Test
+  @DisplayName("Should move and drop requested services when their address or user changes")
+  void shouldMoveAndDropRequestedServicesOnRefresh() {
+    final var requestedServiceGeoIndexService = rebuiltIndex(
+        new RequestedServiceGeoEntryDto(1L, -23.5505, -46.6333),
+        new RequestedServiceGeoEntryDto(2L, -23.5505, -46.6333));
+
+    when(requestedServiceRepository.findAvailableIdsByAddressId(10L)).thenReturn(List.of(1L));
+    when(requestedServiceRepository.findGeoEntriesByIds(List.of(1L)))
+        .thenReturn(List.of(new RequestedServiceGeoEntryDto(1L, -22.9068, -43.1729)));
+    when(requestedServiceRepository.findAvailableIdsByUserId(20L)).thenReturn(List.of(2L));
+    when(requestedServiceRepository.findGeoEntriesByIds(List.of(2L))).thenReturn(List.of());
+
+    requestedServiceGeoIndexService.refreshAddress(10L);
+    requestedServiceGeoIndexService.refreshUser(20L);
+
+    assertTrue(nearbyIds(requestedServiceGeoIndexService, 15).isEmpty());
+    assertEquals(List.of(1L), requestedServiceGeoIndexService
+        .findNearby(new GeoPointDto(-22.9068, -43.1729), 1, PageRequest.of(0, 10)).getContent().stream()
+        .map(RequestedServiceDistanceDto::id)
+        .toList());
+  }
+
+  @Test
+  @DisplayName("Should reject radius above the configured maximum")
+  void shouldRejectRadiusAboveMaximum() {
+    final var requestedServiceGeoIndexService = requestedServiceGeoIndexService(true);
+
+    assertThrows(ValidationException.class,
+        () -> requestedServiceGeoIndexService.findNearby(CENTER, 101, PageRequest.of(0, 10)));
+    assertThrows(ValidationException.class,
+        () -> requestedServiceGeoIndexService.findNearby(new GeoPointDto(91, 0), 15, PageRequest.of(0, 10)));
+  }
+
+  @Test
+  @DisplayName("Should not build or update the index when it is disabled")
+  void shouldNotBuildOrUpdateWhenDisabled() {
+    final var requestedServiceGeoIndexService = requestedServiceGeoIndexService(false);
+
+    requestedServiceGeoIndexService.rebuild();
+    requestedServiceGeoIndexService.add(1L);
+    requestedServiceGeoIndexService.refreshAddress(2L);
+
+    assertFalse(requestedServiceGeoIndexService.isReady());
+    assertTrue(nearbyIds(requestedServiceGeoIndexService, 15).isEmpty());
+    verifyNoInteractions(requestedServiceRepository);
+  }
+}
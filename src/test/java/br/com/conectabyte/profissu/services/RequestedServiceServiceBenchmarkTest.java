@@ -0,0 +1,146 @@
+package br.com.conectabyte.profissu.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import br.com.conectabyte.profissu.dtos.response.RequestedServiceResponseDto;
+import br.com.conectabyte.profissu.entities.RequestedService;
+import br.com.conectabyte.profissu.enums.PaginationModeEnum;
+import br.com.conectabyte.profissu.mappers.RequestedServiceMapper;
+import br.com.conectabyte.profissu.repositories.RequestedServiceRepository;
+import br.com.conectabyte.profissu.repositories.UserRepository;
+import br.com.conectabyte.profissu.utils.AddressUtils;
+import br.com.conectabyte.profissu.utils.ContactUtils;
+import br.com.conectabyte.profissu.utils.RequestedServiceUtils;
+import br.com.conectabyte.profissu.utils.UserUtils;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("RequestedServiceService Benchmark")
+@Slf4j
+class RequestedServiceServiceBenchmarkTest {
+  private static final int USERS = 100;
+  private static final int REQUESTED_SERVICES_PER_USER = 100;
+  private static final int PAGE_SIZE = 50;
+  private static final int PAGES = 20;
+  private static final int ROUNDS = 5;
+
+  @Autowired
+  private RequestedServiceService requestedServiceService;
+
+  @Autowired
+  private RequestedServiceRepository requestedServiceRepository;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  @BeforeEach
+  void setUp() {
+    for (int i = 0; i < USERS; i++) {
+      final var user = UserUtils.create();
+      final var contact = ContactUtils.create(user);
+
+      contact.setValue("benchmark" + i + "@conectabyte.com.br");
+      user.setContacts(List.of(contact));
+      user.setAddresses(List.of(AddressUtils.create(user)));
+
+      final var savedUser = userRepository.save(user);
+
+      for (int j = 0; j < REQUESTED_SERVICES_PER_USER; j++) {
+        requestedServiceRepository.save(RequestedServiceUtils.create(savedUser, AddressUtils.create(savedUser),
+            List.of()));
+      }
+
+      entityManager.flush();
+      entityManager.clear();
+    }
+  }
+
+  private List<RequestedServiceResponseDto> findWithEntities(int page) {
+    final var requestedServices = entityManager.createQuery("""
+        FROM RequestedService rs
+          WHERE rs.status = 'PENDING'
+          AND rs.deletedAt IS NULL
+          ORDER BY rs.id
+        """, RequestedService.class)
+        .setHint("jakarta.persistence.fetchgraph", entityManager.createEntityGraph("RequestedService.detail"))
+        .setFirstResult(page * PAGE_SIZE)
+        .setMaxResults(PAGE_SIZE)
+        .getResultList();
+
+    return requestedServices.stream()
+        .map(RequestedServiceMapper.INSTANCE::requestedServiceToRequestedServiceResponseDto)
+        .toList();
+  }
+
+  private List<RequestedServiceResponseDto> findWithProjections(int page) {
+    return requestedServiceService.findAvailableServiceRequests(PaginationModeEnum.SLICE,
+        PageRequest.of(page, PAGE_SIZE, Sort.by("id")), null, null)
+        .getContent();
+  }
+
+  private Map<String, Long> measure(IntFunction<List<RequestedServiceResponseDto>> findPage) {
+    final var statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    final var start = System.nanoTime();
+
+    statistics.clear();
+
+    for (int round = 0; round < ROUNDS; round++) {
+      for (int page = 0; page < PAGES; page++) {
+        entityManager.clear();
+        findPage.apply(page);
+      }
+    }
+
+    return Map.of(
+        "averageMicros", (System.nanoTime() - start) / 1_000 / (ROUNDS * PAGES),
+        "statementsPerPage", statistics.getPrepareStatementCount() / (ROUNDS * PAGES),
+        "entitiesLoadedPerPage", statistics.getEntityLoadCount() / (ROUNDS * PAGES));
+  }
+
+  @Test
+  @DisplayName("Should compare entity mapping with DTO projections on 10k requested services")
+  void shouldCompareEntityMappingWithProjections() {
+    final var expected = new ArrayList<RequestedServiceResponseDto>();
+    final var actual = new ArrayList<RequestedServiceResponseDto>();
+
+    for (int page = 0; page < PAGES; page++) {
+      entityManager.clear();
+      expected.addAll(findWithEntities(page));
+      actual.addAll(findWithProjections(page));
+    }
+
+    assertEquals(expected, actual);
+
+    measure(this::findWithEntities);
+    measure(this::findWithProjections);
+
+    log.info("Entities + MapStruct over {} requested services: {}", USERS * REQUESTED_SERVICES_PER_USER,
+        measure(this::findWithEntities));
+    log.info("DTO projections over {} requested services: {}", USERS * REQUESTED_SERVICES_PER_USER,
+        measure(this::findWithProjections));
+  }
+}
@@ -1,15 +1,18 @@
 package br.com.conectabyte.profissu.services;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -23,16 +26,27 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 
 import br.com.conectabyte.profissu.dtos.request.RequestedServiceRequestDto;
+import br.com.conectabyte.profissu.dtos.response.AddressResponseDto;
+import br.com.conectabyte.profissu.dtos.response.GeoPointDto;
+import br.com.conectabyte.profissu.dtos.response.NearbyRequestedServiceResponseDto;
+import br.com.conectabyte.profissu.dtos.response.RequestedServiceDistanceDto;
+import br.com.conectabyte.profissu.dtos.response.RequestedServiceProjectionDto;
 import br.com.conectabyte.profissu.dtos.response.RequestedServiceResponseDto;
-import br.com.conectabyte.profissu.entities.RequestedService;
+import br.com.conectabyte.profissu.dtos.response.UserProjectionDto;
+import br.com.conectabyte.profissu.dtos.response.UserResponseDto;
+import br.com.conectabyte.profissu.enums.GenderEnum;
 import br.com.conectabyte.profissu.enums.OfferStatusEnum;
+import br.com.conectabyte.profissu.enums.PaginationModeEnum;
+import br.com.conectabyte.profissu.enums.ParticipantRoleEnum;
 import br.com.conectabyte.profissu.enums.RequestedServiceStatusEnum;
 import br.com.conectabyte.profissu.exceptions.RequestedServiceCancellationException;
 import br.com.conectabyte.profissu.exceptions.ResourceNotFoundException;
 import br.com.conectabyte.profissu.mappers.AddressMapper;
-import br.com.conectabyte.profissu.mappers.RequestedServiceMapper;
+import br.com.conectabyte.profissu.repositories.RequestedServiceParticipantRepository;
 import br.com.conectabyte.profissu.repositories.RequestedServiceRepository;
 import br.com.conectabyte.profissu.services.email.RequestedServiceCancellationNotificationService;
 import br.com.conectabyte.profissu.utils.AddressUtils;
@@ -44,17 +58,35 @@ import br.com.conectabyte.profissu.utils.UserUtils;
 @ExtendWith(MockitoExtension.class)
 @DisplayName("RequestedServiceService Tests")
 class RequestedServiceServiceTest {
+  private static final Sort AVAILABLE_SORT = Sort.by(Sort.Direction.DESC, "createdAt")
+      .and(Sort.by(Sort.Direction.DESC, "id"));
+
   @Mock
   private RequestedServiceRepository requestedServiceRepository;
 
   @Mock
-  private UserService userService;
+  private RequestedServiceParticipantRepository requestedServiceParticipantRepository;
 
   @Mock
   private RequestedServiceCancellationNotificationService requestedServiceCancellationNotificationService;
 
   @Mock
-  private JwtService jwtService;
+  private AuthenticatedUserService authenticatedUserService;
+
+  @Mock
+  private UserProjectionService userProjectionService;
+
+  @Mock
+  private CountCacheService countCacheService;
+
+  @Mock
+  private RequestedServiceFeedService requestedServiceFeedService;
+
+  @Mock
+  private RequestedServiceGeoIndexService requestedServiceGeoIndexService;
+
+  @Mock
+  private PostalCodeGeocodingService postalCodeGeocodingService;
 
   @InjectMocks
   private RequestedServiceService requestedServiceService;
@@ -63,20 +95,146 @@ class RequestedServiceServiceTest {
   @DisplayName("Should find available service requests successfully")
   void shouldFindAvailableServiceRequestsWhenSuccessfully() {
     final var pageable = PageRequest.of(0, 10);
-    final var requestedService = new RequestedService();
-    final var user = UserUtils.create();
+    final var sortedPageable = PageRequest.of(0, 10, AVAILABLE_SORT);
+    final var user = new UserProjectionDto(1L, "Test Test", "Bio", GenderEnum.MALE);
+    final var userResponseDto = new UserResponseDto(1L, "Test Test", "Bio", GenderEnum.MALE, List.of(), List.of());
+    final var requestedService = new RequestedServiceProjectionDto(1L, "Title", "Description",
+        RequestedServiceStatusEnum.PENDING, null, user);
+    final var requestedServiceSlice = new SliceImpl<>(List.of(requestedService), sortedPageable, false);
 
-    requestedService.setUser(user);
+    when(requestedServiceRepository.findAvailableServiceRequests(null, null, sortedPageable)).thenReturn(requestedServiceSlice);
+    when(countCacheService.count(eq("requestedServices:available:null:null"), any())).thenReturn(1L);
+    when(userProjectionService.toUserResponseDtos(List.of(user))).thenReturn(Map.of(1L, userResponseDto));
 
-    final var requestedServicePage = new PageImpl<>(List.of(requestedService));
+    final var result = requestedServiceService.findAvailableServiceRequests(PaginationModeEnum.PAGE, pageable, null, null);
 
-    when(requestedServiceRepository.findAvailableServiceRequests(pageable)).thenReturn(requestedServicePage);
+    assertNotNull(result);
+    assertEquals(1, ((Page<RequestedServiceResponseDto>) result).getTotalElements());
+    assertEquals(userResponseDto, result.getContent().get(0).user());
+    verify(requestedServiceRepository, times(1)).findAvailableServiceRequests(null, null, sortedPageable);
+  }
 
-    Page<RequestedServiceResponseDto> result = requestedServiceService.findAvailableServiceRequests(pageable);
+  @Test
+  @DisplayName("Should find available service requests without counting in slice mode")
+  void shouldFindAvailableServiceRequestsWithoutCountingInSliceMode() {
+    final var pageable = PageRequest.of(0, 1);
+    final var sortedPageable = PageRequest.of(0, 1, AVAILABLE_SORT);
+    final var user = new UserProjectionDto(1L, "Test Test", "Bio", GenderEnum.MALE);
+    final var userResponseDto = new UserResponseDto(1L, "Test Test", "Bio", GenderEnum.MALE, List.of(), List.of());
+    final var requestedService = new RequestedServiceProjectionDto(1L, "Title", "Description",
+        RequestedServiceStatusEnum.PENDING, null, user);
+    final var requestedServiceSlice = new SliceImpl<>(List.of(requestedService), sortedPageable, true);
+
+    when(requestedServiceRepository.findAvailableServiceRequests(null, null, sortedPageable)).thenReturn(requestedServiceSlice);
+    when(userProjectionService.toUserResponseDtos(List.of(user))).thenReturn(Map.of(1L, userResponseDto));
+
+    final var result = requestedServiceService.findAvailableServiceRequests(PaginationModeEnum.SLICE, pageable, null, null);
+
+    assertFalse(result instanceof Page);
+    assertTrue(result.hasNext());
+    assertEquals(userResponseDto, result.getContent().get(0).user());
+    verify(countCacheService, never()).count(any(), any());
+  }
 
-    assertNotNull(result);
-    assertEquals(1, result.getTotalElements());
-    verify(requestedServiceRepository, times(1)).findAvailableServiceRequests(pageable);
+  @Test
+  @DisplayName("Should keep the requested sort when finding available service requests in the database")
+  void shouldKeepRequestedSortWhenFindingAvailableServiceRequestsInDatabase() {
+    final var pageable = PageRequest.of(0, 10, Sort.by("title"));
+    final var emptySlice = new SliceImpl<RequestedServiceProjectionDto>(List.of(), pageable, false);
+
+    when(requestedServiceRepository.findAvailableServiceRequests(null, null, pageable)).thenReturn(emptySlice);
+
+    final var result = requestedServiceService.findAvailableServiceRequests(PaginationModeEnum.SLICE, pageable, null,
+        null);
+
+    assertFalse(result.hasContent());
+    verify(requestedServiceRepository, times(1)).findAvailableServiceRequests(null, null, pageable);
+  }
+
+  @Test
+  @DisplayName("Should serve available service requests from the feed without querying the database")
+  void shouldServeAvailableServiceRequestsFromFeed() {
+    final var pageable = PageRequest.of(0, 10);
+    final var user = new UserProjectionDto(1L, "Test Test", "Bio", GenderEnum.MALE);
+    final var userResponseDto = new UserResponseDto(1L, "Test Test", "Bio", GenderEnum.MALE, List.of(), List.of());
+    final var requestedService = new RequestedServiceProjectionDto(1L, "Title", "Description",
+        RequestedServiceStatusEnum.PENDING, null, user);
+
+    when(requestedServiceFeedService.findAvailable(PaginationModeEnum.PAGE, pageable, "IL", "Springfield"))
+        .thenReturn(Optional.of(new PageImpl<>(List.of(requestedService), pageable, 1)));
+    when(userProjectionService.toUserResponseDtos(List.of(user))).thenReturn(Map.of(1L, userResponseDto));
+
+    final var result = requestedServiceService.findAvailableServiceRequests(PaginationModeEnum.PAGE, pageable, "IL",
+        "Springfield");
+
+    assertEquals(1, ((Page<RequestedServiceResponseDto>) result).getTotalElements());
+    assertEquals(userResponseDto, result.getContent().get(0).user());
+    verify(requestedServiceRepository, never()).findAvailableServiceRequests(any(), any(), any());
+    verify(countCacheService, never()).count(any(), any());
+  }
+
+  @Test
+  @DisplayName("Should search requested services keeping the relevance order")
+  void shouldSearchRequestedServicesKeepingRelevanceOrder() {
+    final var pageable = PageRequest.of(0, 2);
+    final var user = new UserProjectionDto(1L, "Test Test", "Bio", GenderEnum.MALE);
+    final var userResponseDto = new UserResponseDto(1L, "Test Test", "Bio", GenderEnum.MALE, List.of(), List.of());
+    final var firstRequestedService = new RequestedServiceProjectionDto(1L, "Pintura", "Description",
+        RequestedServiceStatusEnum.PENDING, null, user);
+    final var secondRequestedService = new RequestedServiceProjectionDto(2L, "Pinturas de paredes", "Description",
+        RequestedServiceStatusEnum.PENDING, null, user);
+
+    when(requestedServiceRepository.searchIds("pintura* parede*", "PENDING", "IL", "Springfield", pageable))
+        .thenReturn(new SliceImpl<>(List.of(2L, 1L), pageable, true));
+    when(requestedServiceRepository.findProjectionsByIds(List.of(2L, 1L)))
+        .thenReturn(List.of(firstRequestedService, secondRequestedService));
+    when(userProjectionService.toUserResponseDtos(List.of(user, user))).thenReturn(Map.of(1L, userResponseDto));
+
+    final var result = requestedServiceService.search("Pinturas de paredes!", RequestedServiceStatusEnum.PENDING,
+        "IL", "Springfield", pageable);
+
+    assertFalse(result instanceof Page);
+    assertTrue(result.hasNext());
+    assertEquals(List.of(2L, 1L), result.getContent().stream().map(RequestedServiceResponseDto::id).toList());
+    assertEquals(userResponseDto, result.getContent().get(0).user());
+  }
+
+  @Test
+  @DisplayName("Should not query the database when the search has no searchable terms")
+  void shouldNotQueryDatabaseWhenSearchHasNoTerms() {
+    final var result = requestedServiceService.search("de a e", null, null, null, PageRequest.of(0, 10));
+
+    assertTrue(result.isEmpty());
+    assertFalse(result.hasNext());
+    verify(requestedServiceRepository, never()).searchIds(any(), any(), any(), any(), any());
+  }
+
+  @Test
+  @DisplayName("Should find nearby requested services keeping the distance order")
+  void shouldFindNearbyRequestedServicesKeepingDistanceOrder() {
+    final var pageable = PageRequest.of(0, 10);
+    final var user = new UserProjectionDto(1L, "Test Test", "Bio", GenderEnum.MALE);
+    final var userResponseDto = new UserResponseDto(1L, "Test Test", "Bio", GenderEnum.MALE, List.of(), List.of());
+    final var firstRequestedService = new RequestedServiceProjectionDto(1L, "Title", "Description",
+        RequestedServiceStatusEnum.PENDING, null, user);
+    final var secondRequestedService = new RequestedServiceProjectionDto(2L, "Title", "Description",
+        RequestedServiceStatusEnum.PENDING, null, user);
+
+    when(requestedServiceGeoIndexService.findNearby(new GeoPointDto(-23.55, -46.63), 15, pageable))
+        .thenReturn(new SliceImpl<>(List.of(new RequestedServiceDistanceDto(2L, 1.5),
+            new RequestedServiceDistanceDto(3L, 2.5), new RequestedServiceDistanceDto(1L, 4.0)), pageable, false));
+    when(requestedServiceRepository.findProjectionsByIds(List.of(2L, 3L, 1L)))
+        .thenReturn(List.of(firstRequestedService, secondRequestedService));
+    when(userProjectionService.toUserResponseDtos(any())).thenReturn(Map.of(1L, userResponseDto));
+
+    final var result = requestedServiceService.findNearby(-23.55, -46.63, 15, pageable);
+
+    assertEquals(List.of(2L, 1L), result.getContent().stream().map(nearby -> nearby.requestedService().id())
+        .toList());
+    assertEquals(List.of(1.5, 4.0), result.getContent().stream()
+        .map(NearbyRequestedServiceResponseDto::distance)
+        .toList());
+    assertEquals(userResponseDto, result.getContent().get(0).requestedService().user());
   }
 
   @Test
@@ -90,17 +248,20 @@ class RequestedServiceServiceTest {
 
     requestedService.setUser(user);
 
-    when(jwtService.getClaims()).thenReturn(Optional.of(new HashMap<>(Map.of("sub", "1"))));
-    when(userService.findById(any())).thenReturn(user);
+    when(authenticatedUserService.getReference()).thenReturn(user);
     when(requestedServiceRepository.save(any())).thenReturn(requestedService);
 
     final var result = requestedServiceService.register(requestedServiceRequestDto);
 
     assertNotNull(result);
     assertEquals("Title", result.title());
-    verify(jwtService, times(1)).getClaims();
-    verify(userService, times(1)).findById(any());
+    verify(authenticatedUserService, times(1)).getReference();
     verify(requestedServiceRepository, times(1)).save(any());
+    verify(requestedServiceParticipantRepository, times(1)).save(argThat(participant ->
+        participant.getId().getRole() == ParticipantRoleEnum.REQUESTER && participant.getUser() == user));
+    verify(requestedServiceFeedService, times(1)).add(requestedService.getId());
+    verify(requestedServiceGeoIndexService, times(1)).add(requestedService.getId());
+    verify(postalCodeGeocodingService, times(1)).geocode(any());
   }
 
   @Test
@@ -108,14 +269,12 @@ class RequestedServiceServiceTest {
   void shouldThrowExceptionWhenUserNotFound() {
     final var requestDto = new RequestedServiceRequestDto("Title", "Description", null);
 
-    when(jwtService.getClaims()).thenReturn(Optional.of(new HashMap<>(Map.of("sub", "1"))));
-    when(userService.findById(any())).thenThrow(new ResourceNotFoundException("User not found."));
+    when(authenticatedUserService.getReference()).thenThrow(new ResourceNotFoundException("User not found."));
 
     Exception exception = assertThrows(ResourceNotFoundException.class,
         () -> requestedServiceService.register(requestDto));
     assertEquals("User not found.", exception.getMessage());
-    verify(jwtService, times(1)).getClaims();
-    verify(userService, times(1)).findById(any());
+    verify(authenticatedUserService, times(1)).getReference();
     verify(requestedServiceRepository, never()).save(any());
   }
 
@@ -123,15 +282,17 @@ class RequestedServiceServiceTest {
   @DisplayName("Should return empty page when no available services found")
   void shouldReturnEmptyPageWhenNoResultsFound() {
     final var pageable = PageRequest.of(0, 10);
-    final Page<RequestedService> emptyPage = Page.empty();
+    final var sortedPageable = PageRequest.of(0, 10, AVAILABLE_SORT);
+    final var emptySlice = new SliceImpl<RequestedServiceProjectionDto>(List.of(), sortedPageable, false);
 
-    when(requestedServiceRepository.findAvailableServiceRequests(pageable)).thenReturn(emptyPage);
+    when(requestedServiceRepository.findAvailableServiceRequests(null, null, sortedPageable)).thenReturn(emptySlice);
+    when(countCacheService.count(eq("requestedServices:available:null:null"), any())).thenReturn(0L);
 
-    final var result = requestedServiceService.findAvailableServiceRequests(pageable);
+    final var result = requestedServiceService.findAvailableServiceRequests(PaginationModeEnum.PAGE, pageable, null, null);
 
     assertNotNull(result);
-    assertEquals(0, result.getTotalElements());
-    verify(requestedServiceRepository, times(1)).findAvailableServiceRequests(pageable);
+    assertEquals(0, ((Page<RequestedServiceResponseDto>) result).getTotalElements());
+    verify(requestedServiceRepository, times(1)).findAvailableServiceRequests(null, null, sortedPageable);
   }
 
   @Test
@@ -164,6 +325,8 @@ class RequestedServiceServiceTest {
     assertEquals(RequestedServiceStatusEnum.CANCELLED, result.status());
     verify(requestedServiceRepository, times(1)).save(requestedService);
     verify(requestedServiceCancellationNotificationService, times(1)).send(any());
+    verify(requestedServiceFeedService, times(1)).remove(requestedService.getId());
+    verify(requestedServiceGeoIndexService, times(1)).remove(requestedService.getId());
   }
 
   @Test
@@ -248,21 +411,20 @@ class RequestedServiceServiceTest {
   void shouldFindRequestedServiceByUserIdSuccessfully() {
     final var userId = 1L;
     final var pageable = PageRequest.of(0, 10);
-    final var user = UserUtils.create();
-    final var address = AddressUtils.create(user);
-    final var requestedService = RequestedServiceUtils.create(user, address, List.of());
-    final var requestedServiceResponseDto = RequestedServiceMapper.INSTANCE
-        .requestedServiceToRequestedServiceResponseDto(requestedService);
-    final var requestedServicePage = new PageImpl<>(List.of(requestedService), pageable, 1);
-    final var expectedResponsePage = new PageImpl<>(List.of(requestedServiceResponseDto), pageable, 1);
+    final var user = new UserProjectionDto(userId, "Test Test", "Bio", GenderEnum.MALE);
+    final var address = new AddressResponseDto(1L, "123 Main St", "101", "Springfield", "IL", "44444-876");
+    final var requestedService = new RequestedServiceProjectionDto(1L, "Title", "Description",
+        RequestedServiceStatusEnum.PENDING, address, user);
 
-    when(requestedServiceRepository.findByUserId(userId, pageable)).thenReturn(requestedServicePage);
+    when(requestedServiceRepository.findByUserId(userId, pageable))
+        .thenReturn(new PageImpl<>(List.of(requestedService), pageable, 1));
 
     final var result = requestedServiceService.findByUserId(userId, pageable);
 
     assertNotNull(result);
     assertEquals(1, result.getTotalElements());
-    assertEquals(expectedResponsePage.getContent().get(0).id(), result.getContent().get(0).id());
+    assertEquals(requestedService.id(), result.getContent().get(0).id());
+    assertEquals(address, result.getContent().get(0).address());
     verify(requestedServiceRepository, times(1)).findByUserId(userId, pageable);
   }
 
@@ -271,17 +433,15 @@ class RequestedServiceServiceTest {
   void shouldReturnEmptyPageWhenNoRequestedServiceForUserFound() {
     final var userId = 0L;
     final var pageable = PageRequest.of(0, 10);
-    final Page<RequestedService> emptyPage = Page.empty(pageable);
     final var expectedEmptyResponsePage = Page.empty(pageable);
 
-    when(requestedServiceRepository.findByUserId(userId, pageable)).thenReturn(emptyPage);
+    when(requestedServiceRepository.findByUserId(userId, pageable)).thenReturn(Page.empty(pageable));
 
     final var result = requestedServiceService.findByUserId(userId, pageable);
 
     assertNotNull(result);
     assertEquals(0, result.getTotalElements());
     assertEquals(expectedEmptyResponsePage, result);
-    verify(requestedServiceRepository, times(1)).findByUserId(userId, pageable);
   }
 
   @Test
@@ -13,7 +13,6 @@ import static org.mockito.Mockito.when;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 
@@ -24,18 +23,24 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
 import br.com.conectabyte.profissu.dtos.request.ReviewRequestDto;
+import br.com.conectabyte.profissu.dtos.response.RequestedServiceProjectionDto;
+import br.com.conectabyte.profissu.dtos.response.ReviewProjectionDto;
 import br.com.conectabyte.profissu.dtos.response.ReviewResponseDto;
+import br.com.conectabyte.profissu.dtos.response.UserProjectionDto;
 import br.com.conectabyte.profissu.entities.Contact;
 import br.com.conectabyte.profissu.entities.Conversation;
 import br.com.conectabyte.profissu.entities.RequestedService;
 import br.com.conectabyte.profissu.entities.Review;
 import br.com.conectabyte.profissu.entities.User;
+import br.com.conectabyte.profissu.enums.GenderEnum;
 import br.com.conectabyte.profissu.enums.OfferStatusEnum;
+import br.com.conectabyte.profissu.enums.PaginationModeEnum;
 import br.com.conectabyte.profissu.enums.RequestedServiceStatusEnum;
 import br.com.conectabyte.profissu.exceptions.ResourceNotFoundException;
 import br.com.conectabyte.profissu.exceptions.ValidationException;
@@ -54,24 +59,29 @@ class ReviewServiceTest {
   private ReviewRepository reviewRepository;
 
   @Mock
-  private UserService userService;
+  private RequestedServiceService requestedServiceService;
 
   @Mock
-  private RequestedServiceService requestedServiceService;
+  private AuthenticatedUserService authenticatedUserService;
 
   @Mock
-  private JwtService jwtService;
+  private UserProjectionService userProjectionService;
 
   @Mock
   NotificationService notificationService;
 
+  @Mock
+  private CountCacheService countCacheService;
+
+  @Mock
+  private UserRatingSummaryService userRatingSummaryService;
+
   @InjectMocks
   private ReviewService reviewService;
 
   private static final Long TEST_REQUESTED_SERVICE_ID = 1L;
   private static final Long TEST_USER_ID_REQUESTER = 10L;
   private static final Long TEST_USER_ID_SERVICE_PROVIDER = 20L;
-  private static final String JWT_SUB_CLAIM = String.valueOf(TEST_USER_ID_REQUESTER);
   private static final String REVIEW_TITLE = "Great Service!";
   private static final String REVIEW_MESSAGE = "The service provided was excellent.";
   private static final int REVIEW_STARS = 5;
@@ -100,8 +110,7 @@ class ReviewServiceTest {
     serviceProvider.setContacts(List.of(contact));
 
     doNothing().when(notificationService).send(any());
-    when(jwtService.getClaims()).thenReturn(Optional.of(Map.of("sub", JWT_SUB_CLAIM)));
-    when(userService.findById(TEST_USER_ID_REQUESTER)).thenReturn(requester);
+    when(authenticatedUserService.getReference()).thenReturn(requester);
     when(requestedServiceService.findById(TEST_REQUESTED_SERVICE_ID)).thenReturn(requestedService);
     when(reviewRepository.save(any(Review.class))).thenReturn(review);
 
@@ -112,11 +121,12 @@ class ReviewServiceTest {
     assertThat(response.review()).isEqualTo(review.getReview());
     assertThat(response.stars()).isEqualTo(review.getStars());
 
-    verify(jwtService, times(1)).getClaims();
-    verify(userService, times(1)).findById(TEST_USER_ID_REQUESTER);
+    verify(authenticatedUserService, times(1)).getReference();
     verify(requestedServiceService, times(1)).findById(TEST_REQUESTED_SERVICE_ID);
     verify(reviewRepository, times(1)).save(any(Review.class));
     verify(notificationService, times(1)).send(any());
+    verify(userRatingSummaryService, times(1)).applyReviewDelta(TEST_REQUESTED_SERVICE_ID, TEST_USER_ID_REQUESTER, 1,
+        review.getStars());
   }
 
   @Test
@@ -142,15 +152,13 @@ class ReviewServiceTest {
 
     serviceProvider.setContacts(List.of(contact));
 
-    when(jwtService.getClaims()).thenReturn(Optional.of(Map.of("sub", JWT_SUB_CLAIM)));
-    when(userService.findById(TEST_USER_ID_REQUESTER)).thenReturn(requester);
+    when(authenticatedUserService.getReference()).thenReturn(requester);
     when(requestedServiceService.findById(TEST_REQUESTED_SERVICE_ID)).thenReturn(requestedService);
     when(reviewRepository.save(any(Review.class))).thenReturn(review);
 
     reviewService.register(TEST_REQUESTED_SERVICE_ID, reviewRequestDto);
 
-    verify(jwtService, times(1)).getClaims();
-    verify(userService, times(1)).findById(TEST_USER_ID_REQUESTER);
+    verify(authenticatedUserService, times(1)).getReference();
     verify(requestedServiceService, times(1)).findById(TEST_REQUESTED_SERVICE_ID);
     verify(reviewRepository, times(1)).save(any(Review.class));
     verify(notificationService, never()).send(any());
@@ -166,16 +174,14 @@ class ReviewServiceTest {
     RequestedService requestedService = RequestedServiceUtils.create(requester, null, List.of());
     requestedService.setStatus(RequestedServiceStatusEnum.INPROGRESS);
 
-    when(jwtService.getClaims()).thenReturn(Optional.of(Map.of("sub", JWT_SUB_CLAIM)));
-    when(userService.findById(TEST_USER_ID_REQUESTER)).thenReturn(requester);
+    when(authenticatedUserService.getReference()).thenReturn(requester);
     when(requestedServiceService.findById(TEST_REQUESTED_SERVICE_ID)).thenReturn(requestedService);
 
     assertThatThrownBy(() -> reviewService.register(TEST_REQUESTED_SERVICE_ID, reviewRequestDto))
         .isInstanceOf(ValidationException.class)
         .hasMessageContaining("Feedback can only be provided for services that have been completed.");
 
-    verify(jwtService, times(1)).getClaims();
-    verify(userService, times(1)).findById(TEST_USER_ID_REQUESTER);
+    verify(authenticatedUserService, times(1)).getReference();
     verify(requestedServiceService, times(1)).findById(TEST_REQUESTED_SERVICE_ID);
     verify(reviewRepository, never()).save(any(Review.class));
     verify(notificationService, never()).send(any());
@@ -186,13 +192,12 @@ class ReviewServiceTest {
   void shouldThrowExceptionWhenTokenDoesNotHaveSubClaim() {
     ReviewRequestDto reviewRequestDto = new ReviewRequestDto(REVIEW_TITLE, REVIEW_MESSAGE, REVIEW_STARS);
 
-    when(jwtService.getClaims()).thenReturn(Optional.empty());
+    when(authenticatedUserService.getReference()).thenThrow(new NoSuchElementException());
 
     assertThatThrownBy(() -> reviewService.register(TEST_REQUESTED_SERVICE_ID, reviewRequestDto))
         .isInstanceOf(NoSuchElementException.class);
 
-    verify(jwtService, times(1)).getClaims();
-    verify(userService, never()).findById(anyLong());
+    verify(authenticatedUserService, times(1)).getReference();
     verify(requestedServiceService, never()).findById(anyLong());
     verify(reviewRepository, never()).save(any(Review.class));
     verify(notificationService, never()).send(any());
@@ -203,15 +208,13 @@ class ReviewServiceTest {
   void shouldThrowExceptionWhenUserNotFound() {
     ReviewRequestDto reviewRequestDto = new ReviewRequestDto(REVIEW_TITLE, REVIEW_MESSAGE, REVIEW_STARS);
 
-    when(jwtService.getClaims()).thenReturn(Optional.of(Map.of("sub", JWT_SUB_CLAIM)));
-    when(userService.findById(TEST_USER_ID_REQUESTER)).thenThrow(new ResourceNotFoundException("User not found"));
+    when(authenticatedUserService.getReference()).thenThrow(new ResourceNotFoundException("User not found"));
 
     assertThatThrownBy(() -> reviewService.register(TEST_REQUESTED_SERVICE_ID, reviewRequestDto))
         .isInstanceOf(ResourceNotFoundException.class)
         .hasMessageContaining("User not found");
 
-    verify(jwtService, times(1)).getClaims();
-    verify(userService, times(1)).findById(TEST_USER_ID_REQUESTER);
+    verify(authenticatedUserService, times(1)).getReference();
     verify(requestedServiceService, never()).findById(anyLong());
     verify(reviewRepository, never()).save(any(Review.class));
     verify(notificationService, never()).send(any());
@@ -224,8 +227,7 @@ class ReviewServiceTest {
     User requester = UserUtils.create();
     requester.setId(TEST_USER_ID_REQUESTER);
 
-    when(jwtService.getClaims()).thenReturn(Optional.of(Map.of("sub", JWT_SUB_CLAIM)));
-    when(userService.findById(TEST_USER_ID_REQUESTER)).thenReturn(requester);
+    when(authenticatedUserService.getReference()).thenReturn(requester);
     when(requestedServiceService.findById(TEST_REQUESTED_SERVICE_ID))
         .thenThrow(new ResourceNotFoundException("RequestedService not found"));
 
@@ -233,8 +235,7 @@ class ReviewServiceTest {
         .isInstanceOf(ResourceNotFoundException.class)
         .hasMessageContaining("RequestedService not found");
 
-    verify(jwtService, times(1)).getClaims();
-    verify(userService, times(1)).findById(TEST_USER_ID_REQUESTER);
+    verify(authenticatedUserService, times(1)).getReference();
     verify(requestedServiceService, times(1)).findById(TEST_REQUESTED_SERVICE_ID);
     verify(reviewRepository, never()).save(any(Review.class));
     verify(notificationService, never()).send(any());
@@ -250,8 +251,7 @@ class ReviewServiceTest {
     RequestedService requestedService = RequestedServiceUtils.create(requester, null, List.of());
     requestedService.setStatus(RequestedServiceStatusEnum.DONE);
 
-    when(jwtService.getClaims()).thenReturn(Optional.of(Map.of("sub", JWT_SUB_CLAIM)));
-    when(userService.findById(TEST_USER_ID_REQUESTER)).thenReturn(requester);
+    when(authenticatedUserService.getReference()).thenReturn(requester);
     when(requestedServiceService.findById(TEST_REQUESTED_SERVICE_ID)).thenReturn(requestedService);
     when(reviewRepository.save(any(Review.class)))
         .thenThrow(new RuntimeException("Database error"));
@@ -260,26 +260,38 @@ class ReviewServiceTest {
         .isInstanceOf(RuntimeException.class)
         .hasMessageContaining("Database error");
 
-    verify(jwtService, times(1)).getClaims();
-    verify(userService, times(1)).findById(TEST_USER_ID_REQUESTER);
+    verify(authenticatedUserService, times(1)).getReference();
     verify(requestedServiceService, times(1)).findById(TEST_REQUESTED_SERVICE_ID);
     verify(reviewRepository, times(1)).save(any(Review.class));
     verify(notificationService, never()).send(any());
   }
 
+  private ReviewProjectionDto createReviewProjection(Long id) {
+    final var requester = new UserProjectionDto(TEST_USER_ID_REQUESTER, "Requester", "Bio", GenderEnum.MALE);
+    final var serviceProvider = new UserProjectionDto(TEST_USER_ID_SERVICE_PROVIDER, "Provider", "Bio",
+        GenderEnum.MALE);
+    final var requestedService = new RequestedServiceProjectionDto(TEST_REQUESTED_SERVICE_ID, "Title",
+        "Description", RequestedServiceStatusEnum.DONE, null, requester);
+
+    return new ReviewProjectionDto(id, REVIEW_TITLE, REVIEW_MESSAGE, REVIEW_STARS, serviceProvider,
+        requestedService);
+  }
+
   @Test
   @DisplayName("Should return reviews given by user when isReviewOwner is true")
   void shouldReturnReviewsGivenByUserWhenIsReviewOwnerTrue() {
     Pageable pageable = PageRequest.of(0, 10);
-    Review review = new Review();
-    review.setId(100L);
-    Page<Review> reviewPage = new PageImpl<>(List.of(review), pageable, 1);
+    Slice<ReviewProjectionDto> reviewSlice = new SliceImpl<>(List.of(createReviewProjection(100L)), pageable, false);
 
-    when(reviewRepository.findReviewsGivenByUserId(eq(TEST_USER_ID_REQUESTER), eq(pageable))).thenReturn(reviewPage);
+    when(reviewRepository.findReviewsGivenByUserId(eq(TEST_USER_ID_REQUESTER), eq(pageable))).thenReturn(reviewSlice);
+    when(countCacheService.count(eq("reviews:given:" + TEST_USER_ID_REQUESTER), any())).thenReturn(1L);
 
-    Page<ReviewResponseDto> result = reviewService.findByUserId(TEST_USER_ID_REQUESTER, true, pageable);
+    Slice<ReviewResponseDto> result = reviewService.findByUserId(TEST_USER_ID_REQUESTER, true,
+        PaginationModeEnum.PAGE, pageable);
 
     assertThat(result).isNotNull();
+    assertThat(result).isInstanceOf(Page.class);
+    assertThat(((Page<ReviewResponseDto>) result).getTotalElements()).isEqualTo(1);
     assertThat(result.getContent()).hasSize(1);
     assertThat(result.getContent().get(0).id()).isEqualTo(100L);
 
@@ -291,14 +303,14 @@ class ReviewServiceTest {
   @DisplayName("Should return reviews received by user when isReviewOwner is false")
   void shouldReturnReviewsReceivedByUserWhenIsReviewOwnerFalse() {
     Pageable pageable = PageRequest.of(0, 10);
-    Review review = new Review();
-    review.setId(200L);
-    Page<Review> reviewPage = new PageImpl<>(List.of(review), pageable, 1);
+    Slice<ReviewProjectionDto> reviewSlice = new SliceImpl<>(List.of(createReviewProjection(200L)), pageable, false);
 
     when(reviewRepository.findReviewsReceivedByUserId(eq(TEST_USER_ID_SERVICE_PROVIDER), eq(pageable)))
-        .thenReturn(reviewPage);
+        .thenReturn(reviewSlice);
+    when(countCacheService.count(eq("reviews:received:" + TEST_USER_ID_SERVICE_PROVIDER), any())).thenReturn(1L);
 
-    Page<ReviewResponseDto> result = reviewService.findByUserId(TEST_USER_ID_SERVICE_PROVIDER, false, pageable);
+    Slice<ReviewResponseDto> result = reviewService.findByUserId(TEST_USER_ID_SERVICE_PROVIDER, false,
+        PaginationModeEnum.PAGE, pageable);
 
     assertThat(result).isNotNull();
     assertThat(result.getContent()).hasSize(1);
@@ -312,17 +324,37 @@ class ReviewServiceTest {
   @DisplayName("Should return empty page when no reviews found for user ID")
   void shouldReturnEmptyPageWhenNoReviewsFound() {
     Pageable pageable = PageRequest.of(0, 10);
-    Page<Review> emptyPage = Page.empty(pageable);
+    Slice<ReviewProjectionDto> emptySlice = new SliceImpl<>(List.of(), pageable, false);
 
-    when(reviewRepository.findReviewsGivenByUserId(eq(TEST_USER_ID_REQUESTER), eq(pageable))).thenReturn(emptyPage);
+    when(reviewRepository.findReviewsGivenByUserId(eq(TEST_USER_ID_REQUESTER), eq(pageable))).thenReturn(emptySlice);
+    when(countCacheService.count(eq("reviews:given:" + TEST_USER_ID_REQUESTER), any())).thenReturn(0L);
 
-    Page<ReviewResponseDto> result = reviewService.findByUserId(TEST_USER_ID_REQUESTER, true, pageable);
+    Slice<ReviewResponseDto> result = reviewService.findByUserId(TEST_USER_ID_REQUESTER, true,
+        PaginationModeEnum.PAGE, pageable);
 
     assertThat(result).isNotNull();
     assertThat(result.getContent()).isEmpty();
     verify(reviewRepository, times(1)).findReviewsGivenByUserId(eq(TEST_USER_ID_REQUESTER), eq(pageable));
   }
 
+  @Test
+  @DisplayName("Should return reviews without counting in slice mode")
+  void shouldReturnReviewsWithoutCountingInSliceMode() {
+    Pageable pageable = PageRequest.of(0, 1);
+    Slice<ReviewProjectionDto> reviewSlice = new SliceImpl<>(List.of(createReviewProjection(300L)), pageable, true);
+
+    when(reviewRepository.findReviewsReceivedByUserId(eq(TEST_USER_ID_SERVICE_PROVIDER), eq(pageable)))
+        .thenReturn(reviewSlice);
+
+    Slice<ReviewResponseDto> result = reviewService.findByUserId(TEST_USER_ID_SERVICE_PROVIDER, false,
+        PaginationModeEnum.SLICE, pageable);
+
+    assertThat(result).isNotInstanceOf(Page.class);
+    assertThat(result.hasNext()).isTrue();
+    assertThat(result.getContent().get(0).id()).isEqualTo(300L);
+    verify(countCacheService, never()).count(any(), any());
+  }
+
   @Test
   @DisplayName("Should return review when found by ID")
   void shouldReturnReviewWhenFoundById() {
@@ -352,28 +384,36 @@ class ReviewServiceTest {
   @Test
   @DisplayName("Should set deletedAt and save when review exists for soft deletion")
   void shouldSetDeletedAtAndSaveWhenReviewExists() {
-    Review review = new Review();
+    User requester = UserUtils.create();
+    requester.setId(TEST_USER_ID_REQUESTER);
+    RequestedService requestedService = RequestedServiceUtils.create(requester, null, List.of());
+    requestedService.setId(TEST_REQUESTED_SERVICE_ID);
+    Review review = ReviewUtils.create(requester, requestedService);
     review.setId(1L);
+    review.setStars(REVIEW_STARS);
 
-    when(reviewRepository.findById(eq(1L))).thenReturn(Optional.of(review));
+    when(reviewRepository.findForUpdateById(eq(1L))).thenReturn(Optional.of(review));
     when(reviewRepository.save(any(Review.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
     reviewService.deleteById(1L);
 
     assertThat(review.getDeletedAt()).isNotNull();
-    verify(reviewRepository, times(1)).findById(eq(1L));
+    verify(reviewRepository, times(1)).findForUpdateById(eq(1L));
     verify(reviewRepository, times(1)).save(eq(review));
+    verify(userRatingSummaryService, times(1)).applyReviewDelta(TEST_REQUESTED_SERVICE_ID, TEST_USER_ID_REQUESTER, -1,
+        -REVIEW_STARS);
   }
 
   @Test
   @DisplayName("Should do nothing when review does not exist for soft deletion")
   void shouldDoNothingWhenReviewDoesNotExist() {
-    when(reviewRepository.findById(anyLong())).thenReturn(Optional.empty());
+    when(reviewRepository.findForUpdateById(anyLong())).thenReturn(Optional.empty());
 
     reviewService.deleteById(1L);
 
-    verify(reviewRepository, times(1)).findById(anyLong());
+    verify(reviewRepository, times(1)).findForUpdateById(anyLong());
     verify(reviewRepository, never()).save(any(Review.class));
+    verify(userRatingSummaryService, never()).applyReviewDelta(any(), any(), anyLong(), anyLong());
   }
 
   @Test
@@ -397,11 +437,13 @@ class ReviewServiceTest {
     requestedService.setStatus(RequestedServiceStatusEnum.DONE);
     conversation.setRequestedService(requestedService);
 
+    requestedService.setId(TEST_REQUESTED_SERVICE_ID);
+
     Review existingReview = ReviewUtils.create(serviceProvider, requestedService);
     existingReview.setId(1L);
     existingReview.setUser(serviceProvider);
 
-    when(reviewRepository.findById(eq(1L))).thenReturn(Optional.of(existingReview));
+    when(reviewRepository.findForUpdateById(eq(1L))).thenReturn(Optional.of(existingReview));
     when(reviewRepository.save(any(Review.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
     ReviewResponseDto response = reviewService.updateById(1L, updatedReviewDto);
@@ -412,7 +454,22 @@ class ReviewServiceTest {
     assertThat(response.stars()).isEqualTo(updatedReviewDto.stars());
     assertThat(existingReview.getUpdatedAt()).isNotNull();
 
-    verify(reviewRepository, times(1)).findById(eq(1L));
+    verify(reviewRepository, times(1)).findForUpdateById(eq(1L));
     verify(reviewRepository, times(1)).save(eq(existingReview));
+    verify(userRatingSummaryService, times(1)).applyReviewDelta(TEST_REQUESTED_SERVICE_ID,
+        TEST_USER_ID_SERVICE_PROVIDER, 0, 3);
+  }
+
+  @Test
+  @DisplayName("Should throw ResourceNotFoundException when updating a review that does not exist")
+  void shouldThrowResourceNotFoundExceptionWhenUpdatingMissingReview() {
+    ReviewRequestDto updatedReviewDto = new ReviewRequestDto("New Title", "New Review", 4);
+
+    when(reviewRepository.findForUpdateById(anyLong())).thenReturn(Optional.empty());
+
+    assertThatThrownBy(() -> reviewService.updateById(1L, updatedReviewDto))
+        .isInstanceOf(ResourceNotFoundException.class)
+        .hasMessage("Review not found.");
+    verify(userRatingSummaryService, never()).applyReviewDelta(any(), any(), anyLong(), anyLong());
   }
 }
@@ -3,7 +3,9 @@ package br.com.conectabyte.profissu.services;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -38,23 +40,26 @@ public class RoleServiceTest {
   @DisplayName("Should find role by name successfully when role exists")
   void shouldFindRoleByNameSuccessfully() {
     Role mockRole = RoleUtils.create(USER_ROLE_NAME);
-    when(roleRepository.findByName(eq(USER_ROLE_NAME))).thenReturn(Optional.of(mockRole));
+    mockRole.setId(1L);
+    when(roleRepository.findIdByName(eq(USER_ROLE_NAME))).thenReturn(Optional.of(mockRole.getId()));
+    when(roleRepository.getReferenceById(eq(mockRole.getId()))).thenReturn(mockRole);
 
     Optional<Role> foundRole = roleService.findByName(USER_ROLE_NAME);
 
     assertTrue(foundRole.isPresent());
     assertEquals(USER_ROLE_NAME, foundRole.get().getName());
-    verify(roleRepository, times(1)).findByName(eq(USER_ROLE_NAME));
+    verify(roleRepository, times(1)).findIdByName(eq(USER_ROLE_NAME));
   }
 
   @Test
   @DisplayName("Should return empty Optional when role not found by name")
   void shouldReturnEmptyOptionalWhenRoleNotFoundByName() {
-    when(roleRepository.findByName(eq(NON_EXISTENT_ROLE_NAME))).thenReturn(Optional.empty());
+    when(roleRepository.findIdByName(eq(NON_EXISTENT_ROLE_NAME))).thenReturn(Optional.empty());
 
     Optional<Role> foundRole = roleService.findByName(NON_EXISTENT_ROLE_NAME);
 
     assertFalse(foundRole.isPresent());
-    verify(roleRepository, times(1)).findByName(eq(NON_EXISTENT_ROLE_NAME));
+    verify(roleRepository, times(1)).findIdByName(eq(NON_EXISTENT_ROLE_NAME));
+    verify(roleRepository, never()).getReferenceById(any());
   }
 }
@@ -8,6 +8,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDateTime;
+import java.util.Optional;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -75,7 +76,7 @@ class TokenServiceTest {
   @Test
   @DisplayName("Should delete token by user successfully")
   void shouldDeleteTokenByUserSuccessfully() {
-    when(user.getToken()).thenReturn(token);
+    when(tokenRepository.findByUserId(any())).thenReturn(Optional.of(token));
     doNothing().when(tokenRepository).delete(any());
 
     tokenService.deleteByUser(user);
@@ -86,12 +87,11 @@ class TokenServiceTest {
   @Test
   @DisplayName("Should not delete token when user has no token")
   void shouldNotDeleteTokenWhenUserHasNoToken() {
-    when(user.getToken()).thenReturn(null);
+    when(tokenRepository.findByUserId(any())).thenReturn(Optional.empty());
 
     tokenService.deleteByUser(user);
 
     verify(tokenRepository, times(0)).delete(any());
-    verify(user, times(0)).setToken(null);
   }
 
   @Test
@@ -117,7 +117,7 @@ class TokenServiceTest {
   @Test
   @DisplayName("Should return error when token is missing")
   void shouldReturnErrorWhenTokenIsMissing() {
-    when(user.getToken()).thenReturn(null);
+    when(tokenRepository.findByUserId(any())).thenReturn(Optional.empty());
 
     final var result = tokenService.validateToken(user, "test@example.com", "code");
 
@@ -127,7 +127,7 @@ class TokenServiceTest {
   @Test
   @DisplayName("Should return error when token is invalid")
   void shouldReturnErrorWhenTokenIsInvalid() {
-    when(user.getToken()).thenReturn(token);
+    when(tokenRepository.findByUserId(any())).thenReturn(Optional.of(token));
     when(bCryptPasswordEncoder.matches(any(), any())).thenReturn(false);
 
     final var result = tokenService.validateToken(user, "test@example.com", "invalidCode");
@@ -140,7 +140,7 @@ class TokenServiceTest {
   void shouldReturnErrorWhenTokenIsExpired() throws Exception {
     setUp();
     token.setCreatedAt(LocalDateTime.now().minusMinutes(2));
-    when(user.getToken()).thenReturn(token);
+    when(tokenRepository.findByUserId(any())).thenReturn(Optional.of(token));
     when(bCryptPasswordEncoder.matches(any(), any())).thenReturn(true);
 
     final var result = tokenService.validateToken(user, "test@example.com", "validCode");
@@ -153,7 +153,7 @@ class TokenServiceTest {
   void shouldReturnNullWhenTokenIsValid() throws Exception {
     setUp();
     token.setCreatedAt(LocalDateTime.now().plusMinutes(2));
-    when(user.getToken()).thenReturn(token);
+    when(tokenRepository.findByUserId(any())).thenReturn(Optional.of(token));
     when(bCryptPasswordEncoder.matches(any(), any())).thenReturn(true);
 
     final var result = tokenService.validateToken(user, "test@example.com", "validCode");
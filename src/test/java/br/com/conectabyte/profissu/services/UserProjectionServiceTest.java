@@ -0,0 +1,98 @@
+package br.com.conectabyte.profissu.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import br.com.conectabyte.profissu.config.CacheConfig;
+import br.com.conectabyte.profissu.dtos.response.AddressProjectionDto;
+import br.com.conectabyte.profissu.dtos.response.ContactProjectionDto;
+import br.com.conectabyte.profissu.dtos.response.UserProjectionDto;
+import br.com.conectabyte.profissu.enums.GenderEnum;
+import br.com.conectabyte.profissu.repositories.AddressRepository;
+import br.com.conectabyte.profissu.repositories.ContactRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserProjectionService Tests")
+class UserProjectionServiceTest {
+  @Mock
+  private ContactRepository contactRepository;
+
+  @Mock
+  private AddressRepository addressRepository;
+
+  private ConcurrentMapCacheManager cacheManager;
+  private UserProjectionService userProjectionService;
+
+  private final UserProjectionDto firstUser = new UserProjectionDto(1L, "First", "Bio", GenderEnum.MALE);
+  private final UserProjectionDto secondUser = new UserProjectionDto(2L, "Second", "Bio", GenderEnum.FEMALE);
+
+  @BeforeEach
+  void setUp() {
+    cacheManager = new ConcurrentMapCacheManager(CacheConfig.USER_PROFILE_CACHE_NAME);
+    userProjectionService = new UserProjectionService(contactRepository, addressRepository, cacheManager);
+  }
+
+  @Test
+  @DisplayName("Should load contacts and addresses and cache every public profile")
+  void shouldLoadAndCachePublicProfiles() {
+    when(contactRepository.findProjectionsByUserIds(Set.of(1L, 2L)))
+        .thenReturn(List.of(new ContactProjectionDto(1L, 10L, "first@conectabyte.com.br", true)));
+    when(addressRepository.findProjectionsByUserIds(Set.of(1L, 2L)))
+        .thenReturn(List.of(new AddressProjectionDto(2L, 20L, "Street", "1", "City", "ST", "12345-678")));
+
+    final var profiles = userProjectionService.toUserResponseDtos(List.of(firstUser, secondUser));
+
+    assertEquals(1, profiles.get(1L).contacts().size());
+    assertTrue(profiles.get(1L).addresses().isEmpty());
+    assertEquals(1, profiles.get(2L).addresses().size());
+    assertEquals(profiles.get(1L), cacheManager.getCache(CacheConfig.USER_PROFILE_CACHE_NAME).get(1L).get());
+    assertEquals(profiles.get(2L), cacheManager.getCache(CacheConfig.USER_PROFILE_CACHE_NAME).get(2L).get());
+  }
+
+  @Test
+  @DisplayName("Should only load contacts and addresses of users missing from the profile cache")
+  void shouldOnlyLoadMissingProfiles() {
+    when(contactRepository.findProjectionsByUserIds(Set.of(1L))).thenReturn(List.of());
+    when(addressRepository.findProjectionsByUserIds(Set.of(1L))).thenReturn(List.of());
+    when(contactRepository.findProjectionsByUserIds(Set.of(2L))).thenReturn(List.of());
+    when(addressRepository.findProjectionsByUserIds(Set.of(2L))).thenReturn(List.of());
+
+    userProjectionService.toUserResponseDtos(List.of(firstUser));
+
+    final var profiles = userProjectionService.toUserResponseDtos(List.of(firstUser, secondUser));
+
+    assertEquals(Set.of(1L, 2L), profiles.keySet());
+    verify(contactRepository).findProjectionsByUserIds(Set.of(1L));
+    verify(contactRepository).findProjectionsByUserIds(Set.of(2L));
+    verifyNoMoreInteractions(contactRepository);
+  }
+
+  @Test
+  @DisplayName("Should not touch repositories when every public profile is cached")
+  void shouldServeCachedProfilesWithoutQueries() {
+    when(contactRepository.findProjectionsByUserIds(Set.of(1L))).thenReturn(List.of());
+    when(addressRepository.findProjectionsByUserIds(Set.of(1L))).thenReturn(List.of());
+
+    final var first = userProjectionService.toUserResponseDtos(List.of(firstUser));
+    final var second = userProjectionService.toUserResponseDtos(List.of(firstUser));
+
+    assertEquals(first, second);
+    verify(contactRepository).findProjectionsByUserIds(Set.of(1L));
+    verify(addressRepository).findProjectionsByUserIds(Set.of(1L));
+    verifyNoMoreInteractions(contactRepository, addressRepository);
+  }
+}
@@ -0,0 +1,90 @@
+package br.com.conectabyte.profissu.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import br.com.conectabyte.profissu.dtos.response.UserRatingSummaryResponseDto;
+import br.com.conectabyte.profissu.entities.UserRatingSummary;
+import br.com.conectabyte.profissu.repositories.UserRatingSummaryRepository;
+import br.com.conectabyte.profissu.repositories.UserRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserRatingSummaryService Tests")
+class UserRatingSummaryServiceTest {
+  @Mock
+  private UserRatingSummaryRepository userRatingSummaryRepository;
+
+  @Mock
+  private UserRepository userRepository;
+
+  @Mock
+  private UserCacheService userCacheService;
+
+  @InjectMocks
+  private UserRatingSummaryService userRatingSummaryService;
+
+  @Test
+  @DisplayName("Should return review count and average stars from the summary")
+  void shouldReturnReviewCountAndAverageStars() {
+    final var summary = new UserRatingSummary();
+
+    summary.setUserId(1L);
+    summary.setReviewCount(3);
+    summary.setStarTotal(13);
+
+    when(userRatingSummaryRepository.findById(1L)).thenReturn(Optional.of(summary));
+
+    assertEquals(new UserRatingSummaryResponseDto(3, 4.33), userRatingSummaryService.findByUserId(1L));
+  }
+
+  @Test
+  @DisplayName("Should return an empty rating when the user has no summary")
+  void shouldReturnEmptyRatingWhenUserHasNoSummary() {
+    when(userRatingSummaryRepository.findById(1L)).thenReturn(Optional.empty());
+
+    assertEquals(new UserRatingSummaryResponseDto(0, 0), userRatingSummaryService.findByUserId(1L));
+  }
+
+  @Test
+  @DisplayName("Should apply the review delta to every reviewee of the requested service")
+  void shouldApplyReviewDeltaToReviewees() {
+    when(userRatingSummaryRepository.findRevieweeIds(10L, 1L)).thenReturn(List.of(2L));
+
+    userRatingSummaryService.applyReviewDelta(10L, 1L, 1, 5);
+
+    verify(userRatingSummaryRepository).applyDelta(2L, 1, 5);
+    verify(userCacheService).evict(2L);
+  }
+
+  @Test
+  @DisplayName("Should not apply any delta when the requested service has no reviewee")
+  void shouldNotApplyDeltaWithoutReviewees() {
+    when(userRatingSummaryRepository.findRevieweeIds(10L, 1L)).thenReturn(List.of());
+
+    userRatingSummaryService.applyReviewDelta(10L, 1L, -1, -5);
+
+    verify(userRatingSummaryRepository, never()).applyDelta(anyLong(), anyLong(), anyLong());
+  }
+
+  @Test
+  @DisplayName("Should replace summaries of the chunk with rebuilt ones")
+  void shouldReplaceSummariesOfChunk() {
+    userRatingSummaryService.rebuild(1L, 100L);
+
+    verify(userRatingSummaryRepository).deleteByUserIdBetween(1L, 100L);
+    verify(userRatingSummaryRepository).rebuildByUserIdBetween(1L, 100L);
+  }
+}
@@ -1,6 +1,7 @@
 package br.com.conectabyte.profissu.services;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
@@ -13,8 +14,8 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 
 import org.junit.jupiter.api.DisplayName;
@@ -22,17 +23,22 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import br.com.conectabyte.profissu.dtos.request.EmailCodeDto;
 import br.com.conectabyte.profissu.dtos.request.EmailValueRequestDto;
 import br.com.conectabyte.profissu.dtos.request.PasswordRequestDto;
 import br.com.conectabyte.profissu.dtos.request.ProfileRequestDto;
 import br.com.conectabyte.profissu.dtos.request.ResetPasswordRequestDto;
 import br.com.conectabyte.profissu.dtos.request.UserRequestDto;
+import br.com.conectabyte.profissu.dtos.response.UserRatingSummaryResponseDto;
 import br.com.conectabyte.profissu.dtos.response.UserResponseDto;
+import br.com.conectabyte.profissu.entities.Address;
 import br.com.conectabyte.profissu.entities.Contact;
 import br.com.conectabyte.profissu.entities.User;
 import br.com.conectabyte.profissu.enums.GenderEnum;
@@ -72,7 +78,28 @@ public class UserServiceTest {
   private RoleService roleService;
 
   @Mock
-  private JwtService jwtService;
+  private AuthenticatedUserService authenticatedUserService;
+
+  @Mock
+  private UserSnapshotService userSnapshotService;
+
+  @Mock
+  private UserCacheService userCacheService;
+
+  @Mock
+  private UserRatingSummaryService userRatingSummaryService;
+
+  @Mock
+  private RequestedServiceFeedService requestedServiceFeedService;
+
+  @Mock
+  private RequestedServiceGeoIndexService requestedServiceGeoIndexService;
+
+  @Mock
+  private PostalCodeGeocodingService postalCodeGeocodingService;
+
+  @Spy
+  private ObjectMapper objectMapper = new ObjectMapper();
 
   @InjectMocks
   private UserService userService;
@@ -150,6 +177,7 @@ public class UserServiceTest {
     verify(userRepository, times(1)).save(any(User.class));
     verify(tokenService, times(1)).save(eq(registeredUser), anyString(), eq(bCryptPasswordEncoder));
     verify(signUpConfirmationService, times(1)).send(any(EmailCodeDto.class));
+    verify(postalCodeGeocodingService, times(1)).geocode(any(Address.class));
   }
 
   @Test
@@ -333,6 +361,32 @@ public class UserServiceTest {
     verify(userRepository, times(1)).findById(eq(TEST_USER_ID));
   }
 
+  @Test
+  @DisplayName("Should serialize user profile to JSON with an ETag that follows related changes")
+  void shouldSerializeUserProfileWithVersionedEtag() throws Exception {
+    User user = UserUtils.create();
+    user.setId(TEST_USER_ID);
+    final var contact = ContactUtils.create(user);
+    final var rating = new UserRatingSummaryResponseDto(4, 4.5);
+
+    user.setContacts(List.of(contact));
+    user.setAddresses(List.of(AddressUtils.create(user)));
+
+    when(userRepository.findById(eq(TEST_USER_ID))).thenReturn(Optional.of(user));
+    when(userRatingSummaryService.findByUserId(TEST_USER_ID)).thenReturn(rating);
+
+    final var serializedUser = userService.findByIdAndReturnJson(TEST_USER_ID);
+    final var profile = objectMapper.readValue(serializedUser.body(), UserResponseDto.class);
+
+    assertEquals(TEST_USER_ID, profile.id());
+    assertEquals(rating, profile.rating());
+    assertEquals(serializedUser.etag(), userService.findByIdAndReturnJson(TEST_USER_ID).etag());
+
+    contact.setUpdatedAt(LocalDateTime.now().plusMinutes(1));
+
+    assertNotEquals(serializedUser.etag(), userService.findByIdAndReturnJson(TEST_USER_ID).etag());
+  }
+
   @Test
   @DisplayName("Should throw ResourceNotFoundException when user not found by ID")
   void shouldThrowsExceptionWhenUserNotBeFound() {
@@ -359,6 +413,10 @@ public class UserServiceTest {
     assertNotNull(user.getDeletedAt());
     verify(userRepository, times(1)).findById(eq(TEST_USER_ID));
     verify(userRepository, times(1)).save(eq(user));
+    verify(userSnapshotService, times(1)).evict(eq(TEST_USER_ID));
+    verify(userCacheService, times(1)).evict(eq(TEST_USER_ID));
+    verify(requestedServiceFeedService, times(1)).refreshUser(eq(TEST_USER_ID));
+    verify(requestedServiceGeoIndexService, times(1)).refreshUser(eq(TEST_USER_ID));
   }
 
   @Test
@@ -381,7 +439,7 @@ public class UserServiceTest {
 
     PasswordRequestDto passwordRequestDto = new PasswordRequestDto(TEST_PASSWORD, "newStrongPassword");
 
-    when(jwtService.getClaims()).thenReturn(Optional.of(Map.of("sub", String.valueOf(TEST_USER_ID))));
+    when(authenticatedUserService.getId()).thenReturn(TEST_USER_ID);
     when(userRepository.findById(eq(TEST_USER_ID))).thenReturn(Optional.of(user));
     when(bCryptPasswordEncoder.matches(eq(TEST_PASSWORD), eq(ENCODED_PASSWORD))).thenReturn(true);
     when(bCryptPasswordEncoder.encode(eq("newStrongPassword"))).thenReturn("newEncodedPasswordHash");
@@ -389,7 +447,7 @@ public class UserServiceTest {
 
     userService.updatePassword(passwordRequestDto);
 
-    verify(jwtService, times(1)).getClaims();
+    verify(authenticatedUserService, times(1)).getId();
     verify(userRepository, times(1)).findById(eq(TEST_USER_ID));
     verify(bCryptPasswordEncoder, times(1)).matches(eq(TEST_PASSWORD), eq(ENCODED_PASSWORD));
     verify(bCryptPasswordEncoder, times(1)).encode(eq("newStrongPassword"));
@@ -401,14 +459,14 @@ public class UserServiceTest {
   void shouldThrowsExceptionWhenUserNotFound() {
     PasswordRequestDto passwordRequestDto = new PasswordRequestDto(TEST_PASSWORD, "newPassword");
 
-    when(jwtService.getClaims()).thenReturn(Optional.of(Map.of("sub", String.valueOf(TEST_USER_ID))));
+    when(authenticatedUserService.getId()).thenReturn(TEST_USER_ID);
     when(userRepository.findById(eq(TEST_USER_ID))).thenReturn(Optional.empty());
 
     ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class,
         () -> userService.updatePassword(passwordRequestDto));
 
     assertEquals("User not found.", exception.getMessage());
-    verify(jwtService, times(1)).getClaims();
+    verify(authenticatedUserService, times(1)).getId();
     verify(userRepository, times(1)).findById(eq(TEST_USER_ID));
     verify(userRepository, never()).save(any(User.class));
     verify(bCryptPasswordEncoder, never()).matches(anyString(), anyString());
@@ -423,7 +481,7 @@ public class UserServiceTest {
     user.setId(TEST_USER_ID);
     user.setPassword(ENCODED_PASSWORD);
 
-    when(jwtService.getClaims()).thenReturn(Optional.of(Map.of("sub", String.valueOf(TEST_USER_ID))));
+    when(authenticatedUserService.getId()).thenReturn(TEST_USER_ID);
     when(userRepository.findById(eq(TEST_USER_ID))).thenReturn(Optional.of(user));
     when(bCryptPasswordEncoder.matches(eq(TEST_PASSWORD), eq(ENCODED_PASSWORD))).thenReturn(false);
 
@@ -431,7 +489,7 @@ public class UserServiceTest {
         () -> userService.updatePassword(passwordRequestDto));
 
     assertEquals("Current password is not valid.", exception.getMessage());
-    verify(jwtService, times(1)).getClaims();
+    verify(authenticatedUserService, times(1)).getId();
     verify(userRepository, times(1)).findById(eq(TEST_USER_ID));
     verify(bCryptPasswordEncoder, times(1)).matches(eq(TEST_PASSWORD), eq(ENCODED_PASSWORD));
     verify(userRepository, never()).save(any(User.class));
@@ -449,7 +507,7 @@ public class UserServiceTest {
     GenderEnum newGender = GenderEnum.FEMALE;
     ProfileRequestDto profileRequestDto = new ProfileRequestDto(newName, newBio, newGender);
 
-    when(jwtService.getClaims()).thenReturn(Optional.of(Map.of("sub", String.valueOf(TEST_USER_ID))));
+    when(authenticatedUserService.getId()).thenReturn(TEST_USER_ID);
     when(userRepository.findById(eq(TEST_USER_ID))).thenReturn(Optional.of(user));
     when(userRepository.save(any(User.class))).thenReturn(user);
 
@@ -459,9 +517,12 @@ public class UserServiceTest {
     assertEquals(newName, result.name());
     assertEquals(newBio, result.bio());
     assertEquals(newGender, result.gender());
-    verify(jwtService, times(1)).getClaims();
+    verify(authenticatedUserService, times(1)).getId();
     verify(userRepository, times(1)).findById(eq(TEST_USER_ID));
     verify(userRepository, times(1)).save(eq(user));
+    verify(userSnapshotService, times(1)).evict(eq(TEST_USER_ID));
+    verify(userCacheService, times(1)).evict(eq(TEST_USER_ID));
+    verify(requestedServiceFeedService, times(1)).refreshUser(eq(TEST_USER_ID));
   }
 
   @Test
@@ -472,7 +533,7 @@ public class UserServiceTest {
     GenderEnum newGender = GenderEnum.FEMALE;
     ProfileRequestDto profileRequestDto = new ProfileRequestDto(newName, newBio, newGender);
 
-    when(jwtService.getClaims()).thenReturn(Optional.of(Map.of("sub", String.valueOf(TEST_USER_ID))));
+    when(authenticatedUserService.getId()).thenReturn(TEST_USER_ID);
     when(userRepository.findById(eq(TEST_USER_ID))).thenReturn(Optional.empty());
 
     ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> {
@@ -480,7 +541,7 @@ public class UserServiceTest {
     });
 
     assertEquals("User not found.", exception.getMessage());
-    verify(jwtService, times(1)).getClaims();
+    verify(authenticatedUserService, times(1)).getId();
     verify(userRepository, times(1)).findById(eq(TEST_USER_ID));
     verify(userRepository, never()).save(any(User.class));
   }
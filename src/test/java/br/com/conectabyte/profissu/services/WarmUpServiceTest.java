@@ -0,0 +1,164 @@
+package br.com.conectabyte.profissu.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.data.domain.Pageable;
+import org.springframework.mock.env.MockEnvironment;
+import org.thymeleaf.TemplateEngine;
+
+import br.com.conectabyte.profissu.dtos.response.LoginResponseDto;
+import br.com.conectabyte.profissu.entities.User;
+import br.com.conectabyte.profissu.enums.PaginationModeEnum;
+import br.com.conectabyte.profissu.properties.ProfissuProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WarmUpService Tests")
+class WarmUpServiceTest {
+  @Mock
+  private RoleService roleService;
+
+  @Mock
+  private RequestedServiceService requestedServiceService;
+
+  @Mock
+  private RequestedServiceFeedService requestedServiceFeedService;
+
+  @Mock
+  private JwtService jwtService;
+
+  @Mock
+  private TemplateEngine templateEngine;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private WarmUpService warmUpService(boolean enabled, long timeout, Executor executor) {
+    return warmUpService(enabled, timeout, executor, List.of());
+  }
+
+  private WarmUpService warmUpService(boolean enabled, long timeout, Executor executor, List<String> requests) {
+    final var profissuProperties = new ProfissuProperties();
+    final var warmUp = profissuProperties.getProfissu().getWarmUp();
+
+    warmUp.setEnabled(enabled);
+    warmUp.setTimeout(timeout);
+    warmUp.setFeedPages(2);
+    warmUp.setFeedWait(5L);
+    warmUp.setIterations(1);
+    warmUp.setRequests(requests);
+
+    return new WarmUpService(roleService, requestedServiceService, requestedServiceFeedService, jwtService,
+        templateEngine, new PathMatchingResourcePatternResolver(),
+        new MockEnvironment().withProperty("local.server.port", "1"), executor, meterRegistry, profissuProperties);
+  }
+
+  @Test
+  @DisplayName("Should preload roles, feed pages and templates before reporting completion")
+  void shouldPreloadBeforeReportingCompletion() {
+    final var warmUpService = warmUpService(true, 60, Runnable::run);
+
+    when(requestedServiceFeedService.isReady()).thenReturn(true);
+    when(templateEngine.process(any(String.class), any())).thenReturn("");
+    assertFalse(warmUpService.isCompleted());
+
+    warmUpService.warmUp().join();
+
+    assertTrue(warmUpService.isCompleted());
+    verify(roleService).findByName("ADMIN");
+    verify(roleService).findByName("USER");
+    verify(requestedServiceService, times(2)).findAvailableServiceRequests(eq(PaginationModeEnum.PAGE),
+        any(Pageable.class), isNull(), isNull());
+    verify(templateEngine).process(eq("code-verification-email"), any());
+    verifyNoInteractions(jwtService);
+    assertEquals(1, meterRegistry.get("profissu.warmup.duration").tag("outcome", "completed").timer().count());
+  }
+
+  @Test
+  @DisplayName("Should keep warming up when a step fails")
+  void shouldKeepWarmingUpWhenStepFails() {
+    final var warmUpService = warmUpService(true, 60, Runnable::run);
+
+    when(roleService.findByName(any())).thenThrow(new IllegalStateException("Database unavailable"));
+    when(requestedServiceFeedService.isReady()).thenReturn(true);
+
+    warmUpService.warmUp().join();
+
+    assertTrue(warmUpService.isCompleted());
+    verify(requestedServiceService, times(2)).findAvailableServiceRequests(any(), any(), any(), any());
+  }
+
+  @Test
+  @DisplayName("Should wait for the feed to be rebuilt before preloading it")
+  void shouldWaitForFeedBeforePreloadingIt() {
+    final var warmUpService = warmUpService(true, 60, Runnable::run);
+    final var inOrder = inOrder(requestedServiceFeedService, requestedServiceService);
+
+    when(requestedServiceFeedService.isReady()).thenReturn(false, true);
+
+    warmUpService.warmUp().join();
+
+    inOrder.verify(requestedServiceFeedService, times(2)).isReady();
+    inOrder.verify(requestedServiceService, times(2)).findAvailableServiceRequests(any(), any(), any(), any());
+  }
+
+  @Test
+  @DisplayName("Should replay requests with a token that expires within the warm-up timeout")
+  void shouldReplayRequestsWithShortLivedToken() {
+    final var warmUpService = warmUpService(true, 60, Runnable::run, List.of("/requested-services"));
+
+    when(requestedServiceFeedService.isReady()).thenReturn(true);
+    when(jwtService.createJwtToken(any(User.class), eq(60L))).thenReturn(new LoginResponseDto("token", 60L));
+
+    warmUpService.warmUp().join();
+
+    assertTrue(warmUpService.isCompleted());
+    verify(jwtService).createJwtToken(any(User.class), eq(60L));
+    verify(jwtService, never()).createJwtToken(any(User.class));
+  }
+
+  @Test
+  @DisplayName("Should report completion after the timeout when warm-up does not finish")
+  void shouldReportCompletionAfterTimeout() {
+    final var warmUpService = warmUpService(true, 0, task -> {
+    });
+
+    warmUpService.warmUp().join();
+
+    assertTrue(warmUpService.isCompleted());
+    verifyNoInteractions(roleService, requestedServiceService);
+    assertEquals(1, meterRegistry.get("profissu.warmup.duration").tag("outcome", "timeout").timer().count());
+  }
+
+  @Test
+  @DisplayName("Should report completion immediately when warm-up is disabled")
+  void shouldReportCompletionWhenDisabled() {
+    final var warmUpService = warmUpService(false, 60, Runnable::run);
+
+    assertTrue(warmUpService.isCompleted());
+
+    warmUpService.warmUp().join();
+
+    verifyNoInteractions(roleService, requestedServiceService, templateEngine);
+    assertTrue(meterRegistry.getMeters().isEmpty());
+  }
+}
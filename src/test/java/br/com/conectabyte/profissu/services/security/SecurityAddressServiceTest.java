@@ -3,11 +3,14 @@ package br.com.conectabyte.profissu.services.security;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.Optional;
+
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -15,10 +18,8 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import br.com.conectabyte.profissu.exceptions.ResourceNotFoundException;
+import br.com.conectabyte.profissu.dtos.response.OwnershipDto;
 import br.com.conectabyte.profissu.services.AddressService;
-import br.com.conectabyte.profissu.utils.AddressUtils;
-import br.com.conectabyte.profissu.utils.UserUtils;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("SecurityAddressService Tests")
@@ -32,30 +33,31 @@ public class SecurityAddressServiceTest {
   @InjectMocks
   private SecurityAddressService securityAddressService;
 
+  private static final Long TEST_ADDRESS_ID = 1L;
+  private static final Long OWNER_USER_ID = 10L;
+
   @Test
   @DisplayName("Should return true when authenticated user is owner of address")
   void shouldReturnTrueWhenUserIsOwnerOfAddress() {
-    final var user = UserUtils.create();
-    final var address = AddressUtils.create(user);
+    when(addressService.findOwnershipById(eq(TEST_ADDRESS_ID)))
+        .thenReturn(Optional.of(new OwnershipDto(OWNER_USER_ID)));
+    when(securityService.isOwner(eq(OWNER_USER_ID))).thenReturn(true);
 
-    when(addressService.findById(any())).thenReturn(address);
-    when(securityService.isOwner(any())).thenReturn(true);
-
-    final var isOwner = securityAddressService.ownershipCheck(user.getId());
+    final var isOwner = securityAddressService.ownershipCheck(TEST_ADDRESS_ID);
 
     assertTrue(isOwner);
+    verify(addressService, times(1)).findOwnershipById(eq(TEST_ADDRESS_ID));
+    verify(addressService, never()).findById(any());
   }
 
   @Test
   @DisplayName("Should return false when authenticated user is not owner of address")
   void shouldReturnFalseWhenUserIsNotOwnerOfAddress() {
-    final var user = UserUtils.create();
-    final var address = AddressUtils.create(user);
-
-    when(addressService.findById(any())).thenReturn(address);
-    when(securityService.isOwner(any())).thenReturn(false);
+    when(addressService.findOwnershipById(eq(TEST_ADDRESS_ID)))
+        .thenReturn(Optional.of(new OwnershipDto(OWNER_USER_ID)));
+    when(securityService.isOwner(eq(OWNER_USER_ID))).thenReturn(false);
 
-    boolean isOwner = securityAddressService.ownershipCheck(any());
+    final var isOwner = securityAddressService.ownershipCheck(TEST_ADDRESS_ID);
 
     assertFalse(isOwner);
   }
@@ -63,24 +65,24 @@ public class SecurityAddressServiceTest {
   @Test
   @DisplayName("Should return false when address is not found")
   void shouldReturnFalseWhenAddressNotFound() {
-    when(addressService.findById(any())).thenThrow(new ResourceNotFoundException("Address not found"));
+    when(addressService.findOwnershipById(eq(TEST_ADDRESS_ID))).thenReturn(Optional.empty());
 
-    final var isOwner = securityAddressService.ownershipCheck(any());
+    final var isOwner = securityAddressService.ownershipCheck(TEST_ADDRESS_ID);
 
     assertFalse(isOwner);
-    verify(addressService, times(1)).findById(any());
+    verify(addressService, times(1)).findOwnershipById(eq(TEST_ADDRESS_ID));
     verify(securityService, never()).isOwner(any());
   }
 
   @Test
   @DisplayName("Should return false when an unexpected exception occurs during ownership check")
   void shouldReturnFalseWhenUnexpectedExceptionOccurs() {
-    when(addressService.findById(any())).thenThrow(new ResourceNotFoundException("Address not found"));
+    when(addressService.findOwnershipById(eq(TEST_ADDRESS_ID))).thenThrow(new RuntimeException("Simulated error"));
 
-    final var isOwner = securityAddressService.ownershipCheck(any());
+    final var isOwner = securityAddressService.ownershipCheck(TEST_ADDRESS_ID);
 
     assertFalse(isOwner);
-    verify(addressService, times(1)).findById(any());
+    verify(addressService, times(1)).findOwnershipById(eq(TEST_ADDRESS_ID));
     verify(securityService, never()).isOwner(any());
   }
 }
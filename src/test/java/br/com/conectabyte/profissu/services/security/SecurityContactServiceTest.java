@@ -9,6 +9,8 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.Optional;
+
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -16,10 +18,8 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import br.com.conectabyte.profissu.exceptions.ResourceNotFoundException;
+import br.com.conectabyte.profissu.dtos.response.OwnershipDto;
 import br.com.conectabyte.profissu.services.ContactService;
-import br.com.conectabyte.profissu.utils.ContactUtils;
-import br.com.conectabyte.profissu.utils.UserUtils;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("SecurityContactService Tests")
@@ -34,60 +34,55 @@ public class SecurityContactServiceTest {
   private SecurityContactService securityContactService;
 
   private static final Long TEST_CONTACT_ID = 1L;
+  private static final Long OWNER_USER_ID = 10L;
 
   @Test
   @DisplayName("Should return true when authenticated user is owner of contact")
   void shouldReturnTrueWhenUserIsOwnerOfContact() {
-    final var user = UserUtils.create();
-    final var contact = ContactUtils.create(user);
-
-    when(contactService.findById(any())).thenReturn(contact);
-    when(securityService.isOwner(any())).thenReturn(true);
+    when(contactService.findOwnershipById(eq(TEST_CONTACT_ID)))
+        .thenReturn(Optional.of(new OwnershipDto(OWNER_USER_ID)));
+    when(securityService.isOwner(eq(OWNER_USER_ID))).thenReturn(true);
 
-    boolean isOwner = securityContactService.ownershipCheck(TEST_CONTACT_ID);
+    final var isOwner = securityContactService.ownershipCheck(TEST_CONTACT_ID);
 
     assertTrue(isOwner);
-    verify(contactService, times(1)).findById(any());
-    verify(securityService, times(1)).isOwner(any());
+    verify(contactService, times(1)).findOwnershipById(eq(TEST_CONTACT_ID));
+    verify(contactService, never()).findById(any());
   }
 
   @Test
   @DisplayName("Should return false when authenticated user is not owner of contact")
   void shouldReturnFalseWhenUserIsNotOwnerOfContact() {
-    final var user = UserUtils.create();
-    final var contact = ContactUtils.create(user);
-
-    when(contactService.findById(any())).thenReturn(contact);
-    when(securityService.isOwner(any())).thenReturn(false);
+    when(contactService.findOwnershipById(eq(TEST_CONTACT_ID)))
+        .thenReturn(Optional.of(new OwnershipDto(OWNER_USER_ID)));
+    when(securityService.isOwner(eq(OWNER_USER_ID))).thenReturn(false);
 
-    boolean isOwner = securityContactService.ownershipCheck(TEST_CONTACT_ID);
+    final var isOwner = securityContactService.ownershipCheck(TEST_CONTACT_ID);
 
     assertFalse(isOwner);
-    verify(contactService, times(1)).findById(any());
-    verify(securityService, times(1)).isOwner(any());
   }
 
   @Test
   @DisplayName("Should return false when contact is not found")
   void shouldReturnFalseWhenContactNotFound() {
-    when(contactService.findById(eq(TEST_CONTACT_ID))).thenThrow(new ResourceNotFoundException("Contact not found"));
+    when(contactService.findOwnershipById(eq(TEST_CONTACT_ID))).thenReturn(Optional.empty());
 
-    boolean isOwner = securityContactService.ownershipCheck(TEST_CONTACT_ID);
+    final var isOwner = securityContactService.ownershipCheck(TEST_CONTACT_ID);
 
     assertFalse(isOwner);
-    verify(contactService, times(1)).findById(eq(TEST_CONTACT_ID));
+    verify(contactService, times(1)).findOwnershipById(eq(TEST_CONTACT_ID));
     verify(securityService, never()).isOwner(any());
   }
 
   @Test
   @DisplayName("Should return false when an unexpected exception occurs during ownership check")
   void shouldReturnFalseWhenUnexpectedExceptionOccurs() {
-    when(contactService.findById(eq(TEST_CONTACT_ID))).thenThrow(new RuntimeException("Simulated unexpected error"));
+    when(contactService.findOwnershipById(eq(TEST_CONTACT_ID))).thenThrow(new RuntimeException("Simulated error"));
 
-    boolean isOwner = securityContactService.ownershipCheck(TEST_CONTACT_ID);
+    final var isOwner = securityContactService.ownershipCheck(TEST_CONTACT_ID);
 
     assertFalse(isOwner);
-    verify(contactService, times(1)).findById(eq(TEST_CONTACT_ID));
+    verify(contactService, times(1)).findOwnershipById(eq(TEST_CONTACT_ID));
     verify(securityService, never()).isOwner(any());
   }
 }
@@ -9,6 +9,8 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.Optional;
+
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -16,14 +18,8 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import br.com.conectabyte.profissu.entities.Conversation;
-import br.com.conectabyte.profissu.entities.Message;
-import br.com.conectabyte.profissu.entities.User;
-import br.com.conectabyte.profissu.exceptions.ResourceNotFoundException;
+import br.com.conectabyte.profissu.dtos.response.OwnershipDto;
 import br.com.conectabyte.profissu.services.MessageService;
-import br.com.conectabyte.profissu.utils.ConversationUtils;
-import br.com.conectabyte.profissu.utils.MessageUtils;
-import br.com.conectabyte.profissu.utils.UserUtils;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("SecurityMessageService Tests")
@@ -45,168 +41,139 @@ class SecurityMessageServiceTest {
   @Test
   @DisplayName("Should return true when authenticated user is the message owner")
   void shouldReturnTrueWhenUserIsOwnerOfMessage() {
-    User messageOwner = UserUtils.create();
-    messageOwner.setId(SENDER_USER_ID);
-    Conversation conversation = ConversationUtils.create(null, null, null, null);
-    Message message = MessageUtils.create(messageOwner, conversation);
+    final var ownership = new OwnershipDto(SENDER_USER_ID, SENDER_USER_ID, RECEIVER_USER_ID);
 
-    when(messageService.findById(eq(TEST_MESSAGE_ID))).thenReturn(message);
+    when(messageService.findOwnershipById(eq(TEST_MESSAGE_ID))).thenReturn(Optional.of(ownership));
     when(securityService.isOwner(eq(SENDER_USER_ID))).thenReturn(true);
 
     boolean isOwner = securityMessageService.ownershipCheck(TEST_MESSAGE_ID);
 
     assertTrue(isOwner);
-    verify(messageService, times(1)).findById(eq(TEST_MESSAGE_ID));
+    verify(messageService, times(1)).findOwnershipById(eq(TEST_MESSAGE_ID));
+    verify(messageService, never()).findById(anyLong());
     verify(securityService, times(1)).isOwner(eq(SENDER_USER_ID));
   }
 
   @Test
   @DisplayName("Should return false when authenticated user is not the message owner")
   void shouldReturnFalseWhenUserIsNotOwnerOfMessage() {
-    User messageOwner = UserUtils.create();
-    messageOwner.setId(OTHER_USER_ID);
-    Conversation conversation = ConversationUtils.create(null, null, null, null);
-    Message message = MessageUtils.create(messageOwner, conversation);
+    final var ownership = new OwnershipDto(OTHER_USER_ID, OTHER_USER_ID, RECEIVER_USER_ID);
 
-    when(messageService.findById(eq(TEST_MESSAGE_ID))).thenReturn(message);
+    when(messageService.findOwnershipById(eq(TEST_MESSAGE_ID))).thenReturn(Optional.of(ownership));
     when(securityService.isOwner(eq(OTHER_USER_ID))).thenReturn(false);
 
     boolean isOwner = securityMessageService.ownershipCheck(TEST_MESSAGE_ID);
 
     assertFalse(isOwner);
-    verify(messageService, times(1)).findById(eq(TEST_MESSAGE_ID));
+    verify(messageService, times(1)).findOwnershipById(eq(TEST_MESSAGE_ID));
     verify(securityService, times(1)).isOwner(eq(OTHER_USER_ID));
   }
 
   @Test
   @DisplayName("Should return false when message not found during ownership check")
   void shouldReturnFalseWhenMessageNotFoundInOwnershipCheck() {
-    when(messageService.findById(eq(TEST_MESSAGE_ID))).thenThrow(new ResourceNotFoundException("Message not found"));
+    when(messageService.findOwnershipById(eq(TEST_MESSAGE_ID))).thenReturn(Optional.empty());
 
     boolean isOwner = securityMessageService.ownershipCheck(TEST_MESSAGE_ID);
 
     assertFalse(isOwner);
-    verify(messageService, times(1)).findById(eq(TEST_MESSAGE_ID));
+    verify(messageService, times(1)).findOwnershipById(eq(TEST_MESSAGE_ID));
     verify(securityService, never()).isOwner(anyLong());
   }
 
   @Test
   @DisplayName("Should return false when unexpected exception occurs during ownership check")
   void shouldReturnFalseWhenUnexpectedExceptionInOwnershipCheck() {
-    when(messageService.findById(eq(TEST_MESSAGE_ID))).thenThrow(new RuntimeException("Simulated error"));
+    when(messageService.findOwnershipById(eq(TEST_MESSAGE_ID))).thenThrow(new RuntimeException("Simulated error"));
 
     boolean isOwner = securityMessageService.ownershipCheck(TEST_MESSAGE_ID);
 
     assertFalse(isOwner);
-    verify(messageService, times(1)).findById(eq(TEST_MESSAGE_ID));
+    verify(messageService, times(1)).findOwnershipById(eq(TEST_MESSAGE_ID));
     verify(securityService, never()).isOwner(anyLong());
   }
 
   @Test
   @DisplayName("Should return true when authenticated user is the message receiver (not owner)")
   void shouldReturnTrueWhenUserIsTheMessageReceiverAndNotOwner() {
-    User messageSender = UserUtils.create();
-    messageSender.setId(SENDER_USER_ID);
-    User messageReceiver = UserUtils.create();
-    messageReceiver.setId(RECEIVER_USER_ID);
-
-    Conversation conversation = ConversationUtils.create(messageSender, messageReceiver, null, null);
-    Message message = MessageUtils.create(messageSender, conversation);
+    final var ownership = new OwnershipDto(SENDER_USER_ID, SENDER_USER_ID, RECEIVER_USER_ID);
 
-    when(messageService.findById(eq(TEST_MESSAGE_ID))).thenReturn(message);
+    when(messageService.findOwnershipById(eq(TEST_MESSAGE_ID))).thenReturn(Optional.of(ownership));
     when(securityService.isOwner(eq(RECEIVER_USER_ID))).thenReturn(false);
 
     boolean isReceiver = securityMessageService.isMessageReceiver(TEST_MESSAGE_ID);
 
     assertTrue(isReceiver);
-    verify(messageService, times(1)).findById(eq(TEST_MESSAGE_ID));
+    verify(messageService, times(1)).findOwnershipById(eq(TEST_MESSAGE_ID));
     verify(securityService, times(1)).isOwner(eq(RECEIVER_USER_ID));
   }
 
   @Test
   @DisplayName("Should return false when authenticated user is the message sender (not receiver)")
   void shouldReturnFalseWhenUserIsTheMessageSender() {
-    User messageSender = UserUtils.create();
-    messageSender.setId(SENDER_USER_ID);
-    User messageReceiver = UserUtils.create();
-    messageReceiver.setId(RECEIVER_USER_ID);
-
-    Conversation conversation = ConversationUtils.create(messageSender, messageReceiver, null, null);
-    Message message = MessageUtils.create(messageSender, conversation);
+    final var ownership = new OwnershipDto(SENDER_USER_ID, SENDER_USER_ID, RECEIVER_USER_ID);
 
-    when(messageService.findById(eq(TEST_MESSAGE_ID))).thenReturn(message);
+    when(messageService.findOwnershipById(eq(TEST_MESSAGE_ID))).thenReturn(Optional.of(ownership));
     when(securityService.isOwner(eq(RECEIVER_USER_ID))).thenReturn(true);
 
     boolean isReceiver = securityMessageService.isMessageReceiver(TEST_MESSAGE_ID);
 
     assertFalse(isReceiver);
-    verify(messageService, times(1)).findById(eq(TEST_MESSAGE_ID));
+    verify(messageService, times(1)).findOwnershipById(eq(TEST_MESSAGE_ID));
     verify(securityService, times(1)).isOwner(eq(RECEIVER_USER_ID));
   }
 
   @Test
   @DisplayName("Should return false when message not found during receiver check")
   void shouldReturnFalseWhenMessageNotFoundInMessageReceiver() {
-    when(messageService.findById(eq(TEST_MESSAGE_ID))).thenThrow(new ResourceNotFoundException("Message not found"));
+    when(messageService.findOwnershipById(eq(TEST_MESSAGE_ID))).thenReturn(Optional.empty());
 
     boolean isReceiver = securityMessageService.isMessageReceiver(TEST_MESSAGE_ID);
 
     assertFalse(isReceiver);
-    verify(messageService, times(1)).findById(eq(TEST_MESSAGE_ID));
+    verify(messageService, times(1)).findOwnershipById(eq(TEST_MESSAGE_ID));
     verify(securityService, never()).isOwner(anyLong());
   }
 
   @Test
   @DisplayName("Should return false when unexpected exception occurs during receiver check")
   void shouldReturnFalseWhenUnexpectedExceptionInMessageReceiver() {
-    when(messageService.findById(eq(TEST_MESSAGE_ID))).thenThrow(new RuntimeException("Simulated error"));
+    when(messageService.findOwnershipById(eq(TEST_MESSAGE_ID))).thenThrow(new RuntimeException("Simulated error"));
 
     boolean isReceiver = securityMessageService.isMessageReceiver(TEST_MESSAGE_ID);
 
     assertFalse(isReceiver);
-    verify(messageService, times(1)).findById(eq(TEST_MESSAGE_ID));
+    verify(messageService, times(1)).findOwnershipById(eq(TEST_MESSAGE_ID));
     verify(securityService, never()).isOwner(anyLong());
   }
 
   @Test
   @DisplayName("Should handle case where message owner is the conversation's requester (sender)")
   void shouldHandleMessageOwnerIsRequester() {
-    User requester = UserUtils.create();
-    requester.setId(SENDER_USER_ID);
-    User serviceProvider = UserUtils.create();
-    serviceProvider.setId(RECEIVER_USER_ID);
+    final var ownership = new OwnershipDto(SENDER_USER_ID, SENDER_USER_ID, RECEIVER_USER_ID);
 
-    Conversation conversation = ConversationUtils.create(requester, serviceProvider, null, null);
-    Message message = MessageUtils.create(requester, conversation);
-
-    when(messageService.findById(eq(TEST_MESSAGE_ID))).thenReturn(message);
-    when(securityService.isOwner(eq(serviceProvider.getId()))).thenReturn(false);
+    when(messageService.findOwnershipById(eq(TEST_MESSAGE_ID))).thenReturn(Optional.of(ownership));
+    when(securityService.isOwner(eq(RECEIVER_USER_ID))).thenReturn(false);
 
     boolean isReceiver = securityMessageService.isMessageReceiver(TEST_MESSAGE_ID);
 
     assertTrue(isReceiver);
-    verify(messageService, times(1)).findById(eq(TEST_MESSAGE_ID));
-    verify(securityService, times(1)).isOwner(eq(serviceProvider.getId()));
+    verify(messageService, times(1)).findOwnershipById(eq(TEST_MESSAGE_ID));
+    verify(securityService, times(1)).isOwner(eq(RECEIVER_USER_ID));
   }
 
   @Test
   @DisplayName("Should handle case where message owner is the conversation's service provider (sender)")
   void shouldHandleMessageOwnerIsServiceProvider() {
-    User requester = UserUtils.create();
-    requester.setId(RECEIVER_USER_ID);
-    User serviceProvider = UserUtils.create();
-    serviceProvider.setId(SENDER_USER_ID);
-
-    Conversation conversation = ConversationUtils.create(requester, serviceProvider, null, null);
-    Message message = MessageUtils.create(serviceProvider, conversation);
+    final var ownership = new OwnershipDto(SENDER_USER_ID, RECEIVER_USER_ID, SENDER_USER_ID);
 
-    when(messageService.findById(eq(TEST_MESSAGE_ID))).thenReturn(message);
-    when(securityService.isOwner(eq(requester.getId()))).thenReturn(false);
+    when(messageService.findOwnershipById(eq(TEST_MESSAGE_ID))).thenReturn(Optional.of(ownership));
+    when(securityService.isOwner(eq(RECEIVER_USER_ID))).thenReturn(false);
 
     boolean isReceiver = securityMessageService.isMessageReceiver(TEST_MESSAGE_ID);
 
     assertTrue(isReceiver);
-    verify(messageService, times(1)).findById(eq(TEST_MESSAGE_ID));
-    verify(securityService, times(1)).isOwner(eq(requester.getId()));
+    verify(messageService, times(1)).findOwnershipById(eq(TEST_MESSAGE_ID));
+    verify(securityService, times(1)).isOwner(eq(RECEIVER_USER_ID));
   }
 }
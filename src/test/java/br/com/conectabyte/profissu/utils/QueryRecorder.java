@@ -0,0 +1,32 @@
+package br.com.conectabyte.profissu.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class QueryRecorder {
+  private static final ThreadLocal<List<RecordedQuery>> QUERIES = new ThreadLocal<>();
+
+  public static void start() {
+    QUERIES.set(new ArrayList<>());
+  }
+
+  public static List<RecordedQuery> stop() {
+    final var queries = QUERIES.get();
+
+    QUERIES.remove();
+    return queries == null ? List.of() : queries;
+  }
+
+  public static boolean isRecording() {
+    return QUERIES.get() != null;
+  }
+
+  public static void record(String sql, List<Object> parameters) {
+    if (isRecording()) {
+      QUERIES.get().add(new RecordedQuery(sql, parameters));
+    }
+  }
+
+  public record RecordedQuery(String sql, List<Object> parameters) {
+  }
+}
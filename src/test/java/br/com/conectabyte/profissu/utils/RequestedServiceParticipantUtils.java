@@ -0,0 +1,18 @@
+package br.com.conectabyte.profissu.utils;
+
+import br.com.conectabyte.profissu.entities.RequestedService;
+import br.com.conectabyte.profissu.entities.RequestedServiceParticipant;
+import br.com.conectabyte.profissu.entities.RequestedServiceParticipantId;
+import br.com.conectabyte.profissu.entities.User;
+import br.com.conectabyte.profissu.enums.ParticipantRoleEnum;
+
+public class RequestedServiceParticipantUtils {
+  public static RequestedServiceParticipant create(RequestedService requestedService, User user,
+      ParticipantRoleEnum role) {
+    return RequestedServiceParticipant.builder()
+        .id(new RequestedServiceParticipantId(requestedService.getId(), user.getId(), role))
+        .requestedService(requestedService)
+        .user(user)
+        .build();
+  }
+}
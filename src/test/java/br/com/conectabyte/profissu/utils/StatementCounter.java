@@ -0,0 +1,41 @@
+package br.com.conectabyte.profissu.utils;
+
+public class StatementCounter {
+  private static final ThreadLocal<Counts> COUNTS = ThreadLocal.withInitial(Counts::new);
+
+  public static void reset() {
+    COUNTS.set(new Counts());
+  }
+
+  public static void increment() {
+    final var counts = COUNTS.get();
+
+    counts.statements++;
+
+    if (counts.serializing) {
+      counts.statementsDuringSerialization++;
+    }
+  }
+
+  public static void startSerialization() {
+    COUNTS.get().serializing = true;
+  }
+
+  public static void endSerialization() {
+    COUNTS.get().serializing = false;
+  }
+
+  public static int statements() {
+    return COUNTS.get().statements;
+  }
+
+  public static int statementsDuringSerialization() {
+    return COUNTS.get().statementsDuringSerialization;
+  }
+
+  private static class Counts {
+    private int statements;
+    private int statementsDuringSerialization;
+    private boolean serializing;
+  }
+}